@@ -1,13 +0,0 @@
-CREATE DATABASE IF NOT EXISTS testdb;
-
-USE testdb;
-
-CREATE TABLE IF NOT EXISTS tasks (
-    id INT AUTO_INCREMENT PRIMARY KEY,
-    title VARCHAR(255) NOT NULL,
-    completed BOOLEAN DEFAULT FALSE
-);
-
-INSERT INTO tasks (title, completed) VALUES
-('Sample Task 1', FALSE),
-('Sample Task 2', TRUE);
@@ -0,0 +1,57 @@
+package com.example.todo.config;
+
+import com.example.todo.entity.Todo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JacksonConfig의 ObjectMapper로 Todo 목록을 JSON으로 직렬화하는 벤치마크.
+ * 목록 API 응답 본문 생성 비용에 해당한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TodoSerializationBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int size; // 목록의 Todo 개수
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter listWriter; // 컨트롤러 응답처럼 List<Todo> 타입으로 직렬화
+    private List<Todo> todos;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new JacksonConfig().objectMapper();
+        listWriter = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, Todo.class));
+
+        LocalDateTime createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        todos = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Todo todo = new Todo();
+            todo.setId((long) i + 1);
+            todo.setTask("Benchmark task " + i);
+            todo.setIsCompleted(i % 3 == 0);
+            todo.setCreatedAt(createdAt.plusSeconds(i));
+            todo.setUserId(1L);
+            todo.setVersion((long) i % 5);
+            todo.setChangeSeq((long) i);
+            todos.add(todo);
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws Exception {
+        return listWriter.writeValueAsBytes(todos);
+    }
+}
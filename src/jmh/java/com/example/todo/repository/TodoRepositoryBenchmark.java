@@ -0,0 +1,121 @@
+package com.example.todo.repository;
+
+import com.example.todo.entity.Todo;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내장 H2에서 TodoRepository 조회 쿼리 벤치마크.
+ * 애플리케이션 전체가 아니라 DataSource/JPA만 올린 컨텍스트를 사용하며,
+ * 사용자 여러 명의 Todo를 미리 넣어 두고 한 사용자의 목록/페이지/단건/변경분 조회 비용을 측정한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TodoRepositoryBenchmark {
+
+    private static final int USERS = 20; // 다른 사용자의 행도 함께 있는 상태에서 조회
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"100", "1000"})
+    public int todosPerUser; // 사용자당 Todo 개수
+
+    private ConfigurableApplicationContext context;
+    private TodoRepository todoRepository;
+    private final long userId = 1L;
+    private Todo middle; // 페이지 커서와 단건 조회에 쓰는 중간 항목
+
+    @Setup
+    public void setUp() {
+        // application.properties 값보다 우선하도록 명령행 인자로 전달
+        context = new SpringApplicationBuilder(RepositoryContext.class)
+                .run("--spring.main.web-application-type=none",
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--logging.level.root=WARN");
+        todoRepository = context.getBean(TodoRepository.class);
+
+        LocalDateTime createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        List<Todo> todos = new ArrayList<>(USERS * todosPerUser);
+        for (int i = 0; i < todosPerUser; i++) {
+            for (long user = 1; user <= USERS; user++) {
+                Todo todo = new Todo();
+                todo.setTask("Task " + i);
+                todo.setIsCompleted(i % 2 == 0);
+                todo.setCreatedAt(createdAt.plusNanos(i * 1000L));
+                todo.setUserId(user);
+                todo.setChangeSeq((long) i);
+                todos.add(todo);
+            }
+        }
+        todoRepository.saveAll(todos);
+        middle = todoRepository.findFirstPage(userId, Limit.of(todosPerUser / 2 + 1)).get(todosPerUser / 2);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Todo> findByUserId() {
+        return todoRepository.findByUserId(userId);
+    }
+
+    @Benchmark
+    public List<Todo> findByUserIdAndIsCompleted() {
+        return todoRepository.findByUserIdAndIsCompleted(userId, true);
+    }
+
+    @Benchmark
+    public List<Todo> findFirstPage() {
+        return todoRepository.findFirstPage(userId, Limit.of(PAGE_SIZE));
+    }
+
+    @Benchmark
+    public List<Todo> findPageAfter() {
+        return todoRepository.findPageAfter(userId, middle.getCreatedAt(), middle.getId(), Limit.of(PAGE_SIZE));
+    }
+
+    @Benchmark
+    public Optional<Todo> findByIdAndUserId() {
+        return todoRepository.findByIdAndUserId(middle.getId(), userId);
+    }
+
+    @Benchmark
+    public List<Todo> findChangedSince() {
+        return todoRepository.findByUserIdAndChangeSeqGreaterThanOrderByChangeSeq(userId, middle.getChangeSeq());
+    }
+
+    // DataSource와 JPA 저장소만 구성하는 컨텍스트. 스키마와 인덱스는 운영과 같은 Flyway 마이그레이션으로 생성.
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class, FlywayAutoConfiguration.class,
+            HibernateJpaAutoConfiguration.class, TransactionAutoConfiguration.class})
+    @EntityScan(basePackageClasses = Todo.class)
+    @EnableJpaRepositories(basePackageClasses = TodoRepository.class)
+    static class RepositoryContext {
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.todo.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 한 번의 통과 비용 벤치마크.
+ * 사용자 조회(CustomUserDetailsService)는 목 객체로 대체하므로 DB 비용은 포함하지 않는다.
+ * legacy는 uid 클레임이 없는 이전 형식의 토큰으로 사용자 조회 경로를 거친다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"current", "legacy"})
+    public String tokenType; // 토큰 형식
+
+    @Param({"hit", "miss"})
+    public String cache; // 검증 캐시 적중 여부
+
+    private JwtAuthenticationFilter filter;
+    private Cache<String, Claims> verifiedTokens; // JwtUtil 내부 검증 캐시
+    private String token;
+    private String authorizationHeader;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = JwtUtilBenchmark.jwtUtil();
+        verifiedTokens = JwtUtilBenchmark.verifiedTokens(jwtUtil);
+        CustomUserDetailsService userDetailsService = Mockito.mock(CustomUserDetailsService.class);
+        Mockito.when(userDetailsService.loadUserByUsername(JwtUtilBenchmark.USER.getUsername()))
+                .thenAnswer(invocation -> new AuthenticatedUser(1L, JwtUtilBenchmark.USER.getUsername(), "{noop}password", "USER"));
+        filter = new JwtAuthenticationFilter(userDetailsService, jwtUtil, new SimpleMeterRegistry());
+
+        token = "legacy".equals(tokenType)
+                ? Jwts.builder()
+                        .setSubject(JwtUtilBenchmark.USER.getUsername())
+                        .setExpiration(new Date(System.currentTimeMillis() + 3_600_000L))
+                        .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(JwtUtilBenchmark.SECRET_KEY)), SignatureAlgorithm.HS512)
+                        .compact()
+                : jwtUtil.generateToken(JwtUtilBenchmark.USER);
+        authorizationHeader = "Bearer " + token;
+    }
+
+    @Benchmark
+    public Object doFilterInternal() throws Exception {
+        if ("miss".equals(cache)) {
+            verifiedTokens.invalidate(token);
+        }
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/todos");
+        request.addHeader("Authorization", authorizationHeader);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilterInternal(request, response, new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext(); // 다음 호출도 인증 처리 경로를 거치도록 비움
+        }
+    }
+}
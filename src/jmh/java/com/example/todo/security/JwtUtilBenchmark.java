@@ -0,0 +1,78 @@
+package com.example.todo.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils; // @Value 필드 설정
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtUtil 토큰 발급/검증 벤치마크.
+ * cache가 miss이면 매번 검증 캐시에서 토큰을 지워, 서명을 검증하는 비용을 측정한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    // 테스트 설정(application-test.properties)과 같은 HS512 키
+    static final String SECRET_KEY =
+            "dGVzdC1vbmx5LXNlY3JldC1rZXktZm9yLWhzNTEyLXNpZ25pbmctbXVzdC1iZS1hdC1sZWFzdC02NC1ieXRlcy1sb25nLTEyMzQ1Njc4OTA=";
+    static final AuthenticatedUser USER = new AuthenticatedUser(1L, "benchmark-user", null, "USER");
+
+    @Param({"hit", "miss"})
+    public String cache; // 검증 캐시 적중 여부
+
+    private JwtUtil jwtUtil;
+    private Cache<String, Claims> verifiedTokens; // JwtUtil 내부 검증 캐시
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = jwtUtil();
+        verifiedTokens = verifiedTokens(jwtUtil);
+        token = jwtUtil.generateToken(USER);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(USER);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        evictIfMiss();
+        return jwtUtil.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        evictIfMiss();
+        return jwtUtil.validateToken(token);
+    }
+
+    private void evictIfMiss() {
+        if ("miss".equals(cache)) {
+            verifiedTokens.invalidate(token);
+        }
+    }
+
+    // Spring 컨테이너 없이 JwtUtil 생성. (@Value 필드를 직접 설정한 뒤 초기화)
+    static JwtUtil jwtUtil() {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET_KEY);
+        ReflectionTestUtils.setField(jwtUtil, "expirationMs", 3_600_000L);
+        ReflectionTestUtils.setField(jwtUtil, "cacheMaxSize", 10_000L);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    @SuppressWarnings("unchecked")
+    static Cache<String, Claims> verifiedTokens(JwtUtil jwtUtil) {
+        return (Cache<String, Claims>) ReflectionTestUtils.getField(jwtUtil, "verifiedTokens");
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.todo.loadtest;
+
+/**
+ * 부하 테스트에서 호출하는 API 종류.
+ * 이름은 설정(mix)과 결과 파일에서 쓰는 키.
+ */
+enum Endpoint {
+    LOGIN("login"), // POST /auth/login
+    LIST("list"), // GET /api/todos
+    FILTER("filter"), // GET /api/todos/filter?isCompleted=false
+    CREATE("create"), // POST /api/todos
+    TOGGLE("toggle"), // PATCH /api/todos/{id}/toggle
+    DELETE_COMPLETED("deleteCompleted"); // DELETE /api/todos/completed
+
+    final String key;
+
+    Endpoint(String key) {
+        this.key = key;
+    }
+
+    static Endpoint fromKey(String key) {
+        for (Endpoint endpoint : values()) {
+            if (endpoint.key.equals(key)) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("Unknown endpoint: " + key);
+    }
+}
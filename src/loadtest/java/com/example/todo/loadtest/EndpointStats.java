@@ -0,0 +1,64 @@
+package com.example.todo.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram; // 여러 스레드에서 기록하는 지연 시간 히스토그램
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * API 하나의 응답 시간 분포와 오류 수.
+ * 응답 시간은 마이크로초 단위로 기록하고, 결과는 밀리초로 보고한다.
+ */
+class EndpointStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final ConcurrentHistogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder errors = new LongAdder(); // 4xx/5xx 응답 및 요청 실패 수
+
+    void record(long latencyNanos, boolean success) {
+        latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    long requests() {
+        return latencies.getTotalCount();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    /**
+     * 결과 파일에 기록할 요약.
+     * @param seconds 측정 시간 (처리량 계산용)
+     */
+    Map<String, Object> summary(double seconds) {
+        Map<String, Object> latencyMs = new LinkedHashMap<>();
+        latencyMs.put("p50", millis(latencies.getValueAtPercentile(50)));
+        latencyMs.put("p95", millis(latencies.getValueAtPercentile(95)));
+        latencyMs.put("p99", millis(latencies.getValueAtPercentile(99)));
+        latencyMs.put("p99.9", millis(latencies.getValueAtPercentile(99.9)));
+        latencyMs.put("max", millis(latencies.getMaxValue()));
+        latencyMs.put("mean", millis(latencies.getMean()));
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", requests());
+        summary.put("errors", errors());
+        summary.put("throughput", round(requests() / seconds)); // 초당 요청 수
+        summary.put("latencyMs", latencyMs);
+        return summary;
+    }
+
+    private static double millis(double micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000.0) / 1000.0;
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.todo.loadtest;
+
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 테스트 설정. 명령행 인자(--key=value)로 지정하며, 없는 값은 기본값을 사용한다.
+ *
+ * @param users 미리 만들 사용자 수
+ * @param todosPerUser 사용자당 미리 만들 Todo 수
+ * @param concurrency 동시에 요청을 보내는 가상 사용자(스레드) 수
+ * @param warmupSeconds 측정 전 워밍업 시간
+ * @param durationSeconds 측정 시간
+ * @param mix API별 호출 비중 (예: login:2,list:40,filter:20,create:15,toggle:20,deleteCompleted:3)
+ * @param output 결과 JSON 파일 경로
+ */
+record LoadTestConfig(int users, int todosPerUser, int concurrency, int warmupSeconds, int durationSeconds,
+                      Map<Endpoint, Integer> mix, Path output) {
+
+    static final String DEFAULT_MIX = "login:2,list:40,filter:20,create:15,toggle:20,deleteCompleted:3";
+
+    static LoadTestConfig from(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return new LoadTestConfig(
+                Integer.parseInt(values.getOrDefault("users", "50")),
+                Integer.parseInt(values.getOrDefault("todosPerUser", "100")),
+                Integer.parseInt(values.getOrDefault("concurrency", "32")),
+                Integer.parseInt(values.getOrDefault("warmupSeconds", "10")),
+                Integer.parseInt(values.getOrDefault("durationSeconds", "30")),
+                parseMix(values.getOrDefault("mix", DEFAULT_MIX)),
+                Path.of(values.getOrDefault("output", "target/loadtest-results.json")));
+    }
+
+    // "login:2,list:40" 형식의 호출 비중 파싱. 비중이 0인 API는 호출하지 않는다.
+    static Map<Endpoint, Integer> parseMix(String mix) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected endpoint:weight but got: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weight must not be negative: " + entry);
+            }
+            if (weight > 0) {
+                weights.put(Endpoint.fromKey(parts[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Mix must contain at least one endpoint: " + mix);
+        }
+        return weights;
+    }
+
+    // 비중에 따라 다음에 호출할 API 선택.
+    Endpoint pick() {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int target = ThreadLocalRandom.current().nextInt(total);
+        for (Map.Entry<Endpoint, Integer> entry : mix.entrySet()) {
+            target -= entry.getValue();
+            if (target < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("unreachable");
+    }
+}
@@ -0,0 +1,340 @@
+package com.example.todo.loadtest;
+
+import com.example.todo.TodoApplication;
+import com.example.todo.entity.Todo;
+import com.example.todo.entity.User;
+import com.example.todo.repository.TodoRepository;
+import com.example.todo.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP 부하 테스트 실행기.
+ * 애플리케이션을 임의 포트와 내장 H2로 띄우고, 사용자 N명 x Todo M개를 미리 만든 뒤
+ * 가상 사용자(스레드)들이 설정한 비중대로 API를 호출한다.
+ * 워밍업 이후의 요청만 API별 HdrHistogram에 기록하고, 처리량과 p50/p95/p99/p99.9를 JSON 파일로 저장한다.
+ *
+ * 가상 사용자는 응답을 받은 뒤 바로 다음 요청을 보내는 닫힌 모델이므로,
+ * 서버가 느려지면 보내는 요청 수도 줄어든다. (응답 시간 분포는 관측된 요청 기준)
+ *
+ * 실행: mvn -Ploadtest -DskipTests verify [-Dloadtest.users=100 -Dloadtest.concurrency=64 ...]
+ */
+public class LoadTestRunner {
+
+    static final String PASSWORD = "loadtest-password"; // 모든 부하 테스트 사용자의 비밀번호
+
+    private final LoadTestConfig config;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+    private volatile boolean measuring; // 워밍업이 끝나면 true
+    private volatile boolean running = true;
+    private URI baseUri;
+
+    LoadTestRunner(LoadTestConfig config) {
+        this.config = config;
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new EndpointStats());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.from(args);
+        // devtools 재시작은 main을 애플리케이션 인자로 다시 호출하므로 사용하지 않음 (시스템 속성으로만 끌 수 있음)
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        // 명령행 인자로 전달하여 application.properties 값보다 우선하도록 함
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TodoApplication.class)
+                .profiles("test")
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.springframework.security=WARN",
+                        "--AUTH_EXECUTOR_QUEUE_CAPACITY=" + Math.max(100, config.concurrency() * 2))) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            new LoadTestRunner(config).run(context, URI.create("http://localhost:" + port));
+        }
+        System.exit(0); // 남아 있는 비데몬 스레드와 관계없이 종료
+    }
+
+    void run(ConfigurableApplicationContext context, URI baseUri) throws Exception {
+        this.baseUri = baseUri;
+        seed(context);
+
+        System.out.printf("Running %d virtual users for %ds (+%ds warmup) against %s%n",
+                config.concurrency(), config.durationSeconds(), config.warmupSeconds(), baseUri);
+        ExecutorService workers = Executors.newFixedThreadPool(config.concurrency());
+        for (int i = 0; i < config.concurrency(); i++) {
+            int userIndex = i % config.users(); // 사용자 수가 충분하면 가상 사용자마다 다른 사용자
+            workers.submit(() -> runVirtualUser(userIndex));
+        }
+
+        TimeUnit.SECONDS.sleep(config.warmupSeconds());
+        measuring = true;
+        long start = System.nanoTime();
+        TimeUnit.SECONDS.sleep(config.durationSeconds());
+        measuring = false;
+        double seconds = (System.nanoTime() - start) / 1e9;
+        running = false;
+        workers.shutdown();
+        workers.awaitTermination(30, TimeUnit.SECONDS);
+
+        writeReport(seconds);
+    }
+
+    // 사용자와 Todo를 저장소로 직접 생성. 비밀번호 해시는 한 번만 계산해 모든 사용자가 공유한다.
+    private void seed(ConfigurableApplicationContext context) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        TodoRepository todoRepository = context.getBean(TodoRepository.class);
+        String passwordHash = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+
+        LocalDateTime createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        for (int i = 0; i < config.users(); i++) {
+            User user = new User();
+            user.setUsername(username(i));
+            user.setPassword(passwordHash);
+            userRepository.save(user);
+
+            List<Todo> todos = new ArrayList<>(config.todosPerUser());
+            for (int j = 0; j < config.todosPerUser(); j++) {
+                Todo todo = new Todo();
+                todo.setTask("Seeded task " + j);
+                todo.setIsCompleted(j % 4 == 0); // 일부는 완료 상태 (완료 항목 삭제 대상)
+                todo.setCreatedAt(createdAt.plusNanos(j * 1000L));
+                todo.setUserId(user.getId());
+                todos.add(todo);
+            }
+            todoRepository.saveAll(todos);
+        }
+        System.out.printf("Seeded %d users x %d todos%n", config.users(), config.todosPerUser());
+    }
+
+    private static String username(int index) {
+        return "loadtest-user-" + index;
+    }
+
+    // 가상 사용자 한 명의 요청 루프. 로그인 후 목록을 받아 두고, 비중대로 API를 호출한다.
+    private void runVirtualUser(int userIndex) {
+        Session session = new Session(username(userIndex));
+        try {
+            call(Endpoint.LOGIN, session);
+            call(Endpoint.LIST, session);
+            while (running) {
+                call(config.pick(), session);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            e.printStackTrace(); // 부하 테스트 자체의 오류
+        }
+    }
+
+    // 요청 하나를 보내고 응답 시간을 기록. 응답 본문 처리는 측정 시간에 포함하지 않는다.
+    private void call(Endpoint endpoint, Session session) throws InterruptedException {
+        if (endpoint == Endpoint.TOGGLE && session.todos.isEmpty()) {
+            endpoint = Endpoint.CREATE; // 토글할 항목이 없으면 새로 만든다
+        }
+        Long toggledId = endpoint == Endpoint.TOGGLE ? session.randomTodoId() : null;
+        HttpRequest request = request(endpoint, session, toggledId);
+
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            if (measuring) {
+                stats.get(endpoint).record(System.nanoTime() - start, false);
+            }
+            return;
+        }
+        long latency = System.nanoTime() - start;
+        boolean success = response.statusCode() < 400;
+        if (measuring) {
+            stats.get(endpoint).record(latency, success);
+        }
+        if (success) {
+            session.apply(endpoint, toggledId, response.body());
+        } else if (endpoint == Endpoint.TOGGLE && response.statusCode() == 404) {
+            session.forget(toggledId); // 같은 사용자를 쓰는 다른 가상 사용자가 삭제한 항목
+        }
+    }
+
+    private HttpRequest request(Endpoint endpoint, Session session, Long toggledId) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder().timeout(Duration.ofSeconds(30));
+        if (session.token != null) {
+            builder.header("Authorization", "Bearer " + session.token);
+        }
+        return switch (endpoint) {
+            case LOGIN -> builder.uri(baseUri.resolve("/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(json(Map.of("username", session.username, "password", PASSWORD)))
+                    .build();
+            case LIST -> builder.uri(baseUri.resolve("/api/todos")).GET().build();
+            case FILTER -> builder.uri(baseUri.resolve("/api/todos/filter?isCompleted=false")).GET().build();
+            case CREATE -> builder.uri(baseUri.resolve("/api/todos"))
+                    .header("Content-Type", "application/json")
+                    .POST(json(Map.of("task", "Load test task", "isCompleted", false)))
+                    .build();
+            case TOGGLE -> builder.uri(baseUri.resolve("/api/todos/" + toggledId + "/toggle"))
+                    .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                    .build();
+            case DELETE_COMPLETED -> builder.uri(baseUri.resolve("/api/todos/completed")).DELETE().build();
+        };
+    }
+
+    private HttpRequest.BodyPublisher json(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 결과를 JSON 파일로 저장하고 요약을 출력.
+    private void writeReport(double seconds) throws IOException {
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        long totalRequests = 0;
+        long totalErrors = 0;
+        for (Map.Entry<Endpoint, EndpointStats> entry : stats.entrySet()) {
+            EndpointStats endpointStats = entry.getValue();
+            if (endpointStats.requests() == 0) {
+                continue;
+            }
+            endpoints.put(entry.getKey().key, endpointStats.summary(seconds));
+            totalRequests += endpointStats.requests();
+            totalErrors += endpointStats.errors();
+        }
+
+        Map<String, Object> configSummary = new LinkedHashMap<>();
+        configSummary.put("users", config.users());
+        configSummary.put("todosPerUser", config.todosPerUser());
+        configSummary.put("concurrency", config.concurrency());
+        configSummary.put("warmupSeconds", config.warmupSeconds());
+        configSummary.put("durationSeconds", config.durationSeconds());
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        config.mix().forEach((endpoint, weight) -> mix.put(endpoint.key, weight));
+        configSummary.put("mix", mix);
+
+        Map<String, Object> total = new LinkedHashMap<>();
+        total.put("requests", totalRequests);
+        total.put("errors", totalErrors);
+        total.put("throughput", Math.round(totalRequests / seconds * 1000.0) / 1000.0);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", Instant.now().toString());
+        report.put("config", configSummary);
+        report.put("measuredSeconds", Math.round(seconds * 1000.0) / 1000.0);
+        report.put("total", total);
+        report.put("endpoints", endpoints);
+
+        if (config.output().toAbsolutePath().getParent() != null) {
+            Files.createDirectories(config.output().toAbsolutePath().getParent());
+        }
+        objectMapper.writer(SerializationFeature.INDENT_OUTPUT).writeValue(config.output().toFile(), report);
+
+        System.out.printf("%-16s %10s %8s %10s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "p99.9 ms");
+        endpoints.forEach((name, value) -> {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> summary = (Map<String, Object>) value;
+            @SuppressWarnings("unchecked")
+            Map<String, Object> latency = (Map<String, Object>) summary.get("latencyMs");
+            System.out.printf("%-16s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f%n", name,
+                    summary.get("requests"), summary.get("errors"), summary.get("throughput"),
+                    latency.get("p50"), latency.get("p95"), latency.get("p99"), latency.get("p99.9"));
+        });
+        System.out.printf("Total %d requests (%d errors), %.1f req/s. Results written to %s%n",
+                totalRequests, totalErrors, total.get("throughput"), config.output().toAbsolutePath());
+    }
+
+    /**
+     * 가상 사용자 한 명의 상태. 액세스 토큰과, 응답으로 알게 된 Todo ID와 완료 여부.
+     */
+    private final class Session {
+
+        private final String username;
+        private final Map<Long, Boolean> todos = new LinkedHashMap<>(); // ID -> 완료 여부
+        private final List<Long> ids = new ArrayList<>(); // 무작위 선택용
+        private String token;
+
+        Session(String username) {
+            this.username = username;
+        }
+
+        Long randomTodoId() {
+            return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+        }
+
+        // 성공한 응답을 반영해 다음 요청에 쓸 상태를 갱신.
+        void apply(Endpoint endpoint, Long toggledId, String body) {
+            switch (endpoint) {
+                case LOGIN -> token = read(body).get("token").asText();
+                case LIST -> {
+                    todos.clear();
+                    for (JsonNode todo : read(body)) {
+                        todos.put(todo.get("id").asLong(), todo.get("isCompleted").asBoolean());
+                    }
+                    syncIds();
+                }
+                case CREATE -> {
+                    todos.put(read(body).get("id").asLong(), false);
+                    syncIds();
+                }
+                case TOGGLE -> todos.computeIfPresent(toggledId, (id, completed) -> !completed);
+                case DELETE_COMPLETED -> {
+                    todos.values().removeIf(completed -> completed);
+                    syncIds();
+                }
+                case FILTER -> {
+                    // 목록 상태는 LIST 응답으로만 갱신
+                }
+            }
+        }
+
+        void forget(Long id) {
+            todos.remove(id);
+            syncIds();
+        }
+
+        private void syncIds() {
+            ids.clear();
+            ids.addAll(todos.keySet());
+        }
+
+        private JsonNode read(String body) {
+            try {
+                return objectMapper.readTree(body);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
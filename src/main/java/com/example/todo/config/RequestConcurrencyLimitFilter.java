@@ -0,0 +1,104 @@
+package com.example.todo.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper; // 503 응답 본문 직렬화
+import io.micrometer.core.instrument.Counter; // 거부 횟수
+import io.micrometer.core.instrument.Gauge; // 처리 중인 요청 수 노출
+import io.micrometer.core.instrument.MeterRegistry; // 메트릭 등록
+import io.micrometer.core.instrument.Timer; // 허가 대기 시간
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter; // HTTP 요청마다 한 번 실행되는 필터
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시에 처리하는 API 요청 수를 제한하는 필터.
+ * 가상 스레드는 요청마다 새로 만들어지므로 Tomcat 스레드 수가 더 이상 동시 처리량의 상한이 아니다.
+ * 제한이 없으면 커넥션 풀보다 훨씬 많은 요청이 풀 대기열에 쌓여 커넥션 대기 시간 초과로 실패하므로,
+ * 허가를 기다리는 동안은 가상 스레드만 대기하고 시간 안에 허가를 얻지 못하면 503으로 응답한다.
+ *
+ * 비동기 응답(SSE, 스트리밍)은 요청 처리 메서드가 반환될 때 허가를 돌려준다.
+ */
+public class RequestConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits; // 남은 동시 처리 허가
+    private final int maxConcurrentRequests; // 최대 동시 처리 요청 수
+    private final long acquireTimeoutMs; // 허가 대기 시간
+    private final ObjectMapper objectMapper;
+    private final Timer waitTimer; // 허가를 얻기까지 대기한 시간
+    private final Counter rejectedCounter; // 대기 시간 초과로 거부된 요청 수
+
+    public RequestConcurrencyLimitFilter(int maxConcurrentRequests, long acquireTimeoutMs,
+                                         ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(maxConcurrentRequests, true); // 먼저 온 요청부터 처리
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.objectMapper = objectMapper;
+        this.waitTimer = Timer.builder("http.concurrency.wait")
+                .description("동시 처리 허가를 얻기까지 대기한 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("http.concurrency.rejected")
+                .description("동시 처리 한도 초과로 거부된 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("http.concurrency.active", this, RequestConcurrencyLimitFilter::activeRequests)
+                .description("처리 중인 API 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 최대 동시 처리 요청 수.
+     */
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    /**
+     * 처리 중인 요청 수.
+     */
+    public int activeRequests() {
+        return maxConcurrentRequests - permits.availablePermits();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (!acquired) {
+            rejectedCounter.increment();
+            serviceUnavailable(response);
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    // 과부하 시 빠르게 503 응답 (클라이언트는 잠시 후 재시도)
+    private void serviceUnavailable(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(),
+                Map.of("message", "요청이 많아 잠시 후 다시 시도해 주세요."));
+    }
+}
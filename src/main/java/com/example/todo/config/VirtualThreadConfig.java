@@ -0,0 +1,75 @@
+package com.example.todo.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource; // 커넥션 풀 크기 확인
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value; // application.properties 값 주입
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading; // 가상 스레드 사용 시에만 적용
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * 가상 스레드 요청 처리 모드 설정.
+ * spring.threads.virtual.enabled=true 이고 Java 21 이상에서 실행될 때만 적용된다. (java21 빌드 프로필)
+ * 이때 Tomcat은 요청마다 가상 스레드를 쓰므로, 커넥션 풀 크기에 맞춘 동시 요청 제한과
+ * 캐리어 스레드 고정 감지를 함께 등록한다.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET) // Tomcat 요청 처리에만 해당
+public class VirtualThreadConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    /**
+     * DB를 쓰는 API 경로의 동시 처리 요청 수 제한.
+     * 최대값이 0이면 커넥션 풀 최대 크기 x 커넥션당 요청 수로 정한다.
+     * (요청은 처리 시간의 일부만 커넥션을 쓰므로 풀 크기보다 조금 많이 허용)
+     */
+    @Bean
+    public FilterRegistrationBean<RequestConcurrencyLimitFilter> requestConcurrencyLimitFilter(
+            DataSource dataSource, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+            @Value("${VIRTUAL_THREADS_MAX_CONCURRENT_REQUESTS:0}") int maxConcurrentRequests,
+            @Value("${VIRTUAL_THREADS_REQUESTS_PER_CONNECTION:2}") int requestsPerConnection,
+            @Value("${VIRTUAL_THREADS_ACQUIRE_TIMEOUT_MS:1000}") long acquireTimeoutMs) {
+        int limit = maxConcurrentRequests > 0 ? maxConcurrentRequests
+                : maximumPoolSize(dataSource) * requestsPerConnection;
+        log.info("Virtual thread request handling enabled, limiting API requests to {} concurrent", limit);
+
+        FilterRegistrationBean<RequestConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new RequestConcurrencyLimitFilter(limit, acquireTimeoutMs, objectMapper, meterRegistry));
+        registration.addUrlPatterns("/api/*", "/auth/*"); // 정적 리소스와 헬스 체크는 제한하지 않음
+        return registration;
+    }
+
+    /**
+     * 가상 스레드의 캐리어 스레드 고정 감지.
+     */
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${VIRTUAL_THREADS_PINNED_THRESHOLD_MS:20}") long thresholdMs) {
+        return new VirtualThreadPinningMonitor(Duration.ofMillis(thresholdMs), meterRegistry);
+    }
+
+    // Hikari 풀의 최대 커넥션 수. 다른 풀이면 Hikari 기본값(10)을 사용.
+    private static int maximumPoolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            log.warn("Could not determine connection pool size", e);
+        }
+        return 10;
+    }
+}
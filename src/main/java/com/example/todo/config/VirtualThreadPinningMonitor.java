@@ -0,0 +1,88 @@
+package com.example.todo.config;
+
+import io.micrometer.core.instrument.Counter; // 고정 발생 횟수
+import io.micrometer.core.instrument.MeterRegistry; // 메트릭 등록
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream; // JFR 이벤트를 애플리케이션 안에서 구독
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle; // 애플리케이션 시작/종료에 맞춰 구독 관리
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드가 캐리어 스레드에 고정(pinning)되는 지점을 찾는 모니터.
+ * synchronized 블록 안에서 I/O를 기다리는 코드(주로 JDBC 드라이버나 커넥션 풀)는 가상 스레드를
+ * 캐리어 스레드에 묶어, 몇 개만 동시에 대기해도 모든 요청이 멈출 수 있다.
+ *
+ * JFR의 jdk.VirtualThreadPinned 이벤트를 구독해 횟수를 메트릭으로 남기고,
+ * 처음 보는 위치는 스택과 함께 경고 로그로 남긴다. (같은 위치는 한 번만 기록)
+ */
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int STACK_DEPTH = 12; // 로그에 남길 프레임 수
+    private static final int MAX_REPORTED_SITES = 1000; // 기록해 둘 고정 위치 수 상한
+
+    private final Duration threshold; // 이보다 오래 고정된 경우만 기록
+    private final Counter pinnedCounter;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet(); // 이미 로그로 남긴 위치
+
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(Duration threshold, MeterRegistry meterRegistry) {
+        this.threshold = threshold;
+        this.pinnedCounter = Counter.builder("jvm.threads.virtual.pinned")
+                .description("임계 시간보다 오래 캐리어 스레드에 고정된 가상 스레드 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::onPinned);
+        recording.startAsync();
+        stream = recording;
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCounter.increment();
+        if (event.getStackTrace() == null) {
+            return;
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        String stack = frames.stream()
+                .limit(STACK_DEPTH)
+                .map(VirtualThreadPinningMonitor::describe)
+                .collect(Collectors.joining("\n\tat "));
+        if (reportedSites.size() < MAX_REPORTED_SITES && reportedSites.add(stack)) {
+            log.warn("Virtual thread pinned for {} ms\n\tat {}", event.getDuration().toMillis(), stack);
+        }
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+}
@@ -20,6 +20,8 @@ public class WebConfig implements WebMvcConfigurer {
                 ) // 허용할 도메인 목록
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS") // 허용할 HTTP 메서드
                 .allowedHeaders("*") // 모든 요청 헤더 허용
+                .exposedHeaders("X-Next-Cursor", "ETag", "X-SQL-Statements", "X-SQL-Rows", "Server-Timing",
+                        "Content-Disposition") // 페이지 커서, 버전, SQL 집계(개발 모드), 내보내기 파일 이름 헤더를 클라이언트 스크립트에 노출
                 .allowCredentials(true); // 쿠키 및 인증 정보를 포함한 요청 허용
     }
 }
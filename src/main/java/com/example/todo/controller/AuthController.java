@@ -1,22 +1,34 @@
 package com.example.todo.controller;
 
 import com.example.todo.dto.AuthRequest;
+import com.example.todo.dto.RefreshRequest;
 import com.example.todo.dto.AuthResponse;
 import com.example.todo.dto.RegisterRequest;
 import com.example.todo.entity.User;
+import com.example.todo.invalidation.CacheInvalidationBus;
 import com.example.todo.repository.UserRepository;
+import com.example.todo.security.AuthenticatedUser;
 import com.example.todo.security.JwtUtil;
+import com.example.todo.security.PasswordHashingExecutor;
+import com.example.todo.security.UserCache;
+import com.example.todo.service.RefreshTokenService;
+import com.example.todo.shard.ShardRouting;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 // 컨트롤러 클래스 선언
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET) // 반응형 스택에서는 사용하지 않음
 @RestController
 @RequestMapping("/auth")
 public class AuthController {
@@ -26,61 +38,96 @@ public class AuthController {
     private final UserRepository userRepository; // 사용자 데이터베이스 접근
     private final PasswordEncoder passwordEncoder; // 비밀번호 암호화
     private final JwtUtil jwtUtil; // JWT 생성 및 검증
+    private final UserCache userCache; // 사용자 캐시 무효화
+    private final PasswordHashingExecutor passwordHashingExecutor; // BCrypt 전용 스레드 풀
+    private final RefreshTokenService refreshTokenService; // 리프레시 토큰 발급 및 회전
+    private final CacheInvalidationBus invalidationBus; // 다른 노드의 사용자 캐시 무효화
+    private final ShardRouting shardRouting; // 새 사용자의 Todo 샤드 배정
 
     // 생성자를 통한 의존성 주입
-    public AuthController(AuthenticationManager authenticationManager, UserRepository userRepository, PasswordEncoder passwordEncoder, JwtUtil jwtUtil) {
+    public AuthController(AuthenticationManager authenticationManager, UserRepository userRepository, PasswordEncoder passwordEncoder, JwtUtil jwtUtil, UserCache userCache, PasswordHashingExecutor passwordHashingExecutor, RefreshTokenService refreshTokenService, CacheInvalidationBus invalidationBus, ShardRouting shardRouting) {
         this.authenticationManager = authenticationManager;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtUtil = jwtUtil;
+        this.userCache = userCache;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.refreshTokenService = refreshTokenService;
+        this.invalidationBus = invalidationBus;
+        this.shardRouting = shardRouting;
     }
 
     // 회원가입 처리
+    // BCrypt 해싱은 전용 스레드 풀에서 실행되고, 요청 스레드는 비동기로 반환됨
     @PostMapping("/register")
-    public ResponseEntity<?> registerUser(@RequestBody RegisterRequest request) {
+    public CompletableFuture<ResponseEntity<?>> registerUser(@RequestBody RegisterRequest request) {
         // 사용자 이름 중복 확인
         if (userRepository.existsByUsername(request.getUsername())) {
-            return ResponseEntity
+            return CompletableFuture.completedFuture(ResponseEntity
                     .status(HttpStatus.BAD_REQUEST) // HTTP 400 상태 반환
-                    .body(Map.of("message", "이미 존재하는 사용자 이름입니다.")); // 오류 메시지 반환
+                    .body(Map.of("message", "이미 존재하는 사용자 이름입니다."))); // 오류 메시지 반환
         }
 
-        // 새로운 사용자 생성 및 데이터 설정
-        User user = new User();
-        user.setUsername(request.getUsername());
-        user.setPassword(passwordEncoder.encode(request.getPassword())); // 비밀번호 암호화
+        return passwordHashingExecutor.submit("register", () -> passwordEncoder.encode(request.getPassword())) // 비밀번호 암호화
+                .<ResponseEntity<?>>thenApply(encodedPassword -> {
+                    // 새로운 사용자 생성 및 데이터 설정
+                    User user = new User();
+                    user.setUsername(request.getUsername());
+                    user.setPassword(encodedPassword);
 
-        // 사용자 저장
-        userRepository.save(user);
+                    // 사용자 저장 후 캐시 항목 무효화
+                    userRepository.save(user);
+                    shardRouting.placeNewUser(user.getId()); // Todo를 저장할 샤드 배정
+                    userCache.invalidate(user.getUsername());
+                    invalidationBus.userChanged(user.getUsername());
 
-        // 성공 메시지 반환
-        return ResponseEntity.ok(Map.of("message", "회원가입이 성공적으로 완료되었습니다."));
+                    // 성공 메시지 반환
+                    return ResponseEntity.ok(Map.of("message", "회원가입이 성공적으로 완료되었습니다."));
+                })
+                .exceptionally(e -> {
+                    if (isRejected(e)) {
+                        return serviceUnavailable(); // 해싱 큐 초과 시 503 반환
+                    }
+                    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body(Map.of("message", "회원가입 처리 중 오류가 발생했습니다."));
+                });
     }
 
     // 로그인 처리
+    // AuthenticationManager의 BCrypt 검증은 전용 스레드 풀에서 실행됨
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody AuthRequest authRequest) {
-        try {
-            // 사용자 인증
-            Authentication authentication = authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(authRequest.getUsername(), authRequest.getPassword())
-            );
-
-            // 인증 성공 시 JWT 생성
-            String token = jwtUtil.generateToken(authRequest.getUsername());
-
-            // JWT 만료 시간 계산
-            long expirationTime = System.currentTimeMillis() + jwtUtil.getExpirationMs();
-
-            // JWT 및 만료 시간 반환
-            return ResponseEntity.ok(Map.of(
-                    "token", token,
-                    "expiresAt", expirationTime
-            ));
-        } catch (Exception e) {
-            // 인증 실패 시 401 상태 반환
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid credentials");
-        }
+    public CompletableFuture<ResponseEntity<?>> login(@RequestBody AuthRequest authRequest) {
+        return passwordHashingExecutor.submit("login", () -> authenticationManager.authenticate( // 사용자 인증
+                        new UsernamePasswordAuthenticationToken(authRequest.getUsername(), authRequest.getPassword())
+                ))
+                .<ResponseEntity<?>>thenApply(authentication -> {
+                    // 인증 성공 시 액세스 토큰과 새 family의 리프레시 토큰 발급
+                    AuthenticatedUser user = (AuthenticatedUser) authentication.getPrincipal();
+                    return tokenResponse(user, refreshTokenService.issue(user));
+                })
+                .exceptionally(e -> {
+                    if (isRejected(e)) {
+                        return serviceUnavailable(); // 해싱 큐 초과 시 503 반환
+                    }
+                    // 인증 실패 시 401 상태 반환
+                    return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid credentials");
+                });
+    }
+
+    // 액세스 토큰 갱신
+    // 비밀번호 해싱 없이 리프레시 토큰 조회 한 번으로 처리하며, 사용한 리프레시 토큰은 회전됨
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@RequestBody RefreshRequest request) {
+        return refreshTokenService.rotate(request.getRefreshToken())
+                .<ResponseEntity<?>>map(rotation -> tokenResponse(rotation.user(), rotation.refreshToken()))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid refresh token"));
+    }
+
+    // 로그아웃: 리프레시 토큰 family 폐기
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(@RequestBody RefreshRequest request) {
+        refreshTokenService.revoke(request.getRefreshToken());
+        return ResponseEntity.noContent().build();
     }
 
     // JWT 토큰 유효성 검증
@@ -95,4 +142,34 @@ public class AuthController {
         }
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid token"); // 유효하지 않으면 401 상태 반환
     }
-}
\ No newline at end of file
+
+    // 액세스 토큰, 리프레시 토큰과 각각의 만료 시간을 담은 응답 생성
+    private ResponseEntity<?> tokenResponse(AuthenticatedUser user, String refreshToken) {
+        String token = jwtUtil.generateToken(user);
+
+        // JWT 만료 시간 계산
+        long now = System.currentTimeMillis();
+        long expirationTime = now + jwtUtil.getExpirationMs();
+
+        // JWT 및 만료 시간 반환
+        return ResponseEntity.ok(Map.of(
+                "token", token,
+                "expiresAt", expirationTime,
+                "refreshToken", refreshToken,
+                "refreshExpiresAt", now + refreshTokenService.getRefreshExpirationMs()
+        ));
+    }
+
+    // 인증 작업이 스레드 풀 큐 초과로 거부되었는지 확인
+    private static boolean isRejected(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        return cause instanceof RejectedExecutionException;
+    }
+
+    // 과부하 시 빠르게 503 응답 (클라이언트는 잠시 후 재시도)
+    private static ResponseEntity<?> serviceUnavailable() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of("message", "인증 요청이 많아 잠시 후 다시 시도해 주세요."));
+    }
+}
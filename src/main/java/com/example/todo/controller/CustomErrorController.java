@@ -2,6 +2,7 @@ package com.example.todo.controller;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.web.servlet.error.ErrorController;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -10,6 +11,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
  * Spring Boot의 기본 에러 처리를 커스터마이징하기 위한 컨트롤러.
  * 특정 HTTP 상태 코드에 따라 사용자가 정의한 에러 페이지로 포워딩.
  */
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET) // 반응형 스택에서는 사용하지 않음
 @Controller
 public class CustomErrorController implements ErrorController {
 
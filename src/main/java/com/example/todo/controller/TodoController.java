@@ -1,76 +1,365 @@
 package com.example.todo.controller;
 
+import com.example.todo.dto.BulkTodoRequest;
+import com.example.todo.dto.TodoChanges;
+import com.example.todo.dto.TodoCursor;
+import com.example.todo.dto.TodoImportProgress;
+import com.example.todo.dto.TodoPage;
 import com.example.todo.entity.Todo;
-import com.example.todo.entity.User;
-import com.example.todo.repository.TodoRepository;
-import com.example.todo.repository.UserRepository;
+import com.example.todo.event.TodoEventBroker;
+import com.example.todo.security.AuthenticatedUser;
+import com.example.todo.service.TodoListVersions;
+import com.example.todo.service.TodoListView;
+import com.example.todo.service.TodoService;
+import com.example.todo.service.TodoSyncService;
+import com.example.todo.service.TodoService.MutationResult;
+import com.example.todo.service.TodoTransferService;
+import com.example.todo.service.TodoTransferService.Format;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser; // 일괄 생성 본문을 항목 단위로 읽음
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Todo 목록 관리 컨트롤러.
  * 사용자의 Todo CRUD 및 필터링, 완료 상태 토글, 완료 항목 일괄 삭제 기능을 처리.
  */
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET) // 반응형 스택에서는 사용하지 않음
 @RestController
 @RequestMapping("/api/todos")
 public class TodoController {
 
-    private final TodoRepository todoRepository; // Todo 데이터베이스 접근
-    private final UserRepository userRepository; // User 데이터베이스 접근
+    private static final Logger log = LoggerFactory.getLogger(TodoController.class);
+
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor"; // 다음 페이지 커서 응답 헤더
+    static final String NDJSON = "application/x-ndjson"; // 줄 단위 JSON 미디어 타입
+    static final String CSV = "text/csv"; // 가져오기/내보내기 CSV 미디어 타입
+    static final String PREFER_HEADER = "Prefer"; // 응답 형태 지정 요청 헤더 (RFC 7240)
+    static final String RETURN_MINIMAL = "return=minimal"; // 본문 없이 응답
+
+    private final TodoService todoService; // Todo 조회/변경 로직
+    private final ObjectMapper objectMapper; // 스트리밍 응답 직렬화
+    private final TodoListVersions listVersions; // 사용자별 목록 버전 (목록 ETag)
+    private final TodoSyncService todoSyncService; // 델타 동기화
+    private final TodoEventBroker eventBroker; // 변경 이벤트 스트림 (SSE)
+    private final TodoTransferService transferService; // 가져오기/내보내기
 
     /**
      * TodoController 생성자.
-     * TodoRepository와 UserRepository를 의존성 주입으로 초기화.
+     * TodoService, ObjectMapper, TodoListVersions, TodoSyncService, TodoEventBroker, TodoTransferService를
+     * 의존성 주입으로 초기화. 모든 조회와 변경은 TodoService를 거쳐 목록 캐시와 버전이 함께 관리된다.
      */
-    public TodoController(TodoRepository todoRepository, UserRepository userRepository) {
-        this.todoRepository = todoRepository;
-        this.userRepository = userRepository;
+    public TodoController(TodoService todoService, ObjectMapper objectMapper, TodoListVersions listVersions,
+                          TodoSyncService todoSyncService, TodoEventBroker eventBroker,
+                          TodoTransferService transferService) {
+        this.todoService = todoService;
+        this.transferService = transferService;
+        this.todoSyncService = todoSyncService;
+        this.eventBroker = eventBroker;
+        this.objectMapper = objectMapper;
+        this.listVersions = listVersions;
     }
 
     /**
      * 인증 객체에서 사용자 ID를 추출.
-     * 인증 객체가 null이거나 사용자 이름이 없을 경우 예외를 발생시킴.
+     * 사용자 ID는 JWT 필터가 만든 Principal에 들어 있으므로 users 테이블을 조회하지 않음.
+     * 인증 객체가 null이거나 Principal이 AuthenticatedUser가 아닐 경우 예외를 발생시킴.
      */
     private Long getUserIdFromAuthentication(Authentication authentication) {
-        if (authentication == null || authentication.getName() == null) {
+        if (authentication == null || !(authentication.getPrincipal() instanceof AuthenticatedUser principal)) {
             throw new RuntimeException("Unauthorized");
         }
 
-        String username = authentication.getName();
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found: " + username));
+        return principal.getId();
+    }
+
+    /**
+     * 키셋 페이지 조회 후 응답 생성.
+     * 본문은 기존과 같은 Todo 배열이며, 다음 페이지가 있으면 X-Next-Cursor 헤더에 커서를 담는다.
+     */
+    private ResponseEntity<List<Todo>> pageResponse(Long userId, Boolean isCompleted, Integer limit, String cursor,
+                                                    String eTag) {
+        int pageSize = TodoListView.pageSize(limit);
+        TodoCursor after = cursor == null ? null : TodoCursor.decode(cursor);
+        TodoPage page = todoService.findPage(userId, isCompleted, after, pageSize);
+
+        ResponseEntity.BodyBuilder response = listResponse(eTag);
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
+    }
+
+    /**
+     * 목록 응답 빌더. 목록 버전 ETag를 붙이고, 브라우저가 저장은 하되 매번 재검증하도록 한다.
+     */
+    private static ResponseEntity.BodyBuilder listResponse(String eTag) {
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate());
+    }
 
-        return user.getId();
+    /**
+     * 목록이 바뀌지 않았으면 304 응답 생성. 바뀌었으면 null.
+     * 목록을 조회하거나 직렬화하기 전에 호출한다.
+     */
+    private static <T> ResponseEntity<T> notModified(String ifNoneMatch, String eTag) {
+        if (!eTagMatches(ifNoneMatch, eTag)) {
+            return null;
+        }
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .build();
+    }
+
+    /**
+     * If-None-Match 헤더 값(쉼표로 구분된 ETag 목록 또는 "*")에 주어진 ETag가 포함되는지 확인.
+     */
+    static boolean eTagMatches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2); // If-None-Match는 약한 비교
+            }
+            if (value.equals("*") || value.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
      * 사용자의 모든 Todo 항목 조회.
+     * limit 또는 cursor가 주어지면 (createdAt, id) 순의 키셋 페이지로 조회.
+     * If-None-Match가 현재 목록 버전과 같으면 조회 없이 304를 반환.
      */
     @GetMapping
-    public ResponseEntity<List<Todo>> getAllTodos(Authentication authentication) {
+    public ResponseEntity<List<Todo>> getAllTodos(@RequestParam(required = false) Integer limit,
+                                                  @RequestParam(required = false) String cursor,
+                                                  @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                  Authentication authentication) {
         try {
             // 인증된 사용자의 ID 가져오기
             Long userId = getUserIdFromAuthentication(authentication);
 
+            // 목록이 바뀌지 않았으면 304
+            String eTag = listVersions.eTag(userId, TodoListView.of(null, limit, cursor));
+            ResponseEntity<List<Todo>> notModified = notModified(ifNoneMatch, eTag);
+            if (notModified != null) {
+                return notModified;
+            }
+
+            // 페이지 조회 요청이면 커서 기반으로 조회
+            if (limit != null || cursor != null) {
+                return pageResponse(userId, null, limit, cursor, eTag);
+            }
+
             // 해당 사용자의 Todo 목록 조회
-            List<Todo> todos = todoRepository.findByUserId(userId);
+            List<Todo> todos = todoService.findAll(userId);
 
             // 조회된 Todo 목록을 반환
-            return ResponseEntity.ok(todos);
+            return listResponse(eTag).body(todos);
+        } catch (IllegalArgumentException e) {
+            // 잘못된 커서는 400 상태 코드 반환
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
         } catch (RuntimeException e) {
             // 인증 실패 시 403 상태 코드 반환
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(null);
         } catch (Exception e) {
             // 서버 오류 발생 시 500 상태 코드 반환
-            e.printStackTrace();
+            log.error("Failed to list todos", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
+    /**
+     * 델타 동기화. since 토큰 이후에 추가/수정/삭제된 항목만 반환.
+     * 토큰이 없거나 만료되었으면 전체 목록을 reset=true로 반환.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<TodoChanges> getChanges(@RequestParam(required = false) String since,
+                                                  Authentication authentication) {
+        try {
+            // 인증된 사용자의 ID 가져오기
+            Long userId = getUserIdFromAuthentication(authentication);
+
+            // 토큰 이후의 변경 조회
+            return ResponseEntity.ok(todoSyncService.changesSince(userId, since));
+        } catch (IllegalArgumentException e) {
+            // 잘못된 토큰은 400 상태 코드 반환
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (RuntimeException e) {
+            // 인증 실패 시 403 상태 코드 반환
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+    }
+
+    /**
+     * 사용자의 Todo 변경 이벤트 스트림 (Server-Sent Events).
+     * 다른 탭/기기에서의 변경도 커밋 후 이벤트로 전달되며, 연결 직후에는 ready 이벤트를 보낸다.
+     * 비동기 응답이므로 열려 있는 연결이 요청 처리 스레드를 점유하지 않는다.
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> events(Authentication authentication) {
+        Long userId;
+        try {
+            // 인증된 사용자의 ID 가져오기
+            userId = getUserIdFromAuthentication(authentication);
+        } catch (RuntimeException e) {
+            // 인증 실패 시 403 상태 코드 반환
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        try {
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noStore())
+                    .header("X-Accel-Buffering", "no") // 리버스 프록시의 응답 버퍼링 비활성화
+                    .body(eventBroker.subscribe(userId));
+        } catch (IllegalStateException e) {
+            // 사용자당 연결 수 초과 시 429 상태 코드 반환
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        }
+    }
+
+    /**
+     * 사용자의 모든 Todo 항목을 NDJSON(한 줄에 Todo 하나)으로 스트리밍.
+     * DB 커서에서 읽은 행을 바로 응답에 기록하므로 항목 수와 관계없이 메모리 사용량이 일정.
+     */
+    @GetMapping(value = "/stream", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamTodos(Authentication authentication) {
+        try {
+            // 인증된 사용자의 ID 가져오기 (응답 스트리밍은 다른 스레드에서 실행됨)
+            Long userId = getUserIdFromAuthentication(authentication);
+
+            StreamingResponseBody body = outputStream -> {
+                try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                    generator.setRootValueSeparator(new SerializedString("\n")); // 항목 사이 줄바꿈
+                    todoService.streamTodos(userId, todo -> writeValue(generator, todo));
+                    generator.writeRaw('\n');
+                }
+            };
+            return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(body);
+        } catch (RuntimeException e) {
+            // 인증 실패 시 403 상태 코드 반환
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+    }
+
+    /**
+     * 사용자의 모든 Todo 내보내기. format은 ndjson(기본) 또는 csv.
+     * /stream과 같이 DB 커서에서 읽은 행을 바로 기록하며, 파일로 저장되도록 첨부 파일 헤더를 붙인다.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTodos(@RequestParam(defaultValue = "ndjson") String format,
+                                                             Authentication authentication) {
+        try {
+            // 인증된 사용자의 ID 가져오기 (응답 스트리밍은 다른 스레드에서 실행됨)
+            Long userId = getUserIdFromAuthentication(authentication);
+            Format exportFormat = Format.of(format);
+
+            StreamingResponseBody body = outputStream -> transferService.exportTodos(userId, outputStream, exportFormat);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                            .filename("todos." + exportFormat.getExtension())
+                            .build()
+                            .toString())
+                    .body(body);
+        } catch (IllegalArgumentException e) {
+            // 지원하지 않는 형식은 400 상태 코드 반환
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (RuntimeException e) {
+            // 인증 실패 시 403 상태 코드 반환
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+    }
+
+    /**
+     * NDJSON 또는 CSV 파일에서 Todo 가져오기. 형식은 Content-Type으로 구분한다.
+     * 본문을 한 행씩 읽어 묶음 단위로 저장하므로 파일 크기와 관계없이 메모리 사용량이 일정하다.
+     * 응답은 NDJSON으로, 묶음을 저장할 때마다 진행 상황을 한 줄씩 보내고 마지막 줄(done=true)에 결과를 담는다.
+     */
+    @PostMapping(value = "/import", consumes = {NDJSON, CSV}, produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> importTodos(HttpServletRequest request,
+                                                             Authentication authentication) {
+        try {
+            // 인증된 사용자의 ID 가져오기 (가져오기는 다른 스레드에서 실행됨)
+            Long userId = getUserIdFromAuthentication(authentication);
+            Format importFormat = Format.of(request.getContentType());
+            InputStream input = request.getInputStream();
+
+            StreamingResponseBody body = outputStream -> {
+                try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                    generator.setRootValueSeparator(new SerializedString("\n")); // 항목 사이 줄바꿈
+                    TodoImportProgress result = transferService.importTodos(userId, input, importFormat, progress -> {
+                        writeValue(generator, progress);
+                        flush(generator); // 진행 상황을 바로 전송
+                    });
+                    writeValue(generator, result);
+                    generator.writeRaw('\n');
+                }
+            };
+            return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(body);
+        } catch (IllegalArgumentException e) {
+            // 지원하지 않는 형식은 400 상태 코드 반환
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (IOException e) {
+            // 요청 본문을 읽을 수 없으면 400 상태 코드 반환
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (RuntimeException e) {
+            // 인증 실패 시 403 상태 코드 반환
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+    }
+
+    /**
+     * 스트리밍 응답에 지금까지 기록한 내용을 전송.
+     */
+    private static void flush(JsonGenerator generator) {
+        try {
+            generator.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // 클라이언트 연결 종료 시 중단
+        }
+    }
+
+    /**
+     * 스트리밍 응답에 값 하나를 기록.
+     */
+    private static void writeValue(JsonGenerator generator, Object value) {
+        try {
+            generator.writeObject(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // 클라이언트 연결 종료 등으로 쓰기 실패 시 스트리밍 중단
+        }
+    }
+
     /**
      * 새로운 Todo 항목 생성.
      */
@@ -80,52 +369,120 @@ public class TodoController {
             // 인증된 사용자 ID 가져오기
             Long userId = getUserIdFromAuthentication(authentication);
 
-            // 사용자 ID 설정 및 저장
-            todo.setUserId(userId);
-            Todo savedTodo = todoRepository.save(todo);
+            // 사용자 ID 설정 및 저장 (목록 캐시와 버전도 함께 갱신)
+            Todo savedTodo = todoService.create(userId, todo);
 
             // 생성된 Todo 항목 반환
             return ResponseEntity.status(HttpStatus.CREATED).body(savedTodo);
         } catch (Exception e) {
             // 서버 오류 발생 시 500 상태 코드 반환
-            e.printStackTrace();
+            log.error("Failed to create todo", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error creating Todo");
         }
     }
 
     /**
-     * 특정 Todo 항목 수정.
+     * 여러 Todo 항목을 한 번에 생성. 본문은 Todo 배열이며 모두 한 트랜잭션에서 저장된다.
+     * 본문은 항목 단위로 읽으며, 최대 개수(TodoService.MAX_BATCH_TODOS)를 넘으면 나머지를 읽지 않고 400을 반환.
+     * 생성된 항목 배열을 반환하고, Prefer: return=minimal 요청이면 생성된 항목 수만 반환.
      */
-    @PutMapping("/{id}")
-    public ResponseEntity<?> updateTodo(@PathVariable Long id, @RequestBody Todo updatedTodo, Authentication authentication) {
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> createTodos(HttpServletRequest request,
+                                         @RequestHeader(value = PREFER_HEADER, required = false) String prefer,
+                                         Authentication authentication) {
         try {
             // 인증된 사용자 ID 가져오기
             Long userId = getUserIdFromAuthentication(authentication);
 
-            // 수정하려는 Todo 항목 조회
-            Todo todo = todoRepository.findById(id)
-                    .orElseThrow(() -> new RuntimeException("Todo not found: " + id));
+            // 최대 개수까지만 본문 읽기
+            List<Todo> todos = readBatch(request.getInputStream());
+
+            // 배치 INSERT로 일괄 저장 (목록 캐시와 버전은 한 번만 갱신)
+            List<Todo> savedTodos = todoService.createAll(userId, todos);
 
-            // 요청한 사용자가 Todo 항목을 소유하고 있는지 확인
-            if (!todo.getUserId().equals(userId)) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN).body("권한이 없습니다.");
+            if (prefer != null && prefer.contains(RETURN_MINIMAL)) {
+                return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("created", savedTodos.size()));
             }
+            return ResponseEntity.status(HttpStatus.CREATED).body(savedTodos);
+        } catch (IllegalArgumentException e) {
+            // 항목 개수 초과 등 잘못된 요청은 400 상태 코드 반환
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (IOException e) {
+            // 본문이 올바른 JSON이 아니거나 읽을 수 없으면 400 상태 코드 반환
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Invalid todo array");
+        } catch (RuntimeException e) {
+            // 인증 오류 발생 시 403 상태 코드 반환
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        }
+    }
 
-            // Todo 항목 업데이트
-            todo.setTask(updatedTodo.getTask());
-            todo.setIsCompleted(updatedTodo.getIsCompleted());
-            Todo savedTodo = todoRepository.save(todo);
+    /**
+     * 일괄 생성 본문(Todo 배열)을 항목 단위로 읽음.
+     * 목록 전체를 먼저 만들지 않으므로 최대 개수를 넘는 본문은 넘는 시점에 바로 거부된다.
+     * @throws IllegalArgumentException 배열이 아니거나 항목이 최대 개수를 넘는 경우
+     */
+    private List<Todo> readBatch(InputStream input) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(input)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Expected an array of todos");
+            }
+            List<Todo> todos = new ArrayList<>();
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new JsonParseException(parser, "Unexpected end of todo array");
+                }
+                if (todos.size() == TodoService.MAX_BATCH_TODOS) {
+                    throw new IllegalArgumentException("Too many todos (max " + TodoService.MAX_BATCH_TODOS + ")");
+                }
+                todos.add(objectMapper.readValue(parser, Todo.class)); // null 항목은 서비스에서 거부
+            }
+            return todos;
+        }
+    }
 
-            return ResponseEntity.ok(savedTodo);
+    /**
+     * 특정 Todo 항목 수정.
+     * 조회 없이 조건부 UPDATE 문으로 처리하며, If-Match 헤더의 버전이 현재 버전과 다르면 409를 반환.
+     * If-Match는 강한 비교이므로 약한 ETag(W/)는 어떤 버전과도 일치하지 않아 412를 반환.
+     * Prefer: return=minimal 요청이면 수정된 항목을 다시 조회하지 않고 204를 반환.
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<?> updateTodo(@PathVariable Long id, @RequestBody Todo updatedTodo,
+                                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                        @RequestHeader(value = PREFER_HEADER, required = false) String prefer,
+                                        Authentication authentication) {
+        try {
+            // 인증된 사용자 ID 가져오기
+            Long userId = getUserIdFromAuthentication(authentication);
+
+            // If-Match 헤더의 버전과 일치할 때만 Todo 항목 업데이트
+            if (isWeakETag(ifMatch)) {
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body("If-Match에는 약한 ETag를 사용할 수 없습니다.");
+            }
+            Long expectedVersion = parseIfMatch(ifMatch);
+            MutationResult result = todoService.update(userId, id,
+                    updatedTodo.getTask(), updatedTodo.getIsCompleted(), expectedVersion);
+
+            return switch (result) {
+                case UPDATED -> mutationResponse(userId, id, prefer);
+                case VERSION_CONFLICT -> ResponseEntity.status(HttpStatus.CONFLICT).body("다른 곳에서 먼저 수정되었습니다.");
+                case FORBIDDEN -> ResponseEntity.status(HttpStatus.FORBIDDEN).body("권한이 없습니다.");
+                case NOT_FOUND -> ResponseEntity.status(HttpStatus.NOT_FOUND).body("Todo not found: " + id);
+            };
+        } catch (IllegalArgumentException e) {
+            // 잘못된 If-Match 헤더는 400 상태 코드 반환
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("잘못된 If-Match 헤더입니다.");
         } catch (Exception e) {
             // 서버 오류 발생 시 500 상태 코드 반환
-            e.printStackTrace();
+            log.error("Failed to update todo {}", id, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Todo 업데이트 중 오류가 발생했습니다.");
         }
     }
 
     /**
      * 특정 Todo 항목 삭제.
+     * 조회 없이 소유자 조건이 포함된 DELETE 문 하나로 처리.
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteTodo(@PathVariable Long id, Authentication authentication) {
@@ -133,80 +490,132 @@ public class TodoController {
             // 인증된 사용자 ID 가져오기
             Long userId = getUserIdFromAuthentication(authentication);
 
-            // 삭제하려는 Todo 항목 조회
-            Todo todo = todoRepository.findById(id)
-                    .orElseThrow(() -> new RuntimeException("Todo not found: " + id));
-
-            // 요청한 사용자가 Todo 항목을 소유하고 있는지 확인
-            if (!todo.getUserId().equals(userId)) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
-            }
-
-            // Todo 항목 삭제
-            todoRepository.deleteById(id);
-            return ResponseEntity.noContent().build();
+            // Todo 항목 삭제 (소유자 조건 포함)
+            return switch (todoService.delete(userId, id)) {
+                case UPDATED -> ResponseEntity.noContent().build();
+                case FORBIDDEN, VERSION_CONFLICT -> ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+                case NOT_FOUND -> ResponseEntity.status(HttpStatus.NOT_FOUND).body("Todo not found: " + id);
+            };
         } catch (Exception e) {
             // 서버 오류 발생 시 500 상태 코드 반환
-            e.printStackTrace();
+            log.error("Failed to delete todo {}", id, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error deleting Todo");
         }
     }
 
     /**
      * 완료 상태에 따라 Todo 항목 필터링.
+     * limit 또는 cursor가 주어지면 키셋 페이지로 조회.
      */
     @GetMapping("/filter")
-    public ResponseEntity<List<Todo>> getTodosByStatus(@RequestParam boolean isCompleted, Authentication authentication) {
+    public ResponseEntity<List<Todo>> getTodosByStatus(@RequestParam boolean isCompleted,
+                                                       @RequestParam(required = false) Integer limit,
+                                                       @RequestParam(required = false) String cursor,
+                                                       @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                       Authentication authentication) {
         try {
             // 인증된 사용자 ID 가져오기
             Long userId = getUserIdFromAuthentication(authentication);
 
+            // 목록이 바뀌지 않았으면 304
+            String eTag = listVersions.eTag(userId, TodoListView.of(isCompleted, limit, cursor));
+            ResponseEntity<List<Todo>> notModified = notModified(ifNoneMatch, eTag);
+            if (notModified != null) {
+                return notModified;
+            }
+
+            // 페이지 조회 요청이면 커서 기반으로 조회
+            if (limit != null || cursor != null) {
+                return pageResponse(userId, isCompleted, limit, cursor, eTag);
+            }
+
             // 완료 상태에 따른 Todo 항목 조회
-            List<Todo> todos = todoRepository.findByUserIdAndIsCompleted(userId, isCompleted);
+            List<Todo> todos = todoService.findByUserAndCompletionStatus(userId, isCompleted);
 
-            return ResponseEntity.ok(todos);
+            return listResponse(eTag).body(todos);
+        } catch (IllegalArgumentException e) {
+            // 잘못된 커서는 400 상태 코드 반환
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         } catch (Exception e) {
             // 서버 오류 발생 시 500 상태 코드 반환
-            e.printStackTrace();
+            log.error("Failed to filter todos", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
     /**
      * 특정 Todo 항목의 완료 상태 토글.
+     * 조회 없이 UPDATE 문 하나로 처리. Prefer: return=minimal 요청이면 204를 반환.
      */
     @PatchMapping("/{id}/toggle")
-    public ResponseEntity<?> toggleTodoCompletion(@PathVariable Long id, Authentication authentication) {
+    public ResponseEntity<?> toggleTodoCompletion(@PathVariable Long id,
+                                                  @RequestHeader(value = PREFER_HEADER, required = false) String prefer,
+                                                  Authentication authentication) {
         try {
             // 인증된 사용자 ID 가져오기
             Long userId = getUserIdFromAuthentication(authentication);
 
-            // 완료 상태를 토글하려는 Todo 항목 조회
-            Todo todo = todoRepository.findById(id)
-                    .orElseThrow(() -> new RuntimeException("Todo not found: " + id));
-
-            // 요청한 사용자가 Todo 항목을 소유하고 있는지 확인
-            if (!todo.getUserId().equals(userId)) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN).body("권한이 없습니다.");
-            }
-
-            // 완료 상태 토글
-            todo.setIsCompleted(!todo.getIsCompleted());
-            Todo updatedTodo = todoRepository.save(todo);
-
-            return ResponseEntity.ok(updatedTodo);
+            // 완료 상태 토글 (소유자 조건 포함)
+            return switch (todoService.toggleCompletion(userId, id)) {
+                case UPDATED -> mutationResponse(userId, id, prefer);
+                case NOT_FOUND -> ResponseEntity.status(HttpStatus.NOT_FOUND).body("Todo not found: " + id);
+                case FORBIDDEN, VERSION_CONFLICT -> ResponseEntity.status(HttpStatus.FORBIDDEN).body("권한이 없습니다.");
+            };
         } catch (RuntimeException e) {
             // 인증 오류 발생 시 403 상태 코드 반환
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
         } catch (Exception e) {
             // 서버 오류 발생 시 500 상태 코드 반환
-            e.printStackTrace();
+            log.error("Failed to toggle todo {}", id, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Todo 상태 변경 중 오류 발생");
         }
     }
 
+    /**
+     * 단건 변경 성공 응답.
+     * Prefer: return=minimal이면 204, 아니면 변경된 항목을 ETag(버전)와 함께 반환.
+     */
+    private ResponseEntity<?> mutationResponse(Long userId, Long id, String prefer) {
+        if (prefer != null && prefer.contains(RETURN_MINIMAL)) {
+            return ResponseEntity.noContent().build();
+        }
+        return todoService.findOwned(userId, id)
+                .<ResponseEntity<?>>map(todo -> ResponseEntity.ok().eTag(versionETag(todo)).body(todo))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).build()); // 그 사이 삭제된 경우
+    }
+
+    /**
+     * Todo 버전으로 만든 강한 ETag.
+     */
+    static String versionETag(Todo todo) {
+        return "\"" + todo.getVersion() + "\"";
+    }
+
+    /**
+     * 약한 ETag(W/"...")인지 확인. If-Match는 강한 비교만 하므로 약한 ETag는 항상 불일치다. (RFC 9110 13.1.1)
+     */
+    static boolean isWeakETag(String ifMatch) {
+        return ifMatch != null && ifMatch.trim().startsWith("W/");
+    }
+
+    /**
+     * If-Match 헤더에서 기대 버전을 추출. 헤더가 없거나 "*"이면 null (버전 검사 안 함).
+     * @throws IllegalArgumentException 버전 형식이 아닌 경우 (약한 ETag 포함)
+     */
+    static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        return Long.parseLong(value); // NumberFormatException은 IllegalArgumentException
+    }
+
     /**
      * 완료된 Todo 항목 모두 삭제.
+     * 항목을 조회하지 않고 DELETE 문 하나로 처리하며, 삭제된 항목 수를 반환.
      */
     @DeleteMapping("/completed")
     public ResponseEntity<?> deleteCompletedTodos(Authentication authentication) {
@@ -214,18 +623,85 @@ public class TodoController {
             // 인증된 사용자 ID 가져오기
             Long userId = getUserIdFromAuthentication(authentication);
 
-            // 완료된 Todo 항목 조회 및 삭제
-            List<Todo> completedTodos = todoRepository.findByUserIdAndIsCompleted(userId, true);
-            todoRepository.deleteAll(completedTodos);
+            // 완료된 Todo 항목 일괄 삭제
+            int deleted = todoService.deleteCompleted(userId);
 
-            return ResponseEntity.ok("완료된 Todo 항목이 삭제되었습니다.");
+            return ResponseEntity.ok(Map.of("deleted", deleted));
         } catch (RuntimeException e) {
             // 인증 오류 발생 시 403 상태 코드 반환
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
         } catch (Exception e) {
             // 서버 오류 발생 시 500 상태 코드 반환
-            e.printStackTrace();
+            log.error("Failed to delete completed todos", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("완료된 Todo 삭제 중 오류 발생");
         }
     }
+
+    /**
+     * 사용자의 모든 Todo 항목을 완료 또는 미완료로 변경.
+     * UPDATE 문 하나로 처리하며, 변경된 항목 수를 반환.
+     */
+    @PatchMapping("/complete-all")
+    public ResponseEntity<?> completeAllTodos(@RequestParam(defaultValue = "true") boolean isCompleted,
+                                              Authentication authentication) {
+        try {
+            // 인증된 사용자 ID 가져오기
+            Long userId = getUserIdFromAuthentication(authentication);
+
+            // 모든 Todo 항목 완료 상태 일괄 변경
+            int updated = todoService.setAllCompleted(userId, isCompleted);
+
+            return ResponseEntity.ok(Map.of("updated", updated));
+        } catch (RuntimeException e) {
+            // 인증 오류 발생 시 403 상태 코드 반환
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        }
+    }
+
+    /**
+     * 지정한 ID의 Todo 항목 일괄 삭제.
+     * 다른 사용자의 항목이나 없는 ID는 무시하고, 실제 삭제된 항목 수를 반환.
+     */
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<?> bulkDeleteTodos(@RequestBody BulkTodoRequest request, Authentication authentication) {
+        try {
+            // 인증된 사용자 ID 가져오기
+            Long userId = getUserIdFromAuthentication(authentication);
+
+            // 소유한 Todo 항목만 일괄 삭제
+            int deleted = todoService.deleteByIds(userId, request.getIds());
+
+            return ResponseEntity.ok(Map.of("deleted", deleted));
+        } catch (IllegalArgumentException e) {
+            // ID 개수 초과 시 400 상태 코드 반환
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (RuntimeException e) {
+            // 인증 오류 발생 시 403 상태 코드 반환
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        }
+    }
+
+    /**
+     * 지정한 ID의 Todo 항목 완료 상태 일괄 변경.
+     * 다른 사용자의 항목이나 없는 ID는 무시하고, 실제 변경된 항목 수를 반환.
+     */
+    @PatchMapping("/bulk-complete")
+    public ResponseEntity<?> bulkCompleteTodos(@RequestBody BulkTodoRequest request, Authentication authentication) {
+        try {
+            // 인증된 사용자 ID 가져오기
+            Long userId = getUserIdFromAuthentication(authentication);
+
+            // 소유한 Todo 항목만 완료 상태 일괄 변경
+            boolean isCompleted = request.getIsCompleted() == null || request.getIsCompleted();
+            int updated = todoService.setCompletedByIds(userId, request.getIds(), isCompleted);
+
+            return ResponseEntity.ok(Map.of("updated", updated));
+        } catch (IllegalArgumentException e) {
+            // ID 개수 초과 시 400 상태 코드 반환
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (RuntimeException e) {
+            // 인증 오류 발생 시 403 상태 코드 반환
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        }
+    }
 }
@@ -0,0 +1,35 @@
+package com.example.todo.dto;
+
+import java.util.List;
+
+public class BulkTodoRequest {
+
+    private List<Long> ids; // 대상 Todo ID 목록
+    private Boolean isCompleted = true; // 일괄 완료 처리 시 설정할 완료 여부
+
+    // 기본 생성자
+    public BulkTodoRequest() {}
+
+    // 매개변수 있는 생성자
+    public BulkTodoRequest(List<Long> ids, Boolean isCompleted) {
+        this.ids = ids;
+        this.isCompleted = isCompleted;
+    }
+
+    // Getter 및 Setter
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public Boolean getIsCompleted() {
+        return isCompleted;
+    }
+
+    public void setIsCompleted(Boolean isCompleted) {
+        this.isCompleted = isCompleted;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.todo.dto;
+
+public class RefreshRequest {
+
+    private String refreshToken;
+
+    // 기본 생성자
+    public RefreshRequest() {}
+
+    // 매개변수 있는 생성자
+    public RefreshRequest(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    // Getter 및 Setter
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.todo.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 델타 동기화 토큰.
+ * 클라이언트가 마지막으로 받은 사용자 변경 순번과 발급 시간을 불투명한 문자열로 인코딩한다.
+ * 발급 시간은 삭제 기록 보관 기간보다 오래된 토큰을 걸러내는 데 사용한다.
+ */
+public class SyncToken {
+
+    private final long changeSeq; // 동기화가 끝난 변경 순번
+    private final Instant issuedAt; // 토큰 발급 시간
+
+    public SyncToken(long changeSeq, Instant issuedAt) {
+        this.changeSeq = changeSeq;
+        this.issuedAt = issuedAt;
+    }
+
+    /**
+     * 토큰 문자열을 해석.
+     * @param encoded encode()로 만든 토큰 문자열
+     * @return 토큰
+     * @throws IllegalArgumentException 형식이 잘못된 경우
+     */
+    public static SyncToken decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid sync token");
+            }
+            return new SyncToken(Long.parseLong(raw.substring(0, separator)),
+                    Instant.ofEpochMilli(Long.parseLong(raw.substring(separator + 1))));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid sync token", e);
+        }
+    }
+
+    /**
+     * 토큰을 URL에 안전한 문자열로 인코딩.
+     */
+    public String encode() {
+        String raw = changeSeq + "|" + issuedAt.toEpochMilli();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 변경 순번을 반환.
+    public long getChangeSeq() {
+        return changeSeq;
+    }
+
+    // 발급 시간을 반환.
+    public Instant getIssuedAt() {
+        return issuedAt;
+    }
+}
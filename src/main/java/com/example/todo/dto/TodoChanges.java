@@ -0,0 +1,44 @@
+package com.example.todo.dto;
+
+import com.example.todo.entity.Todo;
+
+import java.util.List;
+
+/**
+ * 델타 동기화 응답.
+ * reset이 true이면 changes에 전체 목록이 담기며, 클라이언트는 로컬 목록을 이것으로 교체해야 한다.
+ */
+public class TodoChanges {
+
+    private final List<Todo> changes; // 추가되거나 수정된 Todo
+    private final List<Long> deleted; // 삭제된 Todo ID
+    private final String token; // 다음 동기화에 사용할 토큰
+    private final boolean reset; // 전체 목록 여부
+
+    public TodoChanges(List<Todo> changes, List<Long> deleted, String token, boolean reset) {
+        this.changes = changes;
+        this.deleted = deleted;
+        this.token = token;
+        this.reset = reset;
+    }
+
+    // 추가되거나 수정된 Todo를 반환.
+    public List<Todo> getChanges() {
+        return changes;
+    }
+
+    // 삭제된 Todo ID를 반환.
+    public List<Long> getDeleted() {
+        return deleted;
+    }
+
+    // 다음 동기화 토큰을 반환.
+    public String getToken() {
+        return token;
+    }
+
+    // 전체 목록 여부를 반환.
+    public boolean isReset() {
+        return reset;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.todo.dto;
+
+import com.example.todo.entity.Todo;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Todo 목록의 키셋(커서) 페이지 위치.
+ * 정렬 키 (createdAt, id)를 클라이언트가 해석하지 않는 불투명한 문자열로 인코딩한다.
+ */
+public class TodoCursor {
+
+    private final LocalDateTime createdAt; // 마지막으로 반환된 항목의 생성 시간
+    private final Long id; // 마지막으로 반환된 항목의 ID
+
+    public TodoCursor(LocalDateTime createdAt, Long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    /**
+     * 페이지의 마지막 항목으로부터 다음 페이지 커서 생성.
+     * @param todo 페이지의 마지막 Todo
+     * @return 다음 페이지 커서
+     */
+    public static TodoCursor after(Todo todo) {
+        return new TodoCursor(todo.getCreatedAt(), todo.getId());
+    }
+
+    /**
+     * 커서 문자열을 해석.
+     * @param encoded encode()로 만든 커서 문자열
+     * @return 커서
+     * @throws IllegalArgumentException 형식이 잘못된 경우
+     */
+    public static TodoCursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new TodoCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    /**
+     * 커서를 URL에 안전한 문자열로 인코딩.
+     */
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 생성 시간을 반환.
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    // ID를 반환.
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.todo.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * 가져오기 진행 상황. 가져오기 응답에 한 줄(NDJSON)씩 기록된다.
+ * 묶음 하나를 저장할 때마다 중간 상황을 보내고, 마지막 줄은 done=true와 함께 건너뛴 행의 오류를 담는다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL) // 중간 상황에는 errors, error 생략
+public class TodoImportProgress {
+
+    private final long processed; // 읽은 행 수
+    private final long imported; // 저장된 행 수
+    private final long skipped; // 검증에 실패하여 건너뛴 행 수
+    private final boolean done; // 마지막 줄 여부
+    private final List<String> errors; // 건너뛴 행의 오류 (최대 TodoTransferService.MAX_REPORTED_ERRORS개, 마지막 줄에만)
+    private final String error; // 가져오기를 중단시킨 오류 (형식 오류 등, 그 전까지 저장된 행은 유지됨)
+
+    public TodoImportProgress(long processed, long imported, long skipped, boolean done,
+                              List<String> errors, String error) {
+        this.processed = processed;
+        this.imported = imported;
+        this.skipped = skipped;
+        this.done = done;
+        this.errors = errors;
+        this.error = error;
+    }
+
+    // 읽은 행 수를 반환.
+    public long getProcessed() {
+        return processed;
+    }
+
+    // 저장된 행 수를 반환.
+    public long getImported() {
+        return imported;
+    }
+
+    // 건너뛴 행 수를 반환.
+    public long getSkipped() {
+        return skipped;
+    }
+
+    // 마지막 줄 여부를 반환.
+    public boolean isDone() {
+        return done;
+    }
+
+    // 건너뛴 행의 오류를 반환.
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    // 가져오기를 중단시킨 오류를 반환.
+    public String getError() {
+        return error;
+    }
+}
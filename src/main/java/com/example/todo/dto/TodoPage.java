@@ -0,0 +1,30 @@
+package com.example.todo.dto;
+
+import com.example.todo.entity.Todo;
+
+import java.util.List;
+
+/**
+ * 키셋 페이지 조회 결과.
+ * 다음 페이지가 없으면 nextCursor는 null.
+ */
+public class TodoPage {
+
+    private final List<Todo> items; // 현재 페이지의 Todo 항목
+    private final String nextCursor; // 다음 페이지 커서
+
+    public TodoPage(List<Todo> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    // 현재 페이지 항목을 반환.
+    public List<Todo> getItems() {
+        return items;
+    }
+
+    // 다음 페이지 커서를 반환.
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.todo.entity;
+
+import jakarta.persistence.*; // JPA 관련 어노테이션
+
+import java.time.LocalDateTime;
+
+/**
+ * RefreshToken 엔티티 클래스.
+ * "refresh_tokens" 테이블과 매핑되며, 토큰 원문 대신 SHA-256 해시만 저장한다.
+ * 같은 로그인에서 회전(rotation)으로 이어진 토큰들은 하나의 familyId를 공유하며,
+ * 이미 사용된 토큰이 다시 제시되면 family 전체를 폐기한다.
+ */
+@Entity // JPA 엔티티임을 나타냄.
+@Table(name = "refresh_tokens")
+public class RefreshToken {
+
+    @Id // 이 필드가 기본 키임을 나타냄.
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 64)
+    // 토큰 원문의 SHA-256 해시(hex). 조회는 이 컬럼의 유니크 인덱스 한 번으로 끝남.
+    private String tokenHash;
+
+    @Column(nullable = false, length = 36)
+    // 최초 로그인 시 생성되는 family 식별자(UUID).
+    private String familyId;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    // 토큰 소유자. 갱신 시 같은 쿼리에서 함께 조회(join fetch)한다.
+    private User user;
+
+    @Column(nullable = false)
+    // 토큰 만료 시간.
+    private LocalDateTime expiresAt;
+
+    // 토큰 생성 시간.
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(nullable = false)
+    // 사용(회전)되었거나 폐기된 토큰이면 true.
+    private boolean revoked = false;
+
+    // ID 값을 반환.
+    public Long getId() {
+        return id;
+    }
+
+    // 토큰 해시를 반환.
+    public String getTokenHash() {
+        return tokenHash;
+    }
+
+    // 토큰 해시를 설정.
+    public void setTokenHash(String tokenHash) {
+        this.tokenHash = tokenHash;
+    }
+
+    // family 식별자를 반환.
+    public String getFamilyId() {
+        return familyId;
+    }
+
+    // family 식별자를 설정.
+    public void setFamilyId(String familyId) {
+        this.familyId = familyId;
+    }
+
+    // 토큰 소유자를 반환.
+    public User getUser() {
+        return user;
+    }
+
+    // 토큰 소유자를 설정.
+    public void setUser(User user) {
+        this.user = user;
+    }
+
+    // 만료 시간을 반환.
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    // 만료 시간을 설정.
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    // 생성 시간을 반환.
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    // 폐기 여부를 반환.
+    public boolean isRevoked() {
+        return revoked;
+    }
+
+    // 폐기 여부를 설정.
+    public void setRevoked(boolean revoked) {
+        this.revoked = revoked;
+    }
+}
@@ -1,10 +1,13 @@
 package com.example.todo.entity;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.Getter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 /**
  * Todo 엔티티 클래스.
@@ -16,8 +19,10 @@ import java.time.LocalDateTime;
 public class Todo {
 
     @Id // 이 필드가 테이블의 기본 키임을 나타냄.
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    // 기본 키 생성 전략을 지정. `IDENTITY`는 데이터베이스가 자동으로 ID 값을 생성하도록 한다.
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todo_seq")
+    @SequenceGenerator(name = "todo_seq", sequenceName = "todo_seq", allocationSize = 50)
+    // 기본 키 생성 전략을 지정. 시퀀스에서 50개 단위로 ID 블록을 받아 메모리에서 나눠 쓰므로 (pooled-lo)
+    // INSERT마다 ID를 조회하지 않고, 여러 INSERT를 JDBC 배치 하나로 보낼 수 있다.
     private Long id;
 
     // Todo 항목의 내용. Not Null 제약 조건은 추가되지 않았음.
@@ -27,11 +32,25 @@ public class Todo {
     private Boolean isCompleted = false;
 
     // Todo 항목 생성 시간을 저장. 기본값은 현재 시간.
-    private LocalDateTime createdAt = LocalDateTime.now();
+    // DB 타임스탬프 정밀도(마이크로초)에 맞춰 잘라서, 메모리 값과 저장 값이 같도록 함 (페이지 커서 비교에 사용).
+    private LocalDateTime createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
 
     // 이 Todo 항목을 소유하는 사용자의 ID를 저장.
     private Long userId;
 
+    @Version // 낙관적 잠금용 버전. 변경될 때마다 1씩 증가.
+    @ColumnDefault("0") // 기존 행에 컬럼 추가 시 기본값
+    @Column(nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY) // 요청 본문으로는 설정할 수 없음 (If-Match 헤더 사용)
+    // 새 엔티티는 null로 두어 save() 시 persist 되도록 함. 저장 시 0으로 설정됨.
+    private Long version;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY) // 서버가 설정하는 값
+    // 마지막으로 바뀐 시점의 사용자 변경 순번 (todo_owners.change_seq, TodoChangeSequence). 델타 동기화에 사용.
+    private Long changeSeq = 0L;
+
     // Lombok의 @Data 어노테이션을 사용하지만, 아래처럼 커스텀 getter/setter를 추가할 수도 있음.
 
     // Todo 항목 내용을 반환.
@@ -73,4 +92,19 @@ public class Todo {
     public void setUserId(Long userId) {
         this.userId = userId;
     }
-}
\ No newline at end of file
+
+    // 버전을 반환.
+    public Long getVersion() {
+        return version;
+    }
+
+    // 변경 순번을 반환.
+    public Long getChangeSeq() {
+        return changeSeq;
+    }
+
+    // 변경 순번을 설정.
+    public void setChangeSeq(Long changeSeq) {
+        this.changeSeq = changeSeq;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.todo.entity;
+
+import jakarta.persistence.*; // JPA 관련 어노테이션
+
+/**
+ * TodoOwner 엔티티 클래스.
+ * "todo_owners" 테이블과 매핑되며, 사용자의 Todo와 같은 샤드에 사용자별 Todo 변경 순번을 저장한다.
+ * 변경 순번을 올리는 UPDATE가 커밋까지 이 행을 잠그므로, 같은 사용자의 변경 순번은 커밋 순서와 같다.
+ * 사용자를 다른 샤드로 옮기면 이전 샤드의 행에 옮겨 간 샤드 번호(movedTo)가 남아 이후 변경을 막는다.
+ */
+@Entity // JPA 엔티티임을 나타냄.
+@Table(name = "todo_owners")
+public class TodoOwner {
+
+    @Id // 사용자 ID가 기본 키.
+    private Long userId;
+
+    @Column(nullable = false)
+    // 사용자의 Todo 변경 순번. Todo가 바뀔 때마다 1씩 증가하며 델타 동기화 토큰에 사용.
+    private Long changeSeq = 0L;
+
+    // 사용자를 옮겨 간 샤드 번호. 이 샤드에 사용자의 Todo가 있으면 null.
+    private Integer movedTo;
+
+    // 사용자 ID를 반환.
+    public Long getUserId() {
+        return userId;
+    }
+
+    // 변경 순번을 반환.
+    public Long getChangeSeq() {
+        return changeSeq;
+    }
+
+    // 옮겨 간 샤드 번호를 반환.
+    public Integer getMovedTo() {
+        return movedTo;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.todo.entity;
+
+import jakarta.persistence.*; // JPA 관련 어노테이션
+
+import java.time.LocalDateTime;
+
+/**
+ * TodoTombstone 엔티티 클래스.
+ * "todo_tombstones" 테이블과 매핑되며, 삭제된 Todo를 델타 동기화 클라이언트에 알리기 위해
+ * 삭제 시점의 변경 순번과 함께 ID를 남긴다. 보관 기간이 지나면 주기적으로 삭제된다.
+ */
+@Entity // JPA 엔티티임을 나타냄.
+@Table(name = "todo_tombstones")
+public class TodoTombstone {
+
+    @Id // 이 필드가 기본 키임을 나타냄.
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    // 삭제된 Todo의 ID.
+    private Long todoId;
+
+    @Column(nullable = false)
+    // 삭제된 Todo를 소유했던 사용자 ID.
+    private Long userId;
+
+    @Column(nullable = false)
+    // 삭제 시점의 사용자 변경 순번.
+    private Long changeSeq;
+
+    @Column(nullable = false)
+    // 삭제 시간. 보관 기간 계산에 사용.
+    private LocalDateTime deletedAt;
+
+    // ID 값을 반환.
+    public Long getId() {
+        return id;
+    }
+
+    // 삭제된 Todo ID를 반환.
+    public Long getTodoId() {
+        return todoId;
+    }
+
+    // 사용자 ID를 반환.
+    public Long getUserId() {
+        return userId;
+    }
+
+    // 변경 순번을 반환.
+    public Long getChangeSeq() {
+        return changeSeq;
+    }
+
+    // 삭제 시간을 반환.
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+}
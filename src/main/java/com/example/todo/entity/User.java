@@ -15,8 +15,9 @@ import lombok.Setter; // Lombok의 @Setter를 통해 setter 메서드 자동 생
 public class User {
 
     @Id // 이 필드가 기본 키임을 나타냄.
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    // 기본 키 생성을 데이터베이스에 위임. (PostgreSQL의 SERIAL 또는 IDENTITY 사용)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
+    // 기본 키는 users_seq 시퀀스에서 50개 단위로 받아 할당. (Todo와 같은 pooled-lo 방식)
     private Long id;
 
     @Column(unique = true, nullable = false)
@@ -0,0 +1,44 @@
+package com.example.todo.event;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 사용자에게 SSE로 전달되는 Todo 변경 이벤트.
+ * 클라이언트는 이벤트를 받으면 델타 동기화(/api/todos/changes)나 목록 조회로 최신 상태를 가져온다.
+ *
+ * @param type 이벤트 종류 (created, updated, deleted, changed)
+ * @param ids 바뀐 Todo ID (일괄 변경이나 다른 노드의 변경처럼 대상을 모르면 빈 목록)
+ */
+public record TodoEvent(String type, List<Long> ids) {
+
+    public static final String CREATED = "created";
+    public static final String UPDATED = "updated";
+    public static final String DELETED = "deleted";
+    public static final String CHANGED = "changed"; // 대상을 특정할 수 없는 변경
+
+    public TodoEvent {
+        ids = ids == null ? List.of() : List.copyOf(ids);
+    }
+
+    // 이벤트 종류별 생성 메서드.
+    public static TodoEvent created(Long id) {
+        return new TodoEvent(CREATED, List.of(id));
+    }
+
+    public static TodoEvent created(Collection<Long> ids) {
+        return new TodoEvent(CREATED, List.copyOf(ids));
+    }
+
+    public static TodoEvent updated(Collection<Long> ids) {
+        return new TodoEvent(UPDATED, List.copyOf(ids));
+    }
+
+    public static TodoEvent deleted(Collection<Long> ids) {
+        return new TodoEvent(DELETED, List.copyOf(ids));
+    }
+
+    public static TodoEvent changed() {
+        return new TodoEvent(CHANGED, List.of());
+    }
+}
@@ -0,0 +1,274 @@
+package com.example.todo.event;
+
+import io.micrometer.core.instrument.Counter; // 발행/유실 이벤트 수
+import io.micrometer.core.instrument.Gauge; // 연결 수 노출
+import io.micrometer.core.instrument.MeterRegistry; // 메트릭 등록
+import jakarta.annotation.PreDestroy; // 종료 시 연결 정리
+import org.springframework.beans.factory.annotation.Value; // application.properties 값 주입
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled; // 주기적 하트비트
+import org.springframework.stereotype.Component; // Spring 컴포넌트로 등록
+import org.springframework.transaction.support.TransactionSynchronization; // 커밋 후 콜백
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter; // 비동기 SSE 응답
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사용자별 Todo 변경 이벤트를 SSE 연결로 보내는 브로커.
+ *
+ * 연결은 비동기 서블릿(SseEmitter)으로 유지되므로 대기 중인 연결은 요청 스레드를 점유하지 않는다.
+ * 이벤트는 연결마다 크기가 제한된 버퍼에 넣고, 소수의 전송 스레드가 버퍼를 비운다.
+ * 느린 클라이언트의 버퍼가 가득 차면 쌓인 이벤트를 버리고 resync 이벤트 하나로 바꿔,
+ * 클라이언트가 전체 목록을 다시 받도록 한다. (변경 알림이 유실되어도 상태는 어긋나지 않음)
+ */
+@Component
+public class TodoEventBroker {
+
+    // 연결 직후. 끊긴 동안의 변경을 반영하도록 클라이언트가 다시 조회
+    static final TodoEvent READY = new TodoEvent("ready", null);
+    // 버퍼 초과로 이벤트가 유실됨. 클라이언트는 전체 목록을 다시 조회
+    static final TodoEvent RESYNC = new TodoEvent("resync", null);
+    // 하트비트 (SSE 주석 줄)
+    private static final TodoEvent PING = new TodoEvent("ping", null);
+
+    private final Map<Long, Set<Subscription>> subscriptions = new ConcurrentHashMap<>(); // 사용자 ID -> 연결
+    private final AtomicInteger connectionCount = new AtomicInteger(); // 전체 연결 수
+    private final ExecutorService delivery; // 버퍼를 비우는 전송 스레드
+    private final int bufferSize; // 연결당 최대 대기 이벤트 수
+    private final int maxConnectionsPerUser; // 사용자당 최대 연결 수
+    private final long timeoutMs; // 연결 유지 시간 (지나면 클라이언트가 다시 연결)
+    private final long retryMs; // 클라이언트 재연결 대기 시간
+    private final Counter publishedCounter; // 발행한 이벤트 수
+    private final Counter droppedCounter; // 버퍼 초과로 resync 처리된 횟수
+
+    public TodoEventBroker(MeterRegistry meterRegistry,
+                           @Value("${TODO_EVENTS_BUFFER_SIZE:64}") int bufferSize,
+                           @Value("${TODO_EVENTS_MAX_CONNECTIONS_PER_USER:10}") int maxConnectionsPerUser,
+                           @Value("${TODO_EVENTS_TIMEOUT_MS:1800000}") long timeoutMs,
+                           @Value("${TODO_EVENTS_RETRY_MS:3000}") long retryMs,
+                           @Value("${TODO_EVENTS_DELIVERY_THREADS:2}") int deliveryThreads) {
+        this.bufferSize = bufferSize;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.timeoutMs = timeoutMs;
+        this.retryMs = retryMs;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.delivery = Executors.newFixedThreadPool(deliveryThreads, task -> {
+            Thread thread = new Thread(task, "todo-events-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.publishedCounter = Counter.builder("todo.events.published")
+                .description("발행한 Todo 변경 이벤트 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("todo.events.resyncs")
+                .description("버퍼 초과로 이벤트를 버리고 resync를 보낸 횟수")
+                .register(meterRegistry);
+        Gauge.builder("todo.events.connections", connectionCount, AtomicInteger::get)
+                .description("열려 있는 SSE 연결 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 사용자의 이벤트 스트림을 연다.
+     * @param userId 사용자 ID
+     * @return 컨트롤러가 반환할 SseEmitter
+     * @throws IllegalStateException 사용자의 연결 수가 최대값에 도달한 경우
+     */
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        // 컨트롤러가 반환하기 전에 보낸 이벤트는 emitter에 쌓였다가 요청 스레드가 응답을 시작할 때 함께 기록된다.
+        // ready를 전송 스레드로 보내면 요청 스레드가 응답 헤더를 쓰는 동안 전송 스레드가 첫 기록으로 헤더를 쓸 수 있으므로,
+        // 등록 전에 여기서 넣어 항상 첫 이벤트로 요청 스레드에서 기록되도록 한다.
+        try {
+            emitter.send(toSse(READY));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // 초기화 전에는 쌓아 두기만 하므로 발생하지 않음
+        }
+        Subscription subscription = new Subscription(userId, emitter);
+        Set<Subscription> userSubscriptions = subscriptions.compute(userId, (key, current) -> {
+            Set<Subscription> set = current != null ? current : ConcurrentHashMap.newKeySet();
+            if (set.size() < maxConnectionsPerUser) {
+                set.add(subscription);
+            }
+            return set;
+        });
+        if (!userSubscriptions.contains(subscription)) {
+            throw new IllegalStateException("Too many event streams for user " + userId);
+        }
+        connectionCount.incrementAndGet();
+
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(error -> subscription.close());
+        return emitter;
+    }
+
+    /**
+     * 사용자의 모든 연결에 이벤트를 보낸다.
+     * 트랜잭션 안이면 커밋 후에 보내, 클라이언트가 이벤트를 받고 조회했을 때 변경이 보이도록 한다.
+     * 롤백되면 보내지 않는다.
+     * @param userId 사용자 ID
+     * @param event 변경 이벤트
+     */
+    public void publish(Long userId, TodoEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishNow(userId, event);
+                }
+            });
+        } else {
+            publishNow(userId, event);
+        }
+    }
+
+    /**
+     * 열려 있는 연결 수.
+     */
+    public int connectionCount() {
+        return connectionCount.get();
+    }
+
+    /**
+     * 대기 중인 이벤트가 없는 연결에 주석 줄을 보낸다.
+     * 프록시의 유휴 연결 종료를 막고, 끊어진 연결은 전송 실패로 찾아 정리한다.
+     */
+    @Scheduled(fixedDelayString = "${TODO_EVENTS_HEARTBEAT_MS:15000}")
+    public void heartbeat() {
+        for (Set<Subscription> userSubscriptions : subscriptions.values()) {
+            for (Subscription subscription : userSubscriptions) {
+                subscription.heartbeat();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscriptions.values().forEach(userSubscriptions -> userSubscriptions.forEach(s -> s.emitter.complete()));
+        delivery.shutdownNow();
+    }
+
+    // 사용자의 모든 연결 버퍼에 이벤트 추가. 연결이 없으면 아무 일도 하지 않음.
+    private void publishNow(Long userId, TodoEvent event) {
+        Collection<Subscription> userSubscriptions = subscriptions.get(userId);
+        if (userSubscriptions == null || userSubscriptions.isEmpty()) {
+            return;
+        }
+        publishedCounter.increment();
+        userSubscriptions.forEach(subscription -> subscription.offer(event));
+    }
+
+    // 전송할 SSE 이벤트 생성. SseEventBuilder는 build 시 상태가 바뀌므로 전송마다 새로 만든다.
+    private SseEmitter.SseEventBuilder toSse(TodoEvent event) {
+        if (event == PING) {
+            return SseEmitter.event().comment("ping");
+        }
+        SseEmitter.SseEventBuilder builder = SseEmitter.event().name(event.type()).data(event, MediaType.APPLICATION_JSON);
+        return event == READY ? builder.reconnectTime(retryMs) : builder;
+    }
+
+    /**
+     * SSE 연결 하나와 그 전송 버퍼.
+     * 버퍼는 이 객체로 동기화하며, 버퍼가 비어 있지 않은 동안 전송 작업은 많아야 하나만 실행된다.
+     */
+    private final class Subscription {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final ArrayDeque<TodoEvent> buffer = new ArrayDeque<>();
+        private boolean draining; // 전송 작업이 예약되었거나 실행 중
+        private boolean resyncPending; // 버퍼에 resync만 남아 있음. 이후 이벤트는 의미가 없으므로 버린다
+        private boolean closed;
+
+        private Subscription(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        // 버퍼에 이벤트 추가. 가득 차면 쌓인 이벤트를 버리고 resync 하나만 남긴다.
+        void offer(TodoEvent event) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (buffer.size() >= bufferSize) {
+                    buffer.clear();
+                    buffer.add(RESYNC);
+                    resyncPending = true;
+                    droppedCounter.increment();
+                } else if (!resyncPending) {
+                    buffer.add(event);
+                }
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+            try {
+                delivery.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                close(); // 종료 중
+            }
+        }
+
+        // 보낼 이벤트가 없을 때만 하트비트 추가.
+        void heartbeat() {
+            synchronized (this) {
+                if (closed || !buffer.isEmpty()) {
+                    return;
+                }
+            }
+            offer(PING);
+        }
+
+        // 버퍼가 빌 때까지 전송. 전송 실패는 연결이 끊긴 것으로 보고 정리한다.
+        private void drain() {
+            while (true) {
+                TodoEvent event;
+                synchronized (this) {
+                    event = buffer.poll();
+                    resyncPending = false;
+                    if (event == null || closed) {
+                        draining = false;
+                        return;
+                    }
+                }
+                try {
+                    emitter.send(toSse(event));
+                } catch (IOException | IllegalStateException e) {
+                    emitter.completeWithError(e);
+                    close();
+                    return;
+                }
+            }
+        }
+
+        // 레지스트리에서 제거. 완료/시간 초과/오류 콜백과 전송 실패에서 여러 번 호출될 수 있다.
+        void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                buffer.clear();
+            }
+            connectionCount.decrementAndGet();
+            subscriptions.computeIfPresent(userId, (key, set) -> {
+                set.remove(this);
+                return set.isEmpty() ? null : set;
+            });
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.todo.invalidation;
+
+import com.fasterxml.jackson.core.JsonProcessingException; // 메시지 직렬화 실패
+import com.fasterxml.jackson.databind.ObjectMapper; // 메시지 JSON 직렬화
+import io.micrometer.core.instrument.Counter; // 발행 메시지 수
+import io.micrometer.core.instrument.MeterRegistry; // 메트릭 등록
+import org.springframework.beans.factory.annotation.Value; // application.properties 값 주입
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties; // 데이터베이스 종류 확인
+import org.springframework.jdbc.core.JdbcTemplate; // 현재 트랜잭션 커넥션으로 NOTIFY 실행
+import org.springframework.stereotype.Component; // Spring 컴포넌트로 등록
+import org.springframework.transaction.support.TransactionSynchronization; // 커밋 직전 콜백
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * PostgreSQL LISTEN/NOTIFY 기반 노드 간 캐시 무효화 버스 (발행 측).
+ * 사용자 목록이나 사용자 정보가 바뀌면 다른 노드가 로컬 캐시를 비우도록 알림을 보낸다.
+ *
+ * 트랜잭션 안의 변경은 트랜잭션별로 모아 커밋 직전에 같은 커넥션에서 pg_notify로 보낸다.
+ * PostgreSQL은 NOTIFY를 커밋 시점에만 전달하므로, 롤백된 변경은 알려지지 않고
+ * 커밋된 변경은 데이터가 보이는 시점에 함께 전달된다.
+ * PostgreSQL이 아닌 데이터베이스(테스트용 H2 등)에서는 비활성화된다.
+ */
+@Component
+public class CacheInvalidationBus {
+
+    static final int MAX_PAYLOAD_BYTES = 7900; // NOTIFY 페이로드 한도(8000바이트)보다 작게
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*"); // LISTEN에 그대로 쓰는 채널 이름
+
+    private final JdbcTemplate jdbcTemplate; // pg_notify 실행
+    private final ObjectMapper objectMapper; // 메시지 직렬화
+    private final String channel; // NOTIFY 채널 이름
+    private final String nodeId = UUID.randomUUID().toString(); // 이 노드의 ID
+    private final boolean enabled; // PostgreSQL이고 설정이 켜져 있을 때만 동작
+    private final Counter publishedCounter; // 보낸 NOTIFY 수
+
+    public CacheInvalidationBus(JdbcTemplate jdbcTemplate,
+                                ObjectMapper objectMapper,
+                                DataSourceProperties dataSourceProperties,
+                                MeterRegistry meterRegistry,
+                                @Value("${CACHE_INVALIDATION_ENABLED:true}") boolean enabled,
+                                @Value("${CACHE_INVALIDATION_CHANNEL:todo_cache_invalidation}") String channel) {
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid CACHE_INVALIDATION_CHANNEL: " + channel);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+        String url = dataSourceProperties.getUrl();
+        this.enabled = enabled && url != null && url.startsWith("jdbc:postgresql:");
+        this.publishedCounter = Counter.builder("cache.invalidation.published")
+                .description("다른 노드로 보낸 캐시 무효화 알림 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 사용자의 Todo 목록이 바뀌었음을 다른 노드에 알림.
+     * @param userId 사용자 ID
+     */
+    public void todoListChanged(Long userId) {
+        if (!enabled) {
+            return;
+        }
+        Pending pending = currentPending();
+        if (pending == null) {
+            send(Set.of(userId), Set.of(), Set.of()); // 트랜잭션 밖이면 즉시 전송
+        } else {
+            pending.todoUsers.add(userId);
+        }
+    }
+
+    /**
+     * 사용자 정보가 바뀌었음을 다른 노드에 알림.
+     * @param username 사용자 이름
+     */
+    public void userChanged(String username) {
+        if (!enabled) {
+            return;
+        }
+        Pending pending = currentPending();
+        if (pending == null) {
+            send(Set.of(), Set.of(username), Set.of()); // 트랜잭션 밖이면 즉시 전송
+        } else {
+            pending.usernames.add(username);
+        }
+    }
+
+    /**
+     * 사용자의 Todo를 다른 샤드로 옮겼음을 다른 노드에 알림. (캐시된 샤드 위치를 버리도록)
+     * @param userId 사용자 ID
+     */
+    public void todoShardChanged(Long userId) {
+        if (!enabled) {
+            return;
+        }
+        Pending pending = currentPending();
+        if (pending == null) {
+            send(Set.of(), Set.of(), Set.of(userId)); // 트랜잭션 밖이면 즉시 전송
+        } else {
+            pending.movedUsers.add(userId);
+        }
+    }
+
+    // 버스 동작 여부.
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    // NOTIFY 채널 이름.
+    String getChannel() {
+        return channel;
+    }
+
+    // 이 노드의 ID. 리스너가 자기 메시지를 건너뛸 때 사용.
+    String getNodeId() {
+        return nodeId;
+    }
+
+    // 현재 트랜잭션의 대기 목록. 트랜잭션 밖이면 null.
+    private Pending currentPending() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        Pending pending = (Pending) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new Pending();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending;
+    }
+
+    // 대기 중인 무효화를 NOTIFY로 보냄. 페이로드가 크면 나눠서 보낸다.
+    private void send(Set<Long> todoUsers, Set<String> usernames, Set<Long> movedUsers) {
+        if (todoUsers.isEmpty() && usernames.isEmpty() && movedUsers.isEmpty()) {
+            return;
+        }
+        InvalidationMessage message = new InvalidationMessage(nodeId,
+                new ArrayList<>(todoUsers), new ArrayList<>(usernames), new ArrayList<>(movedUsers));
+        for (String payload : encode(message)) {
+            jdbcTemplate.query("SELECT pg_notify(?, ?)", (ResultSet rs) -> null, channel, payload);
+            publishedCounter.increment();
+        }
+    }
+
+    /**
+     * 메시지를 NOTIFY 페이로드 한도 안의 JSON 문자열들로 변환.
+     */
+    List<String> encode(InvalidationMessage message) {
+        try {
+            String json = objectMapper.writeValueAsString(message);
+            if (json.getBytes(StandardCharsets.UTF_8).length <= MAX_PAYLOAD_BYTES || message.size() <= 1) {
+                return List.of(json);
+            }
+            List<String> payloads = new ArrayList<>();
+            for (InvalidationMessage part : message.split()) {
+                payloads.addAll(encode(part));
+            }
+            return payloads;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to encode invalidation message", e);
+        }
+    }
+
+    /**
+     * 한 트랜잭션에서 모인 무효화 항목. 커밋 직전에 한 번에 보낸다.
+     */
+    private final class Pending implements TransactionSynchronization {
+
+        private final Set<Long> todoUsers = new LinkedHashSet<>();
+        private final Set<String> usernames = new LinkedHashSet<>();
+        private final Set<Long> movedUsers = new LinkedHashSet<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // 같은 트랜잭션 커넥션에서 보내야 커밋과 함께 전달됨
+            send(todoUsers, usernames, movedUsers);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(CacheInvalidationBus.this);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.example.todo.invalidation;
+
+import com.example.todo.event.TodoEvent; // SSE 변경 이벤트
+import com.example.todo.event.TodoEventBroker; // 이 노드의 SSE 연결
+import com.example.todo.replica.ReadRouting; // 읽기 복제본 라우팅
+import com.example.todo.security.UserCache; // 사용자 캐시
+import com.example.todo.service.TodoListCache; // 사용자별 목록 캐시
+import com.example.todo.shard.ShardDatabase; // 샤드 접속 정보
+import com.example.todo.shard.ShardRouting; // 샤드별 데이터베이스와 사용자별 샤드 위치
+import com.example.todo.service.TodoListVersions; // 사용자별 목록 버전
+import com.fasterxml.jackson.databind.ObjectMapper; // 메시지 JSON 역직렬화
+import io.micrometer.core.instrument.Counter; // 수신/재연결 횟수
+import io.micrometer.core.instrument.MeterRegistry; // 메트릭 등록
+import org.postgresql.PGConnection; // LISTEN 알림 수신
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value; // application.properties 값 주입
+import org.springframework.context.SmartLifecycle; // 애플리케이션 시작/종료에 맞춰 스레드 관리
+import org.springframework.stereotype.Component; // Spring 컴포넌트로 등록
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PostgreSQL LISTEN/NOTIFY 기반 노드 간 캐시 무효화 버스 (수신 측).
+ * 커넥션 풀과 별도의 전용 커넥션으로 채널을 LISTEN 하고, 다른 노드가 보낸 메시지에 따라
+ * 로컬 목록 캐시/목록 버전/사용자 캐시를 비운다.
+ *
+ * 연결이 끊기면 지수 백오프로 다시 연결하며, 끊긴 동안 놓친 알림이 있을 수 있으므로
+ * 다시 LISTEN 한 직후 로컬 캐시 전체를 비운다.
+ *
+ * Todo 변경의 알림은 그 사용자의 샤드 트랜잭션에서 보내지므로, 샤딩을 사용하면 샤드마다 커넥션과 스레드를 두고 LISTEN 한다.
+ */
+@Component
+public class CacheInvalidationListener implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationListener.class);
+
+    private final CacheInvalidationBus bus; // 채널 이름과 노드 ID
+    private final ShardRouting shardRouting; // 전용 커넥션 접속 정보 (샤드마다 하나)
+    private final ObjectMapper objectMapper; // 메시지 역직렬화
+    private final TodoListCache listCache;
+    private final TodoListVersions listVersions;
+    private final UserCache userCache;
+    private final TodoEventBroker eventBroker; // 다른 노드의 변경을 이 노드의 SSE 클라이언트에 전달
+    private final ReadRouting readRouting; // 다른 노드에서 변경한 사용자의 읽기도 잠시 주 DB에서 처리
+    private final int pollTimeoutMs; // 알림 대기 시간 (종료 확인 주기)
+    private final long maxBackoffMs; // 재연결 대기 시간 상한
+    private final Counter receivedCounter; // 받은 알림 수
+    private final Counter reconnectCounter; // 재연결 횟수
+
+    private volatile boolean running; // 수신 스레드 동작 여부
+    private final Set<Thread> threads = ConcurrentHashMap.newKeySet(); // 샤드별 수신 스레드
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet(); // 현재 LISTEN 중인 커넥션
+
+    public CacheInvalidationListener(CacheInvalidationBus bus,
+                                     ShardRouting shardRouting,
+                                     ObjectMapper objectMapper,
+                                     TodoListCache listCache,
+                                     TodoListVersions listVersions,
+                                     UserCache userCache,
+                                     TodoEventBroker eventBroker,
+                                     ReadRouting readRouting,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${CACHE_INVALIDATION_POLL_TIMEOUT_MS:5000}") int pollTimeoutMs,
+                                     @Value("${CACHE_INVALIDATION_MAX_BACKOFF_MS:30000}") long maxBackoffMs) {
+        this.bus = bus;
+        this.shardRouting = shardRouting;
+        this.objectMapper = objectMapper;
+        this.listCache = listCache;
+        this.listVersions = listVersions;
+        this.userCache = userCache;
+        this.eventBroker = eventBroker;
+        this.readRouting = readRouting;
+        this.pollTimeoutMs = pollTimeoutMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.receivedCounter = Counter.builder("cache.invalidation.received")
+                .description("다른 노드에서 받은 캐시 무효화 알림 수")
+                .register(meterRegistry);
+        this.reconnectCounter = Counter.builder("cache.invalidation.reconnects")
+                .description("LISTEN 커넥션 재연결 횟수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        if (!bus.isEnabled()) {
+            return; // PostgreSQL이 아니면 수신하지 않음
+        }
+        running = true;
+        for (ShardDatabase database : shardRouting.databases()) {
+            String name = shardRouting.isEnabled()
+                    ? "cache-invalidation-listener-" + database.index()
+                    : "cache-invalidation-listener";
+            Thread thread = new Thread(() -> listenLoop(database), name);
+            thread.setDaemon(true);
+            threads.add(thread);
+            thread.start();
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        threads.forEach(Thread::interrupt);
+        threads.clear();
+        connections.forEach(CacheInvalidationListener::closeQuietly); // 대기 중인 getNotifications를 깨움
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 연결 -> LISTEN -> 알림 처리. 실패하면 백오프 후 다시 연결.
+    private void listenLoop(ShardDatabase database) {
+        long backoffMs = 1000;
+        boolean reconnect = false;
+        while (running) {
+            Connection current = null;
+            try (Connection conn = DriverManager.getConnection(database.url(), database.username(), database.password())) {
+                current = conn;
+                connections.add(conn);
+                try (Statement statement = conn.createStatement()) {
+                    statement.execute("LISTEN " + bus.getChannel());
+                }
+                if (reconnect) {
+                    reconnectCounter.increment();
+                }
+                // LISTEN 이전의 알림은 받을 수 없으므로 로컬 캐시 전체를 비움
+                invalidateAll();
+                backoffMs = 1000;
+                log.info("Listening for cache invalidations on channel {} (shard {})", bus.getChannel(), database.index());
+
+                PGConnection pgConnection = conn.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            apply(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    break;
+                }
+                log.warn("Cache invalidation listener (shard {}) disconnected, retrying in {} ms: {}",
+                        database.index(), backoffMs, e.getMessage());
+                sleep(backoffMs);
+                backoffMs = Math.min(backoffMs * 2, maxBackoffMs);
+                reconnect = true;
+            } finally {
+                if (current != null) {
+                    connections.remove(current);
+                }
+            }
+        }
+    }
+
+    /**
+     * 받은 메시지를 로컬 캐시에 적용. 이 노드가 보낸 메시지는 이미 로컬에 반영되어 있으므로 무시.
+     * @param payload NOTIFY 페이로드 (JSON)
+     */
+    void apply(String payload) {
+        InvalidationMessage message;
+        try {
+            message = objectMapper.readValue(payload, InvalidationMessage.class);
+        } catch (Exception e) {
+            log.warn("Ignoring malformed cache invalidation payload: {}", payload);
+            return;
+        }
+        if (bus.getNodeId().equals(message.node())) {
+            return;
+        }
+        receivedCounter.increment();
+        // 목록 버전을 올리기 전에 샤드 위치를 버려야, 새 버전의 목록을 이전 샤드에서 읽어 캐시하지 않음
+        message.movedUsers().forEach(shardRouting::evict);
+        for (Long userId : message.todoUsers()) {
+            listCache.invalidate(userId);
+            listVersions.bump(userId); // 이 노드가 발급한 목록 ETag도 무효화
+            eventBroker.publish(userId, TodoEvent.changed()); // 어떤 항목인지는 알 수 없음
+            readRouting.recordWrite(userId); // 복제본이 따라잡기 전의 목록이 캐시되지 않도록
+        }
+        message.usernames().forEach(userCache::invalidate);
+    }
+
+    // 로컬 캐시 전체 비우기.
+    private void invalidateAll() {
+        listCache.invalidateAll();
+        listVersions.bumpAll();
+        userCache.invalidateAll();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void closeQuietly(Connection conn) {
+        if (conn == null) {
+            return;
+        }
+        try {
+            conn.close();
+        } catch (SQLException ignored) {
+            // 종료 중이므로 무시
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.todo.invalidation;
+
+import com.fasterxml.jackson.annotation.JsonProperty; // 짧은 JSON 필드 이름
+
+import java.util.List;
+
+/**
+ * 노드 간에 전달되는 캐시 무효화 메시지.
+ * 한 트랜잭션에서 바뀐 사용자들을 모아 NOTIFY 한 번으로 보낸다.
+ *
+ * @param node 메시지를 보낸 노드 ID (자기 자신이 보낸 메시지는 무시)
+ * @param todoUsers Todo 목록이 바뀐 사용자 ID
+ * @param usernames 사용자 정보가 바뀐 사용자 이름
+ * @param movedUsers Todo 샤드를 옮긴 사용자 ID (캐시된 샤드 위치를 버림)
+ */
+public record InvalidationMessage(@JsonProperty("n") String node,
+                                  @JsonProperty("t") List<Long> todoUsers,
+                                  @JsonProperty("u") List<String> usernames,
+                                  @JsonProperty("m") List<Long> movedUsers) {
+
+    public InvalidationMessage {
+        todoUsers = todoUsers == null ? List.of() : List.copyOf(todoUsers);
+        usernames = usernames == null ? List.of() : List.copyOf(usernames);
+        movedUsers = movedUsers == null ? List.of() : List.copyOf(movedUsers); // 이전 버전 노드의 메시지에는 없음
+    }
+
+    // 담긴 무효화 항목 수.
+    int size() {
+        return todoUsers.size() + usernames.size() + movedUsers.size();
+    }
+
+    // 앞쪽 절반과 뒤쪽 절반으로 나눔. (NOTIFY 페이로드 크기 제한 대응)
+    List<InvalidationMessage> split() {
+        int half = size() / 2;
+        return List.of(slice(0, half), slice(half, size()));
+    }
+
+    // todoUsers, usernames, movedUsers를 이어 붙인 순서에서 [from, to) 범위의 항목으로 메시지 생성.
+    private InvalidationMessage slice(int from, int to) {
+        int t = todoUsers.size();
+        int u = t + usernames.size();
+        return new InvalidationMessage(node,
+                todoUsers.subList(clamp(from, 0, t), clamp(to, 0, t)),
+                usernames.subList(clamp(from - t, 0, usernames.size()), clamp(to - t, 0, usernames.size())),
+                movedUsers.subList(clamp(from - u, 0, movedUsers.size()), clamp(to - u, 0, movedUsers.size())));
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(value, max));
+    }
+}
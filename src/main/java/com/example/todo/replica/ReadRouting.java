@@ -0,0 +1,111 @@
+package com.example.todo.replica;
+
+import com.github.benmanes.caffeine.cache.Cache; // 최근에 변경한 사용자 목록
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value; // application.properties 값 주입
+import org.springframework.stereotype.Component; // Spring 컴포넌트로 등록
+import org.springframework.transaction.support.TransactionSynchronization; // 커밋 후 콜백
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 읽기 복제본 라우팅 정책.
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true))만 복제본으로 보내고, 그 외에는 모두 주 DB를 사용한다.
+ *
+ * 복제본은 주 DB보다 늦게 반영되므로, 변경한 사용자는 커밋 후 일정 시간(read-your-writes 창) 동안
+ * 읽기 전용 트랜잭션도 주 DB에서 읽어 방금 쓴 내용을 바로 볼 수 있게 한다. 창은 복제 지연보다 길어야 한다.
+ * 사용자 데이터를 읽는 서비스는 read(userId, ...)로 조회를 감싸야 이 창이 적용된다.
+ * REPLICA_URLS가 비어 있으면 라우팅하지 않으며, 이때 이 클래스의 호출은 아무 일도 하지 않는다.
+ */
+@Component
+public class ReadRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY = new ThreadLocal<>(); // onPrimary 실행 중 여부
+
+    private final boolean enabled; // 복제본이 설정되었는지
+    private final Cache<Long, Boolean> recentWriters; // 창 안에서 변경한 사용자 ID (쓰기 후 창이 지나면 만료)
+
+    public ReadRouting(@Value("${REPLICA_URLS:}") String replicaUrls,
+                       @Value("${REPLICA_READ_YOUR_WRITES_MS:5000}") long readYourWritesMs,
+                       @Value("${REPLICA_READ_YOUR_WRITES_MAX_USERS:100000}") long maxUsers) {
+        this.enabled = !replicaUrls.isBlank();
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(Duration.ofMillis(Math.max(0, readYourWritesMs)))
+                .build();
+    }
+
+    /**
+     * 복제본 라우팅 사용 여부.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 사용자가 데이터를 변경했음을 기록. 이후 read-your-writes 창 동안 이 사용자의 읽기는 주 DB로 보낸다.
+     * 트랜잭션 안이면 커밋 후에 기록하므로 창은 커밋 시점부터 계산된다. 롤백되면 기록하지 않는다.
+     * @param userId 사용자 ID
+     */
+    public void recordWrite(Long userId) {
+        if (!enabled || userId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recentWriters.put(userId, Boolean.TRUE);
+                }
+            });
+        } else {
+            recentWriters.put(userId, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * 사용자가 read-your-writes 창 안에 있는지.
+     * @param userId 사용자 ID
+     */
+    public boolean isRecentWriter(Long userId) {
+        return userId != null && recentWriters.getIfPresent(userId) != null;
+    }
+
+    /**
+     * 작업 안의 읽기 전용 트랜잭션도 주 DB에서 실행.
+     * 복제본에 아직 반영되지 않았을 수 있는 데이터를 다시 확인할 때 사용한다. (예: 가입 직후 로그인)
+     * @param work 실행할 작업. 작업 안에서 처음 얻는 커넥션부터 주 DB를 사용한다.
+     * @return 작업 결과
+     */
+    public <T> T onPrimary(Supplier<T> work) {
+        Boolean previous = PRIMARY.get();
+        PRIMARY.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY.remove();
+            }
+        }
+    }
+
+    /**
+     * 사용자의 데이터를 읽음. 사용자가 read-your-writes 창 안에 있으면 주 DB에서 읽는다.
+     * 커넥션은 첫 문을 실행할 때 얻으므로, 작업은 이미 시작된 읽기 전용 트랜잭션 안에서 실행해도 된다.
+     * @param userId 데이터 소유자 ID
+     * @param work 조회 작업
+     * @return 조회 결과
+     */
+    public <T> T read(Long userId, Supplier<T> work) {
+        return isRecentWriter(userId) ? onPrimary(work) : work.get();
+    }
+
+    /**
+     * 읽기 전용 커넥션을 복제본에서 얻어도 되는지. 복제본이 설정되었고 onPrimary 밖이면 true.
+     */
+    public boolean useReplica() {
+        return enabled && PRIMARY.get() == null;
+    }
+}
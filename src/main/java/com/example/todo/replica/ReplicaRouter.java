@@ -0,0 +1,229 @@
+package com.example.todo.replica;
+
+import com.zaxxer.hikari.HikariDataSource; // 주 DB/복제본 커넥션 풀
+import com.zaxxer.hikari.HikariPoolMXBean; // 복제본 부하 (사용 중/대기 커넥션 수)
+import io.micrometer.core.instrument.Counter; // 라우팅/제외 횟수
+import io.micrometer.core.instrument.Gauge; // 복제본 상태
+import io.micrometer.core.instrument.MeterRegistry; // 메트릭 등록
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy; // 첫 문 실행 시점에 커넥션 선택
+import org.springframework.scheduling.annotation.Scheduled; // 주기적 상태 확인
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 주 DB와 읽기 복제본 커넥션 풀을 묶어 트랜잭션마다 커넥션을 고르는 라우터.
+ *
+ * 애플리케이션은 getDataSource()의 LazyConnectionDataSourceProxy를 사용한다. 프록시는 실제 커넥션을
+ * 첫 문을 실행할 때 얻으므로, 그 전에 읽기 전용으로 표시된 트랜잭션(@Transactional(readOnly = true))은
+ * 복제본에서, 나머지는 주 DB에서 실행된다. 캐시 적중처럼 문을 실행하지 않는 트랜잭션은 커넥션을 얻지 않는다.
+ *
+ * 복제본은 라운드 로빈 또는 가장 한가한 풀(사용 중 + 대기 커넥션 수) 순서로 고른다.
+ * 연결에 실패한 복제본은 제외하고 다음 복제본이나 주 DB를 사용하며,
+ * 주기적인 상태 확인에서 다시 연결되면 라우팅 대상으로 되돌린다.
+ * 풀의 커넥션이 모두 사용 중이어서 대기 시간을 넘긴 복제본은 정상이므로 제외하지 않고 이번 요청만 다음으로 넘긴다.
+ */
+public class ReplicaRouter implements AutoCloseable {
+
+    /**
+     * 복제본 선택 방식.
+     */
+    public enum Selection {
+        ROUND_ROBIN, // 차례대로
+        LEAST_LOADED; // 사용 중 + 대기 커넥션 수가 가장 적은 풀 (같으면 차례대로)
+
+        /**
+         * 설정 값(round-robin, least-loaded)으로 선택 방식 조회.
+         * @throws IllegalArgumentException 지원하지 않는 값
+         */
+        public static Selection of(String value) {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        }
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRouter.class);
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1; // 상태 확인 시 커넥션 검증 대기 시간
+
+    private final HikariDataSource primary; // 주 DB 풀
+    private final List<Replica> replicas; // 복제본 풀 (설정 순서)
+    private final ReadRouting readRouting; // read-your-writes 등으로 주 DB를 강제하는지
+    private final Selection selection;
+    private final AtomicInteger next = new AtomicInteger(); // 라운드 로빈 시작 위치
+    private final Counter primaryReads; // 복제본 대신 주 DB에서 실행한 읽기 전용 트랜잭션 수
+    private final LazyConnectionDataSourceProxy dataSource; // 애플리케이션이 사용하는 DataSource
+
+    public ReplicaRouter(HikariDataSource primary, List<HikariDataSource> replicas,
+                         ReadRouting readRouting, Selection selection, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.readRouting = readRouting;
+        this.selection = selection;
+        this.replicas = replicas.stream().map(replica -> new Replica(replica, meterRegistry)).toList();
+        this.primaryReads = Counter.builder("db.replica.reads")
+                .description("읽기 전용 트랜잭션이 사용한 커넥션 수")
+                .tag("target", "primary")
+                .register(meterRegistry);
+
+        this.dataSource = new LazyConnectionDataSourceProxy(primary);
+        this.dataSource.setReadOnlyDataSource(new ReadOnlyDataSource());
+        this.dataSource.setDefaultAutoCommit(primary.isAutoCommit());
+
+        checkReplicas(); // 처음부터 연결할 수 없는 복제본은 제외한 채 시작
+    }
+
+    /**
+     * 애플리케이션이 사용할 DataSource.
+     */
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    /**
+     * 복제본마다 커넥션을 검증하여 연결되지 않으면 제외하고, 다시 연결되면 라우팅 대상으로 되돌림.
+     */
+    @Scheduled(fixedDelayString = "${REPLICA_HEALTH_CHECK_MS:5000}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            Exception failure = null;
+            boolean valid;
+            try (Connection connection = replica.dataSource.getConnection()) {
+                valid = connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+            } catch (SQLException | RuntimeException e) {
+                if (isSaturated(e)) {
+                    continue; // 바쁜 복제본은 상태를 바꾸지 않음
+                }
+                failure = e;
+                valid = false;
+            }
+            if (!valid) {
+                eject(replica, failure);
+            } else if (replica.healthy.compareAndSet(false, true)) {
+                log.info("Replica {} is reachable again, resuming reads", replica.name());
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource.close());
+        primary.close();
+    }
+
+    // 읽기 전용 트랜잭션의 커넥션. 사용할 수 있는 복제본을 차례로 시도하고, 모두 실패하면 주 DB를 사용.
+    private Connection readOnlyConnection() throws SQLException {
+        if (readRouting.useReplica()) {
+            for (Replica replica : candidates()) {
+                try {
+                    Connection connection = replica.dataSource.getConnection();
+                    replica.reads.increment();
+                    return connection;
+                } catch (SQLException | RuntimeException e) {
+                    if (isSaturated(e)) {
+                        replica.saturated.increment(); // 제외하지 않고 다음 복제본 시도
+                    } else {
+                        eject(replica, e);
+                    }
+                }
+            }
+        }
+        primaryReads.increment();
+        return primary.getConnection();
+    }
+
+    // 제외되지 않은 복제본을 시도할 순서대로 반환.
+    private List<Replica> candidates() {
+        List<Replica> healthy = new ArrayList<>(replicas.size());
+        for (Replica replica : replicas) {
+            if (replica.healthy.get()) {
+                healthy.add(replica);
+            }
+        }
+        if (healthy.size() > 1) {
+            Collections.rotate(healthy, -Math.floorMod(next.getAndIncrement(), healthy.size()));
+            if (selection == Selection.LEAST_LOADED) {
+                healthy.sort(Comparator.comparingInt(Replica::load)); // 안정 정렬이므로 부하가 같으면 차례대로
+            }
+        }
+        return healthy;
+    }
+
+    // 풀이 가득 차 커넥션 대기 시간을 넘겼는지 확인.
+    // Hikari는 대기 시간 초과를 SQLTransientConnectionException으로 알리며, 연결 생성에 실패한 경우에만 그 원인을 붙인다.
+    private static boolean isSaturated(Exception e) {
+        return e instanceof SQLTransientConnectionException && e.getCause() == null;
+    }
+
+    // 복제본을 라우팅 대상에서 제외. 이미 제외되었으면 아무 일도 하지 않음.
+    private void eject(Replica replica, Exception cause) {
+        if (replica.healthy.compareAndSet(true, false)) {
+            replica.ejections.increment();
+            log.warn("Ejecting replica {} from read routing: {}", replica.name(),
+                    cause != null ? cause.getMessage() : "connection is not valid");
+        }
+    }
+
+    // 복제본 풀 하나와 상태.
+    private static final class Replica {
+        private final HikariDataSource dataSource;
+        private final AtomicBoolean healthy = new AtomicBoolean(true); // 라우팅 대상인지
+        private final Counter reads; // 이 복제본에서 실행한 읽기 전용 트랜잭션 수
+        private final Counter ejections; // 제외된 횟수
+        private final Counter saturated; // 풀이 가득 차 다음 대상으로 넘긴 횟수
+
+        Replica(HikariDataSource dataSource, MeterRegistry meterRegistry) {
+            this.dataSource = dataSource;
+            this.reads = Counter.builder("db.replica.reads")
+                    .description("읽기 전용 트랜잭션이 사용한 커넥션 수")
+                    .tag("target", name())
+                    .register(meterRegistry);
+            this.ejections = Counter.builder("db.replica.ejections")
+                    .description("연결 실패로 라우팅에서 제외된 횟수")
+                    .tag("replica", name())
+                    .register(meterRegistry);
+            this.saturated = Counter.builder("db.replica.saturated")
+                    .description("풀의 커넥션이 모두 사용 중이어서 다음 복제본이나 주 DB로 넘긴 횟수")
+                    .tag("replica", name())
+                    .register(meterRegistry);
+            Gauge.builder("db.replica.healthy", healthy, state -> state.get() ? 1 : 0)
+                    .description("복제본이 라우팅 대상인지 (1: 사용, 0: 제외)")
+                    .tag("replica", name())
+                    .register(meterRegistry);
+        }
+
+        String name() {
+            return dataSource.getPoolName();
+        }
+
+        // 사용 중 + 커넥션을 기다리는 스레드 수. 풀이 아직 시작되지 않았으면 0.
+        int load() {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            return pool != null ? pool.getActiveConnections() + pool.getThreadsAwaitingConnection() : 0;
+        }
+    }
+
+    // LazyConnectionDataSourceProxy가 읽기 전용 커넥션을 얻을 때 사용하는 DataSource.
+    private final class ReadOnlyDataSource extends AbstractDataSource {
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return readOnlyConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            throw new SQLFeatureNotSupportedException("Replica routing does not support per-call credentials");
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.todo.replica;
+
+import com.zaxxer.hikari.HikariDataSource; // 커넥션 풀
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory; // 풀 메트릭 (hikaricp.*)
+import io.micrometer.core.instrument.MeterRegistry; // 메트릭 등록
+import org.springframework.beans.factory.annotation.Value; // application.properties 값 주입
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties; // 주 DB 접속 정보
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder; // spring.datasource.hikari.* 설정 적용
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 복제본 라우팅 설정. REPLICA_URLS가 설정된 경우에만 적용된다.
+ * 주 DB와 복제본마다 커넥션 풀을 만들고, 라우터의 DataSource를 애플리케이션의 유일한 DataSource로 등록하여
+ * 기본 DataSource 자동 설정을 대신한다.
+ *
+ * 복제본 풀은 주 DB와 같은 spring.datasource.hikari.* 설정(풀 크기 등)을 사용하며,
+ * 장애 시 빨리 다른 DB로 넘어가도록 커넥션 대기 시간을 따로 둔다.
+ * Todo 샤딩(SHARD_URLS)과는 함께 사용할 수 없다. (ShardingConfig가 시작을 거부)
+ */
+@Configuration
+@ConditionalOnExpression("!'${REPLICA_URLS:}'.isBlank() and '${SHARD_URLS:}'.isBlank()")
+public class ReplicaRoutingConfig {
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRouter replicaRouter(DataSourceProperties properties,
+                                       Environment environment,
+                                       ReadRouting readRouting,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${REPLICA_URLS}") String replicaUrls,
+                                       @Value("${REPLICA_USERNAME:}") String username,
+                                       @Value("${REPLICA_PASSWORD:}") String password,
+                                       @Value("${REPLICA_SELECTION:round-robin}") String selection,
+                                       @Value("${REPLICA_CONNECTION_TIMEOUT_MS:1000}") long connectionTimeoutMs) {
+        Binder binder = Binder.get(environment);
+
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        configure(primary, binder, meterRegistry);
+        if (primary.getPoolName() == null) {
+            primary.setPoolName("primary");
+        }
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls.split(",")) {
+            if (url.isBlank()) {
+                continue;
+            }
+            // 복제본 계정을 따로 지정하지 않으면 주 DB 계정 사용
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(url.trim())
+                    .username(username.isEmpty() ? properties.determineUsername() : username)
+                    .password(username.isEmpty() ? properties.determinePassword() : password)
+                    .build();
+            configure(replica, binder, meterRegistry);
+            replica.setPoolName("replica-" + (replicas.size() + 1));
+            replica.setConnectionTimeout(connectionTimeoutMs);
+            replica.setInitializationFailTimeout(-1); // 복제본에 연결할 수 없어도 애플리케이션은 시작
+            replicas.add(replica);
+        }
+
+        return new ReplicaRouter(primary, replicas, readRouting, ReplicaRouter.Selection.of(selection), meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 DataSource. 읽기 전용 트랜잭션은 복제본, 나머지는 주 DB 커넥션을 사용한다.
+     */
+    @Bean
+    public DataSource dataSource(ReplicaRouter replicaRouter) {
+        return replicaRouter.getDataSource();
+    }
+
+    // spring.datasource.hikari.* 설정과 풀 메트릭 적용.
+    private static void configure(HikariDataSource pool, Binder binder, MeterRegistry meterRegistry) {
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+    }
+}
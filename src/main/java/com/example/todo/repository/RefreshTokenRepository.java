@@ -0,0 +1,55 @@
+package com.example.todo.repository;
+
+import com.example.todo.entity.RefreshToken; // RefreshToken 엔티티 클래스 임포트
+import org.springframework.data.jpa.repository.JpaRepository; // JpaRepository 인터페이스 임포트
+import org.springframework.data.jpa.repository.Modifying; // 변경 쿼리 표시
+import org.springframework.data.jpa.repository.Query; // JPQL 쿼리 정의
+import org.springframework.data.repository.query.Param; // 쿼리 파라미터 바인딩
+import org.springframework.stereotype.Repository; // Repository 어노테이션 임포트
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * RefreshTokenRepository 인터페이스.
+ * 리프레시 토큰의 조회, 회전, 폐기를 처리한다.
+ */
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    /**
+     * 토큰 해시로 리프레시 토큰과 소유자를 한 번에 조회.
+     * @param tokenHash 토큰 원문의 SHA-256 해시
+     * @return 소유자가 함께 로드된 리프레시 토큰
+     */
+    @Query("SELECT r FROM RefreshToken r JOIN FETCH r.user WHERE r.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHashWithUser(@Param("tokenHash") String tokenHash);
+
+    /**
+     * 아직 사용되지 않은 토큰을 사용됨으로 표시.
+     * 같은 토큰으로 동시에 갱신을 시도하면 한 요청만 1을 반환한다.
+     * @param id 토큰 ID
+     * @return 변경된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revoked = true WHERE r.id = :id AND r.revoked = false")
+    int markUsed(@Param("id") Long id);
+
+    /**
+     * family에 속한 모든 토큰을 폐기.
+     * @param familyId family 식별자
+     * @return 폐기된 행 수
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revoked = true WHERE r.familyId = :familyId")
+    int revokeFamily(@Param("familyId") String familyId);
+
+    /**
+     * 만료된 토큰 일괄 삭제.
+     * @param now 기준 시간
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,25 @@
+package com.example.todo.repository;
+
+import com.example.todo.entity.TodoOwner; // TodoOwner 엔티티 클래스 임포트
+import org.springframework.data.jpa.repository.JpaRepository; // JpaRepository 인터페이스 임포트
+import org.springframework.data.jpa.repository.Query; // JPQL 쿼리 정의
+import org.springframework.data.repository.query.Param; // 쿼리 파라미터 바인딩
+import org.springframework.stereotype.Repository; // Repository 어노테이션 임포트
+
+import java.util.Optional;
+
+/**
+ * TodoOwnerRepository 인터페이스.
+ * 사용자별 Todo 변경 순번(todo_owners)을 조회한다. 순번 증가와 행 생성은 TodoChangeSequence가 담당한다.
+ */
+@Repository
+public interface TodoOwnerRepository extends JpaRepository<TodoOwner, Long> {
+
+    /**
+     * 사용자의 현재 Todo 변경 순번 조회.
+     * @param userId 사용자 ID
+     * @return 변경 순번 (아직 변경한 적이 없으면 빈 Optional)
+     */
+    @Query("SELECT o.changeSeq FROM TodoOwner o WHERE o.userId = :userId")
+    Optional<Long> findChangeSeq(@Param("userId") Long userId);
+}
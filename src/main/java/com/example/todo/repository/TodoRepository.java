@@ -1,10 +1,22 @@
 package com.example.todo.repository;
 
 import com.example.todo.entity.Todo; // Todo 엔티티 클래스 임포트
+import jakarta.persistence.QueryHint; // 쿼리 힌트
+import org.hibernate.jpa.HibernateHints; // Hibernate 쿼리 힌트 이름
+import org.springframework.data.domain.Limit; // 조회 행 수 제한
 import org.springframework.data.jpa.repository.JpaRepository; // JpaRepository 인터페이스 임포트
+import org.springframework.data.jpa.repository.Modifying; // 변경 쿼리 표시
+import org.springframework.data.jpa.repository.Query; // JPQL 쿼리 정의
+import org.springframework.data.jpa.repository.QueryHints; // 쿼리 힌트 지정
+import org.springframework.data.repository.query.Param; // 쿼리 파라미터 바인딩
 import org.springframework.stereotype.Repository; // Repository 어노테이션 임포트
+import org.springframework.transaction.annotation.Transactional; // 읽기 전용 트랜잭션 (복제본 라우팅)
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * TodoRepository 인터페이스.
@@ -15,9 +27,11 @@ public interface TodoRepository extends JpaRepository<Todo, Long> {
 
     /**
      * 특정 사용자 ID로 Todo 항목 조회.
+     * 목록 캐시를 채우는 조회이므로 읽기 전용 트랜잭션으로 실행하여 복제본에서 읽을 수 있게 한다.
      * @param userId 사용자 ID
      * @return 사용자 ID에 해당하는 Todo 리스트
      */
+    @Transactional(readOnly = true)
     List<Todo> findByUserId(Long userId);
 
     /**
@@ -27,4 +41,187 @@ public interface TodoRepository extends JpaRepository<Todo, Long> {
      * @return 조건에 맞는 Todo 리스트
      */
     List<Todo> findByUserIdAndIsCompleted(Long userId, boolean isCompleted);
+
+    /**
+     * 사용자의 Todo 첫 페이지를 (createdAt, id) 순으로 조회.
+     * @param userId 사용자 ID
+     * @param limit 최대 행 수
+     * @return 첫 페이지 Todo 리스트
+     */
+    @Query("SELECT t FROM Todo t WHERE t.userId = :userId ORDER BY t.createdAt, t.id")
+    List<Todo> findFirstPage(@Param("userId") Long userId, Limit limit);
+
+    /**
+     * 커서 (createdAt, id) 이후의 Todo 페이지 조회.
+     * OFFSET 대신 탐색(seek) 조건을 사용하므로 페이지 깊이와 관계없이 비용이 일정하다.
+     * createdAt >= 조건은 인덱스 범위 탐색을 위한 중복 조건.
+     * @param userId 사용자 ID
+     * @param createdAt 커서의 생성 시간
+     * @param id 커서의 ID
+     * @param limit 최대 행 수
+     * @return 다음 페이지 Todo 리스트
+     */
+    @Query("SELECT t FROM Todo t WHERE t.userId = :userId AND t.createdAt >= :createdAt"
+            + " AND (t.createdAt > :createdAt OR t.id > :id) ORDER BY t.createdAt, t.id")
+    List<Todo> findPageAfter(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                             @Param("id") Long id, Limit limit);
+
+    /**
+     * 완료 여부로 필터링한 첫 페이지 조회.
+     * @param userId 사용자 ID
+     * @param isCompleted 완료 여부
+     * @param limit 최대 행 수
+     * @return 첫 페이지 Todo 리스트
+     */
+    @Query("SELECT t FROM Todo t WHERE t.userId = :userId AND t.isCompleted = :isCompleted ORDER BY t.createdAt, t.id")
+    List<Todo> findFirstPageByStatus(@Param("userId") Long userId, @Param("isCompleted") boolean isCompleted,
+                                     Limit limit);
+
+    /**
+     * 완료 여부로 필터링한 커서 이후 페이지 조회.
+     * @param userId 사용자 ID
+     * @param isCompleted 완료 여부
+     * @param createdAt 커서의 생성 시간
+     * @param id 커서의 ID
+     * @param limit 최대 행 수
+     * @return 다음 페이지 Todo 리스트
+     */
+    @Query("SELECT t FROM Todo t WHERE t.userId = :userId AND t.isCompleted = :isCompleted"
+            + " AND t.createdAt >= :createdAt AND (t.createdAt > :createdAt OR t.id > :id)"
+            + " ORDER BY t.createdAt, t.id")
+    List<Todo> findPageAfterByStatus(@Param("userId") Long userId, @Param("isCompleted") boolean isCompleted,
+                                     @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                     Limit limit);
+
+    /**
+     * 사용자의 Todo를 (createdAt, id) 순으로 스트리밍 조회.
+     * 전체 리스트를 메모리에 만들지 않고 JDBC 커서에서 fetch size 단위로 읽는다.
+     * 읽기 전용 트랜잭션 안에서 호출하고, 사용 후 반드시 Stream을 닫아야 한다.
+     * @param userId 사용자 ID
+     * @return Todo 스트림
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"), // 한 번에 가져올 행 수
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") // 변경 감지용 스냅샷 생략
+    })
+    @Query("SELECT t FROM Todo t WHERE t.userId = :userId ORDER BY t.createdAt, t.id")
+    Stream<Todo> streamByUserId(@Param("userId") Long userId);
+
+    /**
+     * 사용자의 완료된 Todo를 한 번의 DELETE 문으로 삭제.
+     * @param userId 사용자 ID
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM Todo t WHERE t.userId = :userId AND t.isCompleted = true")
+    int deleteCompletedByUserId(@Param("userId") Long userId);
+
+    /**
+     * 사용자의 모든 Todo 완료 여부를 한 번의 UPDATE 문으로 변경.
+     * 이미 같은 상태인 행은 갱신하지 않는다.
+     * @param userId 사용자 ID
+     * @param isCompleted 설정할 완료 여부
+     * @param changeSeq 변경 순번
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Todo t SET t.isCompleted = :isCompleted, t.version = t.version + 1, t.changeSeq = :changeSeq " +
+            "WHERE t.userId = :userId AND t.isCompleted <> :isCompleted")
+    int updateCompletionByUserId(@Param("userId") Long userId, @Param("isCompleted") boolean isCompleted,
+                                 @Param("changeSeq") Long changeSeq);
+
+    /**
+     * 지정한 ID 중 사용자가 소유한 Todo만 삭제.
+     * @param userId 사용자 ID
+     * @param ids 삭제할 Todo ID 목록
+     * @return 삭제된 행 수 (다른 사용자의 항목이나 없는 ID는 제외)
+     */
+    @Modifying
+    @Query("DELETE FROM Todo t WHERE t.userId = :userId AND t.id IN :ids")
+    int deleteByUserIdAndIdIn(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    /**
+     * 지정한 ID 중 사용자가 소유한 Todo의 완료 여부를 변경.
+     * @param userId 사용자 ID
+     * @param ids 변경할 Todo ID 목록
+     * @param isCompleted 설정할 완료 여부
+     * @param changeSeq 변경 순번
+     * @return 변경된 행 수 (이미 같은 상태인 행은 제외)
+     */
+    @Modifying
+    @Query("UPDATE Todo t SET t.isCompleted = :isCompleted, t.version = t.version + 1, t.changeSeq = :changeSeq " +
+            "WHERE t.userId = :userId AND t.id IN :ids AND t.isCompleted <> :isCompleted")
+    int updateCompletionByUserIdAndIdIn(@Param("userId") Long userId,
+                                        @Param("ids") Collection<Long> ids,
+                                        @Param("isCompleted") boolean isCompleted,
+                                        @Param("changeSeq") Long changeSeq);
+
+    /**
+     * 사용자가 소유한 Todo 하나를 조회.
+     * @param id Todo ID
+     * @param userId 사용자 ID
+     * @return 소유한 Todo (없거나 다른 사용자의 항목이면 빈 Optional)
+     */
+    Optional<Todo> findByIdAndUserId(Long id, Long userId);
+
+    /**
+     * 사용자가 소유한 Todo의 존재 여부.
+     * @param id Todo ID
+     * @param userId 사용자 ID
+     * @return 존재하면 true
+     */
+    boolean existsByIdAndUserId(Long id, Long userId);
+
+    /**
+     * 사용자가 소유한 Todo 하나를 조회 없이 삭제.
+     * @param id Todo ID
+     * @param userId 사용자 ID
+     * @return 삭제된 행 수 (0이면 없거나 소유하지 않은 항목)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Todo t WHERE t.id = :id AND t.userId = :userId")
+    int deleteByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * 완료 상태를 조회 없이 한 번의 UPDATE 문으로 토글.
+     * 소유자 조건이 WHERE 절에 포함되어 있어 다른 사용자의 항목은 변경되지 않는다.
+     * @param id Todo ID
+     * @param userId 사용자 ID
+     * @param changeSeq 변경 순번
+     * @return 변경된 행 수 (0이면 없거나 소유하지 않은 항목)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Todo t SET t.isCompleted = CASE WHEN t.isCompleted = true THEN false ELSE true END, " +
+            "t.version = t.version + 1, t.changeSeq = :changeSeq WHERE t.id = :id AND t.userId = :userId")
+    int toggleCompletion(@Param("id") Long id, @Param("userId") Long userId, @Param("changeSeq") Long changeSeq);
+
+    /**
+     * 내용과 완료 여부를 조회 없이 수정.
+     * expectedVersion이 주어지면 현재 버전과 같을 때만 수정한다.
+     * @param id Todo ID
+     * @param userId 사용자 ID
+     * @param task 새 내용
+     * @param isCompleted 새 완료 여부
+     * @param expectedVersion 클라이언트가 알고 있는 버전 (null이면 검사하지 않음)
+     * @param changeSeq 변경 순번
+     * @return 변경된 행 수 (0이면 없음, 소유하지 않음 또는 버전 불일치)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Todo t SET t.task = :task, t.isCompleted = :isCompleted, t.version = t.version + 1, t.changeSeq = :changeSeq " +
+            "WHERE t.id = :id AND t.userId = :userId AND (:expectedVersion IS NULL OR t.version = :expectedVersion)")
+    int updateContent(@Param("id") Long id,
+                      @Param("userId") Long userId,
+                      @Param("task") String task,
+                      @Param("isCompleted") Boolean isCompleted,
+                      @Param("expectedVersion") Long expectedVersion,
+                      @Param("changeSeq") Long changeSeq);
+
+    /**
+     * 변경 순번 이후에 추가되거나 수정된 Todo 조회.
+     * (user_id, change_seq) 인덱스를 사용한다.
+     * @param userId 사용자 ID
+     * @param since 클라이언트가 마지막으로 동기화한 변경 순번
+     * @return 변경된 Todo 리스트 (변경 순번 오름차순)
+     */
+    List<Todo> findByUserIdAndChangeSeqGreaterThanOrderByChangeSeq(Long userId, Long since);
 }
@@ -0,0 +1,71 @@
+package com.example.todo.repository;
+
+import com.example.todo.entity.TodoTombstone; // TodoTombstone 엔티티 클래스 임포트
+import org.springframework.data.jpa.repository.JpaRepository; // JpaRepository 인터페이스 임포트
+import org.springframework.data.jpa.repository.Modifying; // 변경 쿼리 표시
+import org.springframework.data.jpa.repository.Query; // JPQL 쿼리 정의
+import org.springframework.data.repository.query.Param; // 쿼리 파라미터 바인딩
+import org.springframework.stereotype.Repository; // Repository 어노테이션 임포트
+import org.springframework.transaction.annotation.Transactional; // 단독 호출 시 트랜잭션
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * TodoTombstoneRepository 인터페이스.
+ * Todo 삭제 기록(tombstone)의 생성, 델타 조회, 만료 삭제를 처리한다.
+ * 삭제 기록은 Todo를 삭제하기 직전에 같은 조건의 INSERT ... SELECT 문 하나로 만든다.
+ */
+@Repository
+public interface TodoTombstoneRepository extends JpaRepository<TodoTombstone, Long> {
+
+    /**
+     * 사용자의 완료된 Todo에 대한 삭제 기록 생성.
+     * @param userId 사용자 ID
+     * @param changeSeq 삭제 시점의 변경 순번
+     * @param deletedAt 삭제 시간
+     * @return 생성된 기록 수
+     */
+    @Modifying
+    @Query("INSERT INTO TodoTombstone (todoId, userId, changeSeq, deletedAt) " +
+            "SELECT t.id, t.userId, :changeSeq, :deletedAt FROM Todo t WHERE t.userId = :userId AND t.isCompleted = true")
+    int insertForCompleted(@Param("userId") Long userId,
+                           @Param("changeSeq") Long changeSeq,
+                           @Param("deletedAt") LocalDateTime deletedAt);
+
+    /**
+     * 지정한 ID 중 사용자가 소유한 Todo에 대한 삭제 기록 생성.
+     * @param userId 사용자 ID
+     * @param ids 삭제할 Todo ID 목록
+     * @param changeSeq 삭제 시점의 변경 순번
+     * @param deletedAt 삭제 시간
+     * @return 생성된 기록 수
+     */
+    @Modifying
+    @Query("INSERT INTO TodoTombstone (todoId, userId, changeSeq, deletedAt) " +
+            "SELECT t.id, t.userId, :changeSeq, :deletedAt FROM Todo t WHERE t.userId = :userId AND t.id IN :ids")
+    int insertForIds(@Param("userId") Long userId,
+                     @Param("ids") Collection<Long> ids,
+                     @Param("changeSeq") Long changeSeq,
+                     @Param("deletedAt") LocalDateTime deletedAt);
+
+    /**
+     * 변경 순번 이후에 삭제된 Todo ID 조회.
+     * @param userId 사용자 ID
+     * @param since 클라이언트가 마지막으로 동기화한 변경 순번
+     * @return 삭제된 Todo ID 목록
+     */
+    @Query("SELECT d.todoId FROM TodoTombstone d WHERE d.userId = :userId AND d.changeSeq > :since")
+    List<Long> findDeletedIdsSince(@Param("userId") Long userId, @Param("since") Long since);
+
+    /**
+     * 보관 기간이 지난 삭제 기록 일괄 삭제. 샤드마다 호출하므로 자체 트랜잭션에서 실행한다.
+     * @param cutoff 기준 시간
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM TodoTombstone d WHERE d.deletedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
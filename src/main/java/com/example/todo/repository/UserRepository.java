@@ -3,6 +3,7 @@ package com.example.todo.repository;
 import com.example.todo.entity.User; // User 엔티티 클래스 임포트
 import org.springframework.data.jpa.repository.JpaRepository; // JpaRepository 인터페이스 임포트
 import org.springframework.stereotype.Repository; // Repository 어노테이션 임포트
+import org.springframework.transaction.annotation.Transactional; // 읽기 전용 트랜잭션 (복제본 라우팅)
 
 import java.util.Optional;
 
@@ -15,9 +16,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     /**
      * 사용자 이름으로 User 엔티티를 조회.
+     * 읽기 전용 트랜잭션으로 실행하여 복제본에서 읽을 수 있게 한다. (트랜잭션 안에서 호출하면 그 트랜잭션을 따름)
      * @param username 검색할 사용자 이름
      * @return 사용자 이름에 해당하는 User 엔티티를 Optional로 반환
      */
+    @Transactional(readOnly = true)
     Optional<User> findByUsername(String username);
 
     /**
@@ -0,0 +1,73 @@
+package com.example.todo.security;
+
+import com.example.todo.entity.User; // 사용자 엔티티 클래스
+import org.springframework.security.core.CredentialsContainer; // 인증 후 비밀번호 제거 지원
+import org.springframework.security.core.GrantedAuthority; // 권한 인터페이스
+import org.springframework.security.core.authority.SimpleGrantedAuthority; // 문자열 기반 권한
+import org.springframework.security.core.userdetails.UserDetails; // Spring Security 사용자 정보 인터페이스
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 인증된 사용자를 나타내는 경량 Principal.
+ * JWT 클레임(uid, sub, role)만으로 만들 수 있어 요청마다 users 테이블을 조회할 필요가 없음.
+ * 로그인 시에는 CustomUserDetailsService가 비밀번호 해시를 포함해 생성.
+ */
+public class AuthenticatedUser implements UserDetails, CredentialsContainer {
+
+    private final Long id; // 사용자 ID
+    private final String username; // 사용자 이름
+    private String password; // 비밀번호 해시. JWT 인증 경로에서는 null
+    private final String role; // 사용자 역할
+    private final List<GrantedAuthority> authorities; // 역할에서 파생된 권한
+
+    public AuthenticatedUser(Long id, String username, String password, String role) {
+        this.id = id;
+        this.username = username;
+        this.password = password;
+        this.role = role;
+        this.authorities = role != null
+                ? List.of(new SimpleGrantedAuthority("ROLE_" + role))
+                : List.of();
+    }
+
+    /**
+     * User 엔티티에서 Principal 생성 (비밀번호 해시 포함).
+     * @param user 사용자 엔티티
+     * @return 인증에 사용할 Principal
+     */
+    public static AuthenticatedUser from(User user) {
+        return new AuthenticatedUser(user.getId(), user.getUsername(), user.getPassword(), user.getRole());
+    }
+
+    // 사용자 ID를 반환.
+    public Long getId() {
+        return id;
+    }
+
+    // 사용자 역할을 반환.
+    public String getRole() {
+        return role;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public void eraseCredentials() {
+        this.password = null; // 인증이 끝나면 비밀번호 해시를 메모리에서 제거
+    }
+}
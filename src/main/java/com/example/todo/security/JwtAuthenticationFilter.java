@@ -1,18 +1,21 @@
 package com.example.todo.security;
 
+import io.jsonwebtoken.Claims; // 검증된 JWT 클레임
 import io.jsonwebtoken.ExpiredJwtException; // JWT 토큰 만료 시 발생하는 예외
 import io.jsonwebtoken.JwtException; // JWT 관련 일반적인 예외
+import io.micrometer.core.instrument.MeterRegistry; // 메트릭 등록
+import io.micrometer.core.instrument.Timer; // 토큰 검증/사용자 로드 시간 측정
 import jakarta.servlet.FilterChain; // 필터 체인 객체
 import jakarta.servlet.ServletException; // 서블릿 관련 예외
 import jakarta.servlet.http.HttpServletRequest; // HTTP 요청 객체
 import jakarta.servlet.http.HttpServletResponse; // HTTP 응답 객체
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken; // Spring Security 인증 객체
 import org.springframework.security.core.context.SecurityContextHolder; // 현재 인증 컨텍스트를 제공하는 클래스
-import org.springframework.security.core.userdetails.UserDetails; // 사용자 정보 인터페이스
 import org.springframework.stereotype.Component; // Spring 빈 등록
 import org.springframework.web.filter.OncePerRequestFilter; // HTTP 요청마다 한 번 실행되는 필터
 
 import java.io.IOException; // 입출력 예외
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT 인증 필터 클래스.
@@ -22,16 +25,36 @@ import java.io.IOException; // 입출력 예외
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil; // JWT 토큰 유효성 검사 및 파싱을 위한 유틸리티
-    private final CustomUserDetailsService customUserDetailsService; // 사용자 정보를 로드하기 위한 서비스
+    private final CustomUserDetailsService customUserDetailsService; // 이전 형식 토큰의 사용자 정보를 로드하기 위한 서비스
+    private final Timer validTimer; // 유효한 토큰의 파싱/검증 시간
+    private final Timer expiredTimer; // 만료된 토큰의 파싱/검증 시간
+    private final Timer invalidTimer; // 잘못된 토큰의 파싱/검증 시간
+    private final Timer userLoadTimer; // 이전 형식 토큰의 사용자 로드 시간 (DB 조회)
 
     /**
      * 생성자를 통해 필요한 의존성 주입.
      * @param customUserDetailsService 사용자 정보를 로드하는 서비스
      * @param jwtUtil JWT 관련 유틸리티
+     * @param meterRegistry 검증 시간 메트릭을 등록할 레지스트리
      */
-    public JwtAuthenticationFilter(CustomUserDetailsService customUserDetailsService, JwtUtil jwtUtil) {
+    public JwtAuthenticationFilter(CustomUserDetailsService customUserDetailsService, JwtUtil jwtUtil,
+                                   MeterRegistry meterRegistry) {
         this.customUserDetailsService = customUserDetailsService;
         this.jwtUtil = jwtUtil;
+        this.validTimer = parseTimer(meterRegistry, "valid");
+        this.expiredTimer = parseTimer(meterRegistry, "expired");
+        this.invalidTimer = parseTimer(meterRegistry, "invalid");
+        this.userLoadTimer = Timer.builder("auth.user.load")
+                .description("이전 형식 토큰의 사용자 정보 로드 시간")
+                .register(meterRegistry);
+    }
+
+    // 검증 결과별 토큰 파싱 시간. 요청마다 태그를 조회하지 않도록 미리 등록.
+    public static Timer parseTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("auth.jwt.parse")
+                .description("JWT 파싱 및 서명 검증 시간")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
     }
 
     /**
@@ -50,30 +73,39 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
             // "Bearer " 이후의 실제 토큰 값 추출
             String jwt = authorizationHeader.substring(7);
+            long parseStart = System.nanoTime();
             try {
-                // JWT에서 사용자 이름 추출
-                String username = jwtUtil.extractUsername(jwt);
+                // JWT를 한 번만 파싱/검증하고 클레임에서 사용자 이름 추출
+                Claims claims = jwtUtil.parseClaims(jwt);
+                validTimer.record(System.nanoTime() - parseStart, TimeUnit.NANOSECONDS);
+                String username = claims.getSubject();
 
                 // 현재 인증 컨텍스트가 비어 있는 경우에만 처리
                 if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    // 사용자 이름으로 사용자 정보를 로드
-                    UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
-
-                    // 토큰이 유효한지 확인
-                    if (jwtUtil.validateToken(jwt)) {
-                        // 인증 객체 생성 및 컨텍스트 설정
-                        UsernamePasswordAuthenticationToken authenticationToken =
-                                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                        SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+                    // 클레임만으로 Principal 생성 (DB 조회 없음)
+                    AuthenticatedUser principal = jwtUtil.toPrincipal(claims);
+                    if (principal == null) {
+                        // uid 클레임이 없는 이전 형식의 토큰은 사용자 정보를 로드
+                        long loadStart = System.nanoTime();
+                        principal = (AuthenticatedUser) customUserDetailsService.loadUserByUsername(username);
+                        userLoadTimer.record(System.nanoTime() - loadStart, TimeUnit.NANOSECONDS);
+                        principal.eraseCredentials();
                     }
+
+                    // 인증 객체 생성 및 컨텍스트 설정 (토큰은 위에서 이미 검증됨)
+                    UsernamePasswordAuthenticationToken authenticationToken =
+                            new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+                    SecurityContextHolder.getContext().setAuthentication(authenticationToken);
                 }
             } catch (ExpiredJwtException e) {
                 // 토큰이 만료된 경우 처리
+                expiredTimer.record(System.nanoTime() - parseStart, TimeUnit.NANOSECONDS);
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                 response.getWriter().write("Token has expired. Please log in again.");
                 return; // 요청을 차단
-            } catch (JwtException e) {
+            } catch (JwtException | IllegalArgumentException e) {
                 // 잘못된 토큰 처리
+                invalidTimer.record(System.nanoTime() - parseStart, TimeUnit.NANOSECONDS);
                 response.setStatus(HttpServletResponse.SC_FORBIDDEN);
                 response.getWriter().write("Invalid token.");
                 return; // 요청을 차단
@@ -1,41 +1,122 @@
 package com.example.todo.security;
 
+import com.github.benmanes.caffeine.cache.Cache; // 검증된 토큰 캐시
+import com.github.benmanes.caffeine.cache.Caffeine; // 캐시 빌더
+import com.github.benmanes.caffeine.cache.Expiry; // 항목별 만료 시간 계산
 import io.jsonwebtoken.*; // JWT 생성 및 파싱을 위한 라이브러리
+import io.jsonwebtoken.io.Decoders; // Base64 비밀 키 디코딩
+import io.jsonwebtoken.security.Keys; // HMAC 키 생성
+import jakarta.annotation.PostConstruct; // 의존성 주입 후 초기화
 import lombok.Getter; // Lombok의 Getter 어노테이션 사용
 import org.springframework.beans.factory.annotation.Value; // application.properties 값 주입
 import org.springframework.stereotype.Component; // Spring 컴포넌트로 등록
 
+import java.security.Key; // 서명 키
 import java.util.Date; // JWT 발급 및 만료 날짜 설정에 사용
+import java.util.concurrent.TimeUnit;
 
 @Component // 이 클래스를 Spring Bean으로 등록
-@Getter // secretKey와 expirationMs에 대한 getter 자동 생성
 public class JwtUtil {
 
+    public static final String CLAIM_USER_ID = "uid"; // 사용자 ID 클레임 이름
+    public static final String CLAIM_ROLE = "role"; // 사용자 역할 클레임 이름
+
+    @Getter
     @Value("${JWT_SECRET_KEY}") // application.properties에서 JWT 비밀 키 로드
     private String secretKey;
 
+    @Getter
     @Value("${JWT_EXPIRATION_MS}") // application.properties에서 JWT 만료 시간 로드
     private long expirationMs;
 
+    @Value("${JWT_CACHE_MAX_SIZE:10000}") // 검증된 토큰 캐시의 최대 항목 수
+    private long cacheMaxSize;
+
+    private Key signingKey; // 서명과 검증에 재사용하는 HMAC 키
+    private JwtParser jwtParser; // 스레드 안전한 파서. 요청마다 새로 만들지 않음
+    private Cache<String, Claims> verifiedTokens; // 이미 서명 검증을 통과한 토큰과 클레임
+
+    /**
+     * 비밀 키, 파서, 검증 캐시를 한 번만 생성.
+     * 캐시 항목은 토큰의 exp 시각에 맞춰 만료되므로 만료된 토큰이 캐시로 통과되지 않음.
+     */
+    @PostConstruct
+    void init() {
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey) // 서명을 검증하기 위해 비밀 키 설정
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String token, Claims claims, long currentTime) {
+                        return remainingNanos(claims);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+                        return remainingNanos(claims);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration; // 읽기로 수명이 늘어나지 않음
+                    }
+                })
+                .build();
+    }
+
     /**
      * JWT 토큰 생성
-     * @param username JWT 토큰에 포함할 사용자 이름
+     * 사용자 ID와 역할을 클레임으로 포함하여, 인증 시 사용자 조회 없이 Principal을 만들 수 있게 함.
+     * @param user JWT 토큰에 포함할 인증된 사용자
      * @return 생성된 JWT 토큰 문자열
      */
-    public String generateToken(String username) {
-        // 현재 시간과 만료 시간 출력 (디버깅용)
-        System.out.println("Issued At: " + new Date());
-        System.out.println("Expiration: " + new Date(System.currentTimeMillis() + expirationMs));
-
+    public String generateToken(AuthenticatedUser user) {
         // JWT 토큰 생성
         return Jwts.builder()
-                .setSubject(username) // 토큰에 사용자 이름 설정
+                .setSubject(user.getUsername()) // 토큰에 사용자 이름 설정
+                .claim(CLAIM_USER_ID, user.getId()) // 사용자 ID 설정
+                .claim(CLAIM_ROLE, user.getRole()) // 사용자 역할 설정
                 .setIssuedAt(new Date()) // 토큰 발급 시간 설정
                 .setExpiration(new Date(System.currentTimeMillis() + expirationMs)) // 토큰 만료 시간 설정
-                .signWith(SignatureAlgorithm.HS512, secretKey) // HS512 알고리즘으로 비밀 키를 사용해 서명
+                .signWith(signingKey, SignatureAlgorithm.HS512) // HS512 알고리즘으로 비밀 키를 사용해 서명
                 .compact(); // 최종적으로 토큰 생성
     }
 
+    /**
+     * JWT 토큰을 한 번 파싱하고 서명을 검증하여 클레임 반환.
+     * 이미 검증된 토큰은 캐시에서 바로 반환.
+     * @param token 클라이언트로부터 받은 JWT 토큰
+     * @return 검증된 클레임
+     * @throws ExpiredJwtException 토큰이 만료된 경우
+     * @throws JwtException 서명이 올바르지 않거나 형식이 잘못된 경우
+     */
+    public Claims parseClaims(String token) {
+        Claims cached = verifiedTokens.getIfPresent(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = jwtParser.parseClaimsJws(token).getBody(); // 서명 검증 및 클레임 추출
+        verifiedTokens.put(token, claims);
+        return claims;
+    }
+
+    /**
+     * 검증된 클레임에서 Principal 생성.
+     * @param claims parseClaims로 검증된 클레임
+     * @return 인증된 사용자. uid 클레임이 없는 이전 형식의 토큰이면 null
+     */
+    public AuthenticatedUser toPrincipal(Claims claims) {
+        Long userId = claims.get(CLAIM_USER_ID, Long.class);
+        if (userId == null) {
+            return null;
+        }
+        return new AuthenticatedUser(userId, claims.getSubject(), null, claims.get(CLAIM_ROLE, String.class));
+    }
+
     /**
      * JWT 토큰에서 사용자 이름 추출
      * @param token 클라이언트로부터 받은 JWT 토큰
@@ -43,13 +124,8 @@ public class JwtUtil {
      */
     public String extractUsername(String token) {
         try {
-            // 토큰을 파싱하고 클레임에서 사용자 이름(subject) 추출
-            return Jwts.parserBuilder()
-                    .setSigningKey(secretKey) // 서명을 검증하기 위해 비밀 키 설정
-                    .build()
-                    .parseClaimsJws(token) // JWT 파싱
-                    .getBody() // 클레임(body) 가져오기
-                    .getSubject(); // subject(사용자 이름) 추출
+            // 토큰을 검증하고 클레임에서 사용자 이름(subject) 추출
+            return parseClaims(token).getSubject();
         } catch (ExpiredJwtException e) {
             // 토큰이 만료된 경우 처리
             throw new RuntimeException("JWT expired", e);
@@ -67,14 +143,23 @@ public class JwtUtil {
     public boolean validateToken(String token) {
         try {
             // 토큰 파싱 및 서명 검증
-            Jwts.parserBuilder()
-                    .setSigningKey(secretKey) // 비밀 키로 서명을 검증
-                    .build()
-                    .parseClaimsJws(token); // JWT 파싱
+            parseClaims(token);
             return true; // 검증 성공
         } catch (JwtException | IllegalArgumentException e) {
             // 잘못된 토큰 또는 기타 오류 처리
             return false;
         }
     }
+
+    /**
+     * 토큰 만료 시각까지 남은 시간을 나노초로 계산.
+     * exp 클레임이 없으면 발급 기본 만료 시간을 상한으로 사용.
+     */
+    private long remainingNanos(Claims claims) {
+        Date expiration = claims.getExpiration();
+        long remainingMs = expiration != null
+                ? expiration.getTime() - System.currentTimeMillis()
+                : expirationMs;
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMs));
+    }
 }
@@ -0,0 +1,81 @@
+package com.example.todo.security;
+
+import io.micrometer.core.instrument.Counter; // 거부 횟수 카운터
+import io.micrometer.core.instrument.Meter; // 태그별 미터 조회
+import io.micrometer.core.instrument.MeterRegistry; // 메트릭 등록
+import io.micrometer.core.instrument.Tags; // 메트릭 태그
+import io.micrometer.core.instrument.Timer; // 지연 시간 측정
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics; // 스레드 풀 큐 깊이 등 노출
+import org.springframework.beans.factory.DisposableBean; // 종료 시 스레드 풀 정리
+import org.springframework.beans.factory.annotation.Value; // application.properties 값 주입
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory; // 이름 있는 스레드 생성
+import org.springframework.stereotype.Component; // Spring 컴포넌트로 등록
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt 해싱/검증처럼 CPU를 많이 쓰는 인증 작업 전용 스레드 풀.
+ * 요청 스레드(Tomcat)와 분리하여 로그인 폭주가 Todo API 처리량을 잠식하지 않도록 함.
+ * 큐가 가득 차면 즉시 RejectedExecutionException으로 실패하며, 컨트롤러는 이를 503으로 응답.
+ */
+@Component
+public class PasswordHashingExecutor implements DisposableBean {
+
+    private final ThreadPoolExecutor executor; // 크기와 큐가 제한된 스레드 풀
+    private final Meter.MeterProvider<Timer> hashTimers; // 작업 종류별 실행 시간 (BCrypt 지연 시간)
+    private final Timer queueWaitTimer; // 큐 대기 시간
+    private final Counter rejectedCounter; // 큐 초과로 거부된 작업 수
+
+    public PasswordHashingExecutor(MeterRegistry meterRegistry,
+                                   @Value("${AUTH_EXECUTOR_THREADS:0}") int threads,
+                                   @Value("${AUTH_EXECUTOR_QUEUE_CAPACITY:100}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors(); // 0이면 CPU 코어 수
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), // 대기 작업 수 제한
+                new CustomizableThreadFactory("auth-hash-"),
+                new ThreadPoolExecutor.AbortPolicy()); // 큐 초과 시 즉시 거부
+
+        new ExecutorServiceMetrics(executor, "auth.hash", Tags.empty()).bindTo(meterRegistry);
+        this.hashTimers = Timer.builder("auth.hash.duration")
+                .description("BCrypt 해싱/검증 작업 실행 시간")
+                .withRegistry(meterRegistry);
+        this.queueWaitTimer = Timer.builder("auth.hash.queue.wait")
+                .description("인증 작업의 큐 대기 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.hash.rejected")
+                .description("큐 초과로 거부된 인증 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 인증 작업을 전용 스레드 풀에서 실행.
+     * @param operation 작업 종류 (실행 시간 메트릭의 operation 태그, 예: login, register)
+     * @param task BCrypt 해싱 또는 인증 작업
+     * @return 작업 결과. 큐가 가득 찬 경우 RejectedExecutionException으로 완료
+     */
+    public <T> CompletableFuture<T> submit(String operation, Supplier<T> task) {
+        Timer hashTimer = hashTimers.withTag("operation", operation);
+        long enqueuedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                queueWaitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                return hashTimer.record(task);
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.todo.security;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -11,6 +13,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET) // 반응형 스택에서는 사용하지 않음
 @Configuration
 public class SecurityConfig {
     // JwtAuthenticationFilter 주입. JWT 인증을 처리하는 커스텀 필터.
@@ -28,8 +31,12 @@ public class SecurityConfig {
 
                 // 요청 인증 규칙 정의
                 .authorizeHttpRequests(auth -> auth
-                                .requestMatchers("/", "/frontend/**", "/auth/**", "/favicon.ico").permitAll()
+                                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                                // 비동기 응답(SSE, 스트리밍)의 완료 디스패치. 원래 요청에서 이미 인가됨.
+                                .requestMatchers("/", "/frontend/**", "/auth/**", "/favicon.ico", "/actuator/health").permitAll()
                                 // 위 경로들은 인증 없이 접근 가능 (예: 메인 페이지, 정적 리소스, 인증 API 등).
+                                .requestMatchers("/actuator/shards/**").hasRole("ADMIN")
+                                // 샤드 현황 조회와 재배치는 관리자만 가능.
                                 .anyRequest().authenticated()
                         // 나머지 모든 요청은 인증 필요.
                 )
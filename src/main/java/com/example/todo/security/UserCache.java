@@ -0,0 +1,86 @@
+package com.example.todo.security;
+
+import com.example.todo.entity.User; // 사용자 엔티티 클래스
+import com.example.todo.replica.ReadRouting; // 복제본에 없는 사용자는 주 DB에서 다시 조회
+import com.example.todo.repository.UserRepository; // 캐시 미스 시 사용자 조회
+import com.github.benmanes.caffeine.cache.Cache; // 사용자 캐시
+import com.github.benmanes.caffeine.cache.Caffeine; // 캐시 빌더
+import com.github.benmanes.caffeine.cache.stats.CacheStats; // 적중/미스/축출 통계
+import io.micrometer.core.instrument.MeterRegistry; // 메트릭 등록
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics; // Caffeine 통계를 메트릭으로 노출
+import org.springframework.beans.factory.annotation.Value; // application.properties 값 주입
+import org.springframework.stereotype.Component; // Spring 컴포넌트로 등록
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 사용자 이름으로 조회한 User 엔티티를 보관하는 프로세스 내 캐시.
+ * users 테이블은 읽기가 대부분이므로 UserRepository.findByUsername 앞에 두어 DB 왕복을 줄임.
+ * 크기 제한(W-TinyLFU 축출)과 TTL이 있으며, 사용자 생성/수정 시 invalidate로 항목을 제거해야 함.
+ * 읽기 복제본을 사용하면 캐시 미스는 복제본에서 읽고, 없으면 가입 직후일 수 있으므로 주 DB에서 다시 확인함.
+ */
+@Component
+public class UserCache {
+
+    private final UserRepository userRepository; // 캐시 미스 시 사용하는 리포지토리
+    private final ReadRouting readRouting; // 복제본 라우팅
+    private final Cache<String, User> users; // 사용자 이름 -> User 엔티티
+
+    public UserCache(UserRepository userRepository,
+                     ReadRouting readRouting,
+                     MeterRegistry meterRegistry,
+                     @Value("${USER_CACHE_MAX_SIZE:10000}") long maxSize,
+                     @Value("${USER_CACHE_TTL_SECONDS:600}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.readRouting = readRouting;
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maxSize) // 크기 초과 시 W-TinyLFU 정책으로 축출
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds)) // 다른 경로의 변경도 TTL 안에 반영
+                .recordStats() // 적중/미스/축출 카운터 기록
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, users, "users");
+    }
+
+    /**
+     * 사용자 이름으로 User 조회. 캐시에 없으면 DB에서 읽어 캐시에 저장.
+     * 존재하지 않는 사용자는 캐시하지 않음.
+     * @param username 검색할 사용자 이름
+     * @return 사용자 엔티티를 Optional로 반환
+     */
+    public Optional<User> findByUsername(String username) {
+        return Optional.ofNullable(users.get(username, this::load));
+    }
+
+    // DB에서 사용자 조회. 복제본에 없으면 아직 복제되지 않은 새 사용자일 수 있으므로 주 DB에서 다시 조회.
+    private User load(String username) {
+        return userRepository.findByUsername(username)
+                .or(() -> readRouting.isEnabled()
+                        ? readRouting.onPrimary(() -> userRepository.findByUsername(username))
+                        : Optional.empty())
+                .orElse(null);
+    }
+
+    /**
+     * 사용자 항목을 캐시에서 제거.
+     * 사용자가 생성되거나 수정된 뒤 호출.
+     * @param username 제거할 사용자 이름
+     */
+    public void invalidate(String username) {
+        users.invalidate(username);
+    }
+
+    /**
+     * 모든 사용자 항목을 캐시에서 제거. 다른 노드의 변경 알림을 놓쳤을 수 있을 때 호출.
+     */
+    public void invalidateAll() {
+        users.invalidateAll();
+    }
+
+    /**
+     * 캐시 적중/미스/축출 통계 반환.
+     */
+    public CacheStats stats() {
+        return users.stats();
+    }
+}
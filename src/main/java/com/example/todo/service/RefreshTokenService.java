@@ -0,0 +1,146 @@
+package com.example.todo.service;
+
+import com.example.todo.entity.RefreshToken;
+import com.example.todo.repository.RefreshTokenRepository;
+import com.example.todo.repository.UserRepository;
+import com.example.todo.security.AuthenticatedUser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 리프레시 토큰 발급, 회전(rotation), 재사용 감지를 담당하는 서비스.
+ * 액세스 토큰 갱신 시 비밀번호 해싱 없이 인덱스 조회 한 번으로 사용자를 확인한다.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom(); // 토큰 원문 생성용 난수
+
+    private final RefreshTokenRepository refreshTokenRepository; // 리프레시 토큰 저장소
+    private final UserRepository userRepository; // 사용자 참조(프록시) 생성용
+
+    @Value("${JWT_REFRESH_EXPIRATION_MS}") // 리프레시 토큰 만료 시간
+    private long refreshExpirationMs;
+
+    // 생성자 주입을 통해 의존성 초기화.
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository, UserRepository userRepository) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * 회전 결과. 새 리프레시 토큰 원문과 토큰 소유자.
+     */
+    public record Rotation(AuthenticatedUser user, String refreshToken) {
+    }
+
+    /**
+     * 로그인 시 새 family의 리프레시 토큰 발급.
+     *
+     * @param user 인증된 사용자
+     * @return 클라이언트에 전달할 토큰 원문
+     */
+    @Transactional
+    public String issue(AuthenticatedUser user) {
+        return create(user.getId(), UUID.randomUUID().toString());
+    }
+
+    /**
+     * 리프레시 토큰을 사용하여 새 토큰으로 회전.
+     * 이미 사용된 토큰이 다시 제시되면 탈취로 간주하여 family 전체를 폐기한다.
+     *
+     * @param rawToken 클라이언트가 보낸 토큰 원문
+     * @return 회전 결과. 토큰이 없거나 만료/폐기된 경우 빈 Optional
+     */
+    @Transactional
+    public Optional<Rotation> rotate(String rawToken) {
+        if (rawToken == null || rawToken.isBlank()) {
+            return Optional.empty();
+        }
+
+        Optional<RefreshToken> found = refreshTokenRepository.findByTokenHashWithUser(hash(rawToken));
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+
+        RefreshToken current = found.get();
+        if (current.isRevoked() || refreshTokenRepository.markUsed(current.getId()) == 0) {
+            // 재사용 감지: 같은 family의 모든 토큰 폐기
+            refreshTokenRepository.revokeFamily(current.getFamilyId());
+            return Optional.empty();
+        }
+        if (current.getExpiresAt().isBefore(LocalDateTime.now())) {
+            return Optional.empty();
+        }
+
+        AuthenticatedUser user = AuthenticatedUser.from(current.getUser());
+        user.eraseCredentials(); // 토큰 발급에는 비밀번호 해시가 필요 없음
+        return Optional.of(new Rotation(user, create(user.getId(), current.getFamilyId())));
+    }
+
+    /**
+     * 리프레시 토큰이 속한 family 전체를 폐기 (로그아웃).
+     *
+     * @param rawToken 클라이언트가 보낸 토큰 원문
+     */
+    @Transactional
+    public void revoke(String rawToken) {
+        if (rawToken == null || rawToken.isBlank()) {
+            return;
+        }
+        refreshTokenRepository.findByTokenHashWithUser(hash(rawToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId()));
+    }
+
+    /**
+     * 만료된 리프레시 토큰을 주기적으로 삭제.
+     */
+    @Scheduled(fixedDelayString = "${JWT_REFRESH_CLEANUP_INTERVAL_MS:3600000}")
+    @Transactional
+    public void deleteExpiredTokens() {
+        refreshTokenRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    // 리프레시 토큰의 만료 시간(ms)을 반환.
+    public long getRefreshExpirationMs() {
+        return refreshExpirationMs;
+    }
+
+    // 새 토큰 원문을 만들고 해시를 저장한 뒤 원문을 반환.
+    private String create(Long userId, String familyId) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        RefreshToken token = new RefreshToken();
+        token.setTokenHash(hash(rawToken));
+        token.setFamilyId(familyId);
+        token.setUser(userRepository.getReferenceById(userId)); // 사용자 조회 없이 참조만 설정
+        token.setExpiresAt(LocalDateTime.now().plus(Duration.ofMillis(refreshExpirationMs)));
+        refreshTokenRepository.save(token);
+        return rawToken;
+    }
+
+    // 토큰 원문의 SHA-256 해시(hex) 계산.
+    private static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
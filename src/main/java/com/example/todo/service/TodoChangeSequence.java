@@ -0,0 +1,105 @@
+package com.example.todo.service;
+
+import com.example.todo.repository.TodoOwnerRepository;
+import com.example.todo.shard.ShardMovedException;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties; // 데이터베이스 종류 확인
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.jdbc.core.ConnectionCallback; // 트랜잭션 커넥션에서 세이브포인트 사용
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.List;
+
+/**
+ * 사용자별 Todo 변경 순번 (todo_owners).
+ * 변경 순번 행은 사용자의 Todo와 같은 샤드에 있으며, 사용자의 첫 변경 때 만들어진다.
+ * 순번을 올리는 문이 커밋까지 행을 잠그므로 같은 사용자의 변경은 직렬화되고 순번은 커밋 순서와 같다.
+ */
+@Component
+public class TodoChangeSequence {
+
+    // 순번을 올리고 새 값을 한 문으로 받음. 행이 없거나 옮긴 사용자이면 결과가 없다.
+    private static final String INCREMENT_RETURNING_POSTGRESQL = "UPDATE todo_owners SET change_seq = change_seq + 1 "
+            + "WHERE user_id = ? AND moved_to IS NULL RETURNING change_seq";
+    private static final String INCREMENT_RETURNING_H2 = "SELECT change_seq FROM FINAL TABLE ("
+            + "UPDATE todo_owners SET change_seq = change_seq + 1 WHERE user_id = ? AND moved_to IS NULL)";
+    // 아직 행이 없을 때 순번 1로 만듦. 동시에 만든 행과 충돌하면 세이브포인트로 되돌린다.
+    private static final String INSERT_OWNER = "INSERT INTO todo_owners (user_id, change_seq) "
+            + "SELECT CAST(? AS BIGINT), 1 WHERE NOT EXISTS (SELECT 1 FROM todo_owners WHERE user_id = ?)";
+    private static final String UNIQUE_VIOLATION = "23505"; // SQLSTATE (H2, PostgreSQL 공통)
+
+    private final TodoOwnerRepository ownerRepository;
+    private final JdbcTemplate jdbcTemplate; // 현재 트랜잭션 커넥션으로 순번 증가와 행 생성
+    private final String incrementSql;
+
+    public TodoChangeSequence(TodoOwnerRepository ownerRepository, JdbcTemplate jdbcTemplate,
+                              DataSourceProperties dataSourceProperties) {
+        this.ownerRepository = ownerRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        // 마이그레이션이 지원하는 데이터베이스는 PostgreSQL과 H2 (샤드와 복제본도 같은 종류)
+        this.incrementSql = DatabaseDriver.fromJdbcUrl(dataSourceProperties.getUrl()) == DatabaseDriver.POSTGRESQL
+                ? INCREMENT_RETURNING_POSTGRESQL : INCREMENT_RETURNING_H2;
+    }
+
+    /**
+     * 사용자의 변경 순번을 올리고 새 값을 반환. 트랜잭션 안에서 호출해야 하며,
+     * 이 트랜잭션이 끝날 때까지 같은 사용자의 다른 변경은 대기한다.
+     * (변경 없이 끝나는 요청도 순번을 소비하지만, 순번 사이의 빈 값은 동기화에 영향이 없다)
+     * @param userId 사용자 ID
+     * @return 새 변경 순번
+     * @throws ShardMovedException 사용자를 다른 샤드로 옮긴 경우
+     */
+    public long next(Long userId) {
+        List<Long> incremented = increment(userId);
+        if (!incremented.isEmpty()) {
+            return incremented.get(0);
+        }
+        if (insertOwner(userId)) {
+            return 1L; // 첫 변경
+        }
+        // 다른 트랜잭션이 먼저 행을 만들었으면 그 행을 올림. 그래도 없으면 옮겨 간 사용자
+        incremented = increment(userId);
+        if (!incremented.isEmpty()) {
+            return incremented.get(0);
+        }
+        throw new ShardMovedException(userId);
+    }
+
+    /**
+     * 사용자의 현재 변경 순번. 변경한 적이 없으면 0.
+     * @param userId 사용자 ID
+     */
+    public long current(Long userId) {
+        return ownerRepository.findChangeSeq(userId).orElse(0L);
+    }
+
+    // 변경 순번을 올리고 새 값을 반환. 이 UPDATE가 트랜잭션이 끝날 때까지 행을 잠근다.
+    // 행이 없거나 다른 샤드로 옮긴 사용자이면 빈 목록.
+    private List<Long> increment(Long userId) {
+        return jdbcTemplate.queryForList(incrementSql, Long.class, userId);
+    }
+
+    // 변경 순번 행이 없으면 순번 1로 생성. 생성했으면 true.
+    // 충돌로 실패한 INSERT는 세이브포인트까지만 되돌려 트랜잭션을 계속 사용한다. (PostgreSQL은 실패한 문 이후의 문을 거부)
+    private boolean insertOwner(Long userId) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            Savepoint savepoint = connection.setSavepoint();
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_OWNER)) {
+                insert.setLong(1, userId);
+                insert.setLong(2, userId);
+                boolean inserted = insert.executeUpdate() == 1;
+                connection.releaseSavepoint(savepoint);
+                return inserted;
+            } catch (SQLException e) {
+                connection.rollback(savepoint);
+                if (UNIQUE_VIOLATION.equals(e.getSQLState())) {
+                    return false;
+                }
+                throw e;
+            }
+        }));
+    }
+}
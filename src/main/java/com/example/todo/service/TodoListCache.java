@@ -0,0 +1,88 @@
+package com.example.todo.service;
+
+import com.example.todo.entity.Todo; // Todo 엔티티 클래스
+import com.github.benmanes.caffeine.cache.Cache; // 사용자별 목록 캐시
+import com.github.benmanes.caffeine.cache.Caffeine; // 캐시 빌더
+import com.github.benmanes.caffeine.cache.stats.CacheStats; // 적중/미스/축출 통계
+import io.micrometer.core.instrument.Gauge; // 캐시 가중치 노출
+import io.micrometer.core.instrument.MeterRegistry; // 메트릭 등록
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics; // Caffeine 통계를 메트릭으로 노출
+import org.springframework.beans.factory.annotation.Value; // application.properties 값 주입
+import org.springframework.stereotype.Component; // Spring 컴포넌트로 등록
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 사용자별 Todo 목록을 보관하는 프로세스 내 캐시.
+ * 항목 수가 아니라 목록에 담긴 Todo 개수(가중치)로 메모리를 제한한다.
+ *
+ * 각 항목은 적재 당시의 목록 버전(TodoListVersions)을 함께 저장하며, 조회 시 현재 버전과
+ * 다르면 다시 적재한다. 변경 경로는 invalidate로 항목을 바로 제거하지만, 정확성은 버전 비교가
+ * 보장하므로 커밋 전 제거와 동시 조회가 겹쳐도 오래된 목록이 반환되지 않는다.
+ */
+@Component
+public class TodoListCache {
+
+    private final Cache<Long, CachedList> lists; // 사용자 ID -> 목록
+
+    public TodoListCache(MeterRegistry meterRegistry,
+                         @Value("${TODO_CACHE_MAX_WEIGHT:1000000}") long maxWeight) {
+        this.lists = Caffeine.newBuilder()
+                .maximumWeight(maxWeight) // 캐시 전체에 담을 최대 Todo 개수
+                .weigher((Long userId, CachedList list) -> list.todos().size() + 1) // 빈 목록도 1로 계산
+                .recordStats() // 적중/미스/축출 카운터 기록
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, lists, "todo.lists");
+        Gauge.builder("todo.lists.weight", lists, cache -> cache.policy().eviction()
+                        .map(eviction -> eviction.weightedSize().orElse(0))
+                        .orElse(0L))
+                .description("캐시에 담긴 Todo 개수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 적재 당시 버전과 목록.
+     */
+    private record CachedList(long version, List<Todo> todos) {
+    }
+
+    /**
+     * 사용자의 Todo 목록 조회. 없거나 버전이 다르면 loader로 읽어 캐시에 저장.
+     * @param userId 사용자 ID
+     * @param version 조회 직전에 읽은 현재 목록 버전
+     * @param loader 캐시 미스 시 DB에서 목록을 읽는 함수
+     * @return 변경할 수 없는 Todo 목록
+     */
+    public List<Todo> get(Long userId, long version, Function<Long, List<Todo>> loader) {
+        CachedList cached = lists.get(userId, key -> new CachedList(version, List.copyOf(loader.apply(key))));
+        if (cached.version() != version) {
+            // 다른 버전으로 적재된 항목. 다시 읽어서 교체
+            cached = new CachedList(version, List.copyOf(loader.apply(userId)));
+            lists.put(userId, cached);
+        }
+        return cached.todos();
+    }
+
+    /**
+     * 사용자 목록을 캐시에서 제거. 목록을 바꾸는 모든 변경 후 호출.
+     * @param userId 사용자 ID
+     */
+    public void invalidate(Long userId) {
+        lists.invalidate(userId);
+    }
+
+    /**
+     * 모든 사용자의 목록을 캐시에서 제거. 다른 노드의 변경 알림을 놓쳤을 수 있을 때 호출.
+     */
+    public void invalidateAll() {
+        lists.invalidateAll();
+    }
+
+    /**
+     * 캐시 적중/미스/축출 통계 반환.
+     */
+    public CacheStats stats() {
+        return lists.stats();
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.todo.service;
+
+import com.github.benmanes.caffeine.cache.Cache; // 사용자별 버전 저장소
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.springframework.beans.factory.annotation.Value; // application.properties 값 주입
+import org.springframework.stereotype.Component; // Spring 컴포넌트로 등록
+import org.springframework.transaction.support.TransactionSynchronization; // 커밋 후 콜백
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 Todo 목록 버전.
+ * 목록을 바꾸는 모든 변경은 커밋 후 버전을 올리고, 목록 조회는 이 버전을 ETag로 내보낸다.
+ * 클라이언트가 같은 ETag로 다시 요청하면 DB 조회와 직렬화 없이 304로 응답할 수 있다.
+ *
+ * 버전은 전역 단조 증가 시계에서 발급하며, ETag에는 기동 시마다 달라지는 nonce를 붙여
+ * 재시작 전에 발급된 ETag와 겹치지 않도록 한다.
+ */
+@Component
+public class TodoListVersions {
+
+    private final String bootNonce; // 기동마다 달라지는 ETag 접두사
+    private final AtomicLong clock = new AtomicLong(); // 전역 버전 시계
+    private final AtomicLong floor = new AtomicLong(); // 추적하지 않는 사용자의 버전 (제거된 항목 버전 이상)
+    private final Cache<Long, Long> versions; // 사용자 ID -> 마지막 변경 버전
+
+    public TodoListVersions(@Value("${TODO_LIST_VERSIONS_MAX_SIZE:100000}") long maxSize) {
+        this.bootNonce = Long.toString(new SecureRandom().nextLong() & Long.MAX_VALUE, 36);
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                // 제거는 항목이 사라지기 전에 동기적으로 호출됨. 제거된 사용자의 버전이 과거 값으로
+                // 돌아가 오래된 ETag와 일치하지 않도록 floor를 현재 시계 값으로 올린다.
+                .evictionListener((Long userId, Long version, RemovalCause cause) ->
+                        floor.accumulateAndGet(clock.get(), Math::max))
+                .build();
+    }
+
+    /**
+     * 사용자의 현재 목록 버전.
+     * @param userId 사용자 ID
+     * @return 버전 (한 번도 변경되지 않았거나 추적에서 제외된 사용자는 floor 값)
+     */
+    public long current(Long userId) {
+        Long version = versions.getIfPresent(userId);
+        return version != null ? version : floor.get();
+    }
+
+    /**
+     * 사용자의 현재 목록 버전으로 만든 강한 ETag.
+     * 목록을 조회하기 전에 호출해야 한다. (조회 중 변경되면 다음 요청에서 다른 ETag가 됨)
+     * @param userId 사용자 ID
+     * @return 따옴표를 포함한 ETag 값
+     */
+    public String eTag(Long userId) {
+        return eTag(userId, "");
+    }
+
+    /**
+     * 사용자의 현재 목록 버전과 목록 표현으로 만든 강한 ETag.
+     * 같은 버전이라도 전체 목록, 필터 목록, 페이지마다 본문이 다르므로 표현의 SHA-256 해시를 붙여 ETag를 구분한다.
+     * (커서는 클라이언트가 보낸 값이므로 충돌을 만들 수 없는 해시를 사용)
+     * @param userId 사용자 ID
+     * @param view 표현 식별 문자열 (TodoListView). 빈 문자열이면 eTag(userId)와 같다.
+     * @return 따옴표를 포함한 ETag 값
+     */
+    public String eTag(Long userId, String view) {
+        String tag = bootNonce + "-" + current(userId);
+        if (!view.isEmpty()) {
+            tag += "-" + digest(view);
+        }
+        return "\"" + tag + "\"";
+    }
+
+    /**
+     * 사용자의 목록 버전을 올림.
+     * 트랜잭션 안이면 커밋 후에 올려, 커밋 전 데이터가 새 버전으로 캐시되지 않도록 한다.
+     * 롤백되면 올리지 않는다.
+     * @param userId 사용자 ID
+     */
+    public void bump(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bumpNow(userId);
+                }
+            });
+        } else {
+            bumpNow(userId);
+        }
+    }
+
+    /**
+     * 모든 사용자의 목록 버전을 올림. 다른 노드의 변경 알림을 놓쳤을 수 있을 때 호출.
+     * floor를 먼저 올린 뒤 항목을 비우므로, 이후 모든 사용자의 ETag가 이전과 달라진다.
+     */
+    public void bumpAll() {
+        floor.accumulateAndGet(clock.incrementAndGet(), Math::max);
+        versions.invalidateAll();
+    }
+
+    // 표현 식별 문자열의 SHA-256 해시 (base64url, ETag에 쓸 수 있는 문자만 사용).
+    private static String digest(String view) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest(view.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    // 전역 시계에서 새 버전을 발급하여 저장.
+    private void bumpNow(Long userId) {
+        versions.put(userId, clock.incrementAndGet());
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.todo.service;
+
+/**
+ * 목록 조회 요청의 표현(필터 값, 페이지 크기, 커서).
+ * 같은 목록 버전이라도 표현마다 본문이 다르므로 목록 ETag에 포함한다. (TodoListVersions)
+ * 서블릿과 reactive 컨트롤러가 함께 사용한다.
+ */
+public final class TodoListView {
+
+    public static final int DEFAULT_PAGE_SIZE = 50; // cursor만 지정된 경우의 페이지 크기
+    public static final int MAX_PAGE_SIZE = 500; // 한 페이지의 최대 항목 수
+
+    private TodoListView() {
+    }
+
+    /**
+     * 요청한 limit을 허용 범위로 맞춘 페이지 크기.
+     * @param limit 요청한 페이지 크기 (null이면 기본값)
+     */
+    public static int pageSize(Integer limit) {
+        return limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * 표현 식별 문자열. 필터와 페이지를 지정하지 않은 전체 목록은 빈 문자열.
+     * @param isCompleted 완료 상태 필터 (null이면 전체)
+     * @param limit 요청한 페이지 크기
+     * @param cursor 페이지 커서
+     */
+    public static String of(Boolean isCompleted, Integer limit, String cursor) {
+        StringBuilder view = new StringBuilder();
+        if (isCompleted != null) {
+            view.append("isCompleted=").append(isCompleted);
+        }
+        if (limit != null || cursor != null) {
+            view.append("&limit=").append(pageSize(limit)).append("&cursor=").append(cursor == null ? "" : cursor);
+        }
+        return view.toString();
+    }
+}
@@ -1,23 +1,104 @@
 package com.example.todo.service;
 
+import com.example.todo.dto.TodoCursor;
+import com.example.todo.dto.TodoPage;
 import com.example.todo.entity.Todo;
+import com.example.todo.event.TodoEvent;
+import com.example.todo.event.TodoEventBroker;
+import com.example.todo.invalidation.CacheInvalidationBus;
+import com.example.todo.replica.ReadRouting;
 import com.example.todo.repository.TodoRepository;
+import com.example.todo.repository.TodoTombstoneRepository;
+import com.example.todo.shard.ShardRouting;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class TodoService {
+    // 한 번의 일괄 요청에서 처리할 수 있는 최대 ID 개수 (IN 절 크기 제한).
+    public static final int MAX_BULK_IDS = 1000;
+    // 한 번의 일괄 생성 요청에서 만들 수 있는 최대 Todo 개수.
+    public static final int MAX_BATCH_TODOS = 10_000;
+
+    /**
+     * 단건 변경 결과. 변경에 실패한 경우에만 원인 확인을 위해 추가 조회한다.
+     */
+    public enum MutationResult {
+        UPDATED, // 변경됨
+        NOT_FOUND, // 해당 ID의 Todo 없음
+        FORBIDDEN, // 다른 사용자의 Todo
+        VERSION_CONFLICT // If-Match 버전 불일치
+    }
+
     // Todo 데이터를 관리하는 레포지토리. 데이터베이스와의 상호작용 담당.
     private final TodoRepository todoRepository;
+    // 스트리밍 중 처리한 엔티티를 영속성 컨텍스트에서 분리하기 위해 사용.
+    private final EntityManager entityManager;
+    // 사용자별 목록 버전. 변경이 있을 때마다 올려서 목록 ETag를 바꾼다.
+    private final TodoListVersions listVersions;
+    // 사용자별 목록 캐시. 목록 조회는 대부분 이 캐시에서 처리된다.
+    private final TodoListCache listCache;
+    // 다른 노드에 목록 변경을 알리는 무효화 버스.
+    private final CacheInvalidationBus invalidationBus;
+    // 델타 동기화용 삭제 기록과 사용자 변경 순번.
+    private final TodoTombstoneRepository tombstoneRepository;
+    private final TodoChangeSequence changeSequence;
+    // 변경 이벤트를 사용자의 SSE 연결로 보내는 브로커.
+    private final TodoEventBroker eventBroker;
+    // 읽기 복제본 라우팅. 변경한 사용자의 읽기는 잠시 주 DB에서 처리한다.
+    private final ReadRouting readRouting;
+    // 샤드 라우팅. 트랜잭션마다 첫 문을 실행하기 전에 사용자의 샤드를 지정한다.
+    private final ShardRouting shardRouting;
+    // 일괄 생성 시 영속성 컨텍스트를 비우는 단위 (JDBC 배치 크기와 같음).
+    private final int batchSize;
 
-    // 생성자 주입을 통해 TodoRepository를 초기화.
-    public TodoService(TodoRepository todoRepository) {
+    // 생성자 주입을 통해 의존성 초기화.
+    public TodoService(TodoRepository todoRepository, EntityManager entityManager,
+                       TodoListVersions listVersions, TodoListCache listCache,
+                       CacheInvalidationBus invalidationBus,
+                       TodoTombstoneRepository tombstoneRepository, TodoChangeSequence changeSequence,
+                       TodoEventBroker eventBroker, ReadRouting readRouting, ShardRouting shardRouting,
+                       @Value("${JPA_BATCH_SIZE:50}") int batchSize) {
         this.todoRepository = todoRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.changeSequence = changeSequence;
+        this.entityManager = entityManager;
+        this.listVersions = listVersions;
+        this.listCache = listCache;
+        this.invalidationBus = invalidationBus;
+        this.eventBroker = eventBroker;
+        this.readRouting = readRouting;
+        this.shardRouting = shardRouting;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * 사용자의 모든 Todo 항목을 조회. 캐시에 현재 버전의 목록이 있으면 DB를 조회하지 않는다.
+     * 반환된 목록과 항목은 여러 요청이 공유하므로 수정하면 안 된다.
+     *
+     * @param userId 사용자의 고유 ID
+     * @return 변경할 수 없는 Todo 항목 리스트
+     */
+    public List<Todo> findAll(Long userId) {
+        // 버전을 먼저 읽어야 조회 중 변경된 목록이 새 버전으로 저장되지 않음
+        return listCache.get(userId, listVersions.current(userId), this::loadDetached);
     }
 
     /**
      * 주어진 사용자 ID와 완료 상태에 따라 Todo 항목을 조회.
+     * 캐시된 전체 목록을 걸러서 반환하므로 완료 상태별로 따로 조회하지 않는다.
      *
      * @param userId 사용자의 고유 ID
      * @param isCompleted 완료 상태 (true: 완료된 항목, false: 미완료 항목)
@@ -26,11 +107,318 @@ public class TodoService {
     public List<Todo> findByUserAndCompletionStatus(Long userId, boolean isCompleted) {
         try {
             // 사용자 ID와 완료 상태를 기준으로 Todo 항목 조회.
-            return todoRepository.findByUserIdAndIsCompleted(userId, isCompleted);
+            return findAll(userId).stream()
+                    .filter(todo -> Boolean.valueOf(isCompleted).equals(todo.getIsCompleted()))
+                    .toList();
         } catch (Exception e) {
             // 예외 발생 시 런타임 예외로 래핑하여 호출자에게 전달.
             throw new RuntimeException("Error retrieving todos by status", e);
         }
     }
-}
 
+    /**
+     * 키셋 페이지 조회. (createdAt, id) 오름차순으로 커서 이후 항목을 limit 개까지 반환.
+     * 다음 페이지 존재 여부는 limit + 1 개를 조회하여 판단한다.
+     *
+     * @param userId 사용자의 고유 ID
+     * @param isCompleted 완료 상태 필터 (null이면 전체)
+     * @param cursor 이전 페이지의 커서 (null이면 첫 페이지)
+     * @param limit 페이지 크기
+     * @return 페이지 항목과 다음 페이지 커서
+     */
+    @Transactional(readOnly = true)
+    public TodoPage findPage(Long userId, Boolean isCompleted, TodoCursor cursor, int limit) {
+        shardRouting.route(userId);
+        return readRouting.read(userId, () -> loadPage(userId, isCompleted, cursor, limit));
+    }
+
+    // 키셋 페이지 조회 (limit + 1 개).
+    private TodoPage loadPage(Long userId, Boolean isCompleted, TodoCursor cursor, int limit) {
+        Limit fetchLimit = Limit.of(limit + 1);
+        List<Todo> rows;
+        if (isCompleted == null) {
+            rows = cursor == null
+                    ? todoRepository.findFirstPage(userId, fetchLimit)
+                    : todoRepository.findPageAfter(userId, cursor.getCreatedAt(), cursor.getId(), fetchLimit);
+        } else {
+            rows = cursor == null
+                    ? todoRepository.findFirstPageByStatus(userId, isCompleted, fetchLimit)
+                    : todoRepository.findPageAfterByStatus(userId, isCompleted, cursor.getCreatedAt(), cursor.getId(), fetchLimit);
+        }
+
+        if (rows.size() <= limit) {
+            return new TodoPage(rows, null); // 마지막 페이지
+        }
+        List<Todo> items = rows.subList(0, limit);
+        return new TodoPage(items, TodoCursor.after(items.get(limit - 1)).encode());
+    }
+
+    /**
+     * 사용자의 Todo를 하나씩 읽어 consumer에 전달.
+     * 읽기 전용 트랜잭션에서 DB 커서로 읽고, 전달한 엔티티는 바로 분리(detach)하여
+     * 항목 수와 관계없이 메모리 사용량이 일정하도록 한다.
+     *
+     * @param userId 사용자의 고유 ID
+     * @param consumer 각 Todo를 처리할 함수 (예: 응답 스트림에 기록)
+     */
+    @Transactional(readOnly = true)
+    public void streamTodos(Long userId, Consumer<Todo> consumer) {
+        shardRouting.route(userId);
+        readRouting.read(userId, () -> {
+            try (Stream<Todo> todos = todoRepository.streamByUserId(userId)) {
+                todos.forEach(todo -> {
+                    consumer.accept(todo);
+                    entityManager.detach(todo);
+                });
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 새 Todo 항목 저장.
+     *
+     * @param userId 소유자 사용자 ID
+     * @param todo 저장할 Todo
+     * @return 저장된 Todo
+     */
+    @Transactional
+    public Todo create(Long userId, Todo todo) {
+        shardRouting.route(userId);
+        todo.setUserId(userId);
+        todo.setChangeSeq(nextChangeSeq(userId));
+        Todo saved = todoRepository.save(todo);
+        changed(userId, TodoEvent.created(saved.getId()));
+        return saved;
+    }
+
+    /**
+     * 여러 Todo 항목을 한 트랜잭션에서 저장. (다른 도구에서 가져오기 등)
+     * 변경 순번은 한 번만 올리고, INSERT는 JDBC 배치로 보낸다.
+     * 배치 크기만큼 저장할 때마다 영속성 컨텍스트를 비워 항목 수와 관계없이 메모리 사용량이 일정하다.
+     *
+     * @param userId 소유자 사용자 ID
+     * @param todos 저장할 Todo 목록 (요청에 담긴 ID는 무시하고 새로 할당)
+     * @return 저장된 Todo 목록 (영속성 컨텍스트에서 분리됨)
+     * @throws IllegalArgumentException 항목이 최대 개수를 넘거나 null 항목이 있는 경우
+     */
+    @Transactional
+    public List<Todo> createAll(Long userId, List<Todo> todos) {
+        if (todos == null || todos.isEmpty()) {
+            return List.of();
+        }
+        if (todos.size() > MAX_BATCH_TODOS) {
+            throw new IllegalArgumentException("Too many todos: " + todos.size() + " (max " + MAX_BATCH_TODOS + ")");
+        }
+        if (todos.contains(null)) {
+            throw new IllegalArgumentException("Todo must not be null");
+        }
+
+        shardRouting.route(userId);
+        long changeSeq = nextChangeSeq(userId);
+        List<Long> ids = new ArrayList<>(todos.size());
+        for (int i = 0; i < todos.size(); i++) {
+            Todo todo = todos.get(i);
+            todo.setId(null); // 기존 ID로 병합(merge)하지 않고 항상 새로 저장
+            todo.setUserId(userId);
+            todo.setChangeSeq(changeSeq);
+            entityManager.persist(todo);
+            ids.add(todo.getId());
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush(); // 배치 크기만큼 모인 INSERT 전송
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // 항목이 많으면 ID 목록 대신 대상을 특정하지 않는 이벤트로 알림
+        changed(userId, ids.size() <= MAX_BULK_IDS ? TodoEvent.created(ids) : TodoEvent.changed());
+        return todos;
+    }
+
+    /**
+     * Todo 항목 삭제. 조회 없이 소유자 조건이 포함된 DELETE 문 하나로 처리.
+     * 델타 동기화 클라이언트를 위해 삭제 직전에 삭제 기록(tombstone)을 남긴다.
+     *
+     * @param userId 사용자의 고유 ID
+     * @param id Todo ID
+     * @return 변경 결과
+     */
+    @Transactional
+    public MutationResult delete(Long userId, Long id) {
+        shardRouting.route(userId);
+        tombstoneRepository.insertForIds(userId, List.of(id), nextChangeSeq(userId), LocalDateTime.now());
+        if (todoRepository.deleteByIdAndUserId(id, userId) == 1) {
+            changed(userId, TodoEvent.deleted(List.of(id)));
+            return MutationResult.UPDATED;
+        }
+        return todoRepository.existsById(id) ? MutationResult.FORBIDDEN : MutationResult.NOT_FOUND;
+    }
+
+    /**
+     * 사용자의 완료된 Todo를 모두 삭제. 항목 수와 관계없이 DELETE 문 하나로 처리.
+     *
+     * @param userId 사용자의 고유 ID
+     * @return 삭제된 항목 수
+     */
+    @Transactional
+    public int deleteCompleted(Long userId) {
+        shardRouting.route(userId);
+        tombstoneRepository.insertForCompleted(userId, nextChangeSeq(userId), LocalDateTime.now());
+        return bumpIfChanged(userId, todoRepository.deleteCompletedByUserId(userId), TodoEvent.changed());
+    }
+
+    /**
+     * 사용자의 모든 Todo를 완료 또는 미완료로 변경.
+     *
+     * @param userId 사용자의 고유 ID
+     * @param isCompleted 설정할 완료 여부
+     * @return 변경된 항목 수
+     */
+    @Transactional
+    public int setAllCompleted(Long userId, boolean isCompleted) {
+        shardRouting.route(userId);
+        return bumpIfChanged(userId, todoRepository.updateCompletionByUserId(userId, isCompleted, nextChangeSeq(userId)),
+                TodoEvent.changed());
+    }
+
+    /**
+     * 지정한 Todo들을 삭제. 사용자가 소유하지 않은 ID는 무시된다.
+     *
+     * @param userId 사용자의 고유 ID
+     * @param ids 삭제할 Todo ID 목록
+     * @return 삭제된 항목 수
+     * @throws IllegalArgumentException ID 목록이 최대 개수를 넘는 경우
+     */
+    @Transactional
+    public int deleteByIds(Long userId, Collection<Long> ids) {
+        Collection<Long> targets = normalizeIds(ids);
+        if (targets.isEmpty()) {
+            return 0;
+        }
+        shardRouting.route(userId);
+        tombstoneRepository.insertForIds(userId, targets, nextChangeSeq(userId), LocalDateTime.now());
+        return bumpIfChanged(userId, todoRepository.deleteByUserIdAndIdIn(userId, targets), TodoEvent.deleted(targets));
+    }
+
+    /**
+     * 지정한 Todo들의 완료 여부를 변경. 사용자가 소유하지 않은 ID는 무시된다.
+     *
+     * @param userId 사용자의 고유 ID
+     * @param ids 변경할 Todo ID 목록
+     * @param isCompleted 설정할 완료 여부
+     * @return 변경된 항목 수
+     * @throws IllegalArgumentException ID 목록이 최대 개수를 넘는 경우
+     */
+    @Transactional
+    public int setCompletedByIds(Long userId, Collection<Long> ids, boolean isCompleted) {
+        Collection<Long> targets = normalizeIds(ids);
+        if (targets.isEmpty()) {
+            return 0;
+        }
+        shardRouting.route(userId);
+        return bumpIfChanged(userId, todoRepository.updateCompletionByUserIdAndIdIn(userId, targets, isCompleted,
+                nextChangeSeq(userId)), TodoEvent.updated(targets));
+    }
+
+    // 변경된 행이 있으면 목록 버전을 올리고 행 수를 그대로 반환.
+    private int bumpIfChanged(Long userId, int changed, TodoEvent event) {
+        if (changed > 0) {
+            changed(userId, event);
+        }
+        return changed;
+    }
+
+    // 사용자 목록이 바뀜: 캐시 항목을 제거하고 커밋 후 목록 버전을 올리며, 커밋과 함께 다른 노드에 알림.
+    // 커밋 전에 다시 적재된 항목은 이전 버전으로 저장되므로 버전이 오른 뒤에는 사용되지 않는다.
+    // 이 노드에 연결된 SSE 클라이언트에는 커밋 후 변경 이벤트를 보내고, 이후 잠시 이 사용자의 읽기는 주 DB에서 처리한다.
+    private void changed(Long userId, TodoEvent event) {
+        listCache.invalidate(userId);
+        listVersions.bump(userId);
+        invalidationBus.todoListChanged(userId);
+        eventBroker.publish(userId, event);
+        readRouting.recordWrite(userId);
+    }
+
+    // 사용자의 변경 순번을 올리고 새 값을 반환. 이 트랜잭션이 끝날 때까지 같은 사용자의 다른 변경은 대기한다.
+    // (변경 없이 끝나는 요청도 순번을 소비하지만, 순번 사이의 빈 값은 동기화에 영향이 없다)
+    private long nextChangeSeq(Long userId) {
+        return changeSequence.next(userId);
+    }
+
+    // DB에서 사용자 목록을 읽고, 여러 요청이 공유할 수 있도록 영속성 컨텍스트에서 분리.
+    private List<Todo> loadDetached(Long userId) {
+        List<Todo> todos = shardRouting.forUser(userId,
+                () -> readRouting.read(userId, () -> todoRepository.findByUserId(userId)));
+        todos.forEach(entityManager::detach);
+        return todos;
+    }
+
+    // null과 중복을 제거하고 최대 개수를 검사.
+    private static Collection<Long> normalizeIds(Collection<Long> ids) {
+        if (ids == null) {
+            return List.of();
+        }
+        LinkedHashSet<Long> targets = new LinkedHashSet<>(ids);
+        targets.remove(null);
+        if (targets.size() > MAX_BULK_IDS) {
+            throw new IllegalArgumentException("Too many ids: " + targets.size() + " (max " + MAX_BULK_IDS + ")");
+        }
+        return targets;
+    }
+
+    /**
+     * 사용자가 소유한 Todo 하나를 조회.
+     *
+     * @param userId 사용자의 고유 ID
+     * @param id Todo ID
+     * @return 소유한 Todo (없거나 다른 사용자의 항목이면 빈 Optional)
+     */
+    @Transactional(readOnly = true)
+    public Optional<Todo> findOwned(Long userId, Long id) {
+        shardRouting.route(userId);
+        return readRouting.read(userId, () -> todoRepository.findByIdAndUserId(id, userId));
+    }
+
+    /**
+     * 완료 상태 토글. 조회 없이 소유자 조건이 포함된 UPDATE 문 하나로 처리하므로
+     * 여러 기기에서 동시에 토글해도 변경이 유실되지 않는다.
+     *
+     * @param userId 사용자의 고유 ID
+     * @param id Todo ID
+     * @return 변경 결과
+     */
+    @Transactional
+    public MutationResult toggleCompletion(Long userId, Long id) {
+        shardRouting.route(userId);
+        if (todoRepository.toggleCompletion(id, userId, nextChangeSeq(userId)) == 1) {
+            changed(userId, TodoEvent.updated(List.of(id)));
+            return MutationResult.UPDATED;
+        }
+        return todoRepository.existsById(id) ? MutationResult.FORBIDDEN : MutationResult.NOT_FOUND;
+    }
+
+    /**
+     * 내용과 완료 여부 수정. expectedVersion이 주어지면 버전이 같을 때만 수정한다.
+     *
+     * @param userId 사용자의 고유 ID
+     * @param id Todo ID
+     * @param task 새 내용
+     * @param isCompleted 새 완료 여부
+     * @param expectedVersion 클라이언트가 알고 있는 버전 (null이면 검사하지 않음)
+     * @return 변경 결과
+     */
+    @Transactional
+    public MutationResult update(Long userId, Long id, String task, Boolean isCompleted, Long expectedVersion) {
+        shardRouting.route(userId);
+        if (todoRepository.updateContent(id, userId, task, isCompleted, expectedVersion, nextChangeSeq(userId)) == 1) {
+            changed(userId, TodoEvent.updated(List.of(id)));
+            return MutationResult.UPDATED;
+        }
+        if (todoRepository.existsByIdAndUserId(id, userId)) {
+            return MutationResult.VERSION_CONFLICT;
+        }
+        return todoRepository.existsById(id) ? MutationResult.FORBIDDEN : MutationResult.NOT_FOUND;
+    }
+}
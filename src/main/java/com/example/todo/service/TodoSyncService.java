@@ -0,0 +1,102 @@
+package com.example.todo.service;
+
+import com.example.todo.dto.SyncToken;
+import com.example.todo.dto.TodoChanges;
+import com.example.todo.entity.Todo;
+import com.example.todo.replica.ReadRouting;
+import com.example.todo.repository.TodoRepository;
+import com.example.todo.repository.TodoTombstoneRepository;
+import com.example.todo.shard.ShardRouting;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 델타 동기화 서비스.
+ * 클라이언트가 가진 토큰(사용자 변경 순번) 이후에 추가/수정/삭제된 Todo만 반환한다.
+ *
+ * 변경 순번은 사용자의 변경 순번 행을 잠그는 UPDATE로 발급되므로 같은 사용자의 순번은 커밋 순서와 같고,
+ * 응답 토큰은 항목을 읽기 전에 커밋된 순번으로 정하므로 동기화 사이의 변경이 누락되지 않는다.
+ * (토큰 이후에 커밋된 변경이 함께 반환될 수 있으나, 다음 동기화에서 한 번 더 받을 뿐이다)
+ */
+@Service
+public class TodoSyncService {
+
+    private final TodoRepository todoRepository; // 변경된 Todo 조회
+    private final TodoTombstoneRepository tombstoneRepository; // 삭제 기록 조회/정리
+    private final TodoChangeSequence changeSequence; // 사용자 변경 순번 조회
+    private final ReadRouting readRouting; // 변경 직후에는 주 DB에서 조회
+    private final ShardRouting shardRouting; // 사용자의 샤드에서 조회
+    private final Duration tokenTtl; // 토큰 유효 기간
+    private final Duration tombstoneRetention; // 삭제 기록 보관 기간
+
+    // 생성자 주입을 통해 의존성 초기화.
+    public TodoSyncService(TodoRepository todoRepository,
+                           TodoTombstoneRepository tombstoneRepository,
+                           TodoChangeSequence changeSequence,
+                           ReadRouting readRouting,
+                           ShardRouting shardRouting,
+                           @Value("${TODO_SYNC_TOKEN_TTL_DAYS:7}") long tokenTtlDays,
+                           @Value("${TODO_TOMBSTONE_RETENTION_DAYS:30}") long tombstoneRetentionDays) {
+        if (tombstoneRetentionDays <= tokenTtlDays) {
+            // 유효한 토큰 이후의 삭제 기록은 항상 남아 있어야 함
+            throw new IllegalArgumentException("TODO_TOMBSTONE_RETENTION_DAYS must be greater than TODO_SYNC_TOKEN_TTL_DAYS");
+        }
+        this.todoRepository = todoRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.changeSequence = changeSequence;
+        this.readRouting = readRouting;
+        this.shardRouting = shardRouting;
+        this.tokenTtl = Duration.ofDays(tokenTtlDays);
+        this.tombstoneRetention = Duration.ofDays(tombstoneRetentionDays);
+    }
+
+    /**
+     * 토큰 이후의 변경 조회.
+     * 토큰이 없거나 유효 기간이 지났으면 전체 목록을 reset으로 반환한다.
+     *
+     * @param userId 사용자의 고유 ID
+     * @param token 이전 응답의 토큰 (null이면 처음 동기화)
+     * @return 변경 목록과 다음 토큰
+     * @throws IllegalArgumentException 토큰 형식이 잘못된 경우
+     */
+    @Transactional(readOnly = true)
+    public TodoChanges changesSince(Long userId, String token) {
+        shardRouting.route(userId);
+        return readRouting.read(userId, () -> loadChanges(userId, token));
+    }
+
+    // 토큰 이후의 변경 조회 (읽기 전용 트랜잭션 안에서 호출).
+    private TodoChanges loadChanges(Long userId, String token) {
+        SyncToken since = token == null || token.isBlank() ? null : SyncToken.decode(token);
+        Instant now = Instant.now();
+
+        // 항목을 읽기 전에 현재 순번을 정해야 사이에 커밋된 변경이 다음 동기화에서 누락되지 않음
+        long current = changeSequence.current(userId);
+        String nextToken = new SyncToken(current, now).encode();
+
+        if (since == null || since.getIssuedAt().isBefore(now.minus(tokenTtl)) || since.getChangeSeq() > current) {
+            // 처음 동기화, 만료된 토큰, 다른 데이터베이스에서 발급된 토큰은 전체 목록으로 재설정
+            return new TodoChanges(todoRepository.findByUserId(userId), List.of(), nextToken, true);
+        }
+
+        List<Todo> changes = todoRepository.findByUserIdAndChangeSeqGreaterThanOrderByChangeSeq(userId, since.getChangeSeq());
+        List<Long> deleted = tombstoneRepository.findDeletedIdsSince(userId, since.getChangeSeq());
+        return new TodoChanges(changes, deleted, nextToken, false);
+    }
+
+    /**
+     * 보관 기간이 지난 삭제 기록을 주기적으로 삭제. 샤드마다 별도의 트랜잭션으로 정리한다.
+     */
+    @Scheduled(fixedDelayString = "${TODO_TOMBSTONE_CLEANUP_INTERVAL_MS:3600000}")
+    public void deleteExpiredTombstones() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(tombstoneRetention);
+        shardRouting.forEachShard(() -> tombstoneRepository.deleteOlderThan(cutoff));
+    }
+}
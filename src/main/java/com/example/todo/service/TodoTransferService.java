@@ -0,0 +1,259 @@
+package com.example.todo.service;
+
+import com.example.todo.dto.TodoImportProgress;
+import com.example.todo.entity.Todo;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator; // 값을 하나씩 읽는 스트리밍 파서
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter; // 값을 하나씩 기록
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * Todo 가져오기/내보내기 (NDJSON, CSV).
+ * 가져오기는 요청 본문을 Jackson 스트리밍 파서로 한 행씩 읽어 정해진 크기의 묶음마다 저장하고,
+ * 내보내기는 DB 커서로 읽은 행을 바로 기록한다. 둘 다 파일 크기와 관계없이 메모리 사용량이 일정하다.
+ */
+@Service
+public class TodoTransferService {
+
+    // 가져오기 결과에 담을 최대 행 오류 수. (나머지는 건너뛴 행 수에만 반영)
+    public static final int MAX_REPORTED_ERRORS = 100;
+    // todo.task 컬럼 길이.
+    private static final int MAX_TASK_LENGTH = 255;
+
+    /**
+     * 가져오기/내보내기 파일 형식.
+     */
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"), // 한 줄에 Todo JSON 하나
+        CSV("text/csv", "csv"); // 첫 행은 열 이름 (task, isCompleted, createdAt)
+
+        private final String mediaType;
+        private final String extension;
+
+        Format(String mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public String getMediaType() {
+            return mediaType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        /**
+         * 형식 이름(ndjson, csv)이나 미디어 타입(charset 등 파라미터 포함 가능)으로 형식 조회.
+         * @throws IllegalArgumentException 지원하지 않는 형식
+         */
+        public static Format of(String value) {
+            if (value != null) {
+                String name = value.split(";")[0].trim().toLowerCase(Locale.ROOT);
+                for (Format format : values()) {
+                    if (format.extension.equals(name) || format.mediaType.equals(name)) {
+                        return format;
+                    }
+                }
+            }
+            throw new IllegalArgumentException("Unsupported format: " + value);
+        }
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(TodoTransferService.class);
+
+    // 내보내기 CSV 열. 가져오기는 첫 행의 열 이름으로 매핑하므로 내보낸 파일을 그대로 가져올 수 있다. (id는 무시)
+    private static final CsvSchema CSV_EXPORT_SCHEMA = CsvSchema.builder()
+            .addColumn("id")
+            .addColumn("task")
+            .addColumn("isCompleted")
+            .addColumn("createdAt")
+            .build()
+            .withHeader();
+
+    private final TodoService todoService; // 묶음 저장 (묶음마다 트랜잭션 하나)
+    private final ObjectReader ndjsonReader;
+    private final ObjectWriter ndjsonWriter;
+    private final ObjectReader csvReader;
+    private final ObjectWriter csvWriter;
+    private final int chunkSize; // 한 트랜잭션에서 저장할 행 수
+
+    public TodoTransferService(TodoService todoService, ObjectMapper objectMapper,
+                               @Value("${TODO_IMPORT_CHUNK_SIZE:1000}") int chunkSize) {
+        this.todoService = todoService;
+        this.chunkSize = Math.max(1, Math.min(chunkSize, TodoService.MAX_BATCH_TODOS));
+
+        // 다른 도구에서 내보낸 파일의 알 수 없는 필드/열은 무시
+        this.ndjsonReader = objectMapper.readerFor(Todo.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.ndjsonWriter = objectMapper.writerFor(Todo.class)
+                .withRootValueSeparator("\n")
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET); // 응답 스트림은 호출자가 닫음
+
+        CsvMapper csvMapper = CsvMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS) // createdAt은 ISO-8601 문자열
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL) // 빈 칸은 값 없음
+                .enable(CsvParser.Feature.TRIM_SPACES)
+                .build();
+        this.csvReader = csvMapper.readerFor(Todo.class)
+                .with(CsvSchema.emptySchema().withHeader()); // 첫 행의 열 이름으로 매핑
+        this.csvWriter = csvMapper.writerFor(Todo.class)
+                .with(CSV_EXPORT_SCHEMA)
+                .with(JsonGenerator.Feature.IGNORE_UNKNOWN) // 스키마에 없는 속성(userId 등)은 기록하지 않음
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    /**
+     * 입력을 한 행씩 읽어 검증하고 chunkSize개마다 한 트랜잭션으로 저장.
+     * 검증에 실패한 행은 건너뛰고, 형식 오류나 저장 오류가 나면 그때까지 저장한 행을 유지한 채 중단한다.
+     *
+     * @param userId 소유자 사용자 ID
+     * @param input 가져올 파일 내용
+     * @param format 파일 형식
+     * @param progress 묶음 하나를 저장할 때마다 호출 (중간 진행 상황)
+     * @return 최종 결과 (done=true)
+     */
+    public TodoImportProgress importTodos(Long userId, InputStream input, Format format,
+                                          Consumer<TodoImportProgress> progress) {
+        long processed = 0;
+        long imported = 0;
+        long skipped = 0;
+        List<String> errors = new ArrayList<>();
+        List<Todo> chunk = new ArrayList<>(chunkSize);
+        String error = null;
+
+        ObjectReader reader = format == Format.CSV ? csvReader : ndjsonReader;
+        try (MappingIterator<Todo> rows = reader.readValues(input)) {
+            while (rows.hasNextValue()) {
+                processed++;
+                String invalid;
+                try {
+                    Todo todo = rows.nextValue();
+                    invalid = validate(todo);
+                    if (invalid == null) {
+                        chunk.add(todo);
+                    }
+                } catch (JsonMappingException e) {
+                    invalid = e.getOriginalMessage(); // 값 형식 오류는 그 행만 건너뜀
+                }
+                if (invalid != null) {
+                    skipped++;
+                    if (errors.size() < MAX_REPORTED_ERRORS) {
+                        errors.add("row " + processed + ": " + invalid);
+                    }
+                }
+
+                if (chunk.size() == chunkSize) {
+                    imported += save(userId, chunk);
+                    progress.accept(new TodoImportProgress(processed, imported, skipped, false, null, null));
+                }
+            }
+        } catch (IOException e) {
+            // 문법 오류나 연결 종료: 이미 읽은 행까지만 저장
+            error = "Invalid " + format.getExtension() + " input after row " + processed + ": " + e.getMessage();
+        } catch (DataAccessException e) {
+            // 묶음 저장 실패: 그 묶음은 롤백되었으므로 버리고 중단 (이전 묶음은 유지)
+            error = saveFailed(userId, imported, e);
+            chunk.clear();
+        }
+
+        try {
+            imported += save(userId, chunk);
+        } catch (DataAccessException e) {
+            String saveError = saveFailed(userId, imported, e);
+            if (error == null) {
+                error = saveError; // 앞서 중단된 원인(형식 오류)이 있으면 그 오류를 유지
+            }
+        }
+        return new TodoImportProgress(processed, imported, skipped, true, errors, error);
+    }
+
+    /**
+     * 사용자의 Todo를 DB 커서로 읽어 그대로 기록. (읽기 전용 트랜잭션 하나)
+     *
+     * @param userId 사용자의 고유 ID
+     * @param output 기록할 스트림 (닫지 않음)
+     * @param format 파일 형식
+     */
+    public void exportTodos(Long userId, OutputStream output, Format format) throws IOException {
+        try (SequenceWriter writer = (format == Format.CSV ? csvWriter : ndjsonWriter).writeValues(output)) {
+            todoService.streamTodos(userId, todo -> write(writer, todo));
+        }
+        if (format == Format.NDJSON) {
+            output.write('\n'); // 마지막 줄 끝
+        }
+    }
+
+    // 저장 실패를 기록하고 응답에 담을 오류 메시지를 반환.
+    private static String saveFailed(Long userId, long imported, DataAccessException e) {
+        log.error("Failed to import todos for user {}", userId, e);
+        return "Failed to save todos after row " + imported;
+    }
+
+    // 묶음을 한 트랜잭션으로 저장하고 비움.
+    private int save(Long userId, List<Todo> chunk) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        int saved = todoService.createAll(userId, chunk).size();
+        chunk.clear();
+        return saved;
+    }
+
+    // 행 검증과 기본값 설정. 문제가 있으면 오류 메시지, 없으면 null.
+    private static String validate(Todo todo) {
+        if (todo == null) {
+            return "empty row";
+        }
+        if (todo.getTask() == null || todo.getTask().isBlank()) {
+            return "task is required";
+        }
+        if (todo.getTask().length() > MAX_TASK_LENGTH) {
+            return "task is longer than " + MAX_TASK_LENGTH + " characters";
+        }
+        if (todo.getIsCompleted() == null) {
+            todo.setIsCompleted(false);
+        }
+        // 원본의 생성 시각을 유지 (DB 정밀도에 맞춰 자름)
+        todo.setCreatedAt(todo.getCreatedAt() == null
+                ? LocalDateTime.now().truncatedTo(ChronoUnit.MICROS)
+                : todo.getCreatedAt().truncatedTo(ChronoUnit.MICROS));
+        return null;
+    }
+
+    // 내보내기 스트림에 Todo 하나를 기록.
+    private static void write(SequenceWriter writer, Todo todo) {
+        try {
+            writer.write(todo);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // 클라이언트 연결 종료 등으로 쓰기 실패 시 내보내기 중단
+        }
+    }
+}
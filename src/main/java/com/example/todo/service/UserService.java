@@ -3,8 +3,12 @@ package com.example.todo.service;
 import com.example.todo.dto.AuthRequest;
 import com.example.todo.dto.UserRequest;
 import com.example.todo.entity.User;
+import com.example.todo.invalidation.CacheInvalidationBus;
 import com.example.todo.repository.UserRepository;
+import com.example.todo.security.AuthenticatedUser;
 import com.example.todo.security.JwtUtil;
+import com.example.todo.security.UserCache;
+import com.example.todo.shard.ShardRouting;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -16,12 +20,19 @@ public class UserService {
     private final UserRepository userRepository; // 사용자 데이터베이스 액세스
     private final PasswordEncoder passwordEncoder; // 비밀번호 암호화 및 비교
     private final JwtUtil jwtUtil; // JWT 생성 및 처리
+    private final UserCache userCache; // 사용자 조회 캐시
+    private final CacheInvalidationBus invalidationBus; // 다른 노드의 사용자 캐시 무효화
+    private final ShardRouting shardRouting; // 새 사용자의 Todo 샤드 배정
 
     // 생성자를 통해 의존성 주입
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtUtil jwtUtil) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtUtil jwtUtil, UserCache userCache,
+                       CacheInvalidationBus invalidationBus, ShardRouting shardRouting) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtUtil = jwtUtil;
+        this.userCache = userCache;
+        this.invalidationBus = invalidationBus;
+        this.shardRouting = shardRouting;
     }
 
     /**
@@ -31,7 +42,7 @@ public class UserService {
      */
     public void register(UserRequest userRequest) {
         // 사용자명 중복 검사
-        if (userRepository.findByUsername(userRequest.getUsername()).isPresent()) {
+        if (userCache.findByUsername(userRequest.getUsername()).isPresent()) {
             throw new IllegalArgumentException("Username already exists"); // 중복 시 예외 발생
         }
 
@@ -42,6 +53,9 @@ public class UserService {
         user.setRole("USER"); // 기본 역할 설정
 
         userRepository.save(user); // 데이터베이스에 사용자 저장
+        shardRouting.placeNewUser(user.getId()); // Todo를 저장할 샤드 배정
+        userCache.invalidate(user.getUsername()); // 캐시된 이전 항목 제거
+        invalidationBus.userChanged(user.getUsername()); // 다른 노드의 캐시도 제거
     }
 
     /**
@@ -51,8 +65,8 @@ public class UserService {
      * @return JWT 토큰 (성공 시) 또는 null (실패 시)
      */
     public String authenticate(AuthRequest authRequest) {
-        // 사용자명으로 사용자 조회
-        Optional<User> userOptional = userRepository.findByUsername(authRequest.getUsername());
+        // 사용자명으로 사용자 조회 (캐시 경유)
+        Optional<User> userOptional = userCache.findByUsername(authRequest.getUsername());
 
         // 사용자 존재 여부 확인
         if (userOptional.isPresent()) {
@@ -61,7 +75,7 @@ public class UserService {
             // 입력된 비밀번호가 저장된 해시 비밀번호와 일치하는지 확인
             if (passwordEncoder.matches(authRequest.getPassword(), user.getPassword())) {
                 // 인증 성공 시 JWT 토큰 생성 및 반환
-                return jwtUtil.generateToken(user.getUsername());
+                return jwtUtil.generateToken(AuthenticatedUser.from(user));
             }
         }
 
@@ -0,0 +1,17 @@
+package com.example.todo.shard;
+
+/**
+ * 샤드 하나의 접속 정보.
+ *
+ * @param index 샤드 번호 (0은 기본 데이터베이스)
+ * @param url JDBC URL
+ * @param username 사용자 이름
+ * @param password 비밀번호
+ */
+public record ShardDatabase(int index, String url, String username, String password) {
+
+    @Override
+    public String toString() {
+        return "ShardDatabase[index=" + index + ", url=" + url + "]"; // 비밀번호는 로그에 남기지 않음
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.todo.shard;
+
+import com.github.benmanes.caffeine.cache.Cache; // 사용자별 샤드 위치 캐시
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 사용자별 Todo 샤드 위치 (기본 데이터베이스의 users.todo_shard).
+ * 위치가 없는(NULL) 사용자는 기본 데이터베이스(샤드 0)에 있다. 새 사용자는 가입할 때 링이 정한 샤드에 배정되고,
+ * 기존 사용자는 재배치 도구(ShardRebalancer)가 링의 샤드로 옮기면서 위치를 바꾼다.
+ *
+ * 조회는 애플리케이션 트랜잭션과 별도의 기본 데이터베이스 커넥션으로 실행하므로, 트랜잭션의 첫 문 전에 호출해도
+ * 트랜잭션이 기본 데이터베이스에 묶이지 않는다. 조회한 위치는 캐시하며, 사용자를 옮기면 무효화 버스로 다른 노드의 캐시도 비운다.
+ */
+public class ShardDirectory {
+
+    private final JdbcTemplate jdbcTemplate; // 기본 데이터베이스 커넥션 풀 (자동 커밋)
+    private final ShardRing ring; // 새 사용자 배정과 재배치 기준
+    private final Cache<Long, Integer> placements; // 사용자 ID -> 샤드 번호
+
+    public ShardDirectory(DataSource directory, ShardRing ring, long maxSize, Duration ttl) {
+        this.jdbcTemplate = new JdbcTemplate(directory);
+        this.ring = ring;
+        this.placements = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * 사용자의 Todo가 있는 샤드 번호.
+     * @param userId 사용자 ID
+     */
+    public int shardOf(Long userId) {
+        return placements.get(userId, this::load);
+    }
+
+    /**
+     * 링이 사용자에게 정한 샤드 번호. (재배치 후 사용자가 있어야 할 샤드)
+     * @param userId 사용자 ID
+     */
+    public int ringShard(Long userId) {
+        return ring.shardFor(userId);
+    }
+
+    /**
+     * 사용자의 샤드 위치를 변경. 사용자의 Todo가 이미 그 샤드에 있을 때만 호출한다.
+     * @param userId 사용자 ID
+     * @param shard 샤드 번호
+     */
+    public void assign(Long userId, int shard) {
+        jdbcTemplate.update("UPDATE users SET todo_shard = ? WHERE id = ?", shard, userId);
+        placements.put(userId, shard);
+    }
+
+    /**
+     * 캐시된 위치를 버림.
+     * @param userId 사용자 ID
+     */
+    public void evict(Long userId) {
+        placements.invalidate(userId);
+    }
+
+    /**
+     * ID 순서로 사용자들의 샤드 위치 조회. (재배치 대상 탐색)
+     * @param afterId 이 ID 다음 사용자부터
+     * @param limit 최대 사용자 수
+     * @return 사용자 ID -> 샤드 번호 (ID 오름차순)
+     */
+    public Map<Long, Integer> placements(long afterId, int limit) {
+        Map<Long, Integer> placements = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT id, todo_shard FROM users WHERE id > ? ORDER BY id LIMIT ?",
+                rs -> {
+                    placements.put(rs.getLong(1), rs.getInt(2)); // NULL은 0 (기본 데이터베이스)
+                }, afterId, limit);
+        return placements;
+    }
+
+    /**
+     * 샤드별 사용자 수.
+     */
+    public Map<Integer, Long> userCounts() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        jdbcTemplate.query("SELECT COALESCE(todo_shard, 0), COUNT(*) FROM users GROUP BY COALESCE(todo_shard, 0)",
+                rs -> {
+                    counts.put(rs.getInt(1), rs.getLong(2));
+                });
+        return counts;
+    }
+
+    // 기본 데이터베이스에서 위치 조회. 위치가 없거나 사용자가 없으면 0.
+    private int load(Long userId) {
+        List<Integer> shards = jdbcTemplate.queryForList("SELECT todo_shard FROM users WHERE id = ?", Integer.class, userId);
+        return shards.isEmpty() || shards.get(0) == null ? 0 : shards.get(0);
+    }
+}
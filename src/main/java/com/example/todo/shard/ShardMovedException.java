@@ -0,0 +1,25 @@
+package com.example.todo.shard;
+
+import org.springframework.dao.TransientDataAccessException; // 다시 시도하면 성공할 수 있는 데이터 접근 실패
+
+/**
+ * 사용자를 다른 샤드로 옮긴 뒤 이전 샤드에서 변경하려 할 때 발생.
+ * 이동 중 사용자 잠금을 기다리던 변경이나, 샤드 위치를 오래 캐시한 노드의 변경이 이 예외로 롤백된다.
+ * 샤딩을 사용하면 TodoService 호출은 위치를 다시 조회하여 자동으로 재시도된다. (ShardingConfig)
+ */
+public class ShardMovedException extends TransientDataAccessException {
+
+    private final Long userId; // 옮겨 간 사용자 ID
+
+    public ShardMovedException(Long userId) {
+        super("Todos of user " + userId + " were moved to another shard");
+        this.userId = userId;
+    }
+
+    /**
+     * 옮겨 간 사용자 ID.
+     */
+    public Long getUserId() {
+        return userId;
+    }
+}
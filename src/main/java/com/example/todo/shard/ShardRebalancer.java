@@ -0,0 +1,282 @@
+package com.example.todo.shard;
+
+import com.example.todo.event.TodoEvent; // SSE 변경 이벤트
+import com.example.todo.event.TodoEventBroker; // 이 노드의 SSE 연결
+import com.example.todo.invalidation.CacheInvalidationBus; // 다른 노드의 캐시 무효화
+import com.example.todo.service.TodoListCache; // 사용자별 목록 캐시
+import com.example.todo.service.TodoListVersions; // 사용자별 목록 버전
+import io.micrometer.core.instrument.Counter; // 옮긴 행 수, 실패 수
+import io.micrometer.core.instrument.MeterRegistry; // 메트릭 등록
+import io.micrometer.core.instrument.Timer; // 사용자 이동 시간
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 온라인 샤드 재배치 도구. 서비스를 멈추지 않고 사용자의 Todo 데이터를 다른 샤드로 옮긴다.
+ *
+ * 사용자 하나를 옮기는 순서:
+ * 1. 이전 샤드에서 사용자의 변경 순번 행(todo_owners)을 잠근다. Todo 변경은 같은 행을 잠그므로 이동이 끝날 때까지
+ *    이 사용자의 변경만 잠시 대기하고, 조회와 다른 사용자의 변경은 그대로 처리된다.
+ * 2. Todo, 삭제 기록, 변경 순번을 새 샤드에 복사하고 커밋한다. (Todo ID는 모든 샤드에서 고유하므로 그대로 복사)
+ * 3. 이전 샤드의 행을 지우고 변경 순번 행에 옮겨 간 샤드를 표시한 뒤 커밋한다. 대기하던 변경은
+ *    ShardMovedException으로 롤백되어 새 샤드에서 다시 실행된다.
+ * 4. 기본 데이터베이스의 위치를 바꾸고, 이 노드와 다른 노드의 위치/목록 캐시를 비운다.
+ *
+ * 3과 4 사이에 실패하면 이전 샤드의 표시가 남으므로, 같은 사용자를 다시 옮기면 4부터 이어서 완료한다.
+ */
+public class ShardRebalancer {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardRebalancer.class);
+    private static final int SCAN_PAGE_SIZE = 1000; // 재배치 대상을 찾을 때 한 번에 읽는 사용자 수
+
+    private final ShardRouter router; // 샤드 커넥션 풀
+    private final ShardDirectory directory; // 사용자별 샤드 위치
+    private final TodoListCache listCache;
+    private final TodoListVersions listVersions;
+    private final CacheInvalidationBus invalidationBus;
+    private final TodoEventBroker eventBroker; // 옮긴 사용자의 SSE 클라이언트가 목록을 다시 읽도록 알림
+    private final int batchSize; // 새 샤드에 INSERT를 보내는 배치 크기
+    private final Timer moveTimer; // 사용자 하나를 옮기는 데 걸린 시간
+    private final Counter movedRows; // 옮긴 Todo 행 수
+    private final Counter failures; // 실패한 이동 수
+
+    public ShardRebalancer(ShardRouter router, ShardDirectory directory,
+                           TodoListCache listCache, TodoListVersions listVersions,
+                           CacheInvalidationBus invalidationBus, TodoEventBroker eventBroker,
+                           MeterRegistry meterRegistry, int batchSize) {
+        this.router = router;
+        this.directory = directory;
+        this.listCache = listCache;
+        this.listVersions = listVersions;
+        this.invalidationBus = invalidationBus;
+        this.eventBroker = eventBroker;
+        this.batchSize = Math.max(1, batchSize);
+        this.moveTimer = Timer.builder("db.shard.moves")
+                .description("사용자 하나의 Todo를 다른 샤드로 옮기는 데 걸린 시간")
+                .register(meterRegistry);
+        this.movedRows = Counter.builder("db.shard.moved.rows")
+                .description("다른 샤드로 옮긴 Todo 행 수")
+                .register(meterRegistry);
+        this.failures = Counter.builder("db.shard.move.failures")
+                .description("실패한 사용자 이동 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 재배치 결과.
+     * @param moved 옮긴 사용자 수
+     * @param failed 옮기지 못한 사용자 수 (다시 실행하면 이어서 옮긴다)
+     */
+    public record Result(int moved, int failed) {
+    }
+
+    /**
+     * 링이 정한 샤드와 현재 위치가 다른 사용자를 모두 옮김. 샤드를 추가한 뒤 실행한다.
+     * 사용자마다 따로 옮기므로 실패한 사용자는 건너뛰고 계속하며, 다시 실행하면 남은 사용자만 옮긴다.
+     */
+    public Result rebalance() {
+        int moved = 0;
+        int failed = 0;
+        long afterId = 0;
+        Map<Long, Integer> page;
+        do {
+            page = directory.placements(afterId, SCAN_PAGE_SIZE);
+            for (Map.Entry<Long, Integer> placement : page.entrySet()) {
+                Long userId = placement.getKey();
+                afterId = userId;
+                int target = directory.ringShard(userId);
+                if (placement.getValue() == target) {
+                    continue;
+                }
+                try {
+                    if (moveUser(userId, target)) {
+                        moved++;
+                    }
+                } catch (DataAccessException e) {
+                    failed++; // moveUser가 로그와 메트릭을 남김
+                }
+            }
+        } while (page.size() == SCAN_PAGE_SIZE);
+        log.info("Shard rebalance finished: {} users moved, {} failed", moved, failed);
+        return new Result(moved, failed);
+    }
+
+    /**
+     * 사용자의 Todo 데이터를 다른 샤드로 옮김.
+     * @param userId 사용자 ID
+     * @param target 옮길 샤드 번호
+     * @return 옮겼으면 true, 이미 그 샤드에 있으면 false
+     * @throws IllegalArgumentException 없는 샤드 번호
+     * @throws DataAccessResourceFailureException 샤드 접근에 실패한 경우 (데이터는 이전 샤드에 그대로 있음)
+     */
+    public boolean moveUser(Long userId, int target) {
+        router.getShard(target); // 샤드 번호 확인
+        directory.evict(userId); // 캐시가 아닌 현재 위치에서 시작
+        int source = directory.shardOf(userId);
+        if (source == target) {
+            return false;
+        }
+
+        long started = System.nanoTime();
+        Integer movedTo;
+        try {
+            movedTo = copyAndFence(userId, source, target);
+        } catch (SQLException e) {
+            failures.increment();
+            log.warn("Failed to move todos of user {} from shard {} to shard {}: {}", userId, source, target, e.getMessage());
+            throw new DataAccessResourceFailureException(
+                    "Failed to move todos of user " + userId + " from shard " + source + " to shard " + target, e);
+        }
+
+        // 이전 샤드는 이미 막혔으므로, 여기서 실패하면 다시 옮길 때 위치 변경부터 이어서 완료
+        directory.assign(userId, movedTo);
+        listCache.invalidate(userId);
+        listVersions.bump(userId);
+        invalidationBus.todoShardChanged(userId);
+        invalidationBus.todoListChanged(userId);
+        eventBroker.publish(userId, TodoEvent.changed());
+        moveTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        log.info("Moved todos of user {} from shard {} to shard {}", userId, source, movedTo);
+
+        return movedTo == target || moveUser(userId, target); // 이전에 중단된 이동을 마쳤으면 원래 요청대로 다시 옮김
+    }
+
+    // 이전 샤드의 사용자 행을 잠근 채 새 샤드로 복사하고, 이전 샤드의 행을 지우고 막음.
+    // 사용자가 옮겨 간 샤드 번호를 반환. (이전에 중단된 이동이 있었으면 그 샤드)
+    private Integer copyAndFence(Long userId, int source, int target) throws SQLException {
+        try (Connection from = router.getShard(source).getConnection();
+             Connection to = router.getShard(target).getConnection()) {
+            from.setAutoCommit(false);
+            to.setAutoCommit(false);
+            try {
+                Owner owner = lockOwner(from, userId);
+                if (owner.movedTo() != null) {
+                    from.commit(); // 이미 막힌 샤드: 위치 변경만 남음
+                    return owner.movedTo();
+                }
+
+                // 새 샤드에 이전 시도가 남긴 행이 있으면 지우고 복사
+                for (String table : new String[]{"todo", "todo_tombstones", "todo_owners"}) {
+                    update(to, "DELETE FROM " + table + " WHERE user_id = ?", userId);
+                }
+                long rows = copyTodos(from, to, userId);
+                copyTombstones(from, to, userId);
+                update(to, "INSERT INTO todo_owners (user_id, change_seq) VALUES (?, ?)", userId, owner.changeSeq());
+                to.commit();
+
+                update(from, "UPDATE todo_owners SET moved_to = ? WHERE user_id = ?", target, userId);
+                update(from, "DELETE FROM todo WHERE user_id = ?", userId);
+                update(from, "DELETE FROM todo_tombstones WHERE user_id = ?", userId);
+                from.commit();
+                movedRows.increment(rows);
+                return target;
+            } catch (SQLException | RuntimeException e) {
+                rollbackQuietly(to);
+                rollbackQuietly(from);
+                throw e;
+            }
+        }
+    }
+
+    // 변경 순번 행을 잠그고 읽음. 아직 변경한 적이 없는 사용자는 행을 만들어 잠근다.
+    private Owner lockOwner(Connection from, Long userId) throws SQLException {
+        try (PreparedStatement select = from.prepareStatement(
+                "SELECT change_seq, moved_to FROM todo_owners WHERE user_id = ? FOR UPDATE")) {
+            select.setLong(1, userId);
+            try (ResultSet rs = select.executeQuery()) {
+                if (rs.next()) {
+                    long changeSeq = rs.getLong(1);
+                    int movedTo = rs.getInt(2);
+                    return new Owner(changeSeq, rs.wasNull() ? null : movedTo);
+                }
+            }
+        }
+        update(from, "INSERT INTO todo_owners (user_id, change_seq) VALUES (?, 0)", userId);
+        return new Owner(0L, null);
+    }
+
+    // 사용자의 Todo를 ID와 버전, 변경 순번까지 그대로 복사. 복사한 행 수를 반환.
+    private long copyTodos(Connection from, Connection to, Long userId) throws SQLException {
+        long rows = 0;
+        try (PreparedStatement select = from.prepareStatement(
+                "SELECT id, task, is_completed, created_at, version, change_seq FROM todo WHERE user_id = ?");
+             PreparedStatement insert = to.prepareStatement(
+                     "INSERT INTO todo (id, user_id, task, is_completed, created_at, version, change_seq) "
+                             + "VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            select.setLong(1, userId);
+            select.setFetchSize(batchSize); // 항목 수와 관계없이 메모리 사용량이 일정하도록 커서로 읽음
+            try (ResultSet rs = select.executeQuery()) {
+                while (rs.next()) {
+                    insert.setLong(1, rs.getLong(1));
+                    insert.setLong(2, userId);
+                    insert.setString(3, rs.getString(2));
+                    insert.setObject(4, rs.getObject(3));
+                    insert.setTimestamp(5, rs.getTimestamp(4));
+                    insert.setLong(6, rs.getLong(5));
+                    insert.setLong(7, rs.getLong(6));
+                    insert.addBatch();
+                    if (++rows % batchSize == 0) {
+                        insert.executeBatch();
+                    }
+                }
+            }
+            insert.executeBatch();
+        }
+        return rows;
+    }
+
+    // 델타 동기화 클라이언트가 삭제를 받을 수 있도록 삭제 기록도 복사. (기록 ID는 새 샤드에서 새로 발급)
+    private void copyTombstones(Connection from, Connection to, Long userId) throws SQLException {
+        try (PreparedStatement select = from.prepareStatement(
+                "SELECT todo_id, change_seq, deleted_at FROM todo_tombstones WHERE user_id = ?");
+             PreparedStatement insert = to.prepareStatement(
+                     "INSERT INTO todo_tombstones (todo_id, user_id, change_seq, deleted_at) VALUES (?, ?, ?, ?)")) {
+            select.setLong(1, userId);
+            select.setFetchSize(batchSize);
+            long rows = 0;
+            try (ResultSet rs = select.executeQuery()) {
+                while (rs.next()) {
+                    insert.setLong(1, rs.getLong(1));
+                    insert.setLong(2, userId);
+                    insert.setLong(3, rs.getLong(2));
+                    insert.setTimestamp(4, rs.getTimestamp(3));
+                    insert.addBatch();
+                    if (++rows % batchSize == 0) {
+                        insert.executeBatch();
+                    }
+                }
+            }
+            insert.executeBatch();
+        }
+    }
+
+    private static void update(Connection connection, String sql, Object... args) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < args.length; i++) {
+                statement.setObject(i + 1, args[i]);
+            }
+            statement.executeUpdate();
+        }
+    }
+
+    private static void rollbackQuietly(Connection connection) {
+        try {
+            connection.rollback();
+        } catch (SQLException ignored) {
+            // 원래 예외를 전달
+        }
+    }
+
+    // 이전 샤드의 변경 순번 행.
+    private record Owner(long changeSeq, Integer movedTo) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.todo.shard;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 사용자 ID를 샤드 번호로 대응시키는 일관된 해시(consistent hashing) 링.
+ * 샤드마다 가상 노드를 여러 개 링 위에 두고, 사용자 ID의 해시에서 시계 방향으로 처음 만나는 노드의 샤드를 고른다.
+ * 샤드를 추가하면 새 샤드의 가상 노드 앞 구간의 사용자만 새 샤드로 배정이 바뀌므로 옮길 사용자가 약 1/N로 줄어든다.
+ *
+ * 해시는 JVM이나 노드와 관계없이 같은 값이어야 하므로 String.hashCode 등 대신 고정된 64비트 혼합 함수를 사용한다.
+ */
+public class ShardRing {
+
+    private final int shardCount;
+    private final NavigableMap<Long, Integer> ring = new TreeMap<>(); // 가상 노드 위치 -> 샤드 번호
+
+    /**
+     * @param shardCount 샤드 수 (샤드 번호는 0부터 shardCount - 1)
+     * @param virtualNodes 샤드당 가상 노드 수 (많을수록 샤드별 사용자 수가 고르다)
+     */
+    public ShardRing(int shardCount, int virtualNodes) {
+        if (shardCount < 1 || virtualNodes < 1) {
+            throw new IllegalArgumentException("shardCount and virtualNodes must be positive");
+        }
+        this.shardCount = shardCount;
+        for (int shard = 0; shard < shardCount; shard++) {
+            for (int node = 0; node < virtualNodes; node++) {
+                // 위치가 겹치면 번호가 작은 샤드가 차지 (샤드를 추가해도 기존 노드 위치는 그대로)
+                ring.putIfAbsent(mix(((long) shard << 32) | node), shard);
+            }
+        }
+    }
+
+    /**
+     * 사용자를 배정할 샤드 번호.
+     * @param userId 사용자 ID
+     */
+    public int shardFor(long userId) {
+        Map.Entry<Long, Integer> node = ring.ceilingEntry(mix(userId ^ 0x9E3779B97F4A7C15L));
+        return (node != null ? node : ring.firstEntry()).getValue();
+    }
+
+    /**
+     * 샤드 수.
+     */
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    // 64비트 혼합 함수 (MurmurHash3 fmix64). 연속된 입력도 링 전체에 고르게 흩어진다.
+    static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.todo.shard;
+
+import com.zaxxer.hikari.HikariDataSource; // 샤드 커넥션 풀
+import io.micrometer.core.instrument.Counter; // 샤드별 커넥션 사용 횟수
+import io.micrometer.core.instrument.MeterRegistry; // 메트릭 등록
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy; // 첫 문 실행 시점에 커넥션 선택
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource; // 조회 키로 대상 DataSource 선택
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 샤드 커넥션 풀을 묶어 트랜잭션마다 사용자의 샤드 커넥션을 고르는 라우터.
+ *
+ * 애플리케이션은 getDataSource()의 LazyConnectionDataSourceProxy를 사용한다. 프록시는 실제 커넥션을
+ * 첫 문을 실행할 때 얻으므로, 트랜잭션 안에서 그 전에 ShardRouting.route(userId)로 지정한 샤드가 사용된다.
+ * 샤드를 지정하지 않은 작업(사용자, 리프레시 토큰 등)은 기본 데이터베이스(샤드 0)를 사용한다.
+ */
+public class ShardRouter implements AutoCloseable {
+
+    private final List<HikariDataSource> shards; // 샤드 번호 순서
+    private final Counter[] connections; // 샤드별로 얻은 커넥션 수
+    private final LazyConnectionDataSourceProxy dataSource; // 애플리케이션이 사용하는 DataSource
+
+    public ShardRouter(List<HikariDataSource> shards, MeterRegistry meterRegistry) {
+        this.shards = List.copyOf(shards);
+        this.connections = new Counter[shards.size()];
+        Map<Object, Object> targets = new HashMap<>();
+        for (int shard = 0; shard < shards.size(); shard++) {
+            targets.put(shard, shards.get(shard));
+            connections[shard] = Counter.builder("db.shard.connections")
+                    .description("샤드별로 트랜잭션이 사용한 커넥션 수")
+                    .tag("shard", String.valueOf(shard))
+                    .register(meterRegistry);
+        }
+
+        ShardDataSource routing = new ShardDataSource();
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(shards.get(0));
+        routing.setLenientFallback(false); // 없는 샤드 번호는 기본 데이터베이스로 보내지 않고 실패
+        routing.afterPropertiesSet();
+
+        this.dataSource = new LazyConnectionDataSourceProxy(routing);
+        this.dataSource.setDefaultAutoCommit(shards.get(0).isAutoCommit());
+    }
+
+    /**
+     * 애플리케이션이 사용할 DataSource.
+     */
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    /**
+     * 샤드의 커넥션 풀. 애플리케이션 트랜잭션과 별도로 샤드에 직접 접근할 때 사용한다. (위치 조회, 재배치)
+     * @param shard 샤드 번호
+     * @throws IllegalArgumentException 없는 샤드 번호
+     */
+    public HikariDataSource getShard(int shard) {
+        if (shard < 0 || shard >= shards.size()) {
+            throw new IllegalArgumentException("Unknown shard: " + shard);
+        }
+        return shards.get(shard);
+    }
+
+    /**
+     * 기본 데이터베이스를 포함한 샤드 수.
+     */
+    public int getShardCount() {
+        return shards.size();
+    }
+
+    @Override
+    public void close() {
+        shards.forEach(HikariDataSource::close);
+    }
+
+    // 현재 스레드에 지정된 샤드의 풀을 고르는 DataSource.
+    private final class ShardDataSource extends AbstractRoutingDataSource {
+
+        @Override
+        protected Object determineCurrentLookupKey() {
+            Integer shard = ShardRouting.current();
+            int index = shard != null ? shard : 0;
+            if (index >= 0 && index < connections.length) {
+                connections[index].increment(); // 없는 번호는 determineTargetDataSource에서 실패
+            }
+            return shard;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.todo.shard;
+
+import org.springframework.beans.factory.ObjectProvider; // 샤딩을 사용할 때만 등록되는 위치 디렉터리
+import org.springframework.beans.factory.annotation.Value; // application.properties 값 주입
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties; // 기본 데이터베이스(샤드 0) 접속 정보
+import org.springframework.stereotype.Component; // Spring 컴포넌트로 등록
+import org.springframework.transaction.support.TransactionSynchronization; // 트랜잭션 종료 후 콜백
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 사용자 ID 해시 샤딩 정책.
+ * 사용자의 Todo 데이터(todo, todo_tombstones, todo_owners)는 사용자가 배정된 샤드 한 곳에만 있고,
+ * 사용자/리프레시 토큰과 사용자별 샤드 위치(users.todo_shard)는 기본 데이터베이스(샤드 0)에 있다.
+ *
+ * Todo를 읽고 쓰는 서비스는 트랜잭션 안에서 첫 문을 실행하기 전에 route(userId)를 호출하거나,
+ * 트랜잭션 밖에서는 forUser(userId, ...)로 작업을 감싼다. 애플리케이션 DataSource는 첫 문을 실행할 때
+ * 현재 스레드에 지정된 샤드의 커넥션을 얻으므로, 한 트랜잭션은 한 샤드에서만 실행된다.
+ * SHARD_URLS가 비어 있으면 샤드는 기본 데이터베이스 하나뿐이며, 이때 이 클래스의 호출은 아무 일도 하지 않는다.
+ */
+@Component
+public class ShardRouting {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>(); // 현재 스레드가 사용할 샤드 번호
+
+    private final DataSourceProperties dataSourceProperties;
+    private final ObjectProvider<ShardDirectory> directory; // 사용자별 샤드 위치 (샤딩을 사용할 때만 있음)
+    private final List<String> shardUrls; // 추가 샤드 URL (샤드 1부터 설정 순서)
+    private final String username; // 추가 샤드 계정 (비어 있으면 기본 데이터베이스 계정)
+    private final String password;
+
+    public ShardRouting(DataSourceProperties dataSourceProperties,
+                        ObjectProvider<ShardDirectory> directory,
+                        @Value("${SHARD_URLS:}") String shardUrls,
+                        @Value("${SHARD_USERNAME:}") String username,
+                        @Value("${SHARD_PASSWORD:}") String password) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.directory = directory;
+        this.shardUrls = new ArrayList<>();
+        for (String url : shardUrls.split(",")) {
+            if (!url.isBlank()) {
+                this.shardUrls.add(url.trim());
+            }
+        }
+        this.username = username;
+        this.password = password;
+    }
+
+    /**
+     * 샤딩 사용 여부. (SHARD_URLS에 추가 샤드가 있는지)
+     */
+    public boolean isEnabled() {
+        return !shardUrls.isEmpty();
+    }
+
+    /**
+     * 기본 데이터베이스를 포함한 샤드 수.
+     */
+    public int getShardCount() {
+        return shardUrls.size() + 1;
+    }
+
+    /**
+     * 샤드별 접속 정보. 0번은 기본 데이터베이스(spring.datasource.*)이다.
+     */
+    public List<ShardDatabase> databases() {
+        List<ShardDatabase> databases = new ArrayList<>(getShardCount());
+        databases.add(new ShardDatabase(0, dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword()));
+        for (String url : shardUrls) {
+            // 샤드 계정을 따로 지정하지 않으면 기본 데이터베이스 계정 사용
+            databases.add(new ShardDatabase(databases.size(), url,
+                    username.isEmpty() ? dataSourceProperties.determineUsername() : username,
+                    username.isEmpty() ? dataSourceProperties.determinePassword() : password));
+        }
+        return databases;
+    }
+
+    /**
+     * 현재 트랜잭션을 사용자의 샤드로 보냄. 트랜잭션의 첫 문을 실행하기 전에 호출해야 하며,
+     * 지정한 샤드는 트랜잭션이 끝나면 해제된다.
+     * @param userId Todo 소유자 ID
+     * @throws IllegalStateException 트랜잭션 밖이거나, 트랜잭션이 이미 다른 샤드를 사용하는 경우
+     */
+    public void route(Long userId) {
+        if (!isEnabled()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Shard routing requires an active transaction");
+        }
+        int shard = directory.getObject().shardOf(userId);
+        Integer current = CURRENT.get();
+        if (current != null) {
+            checkSameShard(current, shard);
+            return;
+        }
+        CURRENT.set(shard);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                CURRENT.remove();
+            }
+        });
+    }
+
+    /**
+     * 사용자의 샤드에서 작업을 실행. 작업 안에서 시작하는 트랜잭션(저장소 호출 등)은 사용자의 샤드를 사용한다.
+     * @param userId Todo 소유자 ID
+     * @param work 실행할 작업
+     * @return 작업 결과
+     */
+    public <T> T forUser(Long userId, Supplier<T> work) {
+        return isEnabled() ? onShard(directory.getObject().shardOf(userId), work) : work.get();
+    }
+
+    /**
+     * 지정한 샤드에서 작업을 실행.
+     * @param shard 샤드 번호
+     * @param work 실행할 작업
+     * @return 작업 결과
+     */
+    public <T> T onShard(int shard, Supplier<T> work) {
+        Integer current = CURRENT.get();
+        if (current != null) {
+            checkSameShard(current, shard);
+            return work.get();
+        }
+        CURRENT.set(shard);
+        try {
+            return work.get();
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * 샤드마다 한 번씩 작업을 실행. (만료된 삭제 기록 정리 등 사용자 범위가 아닌 작업)
+     * 작업 안에서 시작하는 트랜잭션은 샤드마다 따로 실행된다.
+     * @param work 실행할 작업
+     */
+    public void forEachShard(Runnable work) {
+        for (int shard = 0; shard < getShardCount(); shard++) {
+            onShard(shard, () -> {
+                work.run();
+                return null;
+            });
+        }
+    }
+
+    /**
+     * 새로 가입한 사용자를 일관된 해시 링이 정한 샤드에 배정. 샤딩을 사용하지 않으면 아무 일도 하지 않는다.
+     * (배정하지 않은 사용자는 기본 데이터베이스를 사용하며, 재배치 도구가 링의 샤드로 옮긴다)
+     * @param userId 사용자 ID
+     */
+    public void placeNewUser(Long userId) {
+        if (isEnabled()) {
+            ShardDirectory shards = directory.getObject();
+            shards.assign(userId, shards.ringShard(userId));
+        }
+    }
+
+    /**
+     * 캐시된 사용자의 샤드 위치를 버림. 다음 조회에서 기본 데이터베이스의 위치를 다시 읽는다.
+     * @param userId 사용자 ID
+     */
+    public void evict(Long userId) {
+        if (isEnabled()) {
+            directory.getObject().evict(userId);
+        }
+    }
+
+    // 현재 스레드가 사용할 샤드 번호. 지정되지 않았으면 null (기본 데이터베이스).
+    static Integer current() {
+        return CURRENT.get();
+    }
+
+    // 한 트랜잭션(또는 작업)이 두 샤드를 사용하려 하면 실패.
+    private static void checkSameShard(int current, int shard) {
+        if (current != shard) {
+            throw new IllegalStateException("Already routed to shard " + current + ", cannot use shard " + shard);
+        }
+    }
+}
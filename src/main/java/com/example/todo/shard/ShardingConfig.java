@@ -0,0 +1,186 @@
+package com.example.todo.shard;
+
+import com.example.todo.event.TodoEventBroker;
+import com.example.todo.invalidation.CacheInvalidationBus;
+import com.example.todo.service.TodoListCache;
+import com.example.todo.service.TodoListVersions;
+import com.example.todo.service.TodoService;
+import com.zaxxer.hikari.HikariDataSource; // 커넥션 풀
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory; // 풀 메트릭 (hikaricp.*)
+import io.micrometer.core.instrument.MeterRegistry; // 메트릭 등록
+import org.aopalliance.intercept.MethodInterceptor;
+import org.flywaydb.core.Flyway; // 추가 샤드 스키마 마이그레이션
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.RootClassFilter;
+import org.springframework.aop.support.annotation.AnnotationMethodMatcher;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value; // application.properties 값 주입
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.flyway.FlywayProperties;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties; // 기본 데이터베이스 접속 정보
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder; // spring.datasource.hikari.*, spring.flyway.* 설정 적용
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.DatabaseDriver; // URL로 데이터베이스 종류 확인
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Todo 샤딩 설정. SHARD_URLS가 설정된 경우에만 적용된다.
+ * 기본 데이터베이스(샤드 0)와 추가 샤드마다 커넥션 풀을 만들고, 라우터의 DataSource를 애플리케이션의 유일한 DataSource로
+ * 등록하여 기본 DataSource 자동 설정을 대신한다. 추가 샤드의 스키마는 시작할 때 같은 Flyway 마이그레이션으로 맞춘다.
+ *
+ * 샤드마다 Todo ID 시퀀스 구간을 나눠(샤드 번호 x 2^40부터) 사용자를 옮겨도 ID가 겹치지 않는다.
+ * 읽기 복제본(REPLICA_URLS)과 reactive 스택은 지원하지 않는다.
+ */
+@Configuration
+@ConditionalOnExpression("!'${SHARD_URLS:}'.isBlank()")
+public class ShardingConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardingConfig.class);
+    static final long ID_RANGE = 1L << 40; // 샤드별 Todo ID 구간 크기
+    private static final int MOVED_RETRY_ATTEMPTS = 5; // 옮긴 사용자의 변경을 새 샤드에서 다시 실행하는 최대 횟수
+    private static final long MOVED_RETRY_BACKOFF_MS = 20; // 재시도 대기 시간 (시도마다 증가)
+
+    @Bean(destroyMethod = "close")
+    public ShardRouter shardRouter(DataSourceProperties properties,
+                                   Environment environment,
+                                   ShardRouting shardRouting,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${SHARD_CONNECTION_TIMEOUT_MS:30000}") long connectionTimeoutMs) {
+        if (!environment.getProperty("REPLICA_URLS", "").isBlank()) {
+            throw new IllegalStateException("SHARD_URLS cannot be combined with REPLICA_URLS");
+        }
+        if ("reactive".equalsIgnoreCase(environment.getProperty("spring.main.web-application-type", ""))) {
+            throw new IllegalStateException("SHARD_URLS is not supported by the reactive web stack");
+        }
+        Binder binder = Binder.get(environment);
+        FlywayProperties flyway = binder.bind("spring.flyway", FlywayProperties.class).orElseGet(FlywayProperties::new);
+
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        configure(primary, binder, meterRegistry);
+        primary.setPoolName("shard-0");
+
+        List<HikariDataSource> shards = new ArrayList<>();
+        shards.add(primary);
+        for (ShardDatabase database : shardRouting.databases().subList(1, shardRouting.getShardCount())) {
+            HikariDataSource shard = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(database.url())
+                    .username(database.username())
+                    .password(database.password())
+                    .build();
+            configure(shard, binder, meterRegistry);
+            shard.setPoolName("shard-" + database.index());
+            shard.setConnectionTimeout(connectionTimeoutMs);
+            shards.add(shard);
+            migrate(shard, database, flyway);
+        }
+
+        return new ShardRouter(shards, meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 DataSource. 트랜잭션마다 지정된 사용자의 샤드, 지정이 없으면 기본 데이터베이스 커넥션을 사용한다.
+     */
+    @Bean
+    public DataSource dataSource(ShardRouter shardRouter) {
+        return shardRouter.getDataSource();
+    }
+
+    @Bean
+    public ShardDirectory shardDirectory(ShardRouter shardRouter,
+                                         @Value("${SHARD_VIRTUAL_NODES:160}") int virtualNodes,
+                                         @Value("${SHARD_DIRECTORY_CACHE_MAX_SIZE:100000}") long maxSize,
+                                         @Value("${SHARD_DIRECTORY_CACHE_TTL_SECONDS:60}") long ttlSeconds) {
+        return new ShardDirectory(shardRouter.getShard(0), new ShardRing(shardRouter.getShardCount(), virtualNodes),
+                maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    @Bean
+    public ShardRebalancer shardRebalancer(ShardRouter shardRouter, ShardDirectory shardDirectory,
+                                           TodoListCache listCache, TodoListVersions listVersions,
+                                           CacheInvalidationBus invalidationBus, TodoEventBroker eventBroker,
+                                           MeterRegistry meterRegistry,
+                                           @Value("${SHARD_MOVE_BATCH_SIZE:1000}") int batchSize) {
+        return new ShardRebalancer(shardRouter, shardDirectory, listCache, listVersions, invalidationBus, eventBroker,
+                meterRegistry, batchSize);
+    }
+
+    @Bean
+    public ShardsEndpoint shardsEndpoint(ShardRouting shardRouting, ShardDirectory shardDirectory,
+                                         ShardRebalancer shardRebalancer) {
+        return new ShardsEndpoint(shardRouting, shardDirectory, shardRebalancer);
+    }
+
+    /**
+     * 옮긴 사용자의 변경 재시도.
+     * 이동 중에 대기하던 변경이나 이전 위치를 캐시한 노드의 변경은 이전 샤드에서 ShardMovedException으로 롤백되므로,
+     * 캐시된 위치를 버리고 잠시 기다린 뒤 새 트랜잭션으로 다시 실행한다. (트랜잭션 어드바이스보다 바깥에서 실행)
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor shardMovedRetryAdvisor(ObjectProvider<ShardRouting> shardRouting) {
+        MethodInterceptor retry = invocation -> {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    return ((ProxyMethodInvocation) invocation).invocableClone().proceed();
+                } catch (ShardMovedException e) {
+                    if (attempt >= MOVED_RETRY_ATTEMPTS) {
+                        throw e;
+                    }
+                    log.debug("User {} moved to another shard, retrying {}", e.getUserId(), invocation.getMethod().getName());
+                    shardRouting.getObject().evict(e.getUserId());
+                    Thread.sleep(MOVED_RETRY_BACKOFF_MS * attempt);
+                }
+            }
+        };
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(new ComposablePointcut(
+                new RootClassFilter(TodoService.class), new AnnotationMethodMatcher(Transactional.class)), retry);
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    // spring.datasource.hikari.* 설정과 풀 메트릭 적용.
+    private static void configure(HikariDataSource pool, Binder binder, MeterRegistry meterRegistry) {
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+    }
+
+    // 추가 샤드에 기본 데이터베이스와 같은 마이그레이션 적용. Todo ID 시퀀스는 샤드의 구간에서 시작한다.
+    private static void migrate(DataSource shard, ShardDatabase database, FlywayProperties flyway) {
+        String vendor = DatabaseDriver.fromJdbcUrl(database.url()).getId();
+        String[] locations = flyway.getLocations().stream()
+                .map(location -> location.replace("{vendor}", vendor))
+                .toArray(String[]::new);
+        Map<String, String> placeholders = new HashMap<>(flyway.getPlaceholders());
+        placeholders.put("todo_id_base", String.valueOf(database.index() * ID_RANGE + 1));
+        Flyway.configure()
+                .dataSource(shard)
+                .locations(locations)
+                .baselineOnMigrate(flyway.isBaselineOnMigrate())
+                .baselineVersion(flyway.getBaselineVersion())
+                .placeholders(placeholders)
+                .load()
+                .migrate();
+        log.info("Migrated shard {} ({})", database.index(), database);
+    }
+}
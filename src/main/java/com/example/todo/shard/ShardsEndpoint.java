@@ -0,0 +1,57 @@
+package com.example.todo.shard;
+
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException; // 400 응답
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint; // /actuator/shards
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 샤드 현황 조회와 온라인 재배치 (관리자 전용).
+ * GET /actuator/shards: 샤드 목록과 샤드별 사용자 수
+ * POST /actuator/shards: 링의 샤드와 위치가 다른 사용자를 모두 옮김 (샤드를 추가한 뒤 실행)
+ * POST /actuator/shards/{userId} {"shard": n}: 사용자 하나를 지정한 샤드로 옮김
+ */
+@Endpoint(id = "shards")
+public class ShardsEndpoint {
+
+    private final ShardRouting shardRouting;
+    private final ShardDirectory directory;
+    private final ShardRebalancer rebalancer;
+
+    public ShardsEndpoint(ShardRouting shardRouting, ShardDirectory directory, ShardRebalancer rebalancer) {
+        this.shardRouting = shardRouting;
+        this.directory = directory;
+        this.rebalancer = rebalancer;
+    }
+
+    @ReadOperation
+    public Map<String, Object> shards() {
+        // URL 파라미터에 계정 정보가 있을 수 있으므로 주소 부분만 표시
+        List<String> urls = shardRouting.databases().stream().map(database -> database.url().split("\\?")[0]).toList();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("shards", urls);
+        result.put("users", directory.userCounts());
+        return result;
+    }
+
+    @WriteOperation
+    public ShardRebalancer.Result rebalance() {
+        return rebalancer.rebalance();
+    }
+
+    @WriteOperation
+    public Map<String, Object> moveUser(@Selector Long userId, int shard) {
+        boolean moved;
+        try {
+            moved = rebalancer.moveUser(userId, shard);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), e.getMessage());
+        }
+        return Map.of("userId", userId, "shard", shard, "moved", moved);
+    }
+}
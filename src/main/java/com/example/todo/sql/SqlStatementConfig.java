@@ -0,0 +1,70 @@
+package com.example.todo.sql;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder; // JDBC 프록시 DataSource 생성
+import org.springframework.beans.factory.annotation.Value; // application.properties 값 주입
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * 요청별 SQL 문 집계 설정.
+ * DataSource를 JDBC 프록시로 감싸 실행되는 문을 SqlStatementListener로 보내고,
+ * API 요청마다 SqlStatementFilter로 집계한다. SQL_STATS_ENABLED=false이면 프록시도 만들지 않는다.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET) // 요청 스레드 단위 집계이므로 서블릿 스택에만 적용
+@ConditionalOnProperty(name = "SQL_STATS_ENABLED", havingValue = "true", matchIfMissing = true)
+public class SqlStatementConfig {
+
+    /**
+     * DataSource 빈을 JDBC 프록시로 감쌈.
+     * 커넥션 풀 메트릭 등은 unwrap으로 원래 DataSource에 접근하므로 그대로 동작한다.
+     */
+    @Bean
+    public static BeanPostProcessor sqlStatementDataSourceProxy() {
+        SqlStatementListener listener = new SqlStatementListener();
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    return ProxyDataSourceBuilder.create(beanName, dataSource)
+                            .listener(listener)
+                            .proxyResultSet(listener) // 조회한 행 수 집계
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * 비동기 응답 작업(스트리밍 응답)의 SQL도 요청에 집계.
+     */
+    @Bean
+    public SqlStatementTaskDecorator sqlStatementTaskDecorator() {
+        return new SqlStatementTaskDecorator();
+    }
+
+    /**
+     * API 요청별 집계 필터.
+     * 보안 필터보다 먼저 실행하여 토큰 인증 중의 사용자 조회도 포함한다.
+     */
+    @Bean
+    public FilterRegistrationBean<SqlStatementFilter> sqlStatementFilter(
+            MeterRegistry meterRegistry,
+            @Value("${SQL_STATS_DEBUG:false}") boolean debug,
+            @Value("${SQL_STATS_WARN_STATEMENTS:20}") int warnStatements) {
+        FilterRegistrationBean<SqlStatementFilter> registration = new FilterRegistrationBean<>(
+                new SqlStatementFilter(meterRegistry, debug, warnStatements));
+        registration.addUrlPatterns("/api/*", "/auth/*"); // 정적 리소스와 헬스 체크는 집계하지 않음
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10); // 관측 필터 다음, 보안 필터 이전
+        return registration;
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.todo.sql;
+
+import io.micrometer.core.instrument.Counter; // 문 수 경고 횟수
+import io.micrometer.core.instrument.DistributionSummary; // 요청당 문/행 수 분포
+import io.micrometer.core.instrument.Meter; // 태그별 미터 조회
+import io.micrometer.core.instrument.MeterRegistry; // 메트릭 등록
+import io.micrometer.core.instrument.Timer; // 요청당 DB 실행 시간
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener; // 비동기 응답 완료 시 기록
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter; // HTTP 요청마다 한 번 실행되는 필터
+import org.springframework.web.servlet.HandlerMapping; // 요청에 매칭된 경로 패턴
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 실행된 SQL 문 수, 행 수, DB 실행 시간을 집계하는 필터.
+ * 운영에서는 경로 패턴(uri)과 메서드별 메트릭으로 기록하고, 문 수가 경고 기준을 넘으면 로그를 남긴다. (N+1 감지)
+ * 디버그 모드(개발/테스트)에서는 실행된 SQL을 기록하고 응답 헤더로도 내보낸다.
+ *
+ * 비동기 응답(스트리밍, SSE)은 응답이 끝날 때 메트릭을 기록하며, 응답 헤더는 추가하지 않는다.
+ *
+ * 집계 결과는 요청 속성(SqlStatementStats.REQUEST_ATTRIBUTE)에 남으므로 테스트에서 요청별 예산을 검사할 수 있다.
+ */
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_HEADER = "X-SQL-Statements"; // 실행된 문 수 응답 헤더 (디버그 모드)
+    public static final String ROWS_HEADER = "X-SQL-Rows"; // 조회/변경된 행 수 응답 헤더 (디버그 모드)
+    private static final String SERVER_TIMING_HEADER = "Server-Timing"; // DB 실행 시간 (브라우저 개발자 도구에 표시)
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementFilter.class);
+
+    private final boolean debug; // SQL 기록 및 응답 헤더 여부
+    private final int warnStatements; // 경고 로그를 남길 요청당 문 수 (0이면 사용 안 함)
+    private final Meter.MeterProvider<DistributionSummary> statementSummaries; // 요청당 문 수
+    private final Meter.MeterProvider<DistributionSummary> rowSummaries; // 요청당 행 수
+    private final Meter.MeterProvider<Timer> timeTimers; // 요청당 DB 실행 시간
+    private final Meter.MeterProvider<Counter> warnCounters; // 문 수 경고 횟수
+
+    public SqlStatementFilter(MeterRegistry meterRegistry, boolean debug, int warnStatements) {
+        this.debug = debug;
+        this.warnStatements = warnStatements;
+        this.statementSummaries = DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("요청 하나에서 실행된 SQL 문 수")
+                .withRegistry(meterRegistry);
+        this.rowSummaries = DistributionSummary.builder("http.server.requests.sql.rows")
+                .description("요청 하나에서 조회/변경된 행 수")
+                .withRegistry(meterRegistry);
+        this.timeTimers = Timer.builder("http.server.requests.sql.time")
+                .description("요청 하나의 SQL 실행 시간 합계")
+                .withRegistry(meterRegistry);
+        this.warnCounters = Counter.builder("http.server.requests.sql.warnings")
+                .description("SQL 문 수가 경고 기준을 넘은 요청 수")
+                .withRegistry(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStatementStats stats = SqlStatementStats.start(debug);
+        request.setAttribute(SqlStatementStats.REQUEST_ATTRIBUTE, stats);
+        StatsHeaderResponse headerResponse = debug ? new StatsHeaderResponse(response, stats) : null;
+        try {
+            chain.doFilter(request, headerResponse != null ? headerResponse : response);
+        } finally {
+            SqlStatementStats.stop();
+            if (request.isAsyncStarted()) {
+                // 비동기 응답은 끝날 때 기록 (작업 실행기에서 실행된 문 포함)
+                request.getAsyncContext().addListener(new RecordOnComplete(request, stats));
+            } else {
+                if (headerResponse != null) {
+                    headerResponse.writeHeaders(); // 본문 없는 응답 (204, 304 등)
+                }
+                record(request, stats);
+            }
+        }
+    }
+
+    // 경로 패턴과 메서드별 메트릭 기록.
+    private void record(HttpServletRequest request, SqlStatementStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+        statementSummaries.withTags("uri", uri, "method", method).record(stats.getStatementCount());
+        rowSummaries.withTags("uri", uri, "method", method).record(stats.getRowCount());
+        timeTimers.withTags("uri", uri, "method", method).record(stats.getElapsedNanos(), TimeUnit.NANOSECONDS);
+
+        if (warnStatements > 0 && stats.getStatementCount() > warnStatements) {
+            warnCounters.withTags("uri", uri, "method", method).increment();
+            log.warn("{} {} issued {} (limit {} statements)", method, uri, stats, warnStatements);
+        }
+    }
+
+    // 비동기 응답이 끝나면 (완료, 시간 초과, 오류 모두) 메트릭 기록.
+    private final class RecordOnComplete implements AsyncListener {
+
+        private final HttpServletRequest request;
+        private final SqlStatementStats stats;
+
+        RecordOnComplete(HttpServletRequest request, SqlStatementStats stats) {
+            this.request = request;
+            this.stats = stats;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            record(request, stats);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+
+    /**
+     * 응답이 커밋되기 직전에 집계 헤더를 추가하는 래퍼.
+     * 본문을 쓰기 시작하는 시점에는 일반 응답의 DB 작업이 모두 끝나 있으므로 그 시점의 값을 쓴다.
+     */
+    private static final class StatsHeaderResponse extends HttpServletResponseWrapper {
+
+        private final SqlStatementStats stats;
+        private boolean written; // 헤더 추가 여부
+
+        StatsHeaderResponse(HttpServletResponse response, SqlStatementStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        void writeHeaders() {
+            if (written || isCommitted()) {
+                return;
+            }
+            written = true;
+            setHeader(STATEMENTS_HEADER, Integer.toString(stats.getStatementCount()));
+            setHeader(ROWS_HEADER, Long.toString(stats.getRowCount()));
+            addHeader(SERVER_TIMING_HEADER,
+                    String.format(Locale.ROOT, "db;dur=%.3f", stats.getElapsedNanos() / 1_000_000.0));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeaders();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.todo.sql;
+
+import net.ttddyy.dsproxy.ConnectionInfo;
+import net.ttddyy.dsproxy.ExecutionInfo; // 문 실행 결과
+import net.ttddyy.dsproxy.QueryInfo; // 실행된 SQL
+import net.ttddyy.dsproxy.listener.QueryExecutionListener; // 문 실행 전후 콜백
+import net.ttddyy.dsproxy.proxy.ProxyConfig;
+import net.ttddyy.dsproxy.proxy.ResultSetProxyLogic;
+import net.ttddyy.dsproxy.proxy.ResultSetProxyLogicFactory; // 결과 집합 프록시 생성
+import net.ttddyy.dsproxy.proxy.SimpleResultSetProxyLogic;
+
+import java.lang.reflect.Method;
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * 프록시 DataSource에서 실행되는 JDBC 문을 현재 요청의 SqlStatementStats에 더하는 리스너.
+ * JPA(Hibernate)와 JdbcTemplate이 실행하는 문을 모두 집계한다.
+ *
+ * 변경된 행 수는 executeUpdate/executeBatch 결과에서, 조회한 행 수는 결과 집합의 next() 호출에서 센다.
+ * 집계 중인 요청이 없으면 아무것도 하지 않는다.
+ */
+public class SqlStatementListener implements QueryExecutionListener, ResultSetProxyLogicFactory {
+
+    private static final String START_NANOS = "sqlStatementStartNanos"; // 실행 시작 시각 (ExecutionInfo 사용자 값)
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (SqlStatementStats.current() != null) {
+            execInfo.addCustomValue(START_NANOS, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlStatementStats stats = SqlStatementStats.current();
+        Long start = execInfo.getCustomValue(START_NANOS, Long.class);
+        if (stats == null || start == null) {
+            return;
+        }
+        String sql = queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+        stats.addStatement(sql, updatedRows(execInfo.getResult()), System.nanoTime() - start);
+    }
+
+    // executeUpdate/executeBatch가 돌려준 변경 행 수. 조회 문이면 0 (결과 집합에서 따로 셈).
+    private static long updatedRows(Object result) {
+        if (result instanceof Integer count) {
+            return Math.max(count, 0);
+        }
+        if (result instanceof Long count) {
+            return Math.max(count, 0);
+        }
+        long rows = 0;
+        if (result instanceof int[] counts) {
+            for (int count : counts) {
+                rows += Math.max(count, 0); // SUCCESS_NO_INFO(-2)는 제외
+            }
+        } else if (result instanceof long[] counts) {
+            for (long count : counts) {
+                rows += Math.max(count, 0);
+            }
+        }
+        return rows;
+    }
+
+    @Override
+    public ResultSetProxyLogic create(ResultSet resultSet, ConnectionInfo connectionInfo, ProxyConfig proxyConfig) {
+        return new RowCountingResultSetProxyLogic(resultSet, connectionInfo, proxyConfig);
+    }
+
+    // next()가 true를 반환할 때마다 읽은 행 수를 더하는 결과 집합 프록시.
+    private static final class RowCountingResultSetProxyLogic extends SimpleResultSetProxyLogic {
+
+        RowCountingResultSetProxyLogic(ResultSet resultSet, ConnectionInfo connectionInfo, ProxyConfig proxyConfig) {
+            super(resultSet, connectionInfo, proxyConfig);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = super.invoke(proxy, method, args);
+            if (Boolean.TRUE.equals(result) && "next".equals(method.getName())) {
+                SqlStatementStats stats = SqlStatementStats.current();
+                if (stats != null) {
+                    stats.addRow();
+                }
+            }
+            return result;
+        }
+    }
+}
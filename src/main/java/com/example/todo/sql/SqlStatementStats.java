@@ -0,0 +1,121 @@
+package com.example.todo.sql;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 한 HTTP 요청에서 실행된 SQL 문 통계. (문 수, 읽거나 변경한 행 수, DB 실행 시간)
+ * SqlStatementFilter가 요청 스레드에 연결하고, SqlStatementListener가 JDBC 실행마다 값을 더한다.
+ *
+ * 요청 스레드에서 실행된 문을 집계하며, 스트리밍 응답(NDJSON 등)처럼 비동기 실행기에서 이어지는 작업은
+ * SqlStatementTaskDecorator가 같은 통계를 작업 스레드에 연결한다.
+ */
+public final class SqlStatementStats {
+
+    /**
+     * 통계를 담는 요청 속성 이름. 요청이 끝난 뒤에도 남아 있어 테스트에서 조회할 수 있다.
+     */
+    public static final String REQUEST_ATTRIBUTE = SqlStatementStats.class.getName();
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private final List<String> statements; // 실행된 SQL (기록하지 않으면 null)
+    private int statementCount; // 실행된 문 수 (배치는 한 번으로 계산)
+    private long rowCount; // 조회한 행 수 + 변경된 행 수
+    private long elapsedNanos; // DB 실행 시간 합계
+
+    SqlStatementStats(boolean recordStatements) {
+        this.statements = recordStatements ? new ArrayList<>() : null;
+    }
+
+    /**
+     * 현재 스레드의 집계를 시작.
+     * @param recordStatements SQL 문장까지 기록할지 여부 (개발/테스트용)
+     * @return 새 통계 객체
+     */
+    static SqlStatementStats start(boolean recordStatements) {
+        SqlStatementStats stats = new SqlStatementStats(recordStatements);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * 현재 스레드의 집계를 끝냄.
+     */
+    static void stop() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 현재 스레드에서 집계 중인 통계. 요청 밖이면 null.
+     */
+    static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 현재 스레드의 통계를 다른 스레드에서 실행될 작업에 연결.
+     * @param task 비동기로 실행할 작업
+     * @return 실행되는 동안 같은 통계에 집계하는 작업. 집계 중이 아니면 원래 작업
+     */
+    static Runnable propagate(Runnable task) {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats == null) {
+            return task;
+        }
+        return () -> {
+            SqlStatementStats previous = CURRENT.get();
+            CURRENT.set(stats);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    // 문 하나의 실행 결과를 더함.
+    void addStatement(String sql, long rows, long nanos) {
+        statementCount++;
+        rowCount += rows;
+        elapsedNanos += nanos;
+        if (statements != null) {
+            statements.add(sql);
+        }
+    }
+
+    // 결과 집합에서 읽은 행을 더함.
+    void addRow() {
+        rowCount++;
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * 실행된 SQL 목록. 기록하지 않도록 설정된 경우 빈 목록.
+     */
+    public List<String> getStatements() {
+        return statements == null ? List.of() : Collections.unmodifiableList(statements);
+    }
+
+    @Override
+    public String toString() {
+        return statementCount + " statements, " + rowCount + " rows, "
+                + String.format("%.3f", elapsedNanos / 1_000_000.0) + "ms";
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.todo.sql;
+
+import org.springframework.core.task.TaskDecorator; // 비동기 작업 래핑
+
+/**
+ * 비동기 요청 처리(StreamingResponseBody 등) 작업에 요청의 SQL 집계를 연결하는 데코레이터.
+ * Spring Boot가 애플리케이션 작업 실행기(applicationTaskExecutor)에 적용한다.
+ */
+public class SqlStatementTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        return SqlStatementStats.propagate(runnable);
+    }
+}
@@ -0,0 +1,53 @@
+-- 초기 스키마. ddl-auto=update로 만들어진 기존 데이터베이스와 같은 구조이며,
+-- 기존 데이터베이스는 이 버전을 기준선(baseline)으로 삼고 V2부터 적용한다.
+
+create table users (
+    change_seq bigint default 0 not null,
+    id bigint generated by default as identity,
+    password varchar(255) not null,
+    role varchar(255),
+    username varchar(255) not null unique,
+    primary key (id)
+);
+
+create table todo (
+    is_completed boolean,
+    change_seq bigint default 0 not null,
+    created_at timestamp(6),
+    id bigint generated by default as identity,
+    user_id bigint,
+    version bigint default 0 not null,
+    task varchar(255),
+    primary key (id)
+);
+
+create table todo_tombstones (
+    change_seq bigint not null,
+    deleted_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    todo_id bigint not null,
+    user_id bigint not null,
+    primary key (id)
+);
+
+create table refresh_tokens (
+    revoked boolean not null,
+    created_at timestamp(6),
+    expires_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    user_id bigint not null,
+    family_id varchar(36) not null,
+    token_hash varchar(64) not null unique,
+    primary key (id)
+);
+
+create index idx_todo_user_change_seq on todo (user_id, change_seq);
+
+create index idx_todo_tombstones_user_change_seq on todo_tombstones (user_id, change_seq);
+
+create index idx_refresh_tokens_family_id on refresh_tokens (family_id);
+
+alter table refresh_tokens
+    add constraint FK1lih5y2npsf8u5o3vhdb9y0os
+    foreign key (user_id)
+    references users;
@@ -0,0 +1,18 @@
+-- 요청 경로의 조회/변경 문이 모두 사용자 범위 인덱스를 타도록 추가하는 인덱스.
+-- (RepositoryQueryPlanTest가 저장소 쿼리마다 실행 계획을 검사)
+
+-- 사용자별 전체 목록, 키셋 페이지, 스트리밍 조회 (created_at, id 순 정렬을 인덱스 순서로 처리)
+-- 사용자 범위의 일괄 변경/삭제도 user_id 접두어로 사용
+create index idx_todo_user_created on todo (user_id, created_at, id);
+
+-- 완료 상태별 목록과 페이지 조회, 완료 항목 일괄 삭제
+create index idx_todo_user_completed_created on todo (user_id, is_completed, created_at, id);
+
+-- 오래된 삭제 기록 정리
+create index idx_todo_tombstones_deleted_at on todo_tombstones (deleted_at);
+
+-- 만료된 리프레시 토큰 정리
+create index idx_refresh_tokens_expires_at on refresh_tokens (expires_at);
+
+-- 사용자 삭제 시 외래 키 검사
+create index idx_refresh_tokens_user_id on refresh_tokens (user_id);
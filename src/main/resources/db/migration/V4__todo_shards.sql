@@ -0,0 +1,18 @@
+-- 사용자 ID 해시 샤딩. Todo 데이터(todo, todo_tombstones, todo_owners)는 사용자마다 한 샤드에 두고,
+-- users와 refresh_tokens는 기본 데이터베이스(샤드 0)에만 둔다. 모든 샤드에 같은 마이그레이션을 적용한다.
+
+-- 사용자별 Todo 변경 순번. Todo와 같은 샤드에 있어야 변경 순번 UPDATE의 행 잠금으로 같은 사용자의 변경을 직렬화할 수 있다.
+-- moved_to는 사용자를 다른 샤드로 옮긴 뒤 이전 샤드에 남기는 표시로, 이 샤드에서는 더 이상 변경하지 않는다.
+create table todo_owners (
+    user_id bigint not null,
+    change_seq bigint default 0 not null,
+    moved_to integer,
+    primary key (user_id)
+);
+
+-- 기존 변경 순번을 옮김. (users.change_seq는 더 이상 사용하지 않지만 이전 버전으로 되돌릴 수 있도록 남겨 둠)
+insert into todo_owners (user_id, change_seq)
+select id, change_seq from users where change_seq > 0;
+
+-- 사용자의 Todo가 있는 샤드 번호. NULL이면 기본 데이터베이스(샤드 0)
+alter table users add column todo_shard integer;
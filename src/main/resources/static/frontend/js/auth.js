@@ -24,6 +24,7 @@ axios.interceptors.response.use(
             alert("세션이 만료되었습니다. 다시 로그인하세요.");
             localStorage.removeItem("jwt_token");
             localStorage.removeItem("jwt_expiresAt");
+            localStorage.removeItem("refresh_token");
             window.location.href = "/frontend/pages/login.html"; // 로그인 페이지로 리다이렉트
         }
         return Promise.reject(error);
@@ -36,11 +37,12 @@ async function loginUser(username, password) {
         const response = await axios.post(`${AUTH_URL}/login`, { username, password });
         console.log("JWT Token:", response.data.token); // 디버깅용
 
-        const { token, expiresAt } = response.data;
+        const { token, expiresAt, refreshToken } = response.data;
 
         // 토큰 및 만료 시간 저장
         localStorage.setItem('jwt_token', token);
         localStorage.setItem('jwt_expiresAt', expiresAt); // 만료 시간 저장
+        localStorage.setItem('refresh_token', refreshToken); // 액세스 토큰 갱신용
         console.log(`토큰 만료 시간: ${new Date(expiresAt)}`);
         return response.data;
     } catch (error) {
@@ -19,12 +19,47 @@ axios.interceptors.request.use(config => {
     return config;
 }, error => Promise.reject(error));
 
+// 리프레시 토큰으로 액세스 토큰 갱신 (동시에 여러 요청이 401을 받아도 한 번만 갱신)
+let refreshPromise = null;
+function refreshAccessToken() {
+    const refreshToken = localStorage.getItem('refresh_token');
+    if (!refreshToken) {
+        return Promise.reject(new Error('리프레시 토큰이 없습니다.'));
+    }
+    if (!refreshPromise) {
+        refreshPromise = axios.post(`${AUTH_URL}/refresh`, { refreshToken }, { skipAuthRefresh: true })
+            .then(response => {
+                localStorage.setItem('jwt_token', response.data.token);
+                localStorage.setItem('jwt_expiresAt', response.data.expiresAt);
+                localStorage.setItem('refresh_token', response.data.refreshToken);
+                return response.data.token;
+            })
+            .finally(() => { refreshPromise = null; });
+    }
+    return refreshPromise;
+}
+
 // Axios 응답 인터셉터 설정
 axios.interceptors.response.use(
     response => response,
-    error => {
-        if (error.response && error.response.status === 401) {
+    async error => {
+        const original = error.config;
+        if (error.response && error.response.status === 401 && original && !original.skipAuthRefresh && !original._retried) {
+            try {
+                // 액세스 토큰 만료 시 리프레시 토큰으로 갱신 후 원래 요청 재시도
+                original._retried = true;
+                const token = await refreshAccessToken();
+                original.headers.Authorization = `Bearer ${token}`;
+                return axios(original);
+            } catch (refreshError) {
+                localStorage.removeItem('jwt_token');
+                localStorage.removeItem('refresh_token');
+                alert('로그인이 필요합니다.');
+                window.location.href = '/frontend/pages/login.html';
+            }
+        } else if (error.response && error.response.status === 401) {
             localStorage.removeItem('jwt_token');
+            localStorage.removeItem('refresh_token');
             alert('로그인이 필요합니다.');
             window.location.href = '/frontend/pages/login.html';
         } else {
@@ -44,6 +79,82 @@ async function fetchTodos() {
     }
 }
 
+// 변경 이벤트 스트림(SSE) 연결 여부. 연결되어 있으면 변경 후 이벤트를 받아 목록을 갱신한다.
+let eventsConnected = false;
+let refreshTimer = null;
+
+// 목록 다시 불러오기 예약. 짧은 시간 안에 온 여러 이벤트는 한 번의 조회로 합친다.
+function scheduleRefresh() {
+    clearTimeout(refreshTimer);
+    refreshTimer = setTimeout(fetchTodos, 100);
+}
+
+// 변경 후 목록 갱신. 이벤트 스트림이 끊겨 있을 때만 바로 조회한다.
+function afterMutation() {
+    if (!eventsConnected) {
+        fetchTodos();
+    }
+}
+
+// 변경 이벤트 스트림 연결. EventSource는 Authorization 헤더를 보낼 수 없으므로 fetch로 읽는다.
+// 연결이 끊기면 서버가 알려준 재연결 간격(retry) 후 다시 연결한다.
+async function connectEvents() {
+    let retryMs = 3000;
+    while (localStorage.getItem('jwt_token')) {
+        try {
+            const response = await fetch(`${TODO_URL}/events`, {
+                headers: {
+                    Authorization: `Bearer ${localStorage.getItem('jwt_token')}`,
+                    Accept: 'text/event-stream',
+                },
+            });
+            if (response.status === 401) {
+                await refreshAccessToken(); // 갱신 실패 시 아래 catch에서 종료
+                continue;
+            }
+            if (!response.ok) {
+                throw new Error(`이벤트 스트림 연결 실패: ${response.status}`);
+            }
+            eventsConnected = true;
+            const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+            let buffer = '';
+            while (true) {
+                const { value, done } = await reader.read();
+                if (done) break;
+                buffer += value;
+                let end;
+                while ((end = buffer.indexOf('\n\n')) >= 0) {
+                    retryMs = handleEvent(buffer.slice(0, end)) || retryMs;
+                    buffer = buffer.slice(end + 2);
+                }
+            }
+        } catch (error) {
+            console.warn('이벤트 스트림 오류:', error);
+            if (!localStorage.getItem('refresh_token')) break;
+        }
+        eventsConnected = false;
+        await new Promise(resolve => setTimeout(resolve, retryMs));
+    }
+}
+
+// SSE 이벤트 하나 처리. ready(연결 직후), resync(이벤트 유실), 변경 이벤트 모두 목록을 다시 불러온다.
+// 주석 줄(하트비트)은 무시. 서버가 보낸 재연결 간격을 반환.
+function handleEvent(block) {
+    let name = null;
+    let retry = null;
+    block.split('\n').forEach(line => {
+        if (line.startsWith('event:')) {
+            name = line.slice(6).trim();
+        } else if (line.startsWith('retry:')) {
+            retry = Number(line.slice(6));
+        }
+    });
+    if (name) {
+        scheduleRefresh();
+    }
+    return retry;
+}
+
 // 화면에 Todo 항목 업데이트
 function updateUI(todos) {
     const list = document.getElementById('todo-list');
@@ -86,7 +197,7 @@ document.getElementById('todo-form').addEventListener('submit', async (e) => {
     try {
         await axios.post(TODO_URL, { task: newTask, isCompleted: false });
         taskInput.value = '';
-        fetchTodos();
+        afterMutation();
     } catch (error) {
         console.error('Todo 추가 중 오류 발생:', error);
     }
@@ -95,9 +206,10 @@ document.getElementById('todo-form').addEventListener('submit', async (e) => {
 // Todo 완료 상태 토글
 async function toggleTodo(id) {
     try {
-        const response = await axios.patch(`${TODO_URL}/${id}/toggle`);
-        console.log(`Todo 상태 변경됨: ${response.data}`);
-        fetchTodos();
+        // 목록을 다시 불러오므로 변경된 항목 본문은 받지 않음
+        await axios.patch(`${TODO_URL}/${id}/toggle`, null, { headers: { Prefer: 'return=minimal' } });
+        console.log(`Todo 상태 변경됨: ${id}`);
+        afterMutation();
     } catch (error) {
         console.error('Todo 완료 상태 변경 중 오류 발생:', error);
     }
@@ -113,7 +225,7 @@ async function editTodoPrompt(id) {
 
     try {
         await axios.put(`${TODO_URL}/${id}`, { task: newTask, isCompleted: false });
-        fetchTodos();
+        afterMutation();
     } catch (error) {
         console.error('Todo 수정 중 오류 발생:', error);
     }
@@ -131,7 +243,7 @@ async function deleteTodoWithAnimation(id, button) {
 
         await axios.delete(`${TODO_URL}/${id}`);
         console.log(`Todo 삭제 완료: ${id}`);
-        fetchTodos();
+        afterMutation();
     } catch (error) {
         console.error('Todo 삭제 중 오류 발생:', error);
     }
@@ -145,7 +257,7 @@ async function deleteCompletedTodos() {
 
         await axios.delete(`${TODO_URL}/completed`);
         console.log('완료된 Todo가 삭제되었습니다.');
-        fetchTodos();
+        afterMutation();
     } catch (error) {
         console.error('완료된 Todo 삭제 중 오류 발생:', error);
     }
@@ -170,16 +282,26 @@ document.getElementById('filter-incomplete').addEventListener('click', () => fil
 
 document.getElementById('delete-completed').addEventListener('click', deleteCompletedTodos);
 
-// 페이지 로드 시 Todo 목록 불러오기
-document.addEventListener('DOMContentLoaded', fetchTodos);
+// 페이지 로드 시 Todo 목록 불러오기 및 변경 이벤트 구독
+document.addEventListener('DOMContentLoaded', () => {
+    fetchTodos();
+    connectEvents();
+});
 
 // 로그아웃 버튼 동작
 document.getElementById('logout-button').addEventListener('click', () => {
     const confirmation = confirm('로그아웃 하시겠습니까?');
     if (confirmation) {
+        // 서버의 리프레시 토큰 폐기 (실패해도 로그아웃은 진행)
+        const refreshToken = localStorage.getItem('refresh_token');
+        if (refreshToken) {
+            axios.post(`${AUTH_URL}/logout`, { refreshToken }, { skipAuthRefresh: true }).catch(() => {});
+        }
+
         // JWT 토큰 삭제
         localStorage.removeItem('jwt_token');
         localStorage.removeItem('jwt_expiresAt'); // 만료 시간도 삭제 (필요 시)
+        localStorage.removeItem('refresh_token');
 
         // 로그인 페이지로 리다이렉트
         window.location.href = '/frontend/pages/login.html';
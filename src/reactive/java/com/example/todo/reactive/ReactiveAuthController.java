@@ -0,0 +1,77 @@
+package com.example.todo.reactive;
+
+import com.example.todo.controller.AuthController;
+import com.example.todo.dto.AuthRequest;
+import com.example.todo.dto.RefreshRequest;
+import com.example.todo.dto.RegisterRequest;
+import com.example.todo.invalidation.CacheInvalidationBus;
+import com.example.todo.repository.UserRepository;
+import com.example.todo.security.JwtUtil;
+import com.example.todo.security.PasswordHashingExecutor;
+import com.example.todo.security.UserCache;
+import com.example.todo.service.RefreshTokenService;
+import com.example.todo.shard.ShardRouting;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 반응형 스택의 인증 컨트롤러.
+ * 사용자/리프레시 토큰 저장소는 JPA(JDBC)이므로 처리 로직은 AuthController를 그대로 쓰고,
+ * 블로킹 호출은 이벤트 루프가 아닌 boundedElastic 스케줄러에서 실행한다.
+ * (BCrypt 해싱/검증은 AuthController가 PasswordHashingExecutor로 넘긴다)
+ */
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RestController
+@RequestMapping("/auth")
+public class ReactiveAuthController {
+
+    private final AuthController delegate; // 서블릿 스택과 같은 인증 처리 로직
+
+    public ReactiveAuthController(AuthenticationManager authenticationManager, UserRepository userRepository,
+                                  PasswordEncoder passwordEncoder, JwtUtil jwtUtil, UserCache userCache,
+                                  PasswordHashingExecutor passwordHashingExecutor,
+                                  RefreshTokenService refreshTokenService, CacheInvalidationBus invalidationBus,
+                                  ShardRouting shardRouting) {
+        this.delegate = new AuthController(authenticationManager, userRepository, passwordEncoder, jwtUtil, userCache,
+                passwordHashingExecutor, refreshTokenService, invalidationBus, shardRouting);
+    }
+
+    // 회원가입 처리
+    @PostMapping("/register")
+    public Mono<ResponseEntity<?>> registerUser(@RequestBody RegisterRequest request) {
+        return Mono.defer(() -> Mono.fromFuture(delegate.registerUser(request)))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // 로그인 처리
+    @PostMapping("/login")
+    public Mono<ResponseEntity<?>> login(@RequestBody AuthRequest authRequest) {
+        return Mono.defer(() -> Mono.fromFuture(delegate.login(authRequest)))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // 액세스 토큰 갱신
+    @PostMapping("/refresh")
+    public Mono<ResponseEntity<?>> refresh(@RequestBody RefreshRequest request) {
+        return Mono.<ResponseEntity<?>>fromCallable(() -> delegate.refresh(request))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // 로그아웃: 리프레시 토큰 family 폐기
+    @PostMapping("/logout")
+    public Mono<ResponseEntity<?>> logout(@RequestBody RefreshRequest request) {
+        return Mono.<ResponseEntity<?>>fromCallable(() -> delegate.logout(request))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // JWT 토큰 유효성 검증 (DB 조회 없음)
+    @GetMapping("/validate")
+    public ResponseEntity<?> validateToken(@RequestHeader("Authorization") String authHeader) {
+        return delegate.validateToken(authHeader);
+    }
+}
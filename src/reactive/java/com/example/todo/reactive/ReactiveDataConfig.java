@@ -0,0 +1,48 @@
+package com.example.todo.reactive;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+/**
+ * reactive 빌드의 데이터 접근 설정.
+ * JPA와 R2DBC 저장소가 함께 있으므로 패키지별로 담당 모듈을 지정한다.
+ * (Todo 엔티티는 두 저장소가 공유하므로 어노테이션만으로는 구분되지 않음)
+ *
+ * R2DBC ConnectionFactory가 있으면 Spring Boot가 DataSource 자동 설정을 건너뛰므로, 사용자/리프레시 토큰(JPA)과
+ * 서블릿 스택이 쓰는 DataSource를 spring.datasource.* 설정으로 직접 등록한다.
+ * 읽기 복제본(REPLICA_URLS)을 설정하면 ReplicaRoutingConfig가 대신 등록한다.
+ * Todo 샤딩(SHARD_URLS)은 서블릿 스택에서만 지원하며, reactive 스택에서 설정하면 ShardingConfig가 시작을 거부한다.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceProperties.class)
+@EnableJpaRepositories(basePackages = "com.example.todo.repository")
+@EnableR2dbcRepositories(basePackageClasses = ReactiveTodoRepository.class)
+public class ReactiveDataConfig {
+
+    @Bean
+    @ConditionalOnExpression("'${REPLICA_URLS:}'.isBlank() and '${SHARD_URLS:}'.isBlank()")
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * 블로킹 @Transactional 메서드가 쓰는 기본 트랜잭션 관리자.
+     * R2DBC 트랜잭션 관리자도 함께 등록되므로, 이름 없이 주입/조회하면 JPA 쪽을 쓰도록 지정한다.
+     */
+    @Bean
+    @Primary
+    public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.todo.reactive;
+
+import com.example.todo.security.AuthenticatedUser;
+import com.example.todo.security.CustomUserDetailsService; // 이전 형식 토큰의 사용자 정보 로드
+import com.example.todo.security.JwtAuthenticationFilter; // 서블릿 필터와 같은 메트릭 사용
+import com.example.todo.security.JwtUtil; // JWT 검증 및 클레임 추출
+import io.jsonwebtoken.Claims; // 검증된 JWT 클레임
+import io.jsonwebtoken.ExpiredJwtException; // JWT 토큰 만료 시 발생하는 예외
+import io.jsonwebtoken.JwtException; // JWT 관련 일반적인 예외
+import io.micrometer.core.instrument.MeterRegistry; // 메트릭 등록
+import io.micrometer.core.instrument.Timer; // 토큰 검증/사용자 로드 시간 측정
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken; // Spring Security 인증 객체
+import org.springframework.security.core.context.ReactiveSecurityContextHolder; // 구독 컨텍스트의 인증 정보
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 반응형 스택의 JWT 인증 필터.
+ * JwtAuthenticationFilter와 같은 규칙으로 토큰을 검증하고 응답한다.
+ * (만료 401, 잘못된 토큰 403, 그 외 예외 500)
+ *
+ * 서명 검증은 CPU 작업이고 검증 캐시를 쓰므로 이벤트 루프에서 바로 처리한다.
+ * uid 클레임이 없는 이전 형식의 토큰만 블로킹 사용자 조회가 필요하므로 boundedElastic 스케줄러에서 처리한다.
+ * 검증 시간(auth.jwt.parse)과 사용자 로드 시간(auth.user.load)은 서블릿 필터와 같은 이름으로 기록한다.
+ */
+public class ReactiveJwtAuthenticationFilter implements WebFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtUtil jwtUtil; // JWT 토큰 유효성 검사 및 파싱을 위한 유틸리티
+    private final CustomUserDetailsService customUserDetailsService; // 이전 형식 토큰의 사용자 정보를 로드하기 위한 서비스
+    private final Timer validTimer; // 유효한 토큰의 파싱/검증 시간
+    private final Timer expiredTimer; // 만료된 토큰의 파싱/검증 시간
+    private final Timer invalidTimer; // 잘못된 토큰의 파싱/검증 시간
+    private final Timer userLoadTimer; // 이전 형식 토큰의 사용자 로드 시간 (DB 조회)
+
+    public ReactiveJwtAuthenticationFilter(JwtUtil jwtUtil, CustomUserDetailsService customUserDetailsService,
+                                           MeterRegistry meterRegistry) {
+        this.jwtUtil = jwtUtil;
+        this.customUserDetailsService = customUserDetailsService;
+        this.validTimer = JwtAuthenticationFilter.parseTimer(meterRegistry, "valid");
+        this.expiredTimer = JwtAuthenticationFilter.parseTimer(meterRegistry, "expired");
+        this.invalidTimer = JwtAuthenticationFilter.parseTimer(meterRegistry, "invalid");
+        this.userLoadTimer = Timer.builder("auth.user.load")
+                .description("이전 형식 토큰의 사용자 정보 로드 시간")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        // Authorization 헤더에서 JWT 토큰 추출
+        String authorizationHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authorizationHeader == null || !authorizationHeader.startsWith(BEARER_PREFIX)) {
+            return chain.filter(exchange);
+        }
+
+        String jwt = authorizationHeader.substring(BEARER_PREFIX.length());
+        Claims claims;
+        long parseStart = System.nanoTime();
+        try {
+            // JWT를 한 번만 파싱/검증
+            claims = jwtUtil.parseClaims(jwt);
+            validTimer.record(System.nanoTime() - parseStart, TimeUnit.NANOSECONDS);
+        } catch (ExpiredJwtException e) {
+            // 토큰이 만료된 경우 처리
+            expiredTimer.record(System.nanoTime() - parseStart, TimeUnit.NANOSECONDS);
+            return reject(exchange.getResponse(), HttpStatus.UNAUTHORIZED, "Token has expired. Please log in again.");
+        } catch (JwtException | IllegalArgumentException e) {
+            // 잘못된 토큰 처리
+            invalidTimer.record(System.nanoTime() - parseStart, TimeUnit.NANOSECONDS);
+            return reject(exchange.getResponse(), HttpStatus.FORBIDDEN, "Invalid token.");
+        }
+        if (claims.getSubject() == null) {
+            return chain.filter(exchange);
+        }
+
+        return principal(claims)
+                .flatMap(principal -> {
+                    // 인증 객체를 구독 컨텍스트에 설정 (토큰은 위에서 이미 검증됨)
+                    UsernamePasswordAuthenticationToken authentication =
+                            new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+                    return chain.filter(exchange)
+                            .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication));
+                })
+                .onErrorResume(RuntimeException.class, e -> exchange.getResponse().isCommitted()
+                        ? Mono.error(e)
+                        : reject(exchange.getResponse(), HttpStatus.INTERNAL_SERVER_ERROR, "Unexpected error occurred."));
+    }
+
+    // 클레임만으로 Principal 생성. uid 클레임이 없는 이전 형식의 토큰은 사용자 정보를 로드 (블로킹 조회).
+    private Mono<AuthenticatedUser> principal(Claims claims) {
+        AuthenticatedUser principal = jwtUtil.toPrincipal(claims);
+        if (principal != null) {
+            return Mono.just(principal);
+        }
+        return Mono.fromCallable(() -> userLoadTimer.recordCallable(() -> {
+                    AuthenticatedUser loaded = (AuthenticatedUser) customUserDetailsService.loadUserByUsername(claims.getSubject());
+                    loaded.eraseCredentials();
+                    return loaded;
+                }))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // 요청을 차단하고 상태 코드와 메시지를 응답.
+    private static Mono<Void> reject(ServerHttpResponse response, HttpStatus status, String message) {
+        response.setStatusCode(status);
+        DataBuffer body = response.bufferFactory().wrap(message.getBytes(StandardCharsets.UTF_8));
+        return response.writeWith(Mono.just(body));
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.todo.reactive;
+
+import com.example.todo.security.CustomUserDetailsService;
+import com.example.todo.security.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+/**
+ * 반응형 스택의 보안 설정. SecurityConfig와 같은 경로 규칙과 401 응답을 사용한다.
+ * 반응형 Todo 저장소의 트랜잭션 관리자도 함께 등록한다. (JPA 트랜잭션 관리자와 별도)
+ */
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Configuration
+@EnableWebFluxSecurity
+public class ReactiveSecurityConfig {
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http, JwtUtil jwtUtil,
+                                                         CustomUserDetailsService customUserDetailsService,
+                                                         MeterRegistry meterRegistry) {
+        return http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable) // REST API이므로 CSRF 보호 비활성화
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance()) // 세션에 인증 정보를 저장하지 않음
+                .authorizeExchange(exchange -> exchange
+                        .pathMatchers("/", "/frontend/**", "/auth/**", "/favicon.ico", "/actuator/health").permitAll()
+                        .anyExchange().authenticated())
+                .exceptionHandling(ex -> ex
+                        .authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.UNAUTHORIZED))) // 인증 실패 시 401
+                .addFilterAt(new ReactiveJwtAuthenticationFilter(jwtUtil, customUserDetailsService, meterRegistry),
+                        SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        // 서블릿 스택과 같은 BCrypt 해시 사용
+        return new BCryptPasswordEncoder();
+    }
+
+    @Bean
+    public AuthenticationManager authenticationManager(CustomUserDetailsService customUserDetailsService,
+                                                       PasswordEncoder passwordEncoder) {
+        // 로그인 검증용. 블로킹 인증이므로 ReactiveAuthController가 전용 스레드 풀에서 호출한다.
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(passwordEncoder);
+        provider.setUserDetailsService(customUserDetailsService);
+        return new ProviderManager(provider);
+    }
+
+    @Bean
+    public TransactionalOperator reactiveTransactionalOperator(ReactiveTransactionManager transactionManager) {
+        // R2DBC 트랜잭션 관리자 (자동 설정)
+        return TransactionalOperator.create(transactionManager);
+    }
+}
@@ -0,0 +1,340 @@
+package com.example.todo.reactive;
+
+import com.example.todo.dto.BulkTodoRequest;
+import com.example.todo.dto.TodoChanges;
+import com.example.todo.dto.TodoCursor;
+import com.example.todo.entity.Todo;
+import com.example.todo.event.TodoEvent;
+import com.example.todo.security.AuthenticatedUser;
+import com.example.todo.service.TodoListVersions;
+import com.example.todo.service.TodoListView;
+import com.example.todo.service.TodoService.MutationResult;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.security.core.annotation.AuthenticationPrincipal; // JWT 필터가 만든 Principal
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 반응형 스택의 Todo 목록 관리 컨트롤러.
+ * TodoController와 같은 경로, 요청, 응답을 제공하며, 모든 처리 메서드는 이벤트 루프 스레드를 막지 않고
+ * Mono/Flux를 반환한다.
+ */
+@RestController
+@RequestMapping("/api/todos")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTodoController {
+
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor"; // 다음 페이지 커서 응답 헤더
+    static final String NDJSON = "application/x-ndjson"; // 줄 단위 JSON 미디어 타입
+    static final String PREFER_HEADER = "Prefer"; // 응답 형태 지정 요청 헤더 (RFC 7240)
+    static final String RETURN_MINIMAL = "return=minimal"; // 본문 없이 응답
+
+    private final ReactiveTodoService todoService; // Todo 조회/변경 로직
+    private final TodoListVersions listVersions; // 사용자별 목록 버전 (목록 ETag)
+    private final ReactiveTodoEvents events; // 변경 이벤트 스트림 (SSE)
+
+    public ReactiveTodoController(ReactiveTodoService todoService, TodoListVersions listVersions,
+                                  ReactiveTodoEvents events) {
+        this.todoService = todoService;
+        this.listVersions = listVersions;
+        this.events = events;
+    }
+
+    /**
+     * 사용자의 모든 Todo 항목 조회.
+     * limit 또는 cursor가 주어지면 키셋 페이지로 조회하고, If-None-Match가 현재 목록 버전과 같으면 304를 반환.
+     */
+    @GetMapping
+    public Mono<ResponseEntity<List<Todo>>> getAllTodos(@RequestParam(required = false) Integer limit,
+                                                        @RequestParam(required = false) String cursor,
+                                                        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                        @AuthenticationPrincipal AuthenticatedUser user) {
+        return listTodos(user, null, limit, cursor, ifNoneMatch);
+    }
+
+    /**
+     * 완료 상태에 따라 Todo 항목 필터링.
+     */
+    @GetMapping("/filter")
+    public Mono<ResponseEntity<List<Todo>>> getTodosByStatus(@RequestParam boolean isCompleted,
+                                                             @RequestParam(required = false) Integer limit,
+                                                             @RequestParam(required = false) String cursor,
+                                                             @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                             @AuthenticationPrincipal AuthenticatedUser user) {
+        return listTodos(user, isCompleted, limit, cursor, ifNoneMatch);
+    }
+
+    /**
+     * 델타 동기화. since 토큰 이후에 추가/수정/삭제된 항목만 반환.
+     */
+    @GetMapping("/changes")
+    public Mono<ResponseEntity<TodoChanges>> getChanges(@RequestParam(required = false) String since,
+                                                        @AuthenticationPrincipal AuthenticatedUser user) {
+        if (user == null) {
+            return Mono.just(ResponseEntity.status(HttpStatus.FORBIDDEN).build());
+        }
+        return todoService.changesSince(user.getId(), since)
+                .map(ResponseEntity::ok)
+                .onErrorReturn(IllegalArgumentException.class, ResponseEntity.status(HttpStatus.BAD_REQUEST).build());
+    }
+
+    /**
+     * 사용자의 Todo 변경 이벤트 스트림 (Server-Sent Events).
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<Flux<ServerSentEvent<TodoEvent>>> events(@AuthenticationPrincipal AuthenticatedUser user) {
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .header("X-Accel-Buffering", "no") // 리버스 프록시의 응답 버퍼링 비활성화
+                .body(events.subscribe(user.getId()));
+    }
+
+    /**
+     * 사용자의 모든 Todo 항목을 NDJSON(한 줄에 Todo 하나)으로 스트리밍.
+     * DB에서 읽은 행을 요청량(backpressure)에 맞춰 바로 내보낸다.
+     */
+    @GetMapping(value = "/stream", produces = NDJSON)
+    public ResponseEntity<Flux<Todo>> streamTodos(@AuthenticationPrincipal AuthenticatedUser user) {
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(todoService.findAll(user.getId()));
+    }
+
+    /**
+     * 새로운 Todo 항목 생성.
+     */
+    @PostMapping
+    public Mono<ResponseEntity<?>> createTodo(@RequestBody Todo todo, @AuthenticationPrincipal AuthenticatedUser user) {
+        if (user == null) {
+            return Mono.just(ResponseEntity.status(HttpStatus.FORBIDDEN).build());
+        }
+        return todoService.create(user.getId(), todo)
+                .<ResponseEntity<?>>map(saved -> ResponseEntity.status(HttpStatus.CREATED).body(saved))
+                .onErrorResume(e -> Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error creating Todo")));
+    }
+
+    /**
+     * 특정 Todo 항목 수정. If-Match 헤더의 버전이 현재 버전과 다르면 409를 반환.
+     * If-Match는 강한 비교이므로 약한 ETag(W/)는 어떤 버전과도 일치하지 않아 412를 반환.
+     */
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<?>> updateTodo(@PathVariable Long id, @RequestBody Todo updatedTodo,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                              @RequestHeader(value = PREFER_HEADER, required = false) String prefer,
+                                              @AuthenticationPrincipal AuthenticatedUser user) {
+        if (user == null) {
+            return Mono.just(ResponseEntity.status(HttpStatus.FORBIDDEN).build());
+        }
+        if (isWeakETag(ifMatch)) {
+            return Mono.just(ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body("If-Match에는 약한 ETag를 사용할 수 없습니다."));
+        }
+        Long expectedVersion;
+        try {
+            expectedVersion = parseIfMatch(ifMatch);
+        } catch (IllegalArgumentException e) {
+            // 잘못된 If-Match 헤더는 400 상태 코드 반환
+            return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST).body("잘못된 If-Match 헤더입니다."));
+        }
+        return todoService.update(user.getId(), id, updatedTodo.getTask(), updatedTodo.getIsCompleted(), expectedVersion)
+                .flatMap(result -> switch (result) {
+                    case UPDATED -> mutationResponse(user.getId(), id, prefer);
+                    case VERSION_CONFLICT -> Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).body("다른 곳에서 먼저 수정되었습니다."));
+                    case FORBIDDEN -> Mono.just(ResponseEntity.status(HttpStatus.FORBIDDEN).body("권한이 없습니다."));
+                    case NOT_FOUND -> Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND).body("Todo not found: " + id));
+                });
+    }
+
+    /**
+     * 특정 Todo 항목 삭제.
+     */
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<?>> deleteTodo(@PathVariable Long id, @AuthenticationPrincipal AuthenticatedUser user) {
+        if (user == null) {
+            return Mono.just(ResponseEntity.status(HttpStatus.FORBIDDEN).build());
+        }
+        return todoService.delete(user.getId(), id)
+                .map(result -> switch (result) {
+                    case UPDATED -> ResponseEntity.noContent().build();
+                    case FORBIDDEN, VERSION_CONFLICT -> ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+                    case NOT_FOUND -> ResponseEntity.status(HttpStatus.NOT_FOUND).body("Todo not found: " + id);
+                });
+    }
+
+    /**
+     * 특정 Todo 항목의 완료 상태 토글.
+     */
+    @PatchMapping("/{id}/toggle")
+    public Mono<ResponseEntity<?>> toggleTodoCompletion(@PathVariable Long id,
+                                                        @RequestHeader(value = PREFER_HEADER, required = false) String prefer,
+                                                        @AuthenticationPrincipal AuthenticatedUser user) {
+        if (user == null) {
+            return Mono.just(ResponseEntity.status(HttpStatus.FORBIDDEN).build());
+        }
+        return todoService.toggleCompletion(user.getId(), id)
+                .flatMap(result -> switch (result) {
+                    case UPDATED -> mutationResponse(user.getId(), id, prefer);
+                    case NOT_FOUND -> Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND).body("Todo not found: " + id));
+                    case FORBIDDEN, VERSION_CONFLICT -> Mono.just(ResponseEntity.status(HttpStatus.FORBIDDEN).body("권한이 없습니다."));
+                });
+    }
+
+    /**
+     * 완료된 Todo 항목 모두 삭제.
+     */
+    @DeleteMapping("/completed")
+    public Mono<ResponseEntity<?>> deleteCompletedTodos(@AuthenticationPrincipal AuthenticatedUser user) {
+        if (user == null) {
+            return Mono.just(ResponseEntity.status(HttpStatus.FORBIDDEN).build());
+        }
+        return todoService.deleteCompleted(user.getId()).map(deleted -> ResponseEntity.ok(Map.of("deleted", deleted)));
+    }
+
+    /**
+     * 사용자의 모든 Todo 항목을 완료 또는 미완료로 변경.
+     */
+    @PatchMapping("/complete-all")
+    public Mono<ResponseEntity<?>> completeAllTodos(@RequestParam(defaultValue = "true") boolean isCompleted,
+                                                    @AuthenticationPrincipal AuthenticatedUser user) {
+        if (user == null) {
+            return Mono.just(ResponseEntity.status(HttpStatus.FORBIDDEN).build());
+        }
+        return todoService.setAllCompleted(user.getId(), isCompleted).map(updated -> ResponseEntity.ok(Map.of("updated", updated)));
+    }
+
+    /**
+     * 지정한 ID의 Todo 항목 일괄 삭제.
+     */
+    @PostMapping("/bulk-delete")
+    public Mono<ResponseEntity<?>> bulkDeleteTodos(@RequestBody BulkTodoRequest request,
+                                                   @AuthenticationPrincipal AuthenticatedUser user) {
+        if (user == null) {
+            return Mono.just(ResponseEntity.status(HttpStatus.FORBIDDEN).build());
+        }
+        return todoService.deleteByIds(user.getId(), request.getIds())
+                .<ResponseEntity<?>>map(deleted -> ResponseEntity.ok(Map.of("deleted", deleted)))
+                .onErrorResume(IllegalArgumentException.class,
+                        e -> Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage())));
+    }
+
+    /**
+     * 지정한 ID의 Todo 항목 완료 상태 일괄 변경.
+     */
+    @PatchMapping("/bulk-complete")
+    public Mono<ResponseEntity<?>> bulkCompleteTodos(@RequestBody BulkTodoRequest request,
+                                                     @AuthenticationPrincipal AuthenticatedUser user) {
+        if (user == null) {
+            return Mono.just(ResponseEntity.status(HttpStatus.FORBIDDEN).build());
+        }
+        boolean isCompleted = request.getIsCompleted() == null || request.getIsCompleted();
+        return todoService.setCompletedByIds(user.getId(), request.getIds(), isCompleted)
+                .<ResponseEntity<?>>map(updated -> ResponseEntity.ok(Map.of("updated", updated)))
+                .onErrorResume(IllegalArgumentException.class,
+                        e -> Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage())));
+    }
+
+    // 전체/필터 목록 조회 공통 처리. 목록 버전을 조회 전에 읽어 ETag로 사용한다.
+    private Mono<ResponseEntity<List<Todo>>> listTodos(AuthenticatedUser user, Boolean isCompleted, Integer limit,
+                                                       String cursor, String ifNoneMatch) {
+        if (user == null) {
+            return Mono.just(ResponseEntity.status(HttpStatus.FORBIDDEN).build());
+        }
+        Long userId = user.getId();
+        String eTag = listVersions.eTag(userId, TodoListView.of(isCompleted, limit, cursor));
+        if (eTagMatches(ifNoneMatch, eTag)) {
+            // 목록이 바뀌지 않았으면 304
+            return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .build());
+        }
+
+        if (limit == null && cursor == null) {
+            Mono<List<Todo>> todos = isCompleted == null
+                    ? todoService.findAll(userId).collectList()
+                    : todoService.findByUserAndCompletionStatus(userId, isCompleted).collectList();
+            return todos.map(list -> listResponse(eTag).body(list));
+        }
+
+        // 페이지 조회 요청이면 커서 기반으로 조회
+        int pageSize = TodoListView.pageSize(limit);
+        TodoCursor after;
+        try {
+            after = cursor == null ? null : TodoCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            // 잘못된 커서는 400 상태 코드 반환
+            return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST).build());
+        }
+        return todoService.findPage(userId, isCompleted, after, pageSize).map(page -> {
+            ResponseEntity.BodyBuilder response = listResponse(eTag);
+            if (page.getNextCursor() != null) {
+                response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+            }
+            return response.body(page.getItems());
+        });
+    }
+
+    // 목록 응답 빌더. 목록 버전 ETag를 붙이고, 브라우저가 저장은 하되 매번 재검증하도록 한다.
+    private static ResponseEntity.BodyBuilder listResponse(String eTag) {
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate());
+    }
+
+    // 단건 변경 성공 응답. Prefer: return=minimal이면 204, 아니면 변경된 항목을 ETag(버전)와 함께 반환.
+    private Mono<ResponseEntity<?>> mutationResponse(Long userId, Long id, String prefer) {
+        if (prefer != null && prefer.contains(RETURN_MINIMAL)) {
+            return Mono.just(ResponseEntity.noContent().build());
+        }
+        return todoService.findOwned(userId, id)
+                .<ResponseEntity<?>>map(todo -> ResponseEntity.ok().eTag("\"" + todo.getVersion() + "\"").body(todo))
+                .defaultIfEmpty(ResponseEntity.status(HttpStatus.NOT_FOUND).build()); // 그 사이 삭제된 경우
+    }
+
+    // If-None-Match 헤더 값(쉼표로 구분된 ETag 목록 또는 "*")에 주어진 ETag가 포함되는지 확인.
+    static boolean eTagMatches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2); // If-None-Match는 약한 비교
+            }
+            if (value.equals("*") || value.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 약한 ETag(W/"...")인지 확인. If-Match는 강한 비교만 하므로 약한 ETag는 항상 불일치다. (RFC 9110 13.1.1)
+    static boolean isWeakETag(String ifMatch) {
+        return ifMatch != null && ifMatch.trim().startsWith("W/");
+    }
+
+    // If-Match 헤더에서 기대 버전을 추출. 헤더가 없거나 "*"이면 null (버전 검사 안 함).
+    static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        return Long.parseLong(value); // NumberFormatException은 IllegalArgumentException
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.todo.reactive;
+
+import com.example.todo.event.TodoEvent; // SSE 변경 이벤트 (서블릿 스택과 같은 형식)
+import org.springframework.beans.factory.annotation.Value; // application.properties 값 주입
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component; // Spring 컴포넌트로 등록
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 반응형 스택의 사용자별 Todo 변경 이벤트 허브.
+ * TodoEventBroker와 같은 이벤트(ready, 변경, resync)를 보내지만, 연결마다 스레드나 전송 작업 없이
+ * 사용자별 멀티캐스트 Sink를 구독하는 Flux로 전달한다.
+ *
+ * 연결마다 버퍼 크기를 제한하며, 느린 클라이언트의 버퍼가 넘치면 resync 이벤트를 보내고 스트림을 끝낸다.
+ * (클라이언트는 재연결 후 전체 목록을 다시 받는다)
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTodoEvents {
+
+    private static final TodoEvent READY = new TodoEvent("ready", null);
+    private static final TodoEvent RESYNC = new TodoEvent("resync", null);
+
+    private final Map<Long, Sinks.Many<TodoEvent>> sinks = new ConcurrentHashMap<>(); // 사용자 ID -> Sink
+    private final int bufferSize; // 연결당 최대 대기 이벤트 수
+    private final Duration heartbeat; // 하트비트 주기
+    private final long retryMs; // 클라이언트 재연결 대기 시간
+
+    public ReactiveTodoEvents(@Value("${TODO_EVENTS_BUFFER_SIZE:64}") int bufferSize,
+                              @Value("${TODO_EVENTS_HEARTBEAT_MS:15000}") long heartbeatMs,
+                              @Value("${TODO_EVENTS_RETRY_MS:3000}") long retryMs) {
+        this.bufferSize = bufferSize;
+        this.heartbeat = Duration.ofMillis(heartbeatMs);
+        this.retryMs = retryMs;
+    }
+
+    /**
+     * 사용자의 이벤트 스트림. 연결 직후 ready 이벤트를 보내고, 이후 변경 이벤트와 하트비트를 보낸다.
+     * @param userId 사용자 ID
+     * @return SSE 이벤트 Flux
+     */
+    public Flux<ServerSentEvent<TodoEvent>> subscribe(Long userId) {
+        Flux<ServerSentEvent<TodoEvent>> changes = Flux.defer(() -> sink(userId).asFlux())
+                .onBackpressureBuffer(bufferSize)
+                .onErrorResume(Exceptions::isOverflow, e -> Flux.just(RESYNC)) // 버퍼 초과 시 resync 후 종료
+                .map(event -> ServerSentEvent.builder(event).event(event.type()).build());
+        Flux<ServerSentEvent<TodoEvent>> pings = Flux.interval(heartbeat)
+                .map(tick -> ServerSentEvent.<TodoEvent>builder().comment("ping").build());
+
+        ServerSentEvent<TodoEvent> ready = ServerSentEvent.builder(READY)
+                .event(READY.type())
+                .retry(Duration.ofMillis(retryMs))
+                .build();
+        return Flux.just(ready)
+                .concatWith(Flux.merge(changes, pings).takeUntil(event -> RESYNC == event.data()))
+                .doFinally(signal -> release(userId));
+    }
+
+    /**
+     * 사용자의 모든 연결에 이벤트를 보낸다. 연결이 없으면 아무 일도 하지 않는다.
+     * 커밋 후에 호출해야 한다.
+     * @param userId 사용자 ID
+     * @param event 변경 이벤트
+     */
+    public void publish(Long userId, TodoEvent event) {
+        Sinks.Many<TodoEvent> sink = sinks.get(userId);
+        if (sink != null) {
+            sink.emitNext(event, Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100)));
+        }
+    }
+
+    // 사용자의 Sink. 구독자마다 요청량을 따로 관리하므로 느린 연결이 다른 연결을 막지 않는다.
+    private Sinks.Many<TodoEvent> sink(Long userId) {
+        return sinks.computeIfAbsent(userId, key -> Sinks.many().multicast().directBestEffort());
+    }
+
+    // 마지막 구독자가 끊기면 Sink 제거.
+    private void release(Long userId) {
+        sinks.computeIfPresent(userId, (key, sink) -> sink.currentSubscriberCount() == 0 ? null : sink);
+    }
+}
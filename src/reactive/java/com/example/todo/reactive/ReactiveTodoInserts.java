@@ -0,0 +1,18 @@
+package com.example.todo.reactive;
+
+import com.example.todo.entity.Todo;
+import reactor.core.publisher.Mono;
+
+/**
+ * ReactiveTodoRepository의 INSERT 메서드.
+ * Todo는 JPA 엔티티라 R2DBC의 save()로는 ID 생성 방식을 알 수 없으므로, 생성된 키를 직접 돌려받는다.
+ */
+public interface ReactiveTodoInserts {
+
+    /**
+     * 새 Todo 저장. 버전은 0으로 저장되며, 저장된 ID와 버전을 설정한 Todo를 반환한다.
+     * @param todo 저장할 Todo (userId, changeSeq 설정 필요)
+     * @return 저장된 Todo
+     */
+    Mono<Todo> insert(Todo todo);
+}
@@ -0,0 +1,38 @@
+package com.example.todo.reactive;
+
+import com.example.todo.entity.Todo;
+import org.springframework.r2dbc.core.DatabaseClient; // SQL 직접 실행
+import reactor.core.publisher.Mono;
+
+/**
+ * ReactiveTodoInserts 구현. 리포지토리 프래그먼트로 ReactiveTodoRepository에 합쳐진다.
+ */
+class ReactiveTodoInsertsImpl implements ReactiveTodoInserts {
+
+    private static final String INSERT = "INSERT INTO todo (task, is_completed, created_at, user_id, version, change_seq)"
+            + " VALUES (:task, :isCompleted, :createdAt, :userId, 0, :changeSeq)";
+
+    private final DatabaseClient databaseClient;
+
+    ReactiveTodoInsertsImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<Todo> insert(Todo todo) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(INSERT)
+                .bind("isCompleted", todo.getIsCompleted() != null ? todo.getIsCompleted() : Boolean.FALSE)
+                .bind("createdAt", todo.getCreatedAt())
+                .bind("userId", todo.getUserId())
+                .bind("changeSeq", todo.getChangeSeq());
+        spec = todo.getTask() != null ? spec.bind("task", todo.getTask()) : spec.bindNull("task", String.class);
+        return spec.filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .map(id -> {
+                    todo.setId(id);
+                    todo.setVersion(0L);
+                    return todo;
+                });
+    }
+}
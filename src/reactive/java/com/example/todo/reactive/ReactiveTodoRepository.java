@@ -0,0 +1,277 @@
+package com.example.todo.reactive;
+
+import com.example.todo.entity.Todo; // JPA 스택과 같은 테이블을 매핑
+import org.springframework.data.r2dbc.repository.Modifying; // 변경 쿼리 표시
+import org.springframework.data.r2dbc.repository.Query; // SQL 쿼리 정의
+import org.springframework.data.r2dbc.repository.R2dbcRepository; // R2DBC 리포지토리 인터페이스
+import org.springframework.data.repository.query.Param; // 쿼리 파라미터 바인딩
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * ReactiveTodoRepository 인터페이스.
+ * TodoRepository와 같은 쿼리를 R2DBC로 실행한다. 호출 스레드를 막지 않고 결과를 Flux/Mono로 반환.
+ * JPA 엔티티 매핑을 공유하지 않으므로 모든 쿼리는 todo 테이블에 대한 SQL로 작성한다.
+ */
+public interface ReactiveTodoRepository extends R2dbcRepository<Todo, Long>, ReactiveTodoInserts {
+
+    /**
+     * 특정 사용자 ID로 Todo 항목 조회.
+     * @param userId 사용자 ID
+     * @return 사용자의 Todo (생성 순)
+     */
+    @Query("SELECT * FROM todo WHERE user_id = :userId ORDER BY created_at, id")
+    Flux<Todo> findByUserId(@Param("userId") Long userId);
+
+    /**
+     * 특정 사용자 ID와 완료 여부로 Todo 항목 조회.
+     * @param userId 사용자 ID
+     * @param isCompleted 완료 여부
+     * @return 조건에 맞는 Todo (생성 순)
+     */
+    @Query("SELECT * FROM todo WHERE user_id = :userId AND is_completed = :isCompleted ORDER BY created_at, id")
+    Flux<Todo> findByUserIdAndIsCompleted(@Param("userId") Long userId, @Param("isCompleted") boolean isCompleted);
+
+    /**
+     * 사용자의 Todo 첫 페이지를 (createdAt, id) 순으로 조회.
+     * @param userId 사용자 ID
+     * @param limit 최대 행 수
+     * @return 첫 페이지 Todo
+     */
+    @Query("SELECT * FROM todo WHERE user_id = :userId ORDER BY created_at, id LIMIT :limit")
+    Flux<Todo> findFirstPage(@Param("userId") Long userId, @Param("limit") int limit);
+
+    /**
+     * 커서 (createdAt, id) 이후의 Todo 페이지 조회.
+     * @param userId 사용자 ID
+     * @param createdAt 커서의 생성 시간
+     * @param id 커서의 ID
+     * @param limit 최대 행 수
+     * @return 다음 페이지 Todo
+     */
+    @Query("SELECT * FROM todo WHERE user_id = :userId AND created_at >= :createdAt"
+            + " AND (created_at > :createdAt OR id > :id) ORDER BY created_at, id LIMIT :limit")
+    Flux<Todo> findPageAfter(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                             @Param("id") Long id, @Param("limit") int limit);
+
+    /**
+     * 완료 여부로 필터링한 첫 페이지 조회.
+     * @param userId 사용자 ID
+     * @param isCompleted 완료 여부
+     * @param limit 최대 행 수
+     * @return 첫 페이지 Todo
+     */
+    @Query("SELECT * FROM todo WHERE user_id = :userId AND is_completed = :isCompleted"
+            + " ORDER BY created_at, id LIMIT :limit")
+    Flux<Todo> findFirstPageByStatus(@Param("userId") Long userId, @Param("isCompleted") boolean isCompleted,
+                                     @Param("limit") int limit);
+
+    /**
+     * 완료 여부로 필터링한 커서 이후 페이지 조회.
+     * @param userId 사용자 ID
+     * @param isCompleted 완료 여부
+     * @param createdAt 커서의 생성 시간
+     * @param id 커서의 ID
+     * @param limit 최대 행 수
+     * @return 다음 페이지 Todo
+     */
+    @Query("SELECT * FROM todo WHERE user_id = :userId AND is_completed = :isCompleted"
+            + " AND created_at >= :createdAt AND (created_at > :createdAt OR id > :id)"
+            + " ORDER BY created_at, id LIMIT :limit")
+    Flux<Todo> findPageAfterByStatus(@Param("userId") Long userId, @Param("isCompleted") boolean isCompleted,
+                                     @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                     @Param("limit") int limit);
+
+    /**
+     * 사용자가 소유한 Todo 하나를 조회.
+     * @param id Todo ID
+     * @param userId 사용자 ID
+     * @return 소유한 Todo (없거나 다른 사용자의 항목이면 빈 Mono)
+     */
+    @Query("SELECT * FROM todo WHERE id = :id AND user_id = :userId")
+    Mono<Todo> findByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * Todo 존재 여부. (소유자와 관계없이)
+     * @param id Todo ID
+     * @return 존재하면 true
+     */
+    @Query("SELECT COUNT(*) > 0 FROM todo WHERE id = :id")
+    Mono<Boolean> existsTodo(@Param("id") Long id);
+
+    /**
+     * 사용자가 소유한 Todo의 존재 여부.
+     * @param id Todo ID
+     * @param userId 사용자 ID
+     * @return 존재하면 true
+     */
+    @Query("SELECT COUNT(*) > 0 FROM todo WHERE id = :id AND user_id = :userId")
+    Mono<Boolean> existsByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * 사용자의 완료된 Todo를 한 번의 DELETE 문으로 삭제.
+     * @param userId 사용자 ID
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM todo WHERE user_id = :userId AND is_completed = TRUE")
+    Mono<Integer> deleteCompletedByUserId(@Param("userId") Long userId);
+
+    /**
+     * 사용자의 모든 Todo 완료 여부를 한 번의 UPDATE 문으로 변경.
+     * @param userId 사용자 ID
+     * @param isCompleted 설정할 완료 여부
+     * @param changeSeq 변경 순번
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE todo SET is_completed = :isCompleted, version = version + 1, change_seq = :changeSeq"
+            + " WHERE user_id = :userId AND is_completed <> :isCompleted")
+    Mono<Integer> updateCompletionByUserId(@Param("userId") Long userId, @Param("isCompleted") boolean isCompleted,
+                                           @Param("changeSeq") Long changeSeq);
+
+    /**
+     * 지정한 ID 중 사용자가 소유한 Todo만 삭제.
+     * @param userId 사용자 ID
+     * @param ids 삭제할 Todo ID 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM todo WHERE user_id = :userId AND id IN (:ids)")
+    Mono<Integer> deleteByUserIdAndIdIn(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    /**
+     * 지정한 ID 중 사용자가 소유한 Todo의 완료 여부를 변경.
+     * @param userId 사용자 ID
+     * @param ids 변경할 Todo ID 목록
+     * @param isCompleted 설정할 완료 여부
+     * @param changeSeq 변경 순번
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE todo SET is_completed = :isCompleted, version = version + 1, change_seq = :changeSeq"
+            + " WHERE user_id = :userId AND id IN (:ids) AND is_completed <> :isCompleted")
+    Mono<Integer> updateCompletionByUserIdAndIdIn(@Param("userId") Long userId,
+                                                  @Param("ids") Collection<Long> ids,
+                                                  @Param("isCompleted") boolean isCompleted,
+                                                  @Param("changeSeq") Long changeSeq);
+
+    /**
+     * 사용자가 소유한 Todo 하나를 조회 없이 삭제.
+     * @param id Todo ID
+     * @param userId 사용자 ID
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM todo WHERE id = :id AND user_id = :userId")
+    Mono<Integer> deleteByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * 완료 상태를 조회 없이 한 번의 UPDATE 문으로 토글.
+     * @param id Todo ID
+     * @param userId 사용자 ID
+     * @param changeSeq 변경 순번
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE todo SET is_completed = NOT is_completed, version = version + 1, change_seq = :changeSeq"
+            + " WHERE id = :id AND user_id = :userId")
+    Mono<Integer> toggleCompletion(@Param("id") Long id, @Param("userId") Long userId,
+                                   @Param("changeSeq") Long changeSeq);
+
+    /**
+     * 내용과 완료 여부를 조회 없이 수정. expectedVersion이 주어지면 현재 버전과 같을 때만 수정한다.
+     * @param id Todo ID
+     * @param userId 사용자 ID
+     * @param task 새 내용
+     * @param isCompleted 새 완료 여부
+     * @param expectedVersion 클라이언트가 알고 있는 버전 (null이면 검사하지 않음)
+     * @param changeSeq 변경 순번
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE todo SET task = :task, is_completed = :isCompleted, version = version + 1, change_seq = :changeSeq"
+            + " WHERE id = :id AND user_id = :userId AND (:expectedVersion IS NULL OR version = :expectedVersion)")
+    Mono<Integer> updateContent(@Param("id") Long id,
+                                @Param("userId") Long userId,
+                                @Param("task") String task,
+                                @Param("isCompleted") Boolean isCompleted,
+                                @Param("expectedVersion") Long expectedVersion,
+                                @Param("changeSeq") Long changeSeq);
+
+    /**
+     * 변경 순번 이후에 추가되거나 수정된 Todo 조회.
+     * @param userId 사용자 ID
+     * @param since 클라이언트가 마지막으로 동기화한 변경 순번
+     * @return 변경된 Todo (변경 순번 오름차순)
+     */
+    @Query("SELECT * FROM todo WHERE user_id = :userId AND change_seq > :since ORDER BY change_seq")
+    Flux<Todo> findChangedSince(@Param("userId") Long userId, @Param("since") Long since);
+
+    /**
+     * 사용자의 Todo 변경 순번을 1 증가. 트랜잭션이 끝날 때까지 변경 순번 행을 잠근다.
+     * @param userId 사용자 ID
+     * @return 변경된 행 수 (변경한 적이 없는 사용자는 0)
+     */
+    @Modifying
+    @Query("UPDATE todo_owners SET change_seq = change_seq + 1 WHERE user_id = :userId AND moved_to IS NULL")
+    Mono<Integer> incrementChangeSeq(@Param("userId") Long userId);
+
+    /**
+     * 사용자의 첫 변경 때 변경 순번 행을 순번 1로 생성. 이미 있으면 아무 일도 하지 않는다.
+     * @param userId 사용자 ID
+     * @return 생성된 행 수
+     */
+    @Modifying
+    @Query("INSERT INTO todo_owners (user_id, change_seq)"
+            + " SELECT CAST(:userId AS BIGINT), 1 WHERE NOT EXISTS (SELECT 1 FROM todo_owners WHERE user_id = :userId)")
+    Mono<Integer> insertOwner(@Param("userId") Long userId);
+
+    /**
+     * 사용자의 현재 Todo 변경 순번 조회.
+     * @param userId 사용자 ID
+     * @return 변경 순번 (변경한 적이 없으면 빈 Mono)
+     */
+    @Query("SELECT change_seq FROM todo_owners WHERE user_id = :userId")
+    Mono<Long> findChangeSeq(@Param("userId") Long userId);
+
+    /**
+     * 사용자의 완료된 Todo에 대한 삭제 기록 생성. (삭제 직전에 호출)
+     * @param userId 사용자 ID
+     * @param changeSeq 삭제 시점의 변경 순번
+     * @param deletedAt 삭제 시간
+     * @return 생성된 기록 수
+     */
+    @Modifying
+    @Query("INSERT INTO todo_tombstones (todo_id, user_id, change_seq, deleted_at)"
+            + " SELECT id, user_id, :changeSeq, :deletedAt FROM todo WHERE user_id = :userId AND is_completed = TRUE")
+    Mono<Integer> insertTombstonesForCompleted(@Param("userId") Long userId, @Param("changeSeq") Long changeSeq,
+                                               @Param("deletedAt") LocalDateTime deletedAt);
+
+    /**
+     * 지정한 ID 중 사용자가 소유한 Todo에 대한 삭제 기록 생성. (삭제 직전에 호출)
+     * @param userId 사용자 ID
+     * @param ids 삭제할 Todo ID 목록
+     * @param changeSeq 삭제 시점의 변경 순번
+     * @param deletedAt 삭제 시간
+     * @return 생성된 기록 수
+     */
+    @Modifying
+    @Query("INSERT INTO todo_tombstones (todo_id, user_id, change_seq, deleted_at)"
+            + " SELECT id, user_id, :changeSeq, :deletedAt FROM todo WHERE user_id = :userId AND id IN (:ids)")
+    Mono<Integer> insertTombstonesForIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids,
+                                         @Param("changeSeq") Long changeSeq,
+                                         @Param("deletedAt") LocalDateTime deletedAt);
+
+    /**
+     * 변경 순번 이후에 삭제된 Todo ID 조회.
+     * @param userId 사용자 ID
+     * @param since 클라이언트가 마지막으로 동기화한 변경 순번
+     * @return 삭제된 Todo ID
+     */
+    @Query("SELECT todo_id FROM todo_tombstones WHERE user_id = :userId AND change_seq > :since")
+    Flux<Long> findDeletedIdsSince(@Param("userId") Long userId, @Param("since") Long since);
+}
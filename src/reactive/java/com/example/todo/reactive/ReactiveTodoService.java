@@ -0,0 +1,321 @@
+package com.example.todo.reactive;
+
+import com.example.todo.dto.SyncToken;
+import com.example.todo.dto.TodoChanges;
+import com.example.todo.dto.TodoCursor;
+import com.example.todo.dto.TodoPage;
+import com.example.todo.entity.Todo;
+import com.example.todo.event.TodoEvent;
+import com.example.todo.service.TodoListVersions;
+import com.example.todo.service.TodoService;
+import com.example.todo.service.TodoService.MutationResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator; // R2DBC 트랜잭션 경계
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 반응형 스택의 Todo 서비스.
+ * TodoService, TodoSyncService와 같은 규칙(조건부 UPDATE, 사용자 변경 순번, 삭제 기록, 목록 버전)을
+ * R2DBC로 처리하며, 모든 변경은 하나의 R2DBC 트랜잭션에서 실행되고 커밋 후에 목록 버전과 이벤트를 갱신한다.
+ *
+ * 목록 캐시와 노드 간 무효화 버스는 JDBC 트랜잭션에 묶여 있으므로 사용하지 않는다. (목록은 매번 DB에서 읽음)
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTodoService {
+
+    private final ReactiveTodoRepository todoRepository; // R2DBC Todo 조회/변경
+    private final TransactionalOperator transactionalOperator; // 변경 트랜잭션
+    private final TodoListVersions listVersions; // 사용자별 목록 버전 (목록 ETag)
+    private final ReactiveTodoEvents events; // 변경 이벤트 스트림
+    private final Duration tokenTtl; // 동기화 토큰 유효 기간
+
+    // 생성자 주입을 통해 의존성 초기화.
+    public ReactiveTodoService(ReactiveTodoRepository todoRepository,
+                               TransactionalOperator transactionalOperator,
+                               TodoListVersions listVersions,
+                               ReactiveTodoEvents events,
+                               @Value("${TODO_SYNC_TOKEN_TTL_DAYS:7}") long tokenTtlDays) {
+        this.todoRepository = todoRepository;
+        this.transactionalOperator = transactionalOperator;
+        this.listVersions = listVersions;
+        this.events = events;
+        this.tokenTtl = Duration.ofDays(tokenTtlDays);
+    }
+
+    /**
+     * 사용자의 모든 Todo 항목을 (createdAt, id) 순으로 조회.
+     * 결과를 모으지 않고 행을 읽는 대로 내보내므로 NDJSON 스트리밍에도 사용한다.
+     *
+     * @param userId 사용자의 고유 ID
+     * @return Todo Flux
+     */
+    public Flux<Todo> findAll(Long userId) {
+        return todoRepository.findByUserId(userId);
+    }
+
+    /**
+     * 주어진 사용자 ID와 완료 상태에 따라 Todo 항목을 조회.
+     *
+     * @param userId 사용자의 고유 ID
+     * @param isCompleted 완료 상태
+     * @return 필터링된 Todo Flux
+     */
+    public Flux<Todo> findByUserAndCompletionStatus(Long userId, boolean isCompleted) {
+        return todoRepository.findByUserIdAndIsCompleted(userId, isCompleted);
+    }
+
+    /**
+     * 키셋 페이지 조회. 다음 페이지 존재 여부는 limit + 1 개를 조회하여 판단한다.
+     *
+     * @param userId 사용자의 고유 ID
+     * @param isCompleted 완료 상태 필터 (null이면 전체)
+     * @param cursor 이전 페이지의 커서 (null이면 첫 페이지)
+     * @param limit 페이지 크기
+     * @return 페이지 항목과 다음 페이지 커서
+     */
+    public Mono<TodoPage> findPage(Long userId, Boolean isCompleted, TodoCursor cursor, int limit) {
+        int fetchLimit = limit + 1;
+        Flux<Todo> rows;
+        if (isCompleted == null) {
+            rows = cursor == null
+                    ? todoRepository.findFirstPage(userId, fetchLimit)
+                    : todoRepository.findPageAfter(userId, cursor.getCreatedAt(), cursor.getId(), fetchLimit);
+        } else {
+            rows = cursor == null
+                    ? todoRepository.findFirstPageByStatus(userId, isCompleted, fetchLimit)
+                    : todoRepository.findPageAfterByStatus(userId, isCompleted, cursor.getCreatedAt(), cursor.getId(), fetchLimit);
+        }
+
+        return rows.collectList().map(list -> {
+            if (list.size() <= limit) {
+                return new TodoPage(list, null); // 마지막 페이지
+            }
+            List<Todo> items = list.subList(0, limit);
+            return new TodoPage(items, TodoCursor.after(items.get(limit - 1)).encode());
+        });
+    }
+
+    /**
+     * 사용자가 소유한 Todo 하나를 조회.
+     *
+     * @param userId 사용자의 고유 ID
+     * @param id Todo ID
+     * @return 소유한 Todo (없거나 다른 사용자의 항목이면 빈 Mono)
+     */
+    public Mono<Todo> findOwned(Long userId, Long id) {
+        return todoRepository.findByIdAndUserId(id, userId);
+    }
+
+    /**
+     * 새 Todo 항목 저장.
+     *
+     * @param userId 소유자 사용자 ID
+     * @param todo 저장할 Todo
+     * @return 저장된 Todo
+     */
+    public Mono<Todo> create(Long userId, Todo todo) {
+        return mutate(userId, seq -> {
+            todo.setUserId(userId);
+            todo.setChangeSeq(seq);
+            return todoRepository.insert(todo);
+        }).doOnNext(saved -> changed(userId, TodoEvent.created(saved.getId())));
+    }
+
+    /**
+     * 사용자가 소유한 Todo 하나를 조회 없이 삭제. 삭제 기록도 같은 트랜잭션에서 만든다.
+     *
+     * @param userId 소유자 사용자 ID
+     * @param id Todo ID
+     * @return 결과 (UPDATED: 삭제됨, FORBIDDEN: 다른 사용자의 Todo, NOT_FOUND: 없음)
+     */
+    public Mono<MutationResult> delete(Long userId, Long id) {
+        return mutate(userId, seq -> todoRepository.insertTombstonesForIds(userId, List.of(id), seq, LocalDateTime.now())
+                .then(todoRepository.deleteByIdAndUserId(id, userId)))
+                .flatMap(deleted -> {
+                    if (deleted == 1) {
+                        changed(userId, TodoEvent.deleted(List.of(id)));
+                        return Mono.just(MutationResult.UPDATED);
+                    }
+                    return notUpdated(id);
+                });
+    }
+
+    /**
+     * 사용자의 완료된 Todo 항목을 한 번의 DELETE 문으로 삭제.
+     *
+     * @param userId 소유자 사용자 ID
+     * @return 삭제된 항목 수
+     */
+    public Mono<Integer> deleteCompleted(Long userId) {
+        return mutate(userId, seq -> todoRepository.insertTombstonesForCompleted(userId, seq, LocalDateTime.now())
+                .then(todoRepository.deleteCompletedByUserId(userId)))
+                .doOnNext(deleted -> bumpIfChanged(userId, deleted, TodoEvent.changed()));
+    }
+
+    /**
+     * 사용자의 모든 Todo 완료 여부를 한 번의 UPDATE 문으로 변경.
+     *
+     * @param userId 소유자 사용자 ID
+     * @param isCompleted 설정할 완료 여부
+     * @return 변경된 항목 수
+     */
+    public Mono<Integer> setAllCompleted(Long userId, boolean isCompleted) {
+        return mutate(userId, seq -> todoRepository.updateCompletionByUserId(userId, isCompleted, seq))
+                .doOnNext(updated -> bumpIfChanged(userId, updated, TodoEvent.changed()));
+    }
+
+    /**
+     * 지정한 ID 중 사용자가 소유한 Todo만 삭제.
+     *
+     * @param userId 소유자 사용자 ID
+     * @param ids 삭제할 Todo ID 목록
+     * @return 삭제된 항목 수
+     * @throws IllegalArgumentException ID 개수가 최대값을 넘는 경우 (Mono 오류로 전달)
+     */
+    public Mono<Integer> deleteByIds(Long userId, Collection<Long> ids) {
+        return Mono.fromCallable(() -> normalizeIds(ids)).flatMap(targets -> targets.isEmpty() ? Mono.just(0)
+                : mutate(userId, seq -> todoRepository.insertTombstonesForIds(userId, targets, seq, LocalDateTime.now())
+                        .then(todoRepository.deleteByUserIdAndIdIn(userId, targets)))
+                        .doOnNext(deleted -> bumpIfChanged(userId, deleted, TodoEvent.deleted(targets))));
+    }
+
+    /**
+     * 지정한 ID 중 사용자가 소유한 Todo의 완료 여부를 변경.
+     *
+     * @param userId 소유자 사용자 ID
+     * @param ids 변경할 Todo ID 목록
+     * @param isCompleted 설정할 완료 여부
+     * @return 변경된 항목 수
+     * @throws IllegalArgumentException ID 개수가 최대값을 넘는 경우 (Mono 오류로 전달)
+     */
+    public Mono<Integer> setCompletedByIds(Long userId, Collection<Long> ids, boolean isCompleted) {
+        return Mono.fromCallable(() -> normalizeIds(ids)).flatMap(targets -> targets.isEmpty() ? Mono.just(0)
+                : mutate(userId, seq -> todoRepository.updateCompletionByUserIdAndIdIn(userId, targets, isCompleted, seq))
+                        .doOnNext(updated -> bumpIfChanged(userId, updated, TodoEvent.updated(targets))));
+    }
+
+    /**
+     * 완료 상태를 조회 없이 UPDATE 문 하나로 토글.
+     *
+     * @param userId 소유자 사용자 ID
+     * @param id Todo ID
+     * @return 결과 (UPDATED, FORBIDDEN, NOT_FOUND)
+     */
+    public Mono<MutationResult> toggleCompletion(Long userId, Long id) {
+        return mutate(userId, seq -> todoRepository.toggleCompletion(id, userId, seq))
+                .flatMap(updated -> {
+                    if (updated == 1) {
+                        changed(userId, TodoEvent.updated(List.of(id)));
+                        return Mono.just(MutationResult.UPDATED);
+                    }
+                    return notUpdated(id);
+                });
+    }
+
+    /**
+     * 내용과 완료 여부를 조회 없이 조건부 UPDATE 문 하나로 수정.
+     *
+     * @param userId 소유자 사용자 ID
+     * @param id Todo ID
+     * @param task 새 내용
+     * @param isCompleted 새 완료 여부
+     * @param expectedVersion If-Match 헤더의 버전 (null이면 검사하지 않음)
+     * @return 결과 (UPDATED, VERSION_CONFLICT, FORBIDDEN, NOT_FOUND)
+     */
+    public Mono<MutationResult> update(Long userId, Long id, String task, Boolean isCompleted, Long expectedVersion) {
+        return mutate(userId, seq -> todoRepository.updateContent(id, userId, task, isCompleted, expectedVersion, seq))
+                .flatMap(updated -> {
+                    if (updated == 1) {
+                        changed(userId, TodoEvent.updated(List.of(id)));
+                        return Mono.just(MutationResult.UPDATED);
+                    }
+                    return todoRepository.existsByIdAndUserId(id, userId)
+                            .flatMap(owned -> owned ? Mono.just(MutationResult.VERSION_CONFLICT) : notUpdated(id));
+                });
+    }
+
+    /**
+     * 토큰 이후의 변경 조회. TodoSyncService.changesSince와 같은 규칙을 따른다.
+     *
+     * @param userId 사용자의 고유 ID
+     * @param token 이전 응답의 토큰 (null이면 처음 동기화)
+     * @return 변경 목록과 다음 토큰
+     * @throws IllegalArgumentException 토큰 형식이 잘못된 경우 (Mono 오류로 전달)
+     */
+    public Mono<TodoChanges> changesSince(Long userId, String token) {
+        SyncToken since;
+        try {
+            since = token == null || token.isBlank() ? null : SyncToken.decode(token);
+        } catch (IllegalArgumentException e) {
+            return Mono.error(e);
+        }
+
+        // 항목을 읽기 전에 현재 순번을 정해야 사이에 커밋된 변경이 다음 동기화에서 누락되지 않음
+        return todoRepository.findChangeSeq(userId).defaultIfEmpty(0L).flatMap(current -> {
+            Instant now = Instant.now();
+            String nextToken = new SyncToken(current, now).encode();
+            if (since == null || since.getIssuedAt().isBefore(now.minus(tokenTtl)) || since.getChangeSeq() > current) {
+                // 처음 동기화, 만료된 토큰, 다른 데이터베이스에서 발급된 토큰은 전체 목록으로 재설정
+                return todoRepository.findByUserId(userId).collectList()
+                        .map(all -> new TodoChanges(all, List.of(), nextToken, true));
+            }
+            return Mono.zip(todoRepository.findChangedSince(userId, since.getChangeSeq()).collectList(),
+                            todoRepository.findDeletedIdsSince(userId, since.getChangeSeq()).collectList())
+                    .map(tuple -> new TodoChanges(tuple.getT1(), tuple.getT2(), nextToken, false));
+        });
+    }
+
+    // 사용자 변경 순번을 올린 뒤 변경 작업을 실행. 전체를 하나의 트랜잭션으로 묶는다.
+    // 변경 순번 UPDATE가 변경 순번 행을 잠가 같은 사용자의 변경을 직렬화한다. 첫 변경이면 행을 순번 1로 만든다.
+    private <T> Mono<T> mutate(Long userId, Function<Long, Mono<T>> work) {
+        return todoRepository.incrementChangeSeq(userId)
+                .flatMap(updated -> updated == 1 ? Mono.just(updated) : todoRepository.insertOwner(userId))
+                .then(todoRepository.findChangeSeq(userId).defaultIfEmpty(0L))
+                .flatMap(work)
+                .as(transactionalOperator::transactional);
+    }
+
+    // 변경에 실패한 단건 요청의 원인 확인.
+    private Mono<MutationResult> notUpdated(Long id) {
+        return todoRepository.existsTodo(id)
+                .map(exists -> exists ? MutationResult.FORBIDDEN : MutationResult.NOT_FOUND);
+    }
+
+    // 변경된 행이 있으면 목록 버전을 올리고 이벤트를 보낸다.
+    private void bumpIfChanged(Long userId, int changed, TodoEvent event) {
+        if (changed > 0) {
+            changed(userId, event);
+        }
+    }
+
+    // 사용자 목록이 바뀜 (커밋 후 호출): 목록 버전을 올리고 연결된 클라이언트에 이벤트를 보낸다.
+    private void changed(Long userId, TodoEvent event) {
+        listVersions.bump(userId);
+        events.publish(userId, event);
+    }
+
+    // null과 중복을 제거하고 최대 개수를 검사.
+    private static Collection<Long> normalizeIds(Collection<Long> ids) {
+        if (ids == null) {
+            return List.of();
+        }
+        LinkedHashSet<Long> targets = new LinkedHashSet<>(ids);
+        targets.remove(null);
+        if (targets.size() > TodoService.MAX_BULK_IDS) {
+            throw new IllegalArgumentException("Too many ids: " + targets.size() + " (max " + TodoService.MAX_BULK_IDS + ")");
+        }
+        return targets;
+    }
+}
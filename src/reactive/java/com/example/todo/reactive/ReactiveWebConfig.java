@@ -0,0 +1,42 @@
+package com.example.todo.reactive;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.config.CorsRegistry;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import java.net.URI;
+
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+/**
+ * 반응형 스택의 웹 설정. WebConfig의 CORS 설정과 HomeController의 루트 리다이렉트를 대신한다.
+ */
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Configuration
+public class ReactiveWebConfig implements WebFluxConfigurer {
+
+    @Override
+    public void addCorsMappings(CorsRegistry registry) {
+        registry.addMapping("/**") // 모든 경로에 대해 CORS 허용
+                .allowedOrigins(
+                        "http://localhost:3000",
+                        "http://localhost:8080",
+                        "https://todo-project-j3jq.onrender.com"
+                )
+                .allowedMethods("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS")
+                .allowedHeaders("*")
+                .exposedHeaders("X-Next-Cursor", "ETag")
+                .allowCredentials(true);
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> homeRoute() {
+        // 루트 URL은 초기 화면(index.html)으로 리다이렉트
+        return route().GET("/", request -> ServerResponse.status(HttpStatus.FOUND).location(URI.create("/frontend/index.html")).build()).build();
+    }
+}
@@ -0,0 +1,414 @@
+package com.example.todo.reactive;
+
+import com.example.todo.entity.User;
+import com.example.todo.event.TodoEvent;
+import com.example.todo.repository.UserRepository;
+import com.example.todo.security.AuthenticatedUser;
+import com.example.todo.security.JwtUtil;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 반응형 스택(WebFlux + R2DBC)에서 TodoIntegrationTest와 같은 동작을 확인한다.
+ * 테스트 트랜잭션 대신 매 테스트 전에 테이블을 비운다. (R2DBC 변경은 각자 커밋됨)
+ */
+@SpringBootTest(properties = {
+        "spring.main.web-application-type=reactive",
+        "spring.datasource.url=jdbc:h2:mem:reactivedb;DB_CLOSE_DELAY=-1",
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactivedb;DB_CLOSE_DELAY=-1",
+        "spring.r2dbc.username=sa"
+})
+@AutoConfigureWebTestClient
+@ActiveProfiles("test")
+public class ReactiveTodoIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private ReactiveTodoEvents events;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Long userId; // 테스트 사용자의 ID
+    private String bearerToken; // 테스트 사용자의 Authorization 헤더 값
+
+    @BeforeEach
+    public void clearDatabase() {
+        jdbcTemplate.update("DELETE FROM todo");
+        jdbcTemplate.update("DELETE FROM todo_tombstones");
+        jdbcTemplate.update("DELETE FROM refresh_tokens");
+        jdbcTemplate.update("DELETE FROM users");
+
+        // 테스트 사용자 생성 및 JWT 발급
+        User user = new User();
+        user.setUsername("reactive-user");
+        user.setPassword("{noop}password");
+        userRepository.save(user);
+        userId = user.getId();
+        bearerToken = "Bearer " + jwtUtil.generateToken(AuthenticatedUser.from(user));
+    }
+
+    @Test
+    public void testFullWorkflow() {
+        // 1. Create a new Todo
+        JsonNode created = json(webTestClient.post().uri("/api/todos")
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"task\": \"Integration Test Task\", \"isCompleted\": false}")
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.task").isEqualTo("Integration Test Task")
+                .jsonPath("$.isCompleted").isEqualTo(false)
+                .returnResult().getResponseBody());
+        long id = created.get("id").asLong();
+
+        // 2. Get all Todos
+        get("/api/todos").expectStatus().isOk()
+                .expectBody().jsonPath("$.length()").isEqualTo(1);
+
+        // 3. Update the Todo
+        webTestClient.put().uri("/api/todos/" + id)
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"task\": \"Updated Task\", \"isCompleted\": true}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.task").isEqualTo("Updated Task");
+
+        // 4. Delete the Todo
+        webTestClient.delete().uri("/api/todos/" + id)
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .exchange()
+                .expectStatus().isNoContent();
+
+        // 5. Check if Todo is deleted
+        get("/api/todos").expectStatus().isOk()
+                .expectBody().jsonPath("$.length()").isEqualTo(0);
+    }
+
+    @Test
+    public void testKeysetPagination() {
+        for (int i = 1; i <= 5; i++) {
+            createTodo("Task " + i);
+        }
+
+        // 1. 첫 페이지: 2개와 다음 커서
+        String cursor = get("/api/todos?limit=2").expectStatus().isOk()
+                .expectHeader().exists("X-Next-Cursor")
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].task").isEqualTo("Task 1")
+                .returnResult().getResponseHeaders().getFirst("X-Next-Cursor");
+
+        // 2. 두 번째 페이지
+        cursor = get("/api/todos?limit=2&cursor=" + cursor).expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].task").isEqualTo("Task 3")
+                .jsonPath("$[1].task").isEqualTo("Task 4")
+                .returnResult().getResponseHeaders().getFirst("X-Next-Cursor");
+
+        // 3. 마지막 페이지에는 다음 커서가 없음
+        get("/api/todos?limit=2&cursor=" + cursor).expectStatus().isOk()
+                .expectHeader().doesNotExist("X-Next-Cursor")
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].task").isEqualTo("Task 5");
+
+        // 4. 잘못된 커서는 400
+        get("/api/todos/filter?isCompleted=false&cursor=not-a-cursor").expectStatus().isBadRequest();
+    }
+
+    @Test
+    public void testStreamTodosAsNdjsonInOrder() {
+        for (int i = 1; i <= 3; i++) {
+            createTodo("Task " + i);
+        }
+
+        // 한 줄에 Todo 하나씩 생성 순서대로 전달
+        String body = get("/api/todos/stream").expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(ReactiveTodoController.NDJSON)
+                .expectBody(String.class).returnResult().getResponseBody();
+        List<String> tasks = body.lines().map(line -> json(line).get("task").asText()).toList();
+        assertEquals(List.of("Task 1", "Task 2", "Task 3"), tasks);
+    }
+
+    @Test
+    public void testBulkOperations() {
+        Long first = createTodo("Task 1");
+        Long second = createTodo("Task 2");
+        createTodo("Task 3");
+
+        // 다른 사용자의 Todo는 일괄 작업 대상에서 제외됨
+        jdbcTemplate.update("INSERT INTO todo (task, is_completed, created_at, user_id, version, change_seq) "
+                + "VALUES ('Foreign Task', false, CURRENT_TIMESTAMP, ?, 0, 0)", userId + 1000);
+        Long foreign = jdbcTemplate.queryForObject("SELECT id FROM todo WHERE user_id = ?", Long.class, userId + 1000);
+
+        // 1. 지정한 ID 일괄 완료 처리
+        webTestClient.patch().uri("/api/todos/bulk-complete")
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"ids\": [" + first + ", " + second + ", " + foreign + "], \"isCompleted\": true}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.updated").isEqualTo(2);
+
+        // 2. 완료된 항목 일괄 삭제
+        webTestClient.delete().uri("/api/todos/completed")
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.deleted").isEqualTo(2);
+
+        // 3. 모두 완료 처리 후 남은 항목 수 확인
+        webTestClient.patch().uri("/api/todos/complete-all")
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.updated").isEqualTo(1);
+
+        // 4. 다른 사용자의 항목은 삭제되지 않음
+        webTestClient.post().uri("/api/todos/bulk-delete")
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"ids\": [" + foreign + "]}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.deleted").isEqualTo(0);
+        assertFalse(jdbcTemplate.queryForObject("SELECT is_completed FROM todo WHERE id = ?", Boolean.class, foreign));
+    }
+
+    @Test
+    public void testConditionalUpdateAndToggle() {
+        Long id = createTodo("Versioned Task");
+
+        // 1. If-Match 버전이 일치하면 수정되고 새 버전의 ETag 반환
+        webTestClient.put().uri("/api/todos/" + id)
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"task\": \"Edited\", \"isCompleted\": false}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"1\"")
+                .expectBody().jsonPath("$.task").isEqualTo("Edited");
+
+        // 2. 오래된 버전으로 수정하면 409
+        webTestClient.put().uri("/api/todos/" + id)
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"task\": \"Stale\", \"isCompleted\": false}")
+                .exchange()
+                .expectStatus().isEqualTo(409);
+
+        // If-Match는 강한 비교이므로 현재 버전이어도 약한 ETag는 412
+        webTestClient.put().uri("/api/todos/" + id)
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .header(HttpHeaders.IF_MATCH, "W/\"1\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"task\": \"Weak\", \"isCompleted\": false}")
+                .exchange()
+                .expectStatus().isEqualTo(412);
+
+        // 3. return=minimal 토글은 본문 없이 204
+        webTestClient.patch().uri("/api/todos/" + id + "/toggle")
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .header("Prefer", "return=minimal")
+                .exchange()
+                .expectStatus().isNoContent();
+
+        // 4. 기본 토글은 변경된 항목 반환
+        webTestClient.patch().uri("/api/todos/" + id + "/toggle")
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.isCompleted").isEqualTo(false)
+                .jsonPath("$.version").isEqualTo(3);
+
+        // 5. 없는 항목은 404
+        webTestClient.patch().uri("/api/todos/" + (id + 1000) + "/toggle")
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    public void testUnchangedListIsNotModified() {
+        String eTag = get("/api/todos").expectStatus().isOk()
+                .expectHeader().exists(HttpHeaders.ETAG)
+                .returnResult(String.class).getResponseHeaders().getETag();
+
+        // 목록이 바뀌지 않았으면 본문 없이 304
+        webTestClient.get().uri("/api/todos")
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+
+        // 다른 표현(필터 목록)에는 전체 목록의 ETag가 맞지 않음
+        webTestClient.get().uri("/api/todos/filter?isCompleted=true")
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    public void testDeltaSyncReturnsOnlyChangesSinceToken() {
+        createTodo("Kept");
+        Long toggled = createTodo("Toggled");
+        Long removed = createTodo("Removed");
+
+        // 1. 처음 동기화는 전체 목록
+        String token = json(get("/api/todos/changes").expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.reset").isEqualTo(true)
+                .jsonPath("$.changes.length()").isEqualTo(3)
+                .returnResult().getResponseBody()).get("token").asText();
+
+        // 2. 토글 하나, 삭제 하나 후에는 그 두 건만 반환
+        webTestClient.patch().uri("/api/todos/" + toggled + "/toggle")
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .exchange()
+                .expectStatus().isOk();
+        webTestClient.delete().uri("/api/todos/" + removed)
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .exchange()
+                .expectStatus().isNoContent();
+
+        String next = json(get("/api/todos/changes?since=" + token).expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.reset").isEqualTo(false)
+                .jsonPath("$.changes.length()").isEqualTo(1)
+                .jsonPath("$.changes[0].id").isEqualTo(toggled)
+                .jsonPath("$.deleted.length()").isEqualTo(1)
+                .jsonPath("$.deleted[0]").isEqualTo(removed)
+                .returnResult().getResponseBody()).get("token").asText();
+
+        // 3. 그 이후 변경이 없으면 빈 응답
+        get("/api/todos/changes?since=" + next).expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.changes.length()").isEqualTo(0)
+                .jsonPath("$.deleted.length()").isEqualTo(0);
+
+        // 4. 잘못된 토큰은 400
+        get("/api/todos/changes?since=not-a-token").expectStatus().isBadRequest();
+    }
+
+    @Test
+    public void testEventStreamDeliversChangesToSubscriber() {
+        Flux<ServerSentEvent<TodoEvent>> stream = get("/api/todos/events").expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM)
+                .returnResult(new ParameterizedTypeReference<ServerSentEvent<TodoEvent>>() {})
+                .getResponseBody();
+
+        StepVerifier.create(stream)
+                .assertNext(event -> assertEquals("ready", event.event()))
+                .then(() -> events.publish(userId, TodoEvent.created(42L)))
+                .assertNext(event -> {
+                    assertEquals("created", event.event());
+                    assertEquals(List.of(42L), event.data().ids());
+                })
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void testTamperedTokenIsRejected() {
+        // 같은 토큰은 캐시된 검증 결과로 통과
+        get("/api/todos").expectStatus().isOk();
+        get("/api/todos").expectStatus().isOk();
+
+        // 서명이 변조된 토큰은 캐시에 없으므로 다시 검증되어 거부됨
+        webTestClient.get().uri("/api/todos")
+                .header(HttpHeaders.AUTHORIZATION, bearerToken + "x")
+                .exchange()
+                .expectStatus().isForbidden();
+
+        // 토큰이 없으면 401
+        webTestClient.get().uri("/api/todos")
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    public void testLegacyTokenWithoutUserIdClaim() {
+        // uid 클레임이 없는 이전 형식 토큰도 사용자 조회를 거쳐 인증됨
+        String legacyToken = Jwts.builder()
+                .setSubject("reactive-user")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtUtil.getSecretKey())), SignatureAlgorithm.HS512)
+                .compact();
+
+        webTestClient.get().uri("/api/todos")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + legacyToken)
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    private WebTestClient.ResponseSpec get(String uri) {
+        return webTestClient.get().uri(uri)
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .exchange();
+    }
+
+    private Long createTodo(String task) {
+        byte[] response = webTestClient.post().uri("/api/todos")
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"task\": \"" + task + "\", \"isCompleted\": false}")
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody().returnResult().getResponseBody();
+        return json(response).get("id").asLong();
+    }
+
+    private JsonNode json(byte[] body) {
+        return json(new String(body));
+    }
+
+    private JsonNode json(String body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.todo.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestConcurrencyLimitFilterTest {
+
+    private final RequestConcurrencyLimitFilter filter =
+            new RequestConcurrencyLimitFilter(1, 0, new ObjectMapper(), new SimpleMeterRegistry());
+
+    @Test
+    void rejectsRequestsOverLimitWithServiceUnavailable() throws Exception {
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        MockHttpServletResponse accepted = new MockHttpServletResponse();
+
+        // 첫 요청이 처리되는 동안 들어온 두 번째 요청은 허가를 얻지 못함
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/todos"), accepted, (request, response) -> {
+            assertThat(filter.activeRequests()).isEqualTo(1);
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/todos"), rejected, new MockFilterChain());
+        });
+
+        assertThat(accepted.getStatus()).isEqualTo(200);
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(rejected.getContentAsString()).contains("message");
+    }
+
+    @Test
+    void releasesPermitWhenChainThrows() throws Exception {
+        try {
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/todos"), new MockHttpServletResponse(),
+                    (request, response) -> {
+                        throw new IllegalStateException("boom");
+                    });
+        } catch (IllegalStateException expected) {
+            // 처리 중 예외가 나도 허가는 반환됨
+        }
+        assertThat(filter.activeRequests()).isZero();
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/todos"), response, new MockFilterChain());
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+}
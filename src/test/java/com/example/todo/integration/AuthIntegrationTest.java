@@ -0,0 +1,177 @@
+package com.example.todo.integration;
+
+import com.example.todo.repository.RefreshTokenRepository;
+import com.example.todo.repository.UserRepository;
+import com.example.todo.security.PasswordHashingExecutor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// 회원가입/로그인은 별도 스레드 풀에서 커밋되므로 테스트 트랜잭션 없이 실행
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class AuthIntegrationTest {
+
+    private static final String USERNAME = "auth-flow-user";
+    private static final String CREDENTIALS = "{\"username\": \"" + USERNAME + "\", \"password\": \"secret123\"}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    @AfterEach
+    public void deleteUser() {
+        refreshTokenRepository.deleteAll();
+        userRepository.findByUsername(USERNAME).ifPresent(userRepository::delete);
+    }
+
+    @Test
+    public void testRegisterAndLoginRunOnHashingExecutor() throws Exception {
+        // 1. 회원가입 (비동기 처리)
+        MvcResult register = mockMvc.perform(post("/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(CREDENTIALS))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(register))
+                .andExpect(status().isOk());
+
+        // 2. 로그인 성공 시 토큰 발급
+        MvcResult login = mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(CREDENTIALS))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(login))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").isNotEmpty());
+
+        // 3. 잘못된 비밀번호는 401
+        MvcResult badLogin = mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\": \"" + USERNAME + "\", \"password\": \"wrong\"}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(badLogin))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void testFullHashingQueueIsRejectedWith503() throws Exception {
+        Semaphore started = new Semaphore(0); // 스레드가 실행을 시작한 대기 작업 수
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<Boolean> blocker = () -> {
+            started.release();
+            try {
+                return release.await(10, TimeUnit.SECONDS); // 회귀 시 오래 멈추지 않도록 짧게 대기
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        };
+        try {
+            // 이전 테스트가 남긴 유휴 스레드가 있으므로, 모든 스레드가 대기 작업을 실행할 때까지 하나씩 제출
+            do {
+                assertFalse(passwordHashingExecutor.submit("test", blocker).isCompletedExceptionally());
+            } while (started.tryAcquire(500, TimeUnit.MILLISECONDS));
+
+            // 스레드가 모두 막힌 뒤 큐를 거부될 때까지 채움. 그 사이 작업을 꺼낸 스레드가 있으면 다시 채운다.
+            do {
+                while (!passwordHashingExecutor.submit("test", blocker).isCompletedExceptionally()) {
+                    // 큐가 찰 때까지 제출
+                }
+            } while (started.tryAcquire(200, TimeUnit.MILLISECONDS));
+
+            // 해싱 큐가 가득 차면 BCrypt 작업 없이 바로 503과 Retry-After
+            for (String path : new String[] {"/auth/login", "/auth/register"}) {
+                MvcResult rejected = mockMvc.perform(post(path)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(CREDENTIALS))
+                        .andExpect(request().asyncStarted())
+                        .andReturn();
+                rejected.getAsyncResult(1_000); // 큐에 들어가 대기하면 바로 실패
+                mockMvc.perform(asyncDispatch(rejected))
+                        .andExpect(status().isServiceUnavailable())
+                        .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                        .andExpect(jsonPath("$.message").isNotEmpty());
+            }
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void testRefreshTokenRotationAndReuseDetection() throws Exception {
+        register();
+        String firstRefresh = loginAndGetRefreshToken();
+
+        // 1. 리프레시 토큰으로 새 액세스 토큰과 새 리프레시 토큰 발급
+        String response = mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(refreshBody(firstRefresh)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").isNotEmpty())
+                .andReturn().getResponse().getContentAsString();
+        String secondRefresh = new ObjectMapper().readTree(response).get("refreshToken").asText();
+
+        // 2. 이미 사용된 토큰을 다시 쓰면 거부되고 family 전체가 폐기됨
+        mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(refreshBody(firstRefresh)))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(refreshBody(secondRefresh)))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private void register() throws Exception {
+        MvcResult register = mockMvc.perform(post("/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(CREDENTIALS))
+                .andReturn();
+        mockMvc.perform(asyncDispatch(register)).andExpect(status().isOk());
+    }
+
+    private String loginAndGetRefreshToken() throws Exception {
+        MvcResult login = mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(CREDENTIALS))
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(login))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.refreshToken").isNotEmpty())
+                .andReturn().getResponse().getContentAsString();
+        return new ObjectMapper().readTree(body).get("refreshToken").asText();
+    }
+
+    private static String refreshBody(String refreshToken) {
+        return "{\"refreshToken\": \"" + refreshToken + "\"}";
+    }
+}
@@ -0,0 +1,256 @@
+package com.example.todo.integration;
+
+import com.example.todo.entity.Todo;
+import com.example.todo.entity.User;
+import com.example.todo.repository.TodoRepository;
+import com.example.todo.repository.TodoTombstoneRepository;
+import com.example.todo.repository.UserRepository;
+import com.example.todo.security.AuthenticatedUser;
+import com.example.todo.security.JwtUtil;
+import com.example.todo.service.TodoService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// 가져오기/내보내기 통합 테스트.
+// 가져오기는 묶음마다 별도 트랜잭션으로 커밋되므로 테스트 트랜잭션 없이 실행
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class TodoImportExportTest {
+
+    private static final String USERNAME = "transfer-user";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoTombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private Long userId;
+    private String bearerToken;
+
+    @BeforeEach
+    public void createUser() {
+        User user = new User();
+        user.setUsername(USERNAME);
+        user.setPassword("{noop}password");
+        userRepository.save(user);
+        userId = user.getId();
+        bearerToken = "Bearer " + jwtUtil.generateToken(AuthenticatedUser.from(user));
+    }
+
+    @AfterEach
+    public void deleteUser() {
+        todoRepository.deleteAll(todoRepository.findByUserId(userId));
+        tombstoneRepository.deleteAll();
+        userRepository.deleteById(userId);
+    }
+
+    @Test
+    public void testNdjsonImportReportsProgressAndSkipsInvalidRows() throws Exception {
+        // 묶음 크기(1000)보다 많은 행과 검증에 실패하는 행 2개
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 2500; i++) {
+            body.append("{\"task\": \"Imported ").append(i).append("\", \"priority\": 3}\n"); // 알 수 없는 필드는 무시
+        }
+        body.append("{\"task\": \"  \"}\n");
+        body.append("{\"task\": \"Bad\", \"isCompleted\": \"maybe\"}\n");
+        body.append("{\"task\": \"Last\", \"isCompleted\": true}\n");
+
+        List<JsonNode> lines = importLines(post("/api/todos/import")
+                .contentType("application/x-ndjson")
+                .content(body.toString()));
+
+        // 묶음마다 진행 상황 한 줄, 마지막 줄은 결과
+        assertEquals(3, lines.size());
+        assertEquals(1000, lines.get(0).get("imported").asLong());
+        assertFalse(lines.get(0).get("done").asBoolean());
+        assertEquals(2000, lines.get(1).get("imported").asLong());
+
+        JsonNode result = lines.get(2);
+        assertTrue(result.get("done").asBoolean());
+        assertEquals(2503, result.get("processed").asLong());
+        assertEquals(2501, result.get("imported").asLong());
+        assertEquals(2, result.get("skipped").asLong());
+        assertEquals("row 2501: task is required", result.get("errors").get(0).asText());
+        assertTrue(result.get("errors").get(1).asText().startsWith("row 2502: "));
+        assertNull(result.get("error"));
+
+        assertEquals(2501, todoRepository.findByUserId(userId).size());
+    }
+
+    @Test
+    public void testCsvImportKeepsCreatedAt() throws Exception {
+        String csv = """
+                task,isCompleted,createdAt,notes
+                "Buy milk, eggs",true,2024-01-02T03:04:05.123456,ignored
+                Write report,,,
+                """;
+
+        JsonNode result = importLines(post("/api/todos/import")
+                .contentType("text/csv")
+                .content(csv)).get(0);
+        assertTrue(result.get("done").asBoolean());
+        assertEquals(2, result.get("imported").asLong());
+
+        List<Todo> todos = todoRepository.findByUserId(userId);
+        todos.sort(Comparator.comparing(Todo::getTask));
+        assertEquals("Buy milk, eggs", todos.get(0).getTask());
+        assertTrue(todos.get(0).getIsCompleted());
+        assertEquals(LocalDateTime.parse("2024-01-02T03:04:05.123456"), todos.get(0).getCreatedAt());
+        assertEquals("Write report", todos.get(1).getTask());
+        assertFalse(todos.get(1).getIsCompleted());
+    }
+
+    @Test
+    public void testMalformedImportKeepsRowsBeforeError() throws Exception {
+        String body = "{\"task\": \"First\"}\n{\"task\": \n";
+
+        JsonNode result = importLines(post("/api/todos/import")
+                .contentType("application/x-ndjson")
+                .content(body)).get(0);
+        assertTrue(result.get("done").asBoolean());
+        assertEquals(1, result.get("imported").asLong());
+        assertTrue(result.get("error").asText().startsWith("Invalid ndjson input"));
+        assertEquals(1, todoRepository.findByUserId(userId).size());
+
+        // 지원하지 않는 형식은 415
+        mockMvc.perform(post("/api/todos/import")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .contentType("application/xml")
+                        .content("<todos/>"))
+                .andExpect(status().isUnsupportedMediaType());
+    }
+
+    @Test
+    public void testExportRoundTrip() throws Exception {
+        importLines(post("/api/todos/import")
+                .contentType("application/x-ndjson")
+                .content("{\"task\": \"A\"}\n{\"task\": \"B, with comma\", \"isCompleted\": true}\n"));
+
+        // NDJSON: 한 줄에 Todo 하나
+        String ndjson = export("ndjson", "application/x-ndjson", "todos.ndjson");
+        List<String> lines = ndjson.lines().filter(line -> !line.isEmpty()).toList();
+        assertEquals(2, lines.size());
+        assertEquals("A", objectMapper.readTree(lines.get(0)).get("task").asText());
+
+        // CSV: 열 이름 행 + Todo 행, 내보낸 파일을 그대로 다시 가져올 수 있음
+        String csv = export("csv", "text/csv", "todos.csv");
+        List<String> rows = csv.lines().toList();
+        assertEquals("id,task,isCompleted,createdAt", rows.get(0));
+        assertEquals(3, rows.size());
+        assertTrue(rows.get(2).contains("\"B, with comma\",true,"));
+
+        JsonNode result = importLines(post("/api/todos/import")
+                .contentType("text/csv")
+                .content(csv)).get(0);
+        assertEquals(2, result.get("imported").asLong());
+        assertEquals(4, todoRepository.findByUserId(userId).size());
+
+        mockMvc.perform(get("/api/todos/export").param("format", "xml")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testStreamEndpointWritesNdjsonAndReleasesConnection() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            Todo todo = new Todo();
+            todo.setTask("Streamed " + i);
+            todo.setIsCompleted(i == 2);
+            todoService.create(userId, todo);
+        }
+
+        MvcResult started = mockMvc.perform(get("/api/todos/stream")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String ndjson = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        // 한 줄에 Todo 하나, 생성 순서대로
+        List<String> lines = ndjson.lines().filter(line -> !line.isEmpty()).toList();
+        assertEquals(3, lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            JsonNode todo = objectMapper.readTree(lines.get(i));
+            assertEquals("Streamed " + (i + 1), todo.get("task").asText());
+            assertEquals(i == 1, todo.get("isCompleted").asBoolean());
+        }
+
+        // 읽기 트랜잭션이 끝나야 커넥션이 풀로 돌아오므로, 사용 중인 커넥션이 없으면 트랜잭션과 커넥션 모두 반환된 것
+        assertEquals(0, dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean().getActiveConnections());
+    }
+
+    // 가져오기를 실행하고 응답의 진행 상황 줄을 반환.
+    private List<JsonNode> importLines(MockHttpServletRequestBuilder importRequest) throws Exception {
+        MvcResult started = mockMvc.perform(importRequest.header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String content = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : content.split("\n")) {
+            if (!line.isBlank()) {
+                lines.add(objectMapper.readTree(line));
+            }
+        }
+        return lines;
+    }
+
+    // 내보내기를 실행하고 응답 헤더와 본문을 검사.
+    private String export(String format, String contentType, String filename) throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/todos/export").param("format", format)
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(contentType))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\""))
+                .andReturn().getResponse().getContentAsString();
+    }
+}
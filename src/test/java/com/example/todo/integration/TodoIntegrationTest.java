@@ -1,24 +1,48 @@
 package com.example.todo.integration;
 
 import com.example.todo.entity.Todo;
+import com.example.todo.entity.User;
+import com.example.todo.event.TodoEvent;
+import com.example.todo.event.TodoEventBroker;
+import com.example.todo.repository.UserRepository;
+import com.example.todo.security.AuthenticatedUser;
+import com.example.todo.security.JwtUtil;
+import com.example.todo.service.TodoService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @SpringBootTest
 @AutoConfigureMockMvc
+@ActiveProfiles("test")
 @Transactional // 테스트 클래스에 추가하여 모든 테스트를 트랜잭션으로 실행
 public class TodoIntegrationTest {
 
@@ -28,9 +52,37 @@ public class TodoIntegrationTest {
     @Autowired
     private EntityManager entityManager;
 
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoEventBroker eventBroker;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Long userId; // 테스트 사용자의 ID
+    private String bearerToken; // 테스트 사용자의 Authorization 헤더 값
+
     @BeforeEach
     public void clearDatabase() {
         entityManager.createQuery("DELETE FROM Todo").executeUpdate(); // 트랜잭션은 자동 관리됨
+        entityManager.createQuery("DELETE FROM TodoTombstone").executeUpdate();
+        entityManager.createQuery("DELETE FROM User").executeUpdate();
+
+        // 테스트 사용자 생성 및 JWT 발급
+        User user = new User();
+        user.setUsername("integration-user");
+        user.setPassword("{noop}password");
+        userRepository.save(user);
+        userId = user.getId();
+        bearerToken = "Bearer " + jwtUtil.generateToken(AuthenticatedUser.from(user));
     }
 
     @Test
@@ -41,6 +93,7 @@ public class TodoIntegrationTest {
 
         // 1. Create a new Todo
         String response = mockMvc.perform(post("/api/todos")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(asJsonString(newTodo)))
                 .andExpect(status().isCreated())
@@ -57,28 +110,452 @@ public class TodoIntegrationTest {
         Long createdTodoId = createdTodo.getId();
 
         // 2. Get all Todos
-        mockMvc.perform(get("/api/todos"))
+        mockMvc.perform(get("/api/todos")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$.length()").value(1)); // 배열 크기 확인
 
         // 3. Update the Todo
         mockMvc.perform(put("/api/todos/" + createdTodoId)
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
                         .contentType(APPLICATION_JSON)
                         .content("{\"task\": \"Updated Task\", \"isCompleted\": true}"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.task").value("Updated Task"));
 
         // 4. Delete the Todo
-        mockMvc.perform(delete("/api/todos/" + createdTodoId))
+        mockMvc.perform(delete("/api/todos/" + createdTodoId)
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken))
                 .andExpect(status().isNoContent());
 
         // 5. Check if Todo is deleted
-        mockMvc.perform(get("/api/todos"))
+        mockMvc.perform(get("/api/todos")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.length()").value(0)); // 데이터가 없음을 확인
     }
 
+    @Test
+    public void testKeysetPagination() throws Exception {
+        for (int i = 1; i <= 5; i++) {
+            createTodo("Task " + i);
+        }
+
+        // 1. 첫 페이지: 2개와 다음 커서
+        String cursor = mockMvc.perform(get("/api/todos")
+                        .param("limit", "2")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].task").value("Task 1"))
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andReturn().getResponse().getHeader("X-Next-Cursor");
+
+        // 2. 두 번째 페이지
+        cursor = mockMvc.perform(get("/api/todos")
+                        .param("limit", "2")
+                        .param("cursor", cursor)
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].task").value("Task 3"))
+                .andExpect(jsonPath("$[1].task").value("Task 4"))
+                .andReturn().getResponse().getHeader("X-Next-Cursor");
+
+        // 3. 마지막 페이지에는 다음 커서가 없음
+        mockMvc.perform(get("/api/todos")
+                        .param("limit", "2")
+                        .param("cursor", cursor)
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].task").value("Task 5"))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+
+        // 4. 잘못된 커서는 400
+        mockMvc.perform(get("/api/todos/filter")
+                        .param("isCompleted", "false")
+                        .param("cursor", "not-a-cursor")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testStreamTodosInOrderAndDetached() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            createTodo("Task " + i);
+        }
+        entityManager.flush(); // 시퀀스 ID는 INSERT가 플러시 때 실행됨
+        entityManager.clear();
+
+        // 생성 순서대로 전달되고, 전달된 엔티티는 영속성 컨텍스트에서 분리됨
+        List<Todo> streamed = new ArrayList<>();
+        todoService.streamTodos(userId, streamed::add);
+
+        assertEquals(List.of("Task 1", "Task 2", "Task 3"), streamed.stream().map(Todo::getTask).toList());
+        streamed.forEach(todo -> assertFalse(entityManager.contains(todo)));
+    }
+
+    @Test
+    public void testBulkOperations() throws Exception {
+        Long first = createTodo("Task 1");
+        Long second = createTodo("Task 2");
+        createTodo("Task 3");
+
+        // 다른 사용자의 Todo는 일괄 작업 대상에서 제외됨
+        Todo foreign = new Todo();
+        foreign.setTask("Foreign Task");
+        foreign.setUserId(userId + 1000);
+        entityManager.persist(foreign);
+
+        // 1. 지정한 ID 일괄 완료 처리
+        mockMvc.perform(patch("/api/todos/bulk-complete")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .contentType(APPLICATION_JSON)
+                        .content("{\"ids\": [" + first + ", " + second + ", " + foreign.getId() + "], \"isCompleted\": true}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(2));
+
+        // 2. 완료된 항목 일괄 삭제
+        mockMvc.perform(delete("/api/todos/completed")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(2));
+
+        // 3. 모두 완료 처리 후 남은 항목 수 확인
+        mockMvc.perform(patch("/api/todos/complete-all")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(1));
+
+        // 4. 다른 사용자의 항목은 삭제되지 않음
+        mockMvc.perform(post("/api/todos/bulk-delete")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .contentType(APPLICATION_JSON)
+                        .content("{\"ids\": [" + foreign.getId() + "]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(0));
+        entityManager.clear();
+        assertFalse(entityManager.find(Todo.class, foreign.getId()).getIsCompleted());
+    }
+
+    @Test
+    public void testBatchCreate() throws Exception {
+        // 배치 크기(50)보다 많은 항목을 한 요청으로 생성. 요청에 담긴 ID는 무시됨
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < 120; i++) {
+            body.append(i == 0 ? "" : ",").append("{\"id\": 1, \"task\": \"Batch ").append(i).append("\"}");
+        }
+        body.append("]");
+
+        mockMvc.perform(post("/api/todos/batch")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .contentType(APPLICATION_JSON)
+                        .content(body.toString()))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.length()").value(120))
+                .andExpect(jsonPath("$[0].task").value("Batch 0"))
+                .andExpect(jsonPath("$[119].id").isNumber());
+
+        // Prefer: return=minimal이면 생성된 항목 수만 반환
+        mockMvc.perform(post("/api/todos/batch")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .header("Prefer", "return=minimal")
+                        .contentType(APPLICATION_JSON)
+                        .content("[{\"task\": \"Minimal 1\"}, {\"task\": \"Minimal 2\", \"isCompleted\": true}]"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.created").value(2));
+
+        mockMvc.perform(get("/api/todos")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(122));
+
+        // null 항목은 400
+        mockMvc.perform(post("/api/todos/batch")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .contentType(APPLICATION_JSON)
+                        .content("[null]"))
+                .andExpect(status().isBadRequest());
+
+        // 최대 개수를 넘으면 나머지 본문은 읽지 않고 400 (뒤의 잘못된 JSON까지 가지 않음)
+        StringBuilder oversized = new StringBuilder("[");
+        for (int i = 0; i <= TodoService.MAX_BATCH_TODOS; i++) {
+            oversized.append("{\"task\": \"Over ").append(i).append("\"},");
+        }
+        oversized.append("{not json");
+        mockMvc.perform(post("/api/todos/batch")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .contentType(APPLICATION_JSON)
+                        .content(oversized.toString()))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Too many todos (max " + TodoService.MAX_BATCH_TODOS + ")"));
+
+        // 배열이 아니거나 잘못된 JSON은 400
+        mockMvc.perform(post("/api/todos/batch")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .contentType(APPLICATION_JSON)
+                        .content("[{\"task\": \"Truncated\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testConditionalUpdateAndToggle() throws Exception {
+        Long id = createTodo("Versioned Task");
+
+        // 1. If-Match 버전이 일치하면 수정되고 새 버전의 ETag 반환
+        mockMvc.perform(put("/api/todos/" + id)
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(APPLICATION_JSON)
+                        .content("{\"task\": \"Edited\", \"isCompleted\": false}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.task").value("Edited"));
+
+        // 2. 오래된 버전으로 수정하면 409
+        mockMvc.perform(put("/api/todos/" + id)
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(APPLICATION_JSON)
+                        .content("{\"task\": \"Stale\", \"isCompleted\": false}"))
+                .andExpect(status().isConflict());
+
+        // If-Match는 강한 비교이므로 현재 버전이어도 약한 ETag는 412
+        mockMvc.perform(put("/api/todos/" + id)
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .header(HttpHeaders.IF_MATCH, "W/\"1\"")
+                        .contentType(APPLICATION_JSON)
+                        .content("{\"task\": \"Weak\", \"isCompleted\": false}"))
+                .andExpect(status().isPreconditionFailed());
+
+        // 3. return=minimal 토글은 본문 없이 204
+        mockMvc.perform(patch("/api/todos/" + id + "/toggle")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .header("Prefer", "return=minimal"))
+                .andExpect(status().isNoContent());
+
+        // 4. 기본 토글은 변경된 항목 반환
+        mockMvc.perform(patch("/api/todos/" + id + "/toggle")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.isCompleted").value(false))
+                .andExpect(jsonPath("$.version").value(3));
+
+        // 5. 없는 항목은 404
+        mockMvc.perform(patch("/api/todos/" + (id + 1000) + "/toggle")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void testUnchangedListIsNotModified() throws Exception {
+        String eTag = listETag(get("/api/todos"));
+
+        // 목록이 바뀌지 않았으면 본문 없이 304
+        mockMvc.perform(get("/api/todos")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        // 다른 표현(필터 목록)에는 전체 목록의 ETag가 맞지 않음
+        mockMvc.perform(get("/api/todos/filter")
+                        .param("isCompleted", "true")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void testListETagDiffersPerRepresentation() throws Exception {
+        createTodo("First");
+        createTodo("Second");
+
+        MvcResult firstPage = mockMvc.perform(get("/api/todos")
+                        .param("limit", "1")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andReturn();
+        String cursor = firstPage.getResponse().getHeader("X-Next-Cursor");
+
+        // 같은 목록 버전이라도 필터 값, 페이지 크기, 커서마다 ETag가 다름
+        List<String> eTags = List.of(
+                listETag(get("/api/todos")),
+                listETag(get("/api/todos/filter").param("isCompleted", "true")),
+                listETag(get("/api/todos/filter").param("isCompleted", "false")),
+                firstPage.getResponse().getHeader(HttpHeaders.ETAG),
+                listETag(get("/api/todos").param("limit", "2")),
+                listETag(get("/api/todos").param("limit", "1").param("cursor", cursor)));
+        assertEquals(eTags.size(), new HashSet<>(eTags).size(), eTags.toString());
+
+        // 같은 표현은 같은 ETag
+        assertEquals(eTags.get(1), listETag(get("/api/todos/filter").param("isCompleted", "true")));
+    }
+
+    // 목록 요청의 ETag.
+    private String listETag(MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request.header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    @Test
+    public void testDeltaSyncReturnsOnlyChangesSinceToken() throws Exception {
+        Long kept = createTodo("Kept");
+        Long toggled = createTodo("Toggled");
+        Long removed = createTodo("Removed");
+
+        // 1. 처음 동기화는 전체 목록
+        String token = mockMvc.perform(get("/api/todos/changes")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reset").value(true))
+                .andExpect(jsonPath("$.changes.length()").value(3))
+                .andReturn().getResponse().getContentAsString();
+        token = new ObjectMapper().readTree(token).get("token").asText();
+
+        // 2. 토글 하나, 삭제 하나 후에는 그 두 건만 반환
+        mockMvc.perform(patch("/api/todos/" + toggled + "/toggle")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/todos/" + removed)
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andExpect(status().isNoContent());
+
+        String next = mockMvc.perform(get("/api/todos/changes")
+                        .param("since", token)
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reset").value(false))
+                .andExpect(jsonPath("$.changes.length()").value(1))
+                .andExpect(jsonPath("$.changes[0].id").value(toggled))
+                .andExpect(jsonPath("$.deleted.length()").value(1))
+                .andExpect(jsonPath("$.deleted[0]").value(removed))
+                .andReturn().getResponse().getContentAsString();
+        next = new ObjectMapper().readTree(next).get("token").asText();
+
+        // 3. 그 이후 변경이 없으면 빈 응답
+        mockMvc.perform(get("/api/todos/changes")
+                        .param("since", next)
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes.length()").value(0))
+                .andExpect(jsonPath("$.deleted.length()").value(0));
+        assertNotNull(kept);
+
+        // 4. 잘못된 토큰은 400
+        mockMvc.perform(get("/api/todos/changes")
+                        .param("since", "not-a-token")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testEventStreamDeliversChangesToSubscriber() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/todos/events")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andExpect(request().asyncStarted())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_EVENT_STREAM_VALUE))
+                .andReturn();
+        assertEquals(1, eventBroker.connectionCount());
+        // ready는 요청 스레드가 응답을 시작할 때 기록되므로 perform이 반환되면 이미 응답에 있음
+        assertTrue(result.getResponse().getContentAsString().startsWith("event:ready\n"));
+
+        // 테스트 트랜잭션은 커밋되지 않으므로 트랜잭션 밖(다른 스레드)에서 발행
+        Thread publisher = new Thread(() -> eventBroker.publish(userId, TodoEvent.created(42L)));
+        publisher.start();
+        publisher.join();
+
+        String body = awaitContent(result, "event:created\ndata:{\"type\":\"created\",\"ids\":[42]}\n\n");
+        assertTrue(body.startsWith("event:ready\n"), body);
+
+        // 연결 종료 시 레지스트리에서 제거
+        result.getRequest().getAsyncContext().complete();
+        assertEquals(0, eventBroker.connectionCount());
+    }
+
+    // 전송 스레드가 응답에 기록할 때까지 대기.
+    private static String awaitContent(MvcResult result, String expected) throws Exception {
+        for (int i = 0; i < 100; i++) {
+            String body = result.getResponse().getContentAsString();
+            if (body.contains(expected)) {
+                return body;
+            }
+            Thread.sleep(20);
+        }
+        return fail("Timed out waiting for " + expected + " in " + result.getResponse().getContentAsString());
+    }
+
+    @Test
+    public void testTamperedTokenIsRejected() throws Exception {
+        // 같은 토큰은 캐시된 검증 결과로 통과
+        mockMvc.perform(get("/api/todos")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/todos")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andExpect(status().isOk());
+
+        // 서명이 변조된 토큰은 캐시에 없으므로 다시 검증되어 거부됨
+        mockMvc.perform(get("/api/todos")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken + "x"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    public void testLegacyTokenWithoutUserIdClaim() throws Exception {
+        // uid 클레임이 없는 이전 형식 토큰도 사용자 조회를 거쳐 인증됨
+        String legacyToken = Jwts.builder()
+                .setSubject("integration-user")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtUtil.getSecretKey())), SignatureAlgorithm.HS512)
+                .compact();
+
+        mockMvc.perform(get("/api/todos")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + legacyToken))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void testRequestTimingMetrics() throws Exception {
+        long validBefore = timerCount(meterRegistry.find("auth.jwt.parse").tag("outcome", "valid").timer());
+        long invalidBefore = timerCount(meterRegistry.find("auth.jwt.parse").tag("outcome", "invalid").timer());
+
+        mockMvc.perform(get("/api/todos")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/todos")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken + "x"))
+                .andExpect(status().isForbidden());
+
+        // JWT 검증 시간은 결과별로 기록됨
+        assertEquals(validBefore + 1, timerCount(meterRegistry.get("auth.jwt.parse").tag("outcome", "valid").timer()));
+        assertEquals(invalidBefore + 1, timerCount(meterRegistry.get("auth.jwt.parse").tag("outcome", "invalid").timer()));
+
+        // 핸들러별 요청 시간은 설정된 백분위수와 함께 기록됨
+        Timer handlerTimer = meterRegistry.get("http.server.requests")
+                .tag("uri", "/api/todos").tag("method", "GET").tag("status", "200").timer();
+        assertTrue(handlerTimer.count() > 0);
+        assertEquals(4, handlerTimer.takeSnapshot().percentileValues().length);
+    }
+
+    private static long timerCount(Timer timer) {
+        return timer == null ? 0 : timer.count();
+    }
+
+    private Long createTodo(String task) throws Exception {
+        String response = mockMvc.perform(post("/api/todos")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .contentType(APPLICATION_JSON)
+                        .content("{\"task\": \"" + task + "\", \"isCompleted\": false}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return new ObjectMapper().readTree(response).get("id").asLong();
+    }
 
     private static String asJsonString(final Object obj) {
         try {
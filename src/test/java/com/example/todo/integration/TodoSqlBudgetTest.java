@@ -0,0 +1,198 @@
+package com.example.todo.integration;
+
+import com.example.todo.entity.Todo;
+import com.example.todo.entity.User;
+import com.example.todo.repository.TodoRepository;
+import com.example.todo.repository.TodoTombstoneRepository;
+import com.example.todo.repository.UserRepository;
+import com.example.todo.security.AuthenticatedUser;
+import com.example.todo.security.JwtUtil;
+import com.example.todo.service.TodoService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static com.example.todo.sql.SqlStatementBudget.rowsAtMost;
+import static com.example.todo.sql.SqlStatementBudget.statementsAtMost;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// TodoController 엔드포인트별 SQL 문 예산.
+// 항목 수(TODO_COUNT)보다 훨씬 작은 예산을 두어 항목마다 문을 실행하는 회귀(N+1)를 잡는다.
+// 실제 커밋까지 실행된 문을 세기 위해 테스트 트랜잭션 없이 실행
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class TodoSqlBudgetTest {
+
+    private static final String USERNAME = "sql-budget-user";
+    private static final int TODO_COUNT = 20; // 절반은 완료 상태
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoTombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private Long userId;
+    private String bearerToken;
+    private final List<Long> todoIds = new ArrayList<>();
+
+    @BeforeEach
+    public void createTodos() {
+        User user = new User();
+        user.setUsername(USERNAME);
+        user.setPassword("{noop}password");
+        userRepository.save(user);
+        userId = user.getId();
+        bearerToken = "Bearer " + jwtUtil.generateToken(AuthenticatedUser.from(user));
+
+        for (int i = 0; i < TODO_COUNT; i++) {
+            Todo todo = new Todo();
+            todo.setTask("Task " + i);
+            todo.setIsCompleted(i % 2 == 0);
+            todoIds.add(todoService.create(userId, todo).getId());
+        }
+    }
+
+    @AfterEach
+    public void deleteTodos() {
+        todoRepository.deleteAll(todoRepository.findByUserId(userId));
+        tombstoneRepository.deleteAll();
+        userRepository.deleteById(userId);
+    }
+
+    @Test
+    public void testReadBudgets() throws Exception {
+        perform(get("/api/todos"), 1);
+        perform(get("/api/todos").param("limit", "5"), 1)
+                .andExpect(rowsAtMost(6)); // 페이지 크기 + 다음 페이지 확인용 1행
+        perform(get("/api/todos/filter").param("isCompleted", "true"), 1);
+        perform(get("/api/todos/filter").param("isCompleted", "true").param("limit", "5"), 1);
+        perform(get("/api/todos/changes"), 2);
+
+        // 스트리밍 응답은 작업 실행기에서 읽는 문까지 포함
+        MvcResult stream = mockMvc.perform(get("/api/todos/stream")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(stream))
+                .andExpect(status().isOk());
+        statementsAtMost(1).match(stream);
+
+        performAsync(get("/api/todos/export").param("format", "csv"), 1);
+    }
+
+    // 변경 요청은 모두 변경 순번 증가(UPDATE ... RETURNING) 1개에 변경 문 1~2개와 결과 조회 1개 이내
+    // 생성은 시퀀스 ID 블록(50개)을 다 쓴 경우 시퀀스 조회 1개가 더해짐
+    @Test
+    public void testWriteBudgets() throws Exception {
+        Long first = todoIds.get(0);
+        Long second = todoIds.get(1);
+
+        perform(post("/api/todos")
+                .contentType(APPLICATION_JSON)
+                .content("{\"task\": \"New Task\", \"isCompleted\": false}"), 3);
+        perform(put("/api/todos/" + first)
+                .contentType(APPLICATION_JSON)
+                .content("{\"task\": \"Updated Task\", \"isCompleted\": true}"), 3);
+        perform(patch("/api/todos/" + first + "/toggle"), 3);
+        perform(delete("/api/todos/" + first), 3);
+        perform(patch("/api/todos/bulk-complete")
+                .contentType(APPLICATION_JSON)
+                .content("{\"ids\": " + todoIds.subList(1, 10) + ", \"isCompleted\": true}"), 2);
+        perform(post("/api/todos/bulk-delete")
+                .contentType(APPLICATION_JSON)
+                .content("{\"ids\": [" + second + "]}"), 3);
+        perform(delete("/api/todos/completed"), 3);
+        perform(patch("/api/todos/complete-all"), 2);
+    }
+
+    // 일괄 생성은 항목마다가 아니라 배치(50개)마다 INSERT 배치 1개와 시퀀스 조회 1개 이내
+    @Test
+    public void testBatchCreateBudget() throws Exception {
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < 120; i++) {
+            body.append(i == 0 ? "" : ",").append("{\"task\": \"Batch ").append(i).append("\"}");
+        }
+        body.append("]");
+
+        perform(post("/api/todos/batch")
+                .contentType(APPLICATION_JSON)
+                .content(body.toString()), 1 + 3 + 4) // 변경 순번 + INSERT 배치 3개 + 시퀀스 조회 최대 4개
+                .andExpect(rowsAtMost(120 + 1 + 4));
+
+        // 가져오기도 묶음(1000행) 하나에 같은 예산
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 120; i++) {
+            ndjson.append("{\"task\": \"Imported ").append(i).append("\"}\n");
+        }
+        performAsync(post("/api/todos/import")
+                .contentType("application/x-ndjson")
+                .content(ndjson.toString()), 1 + 3 + 4);
+    }
+
+    @Test
+    public void testLegacyTokenLoadsUserOnce() throws Exception {
+        // uid 클레임이 없는 이전 형식 토큰은 사용자 조회가 한 번만 추가됨
+        String legacyToken = Jwts.builder()
+                .setSubject(USERNAME)
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtUtil.getSecretKey())), SignatureAlgorithm.HS512)
+                .compact();
+
+        mockMvc.perform(get("/api/todos/changes")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + legacyToken))
+                .andExpect(status().isOk())
+                .andExpect(statementsAtMost(3));
+    }
+
+    // 비동기(스트리밍) 응답 요청. 작업 실행기에서 실행된 문까지 포함하여 예산을 검사.
+    private void performAsync(MockHttpServletRequestBuilder request, int maxStatements) throws Exception {
+        MvcResult started = mockMvc.perform(request.header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk());
+        statementsAtMost(maxStatements).match(started);
+    }
+
+    // 인증 헤더를 붙여 요청하고 성공 응답과 SQL 문 예산을 검사.
+    private ResultActions perform(MockHttpServletRequestBuilder request, int maxStatements) throws Exception {
+        RequestBuilder authenticated = request.header(HttpHeaders.AUTHORIZATION, bearerToken);
+        return mockMvc.perform(authenticated)
+                .andExpect(status().is2xxSuccessful())
+                .andExpect(statementsAtMost(maxStatements));
+    }
+}
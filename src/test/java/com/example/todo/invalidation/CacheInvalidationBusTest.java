@@ -0,0 +1,85 @@
+package com.example.todo.invalidation;
+
+import com.example.todo.event.TodoEventBroker;
+import com.example.todo.replica.ReadRouting;
+import com.example.todo.security.UserCache;
+import com.example.todo.service.TodoListCache;
+import com.example.todo.service.TodoListVersions;
+import com.example.todo.shard.ShardRouting;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class CacheInvalidationBusTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private CacheInvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        DataSourceProperties properties = new DataSourceProperties();
+        properties.setUrl("jdbc:postgresql://localhost:5432/todo");
+        bus = new CacheInvalidationBus(mock(JdbcTemplate.class), objectMapper, properties,
+                new SimpleMeterRegistry(), true, "todo_cache_invalidation");
+    }
+
+    @Test
+    void splitsLargeMessagesUnderPayloadLimit() throws Exception {
+        List<Long> userIds = LongStream.range(Long.MAX_VALUE - 2000, Long.MAX_VALUE).boxed().toList();
+
+        List<String> payloads = bus.encode(new InvalidationMessage(bus.getNodeId(), userIds, List.of("alice"), List.of(3L)));
+
+        assertThat(payloads).hasSizeGreaterThan(1);
+        List<Long> decodedIds = new ArrayList<>();
+        List<String> decodedNames = new ArrayList<>();
+        List<Long> decodedMoved = new ArrayList<>();
+        for (String payload : payloads) {
+            assertThat(payload.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(CacheInvalidationBus.MAX_PAYLOAD_BYTES);
+            InvalidationMessage message = objectMapper.readValue(payload, InvalidationMessage.class);
+            decodedIds.addAll(message.todoUsers());
+            decodedNames.addAll(message.usernames());
+            decodedMoved.addAll(message.movedUsers());
+        }
+        assertThat(decodedIds).isEqualTo(userIds); // 순서와 항목이 그대로 유지됨
+        assertThat(decodedNames).containsExactly("alice");
+        assertThat(decodedMoved).containsExactly(3L);
+    }
+
+    @Test
+    void listenerAppliesOnlyMessagesFromOtherNodes() {
+        TodoListCache listCache = mock(TodoListCache.class);
+        TodoListVersions listVersions = new TodoListVersions(100);
+        UserCache userCache = mock(UserCache.class);
+        ShardRouting shardRouting = mock(ShardRouting.class);
+        CacheInvalidationListener listener = new CacheInvalidationListener(bus, shardRouting, objectMapper,
+                listCache, listVersions, userCache, mock(TodoEventBroker.class), new ReadRouting("", 0, 0),
+                new SimpleMeterRegistry(), 1000, 1000);
+        String eTag = listVersions.eTag(7L);
+
+        // 자기 자신이 보낸 메시지는 무시
+        listener.apply(bus.encode(new InvalidationMessage(bus.getNodeId(), List.of(7L), List.of(), List.of())).get(0));
+        verifyNoInteractions(listCache);
+        assertThat(listVersions.eTag(7L)).isEqualTo(eTag);
+
+        // 다른 노드의 메시지는 목록 캐시, 목록 버전, 사용자 캐시, 샤드 위치에 반영
+        listener.apply(bus.encode(new InvalidationMessage("other-node", List.of(7L), List.of("bob"), List.of(7L))).get(0));
+        verify(listCache).invalidate(7L);
+        verify(userCache).invalidate("bob");
+        verify(shardRouting).evict(7L);
+        assertThat(listVersions.eTag(7L)).isNotEqualTo(eTag);
+
+        // 잘못된 페이로드는 무시
+        listener.apply("not-json");
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.todo.replica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 주 DB와 복제본 대신 서로 다른 H2 인메모리 DB를 사용하여 커넥션이 어느 풀에서 왔는지 확인
+class ReplicaRouterTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<ReplicaRouter> routers = new ArrayList<>();
+    private final String prefix = "router-" + UUID.randomUUID() + "-"; // 테스트마다 다른 DB
+
+    @AfterEach
+    void closeRouters() {
+        routers.forEach(ReplicaRouter::close);
+    }
+
+    @Test
+    void roundRobinAlternatesReplicasAndWritesUsePrimary() throws Exception {
+        ReplicaRouter router = router(ReplicaRouter.Selection.ROUND_ROBIN, routing(), "r1", "r2");
+        DataSource dataSource = router.getDataSource();
+
+        assertThat(List.of(read(dataSource), read(dataSource), read(dataSource), read(dataSource)))
+                .containsExactly("r1", "r2", "r1", "r2");
+        assertThat(write(dataSource)).isEqualTo("primary");
+        assertThat(reads("replica-1")).isEqualTo(2);
+        assertThat(reads("primary")).isZero();
+    }
+
+    @Test
+    void leastLoadedPrefersIdleReplica() throws Exception {
+        ReplicaRouter router = router(ReplicaRouter.Selection.LEAST_LOADED, routing(), "r1", "r2");
+        DataSource dataSource = router.getDataSource();
+
+        try (Connection busy = dataSource.getConnection()) {
+            busy.setReadOnly(true);
+            assertThat(database(busy)).isEqualTo("r1");
+            // r1이 커넥션을 사용 중이므로 한가한 r2를 계속 선택
+            assertThat(List.of(read(dataSource), read(dataSource))).containsExactly("r2", "r2");
+        }
+    }
+
+    @Test
+    void ejectsUnreachableReplicaAndRestoresItAfterHealthCheck() throws Exception {
+        ReplicaRouter router = router(ReplicaRouter.Selection.ROUND_ROBIN, routing(), "r1", "missing");
+        DataSource dataSource = router.getDataSource();
+
+        // 시작 시 상태 확인에서 제외되어 r1만 사용
+        assertThat(List.of(read(dataSource), read(dataSource), read(dataSource))).containsOnly("r1");
+        assertThat(meterRegistry.get("db.replica.healthy").tag("replica", "replica-2").gauge().value()).isZero();
+        assertThat(meterRegistry.get("db.replica.ejections").tag("replica", "replica-2").counter().count()).isEqualTo(1);
+
+        // 복제본이 다시 연결되면 다음 상태 확인에서 라우팅 대상으로 복귀
+        DriverManager.getConnection(url("missing", false), "sa", "").close();
+        router.checkReplicas();
+        assertThat(meterRegistry.get("db.replica.healthy").tag("replica", "replica-2").gauge().value()).isEqualTo(1);
+        assertThat(List.of(read(dataSource), read(dataSource))).containsExactlyInAnyOrder("r1", "missing");
+    }
+
+    @Test
+    void saturatedReplicaIsSkippedWithoutEjection() throws Exception {
+        DataSource dataSource = router(ReplicaRouter.Selection.ROUND_ROBIN, routing(), "r1").getDataSource();
+
+        // 복제본 풀(최대 2개)을 모두 사용 중이면 대기 시간 후 주 DB에서 읽음
+        try (Connection first = dataSource.getConnection(); Connection second = dataSource.getConnection()) {
+            first.setReadOnly(true);
+            second.setReadOnly(true);
+            assertThat(List.of(database(first), database(second))).containsOnly("r1");
+
+            assertThat(read(dataSource)).isEqualTo("primary");
+        }
+
+        // 연결 실패가 아니므로 제외하지 않음
+        assertThat(meterRegistry.get("db.replica.saturated").tag("replica", "replica-1").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("db.replica.ejections").tag("replica", "replica-1").counter().count()).isZero();
+        assertThat(meterRegistry.get("db.replica.healthy").tag("replica", "replica-1").gauge().value()).isEqualTo(1);
+        assertThat(read(dataSource)).isEqualTo("r1");
+    }
+
+    @Test
+    void readsOfRecentWritersUsePrimary() throws Exception {
+        ReadRouting routing = routing();
+        DataSource dataSource = router(ReplicaRouter.Selection.ROUND_ROBIN, routing, "r1").getDataSource();
+
+        routing.recordWrite(7L);
+        assertThat(routing.read(7L, () -> read(dataSource))).isEqualTo("primary");
+        assertThat(routing.read(8L, () -> read(dataSource))).isEqualTo("r1");
+        assertThat(routing.onPrimary(() -> read(dataSource))).isEqualTo("primary");
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenNoReplicaIsReachable() throws Exception {
+        DataSource dataSource = router(ReplicaRouter.Selection.ROUND_ROBIN, routing(), "missing").getDataSource();
+
+        assertThat(read(dataSource)).isEqualTo("primary");
+        assertThat(reads("primary")).isEqualTo(1);
+    }
+
+    private ReadRouting routing() {
+        return new ReadRouting("replica", 60_000, 100);
+    }
+
+    // 주 DB("primary")와 복제본 DB 이름으로 라우터 생성. "missing"은 아직 만들어지지 않은 DB.
+    private ReplicaRouter router(ReplicaRouter.Selection selection, ReadRouting routing, String... replicaNames)
+            throws SQLException {
+        DriverManager.getConnection(url("primary", false), "sa", "").close();
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String name : replicaNames) {
+            boolean missing = name.equals("missing");
+            if (!missing) {
+                DriverManager.getConnection(url(name, false), "sa", "").close();
+            }
+            HikariDataSource replica = pool(url(name, missing));
+            replica.setPoolName("replica-" + (replicas.size() + 1));
+            replica.setInitializationFailTimeout(-1);
+            replicas.add(replica);
+        }
+        HikariDataSource primary = pool(url("primary", false));
+        primary.setPoolName("primary");
+        ReplicaRouter router = new ReplicaRouter(primary, replicas, routing, selection, meterRegistry);
+        routers.add(router);
+        return router;
+    }
+
+    private String url(String name, boolean ifExists) {
+        return "jdbc:h2:mem:" + prefix + name + ";DB_CLOSE_DELAY=-1" + (ifExists ? ";IFEXISTS=TRUE" : "");
+    }
+
+    private static HikariDataSource pool(String url) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl(url);
+        pool.setUsername("sa");
+        pool.setMaximumPoolSize(2);
+        pool.setConnectionTimeout(1000);
+        return pool;
+    }
+
+    private double reads(String target) {
+        return meterRegistry.get("db.replica.reads").tag("target", target).counter().count();
+    }
+
+    // 읽기 전용 커넥션이 연결된 DB 이름.
+    private String read(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(true);
+            return database(connection);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 일반 커넥션이 연결된 DB 이름.
+    private String write(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return database(connection);
+        }
+    }
+
+    private String database(Connection connection) throws SQLException {
+        String url = connection.getMetaData().getURL();
+        return url.substring(url.indexOf(prefix) + prefix.length()).split(";")[0];
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.todo.replica;
+
+import com.example.todo.entity.Todo;
+import com.example.todo.entity.User;
+import com.example.todo.repository.RefreshTokenRepository;
+import com.example.todo.repository.TodoRepository;
+import com.example.todo.repository.UserRepository;
+import com.example.todo.security.AuthenticatedUser;
+import com.example.todo.security.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// 주 DB와 복제본 대신 H2 인메모리 DB 두 개로 실행. 복제는 하지 않으므로 두 DB의 내용으로 어느 쪽에서 읽었는지 확인
+// 변경은 커밋 후에 read-your-writes 창이 시작되므로 테스트 트랜잭션 없이 실행
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "REPLICA_URLS=" + ReplicaRoutingIntegrationTest.REPLICA_URL,
+        "REPLICA_READ_YOUR_WRITES_MS=60000"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class ReplicaRoutingIntegrationTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+    private static final String NEW_USER = "replica-new-user";
+
+    private static JdbcTemplate replica; // 복제본에 직접 접근 (애플리케이션과 별도 커넥션)
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User reader; // 변경하지 않는 사용자
+    private User writer; // 변경하는 사용자
+
+    @BeforeAll
+    public static void migrateReplica() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(REPLICA_URL, "sa", "");
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration", "classpath:db/vendor/h2")
+                .placeholders(Map.of("todo_id_base", "1"))
+                .load()
+                .migrate();
+        replica = new JdbcTemplate(dataSource);
+    }
+
+    @BeforeEach
+    public void createUsers() {
+        reader = createUser("replica-reader");
+        writer = createUser("replica-writer");
+    }
+
+    @AfterEach
+    public void deleteData() {
+        todoRepository.deleteAll();
+        refreshTokenRepository.deleteAll();
+        userRepository.deleteAll();
+        replica.update("DELETE FROM todo");
+    }
+
+    @Test
+    public void testReadOnlyQueriesUseReplicaUntilUserWrites() throws Exception {
+        // 목록, 완료 상태별 목록, 페이지 조회는 복제본에서 읽음 (완료 상태별 목록은 캐시된 목록을 걸러 반환)
+        mockMvc.perform(get("/api/todos").header(HttpHeaders.AUTHORIZATION, bearer(reader)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].task", contains("replica task")));
+        mockMvc.perform(get("/api/todos/filter").param("isCompleted", "false")
+                        .header(HttpHeaders.AUTHORIZATION, bearer(reader)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].task", contains("replica task")));
+        mockMvc.perform(get("/api/todos").param("limit", "10")
+                        .header(HttpHeaders.AUTHORIZATION, bearer(reader)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].task", contains("replica task")));
+        assertTrue(meterRegistry.get("db.replica.reads").tag("target", "replica-1").counter().count() >= 2);
+
+        // 변경한 사용자는 창 안에서 주 DB의 최신 목록을 읽음
+        mockMvc.perform(post("/api/todos")
+                        .header(HttpHeaders.AUTHORIZATION, bearer(writer))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"task\": \"new task\"}"))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/api/todos").header(HttpHeaders.AUTHORIZATION, bearer(writer)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].task", containsInAnyOrder("primary task", "new task")));
+        mockMvc.perform(get("/api/todos").param("limit", "10")
+                        .header(HttpHeaders.AUTHORIZATION, bearer(writer)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].task", containsInAnyOrder("primary task", "new task")));
+
+        // 다른 사용자는 계속 복제본에서 읽음
+        mockMvc.perform(get("/api/todos").param("limit", "10")
+                        .header(HttpHeaders.AUTHORIZATION, bearer(reader)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].task", contains("replica task")));
+    }
+
+    @Test
+    public void testLoginRightAfterRegisterFallsBackToPrimary() throws Exception {
+        String credentials = "{\"username\": \"" + NEW_USER + "\", \"password\": \"secret123\"}";
+        MvcResult register = mockMvc.perform(post("/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(credentials))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(register))
+                .andExpect(status().isOk());
+
+        // 새 사용자는 복제본에 없지만 주 DB에서 다시 조회하여 로그인
+        MvcResult login = mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(credentials))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(login))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").isNotEmpty());
+    }
+
+    // 주 DB에 사용자를 만들고, 주 DB와 복제본에 서로 다른 Todo를 하나씩 저장.
+    private User createUser(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("{noop}password");
+        userRepository.save(user);
+
+        Todo todo = new Todo();
+        todo.setTask("primary task");
+        todo.setUserId(user.getId());
+        todoRepository.save(todo);
+
+        replica.update("INSERT INTO todo (id, user_id, task, is_completed, created_at) VALUES (?, ?, ?, false, ?)",
+                todo.getId(), user.getId(), "replica task", LocalDateTime.now());
+        return user;
+    }
+
+    private String bearer(User user) {
+        return "Bearer " + jwtUtil.generateToken(AuthenticatedUser.from(user));
+    }
+}
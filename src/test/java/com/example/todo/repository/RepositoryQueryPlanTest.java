@@ -0,0 +1,193 @@
+package com.example.todo.repository;
+
+import com.example.todo.service.TodoChangeSequence;
+import com.example.todo.sql.SqlStatementRecorder;
+import com.example.todo.sql.SqlStatementRecorder.RecordedStatement;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+// 저장소 쿼리마다 실행 계획(EXPLAIN)을 검사하여 테이블 전체 스캔을 막는다.
+// 마이그레이션으로 만든 스키마(H2 또는 PostgreSQL)에 대해 실제로 실행된 SQL을 그대로 검사
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class RepositoryQueryPlanTest {
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDateTime NOW = LocalDateTime.now();
+    private static final Limit PAGE = Limit.of(50);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoTombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private TodoOwnerRepository todoOwnerRepository;
+
+    @Autowired
+    private TodoChangeSequence changeSequence;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Test
+    public void testTodoQueriesUseIndexes() throws Exception {
+        assertNoFullScans(() -> {
+            todoRepository.findByUserId(USER_ID);
+            todoRepository.findByUserIdAndIsCompleted(USER_ID, true);
+            todoRepository.findFirstPage(USER_ID, PAGE);
+            todoRepository.findPageAfter(USER_ID, NOW, 1L, PAGE);
+            todoRepository.findFirstPageByStatus(USER_ID, false, PAGE);
+            todoRepository.findPageAfterByStatus(USER_ID, false, NOW, 1L, PAGE);
+            try (Stream<?> todos = todoRepository.streamByUserId(USER_ID)) {
+                todos.forEach(todo -> { });
+            }
+            todoRepository.findByIdAndUserId(1L, USER_ID);
+            todoRepository.existsByIdAndUserId(1L, USER_ID);
+            todoRepository.existsById(1L);
+            todoRepository.findByUserIdAndChangeSeqGreaterThanOrderByChangeSeq(USER_ID, 0L);
+            todoRepository.deleteCompletedByUserId(USER_ID);
+            todoRepository.updateCompletionByUserId(USER_ID, true, 1L);
+            todoRepository.deleteByUserIdAndIdIn(USER_ID, List.of(1L, 2L));
+            todoRepository.updateCompletionByUserIdAndIdIn(USER_ID, List.of(1L, 2L), true, 1L);
+            todoRepository.deleteByIdAndUserId(1L, USER_ID);
+            todoRepository.toggleCompletion(1L, USER_ID, 1L);
+            todoRepository.updateContent(1L, USER_ID, "task", true, 0L, 1L);
+        });
+    }
+
+    @Test
+    public void testTombstoneQueriesUseIndexes() throws Exception {
+        assertNoFullScans(() -> {
+            tombstoneRepository.insertForCompleted(USER_ID, 1L, NOW);
+            tombstoneRepository.insertForIds(USER_ID, List.of(1L, 2L), 1L, NOW);
+            tombstoneRepository.findDeletedIdsSince(USER_ID, 0L);
+            tombstoneRepository.deleteOlderThan(NOW);
+        });
+    }
+
+    @Test
+    public void testTodoOwnerQueriesUseIndexes() throws Exception {
+        assertNoFullScans(() -> {
+            changeSequence.next(USER_ID); // 첫 변경은 행 생성, 다음 변경은 순번 증가
+            changeSequence.next(USER_ID);
+            todoOwnerRepository.findChangeSeq(USER_ID);
+        });
+    }
+
+    @Test
+    public void testUserAndRefreshTokenQueriesUseIndexes() throws Exception {
+        assertNoFullScans(() -> {
+            userRepository.findByUsername("plan-user");
+            userRepository.existsByUsername("plan-user");
+            refreshTokenRepository.findByTokenHashWithUser("hash");
+            refreshTokenRepository.markUsed(1L);
+            refreshTokenRepository.revokeFamily("family");
+            refreshTokenRepository.deleteExpired(NOW);
+        });
+    }
+
+    // 작업이 실행한 SQL을 기록하고, 문마다 실행 계획에 전체 스캔이 없는지 검사.
+    private void assertNoFullScans(Runnable queries) throws SQLException {
+        List<RecordedStatement> statements;
+        try (SqlStatementRecorder recorder = SqlStatementRecorder.start(dataSource)) {
+            queries.run();
+            statements = recorder.getStatements();
+        }
+        assertTrue(statements.size() > 0, "no statements recorded");
+
+        List<String> fullScans = new ArrayList<>();
+        try (Connection connection = SqlStatementRecorder.unwrap(dataSource).getConnection()) {
+            QueryPlanDialect dialect = QueryPlanDialect.of(connection);
+            dialect.prepare(connection);
+            for (RecordedStatement statement : statements) {
+                String plan = explain(connection, statement);
+                if (dialect.isFullScan(statement.sql(), plan)) {
+                    fullScans.add(statement.sql() + "\n" + plan);
+                }
+            }
+        }
+        if (!fullScans.isEmpty()) {
+            fail("Full table scans:\n\n" + String.join("\n\n", fullScans));
+        }
+    }
+
+    private static String explain(Connection connection, RecordedStatement statement) throws SQLException {
+        try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + statement.sql())) {
+            statement.bind(explain);
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet rows = explain.executeQuery()) {
+                while (rows.next()) {
+                    plan.append(rows.getString(1)).append('\n');
+                }
+            }
+            return plan.toString();
+        }
+    }
+
+    // 데이터베이스별 실행 계획 검사.
+    private enum QueryPlanDialect {
+        // H2는 조건 없이 테이블이나 인덱스 전체를 읽으면 접근 경로 주석에 조건이 없다. (예: /* PUBLIC.TODO.tableScan */)
+        H2 {
+            @Override
+            boolean isFullScan(String sql, String plan) {
+                return H2_FULL_SCAN.matcher(plan).find();
+            }
+        },
+        // PostgreSQL은 순차 스캔과 정렬을 끈 상태에서도 Seq Scan이나 Sort가 남으면 쓸 수 있는 인덱스가 없는 것이다.
+        POSTGRESQL {
+            @Override
+            void prepare(Connection connection) throws SQLException {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SET enable_seqscan = off");
+                    statement.execute("SET enable_sort = off");
+                }
+            }
+
+            @Override
+            boolean isFullScan(String sql, String plan) {
+                return plan.contains("Seq Scan")
+                        || (sql.toLowerCase().contains("order by") && plan.contains("Sort"));
+            }
+        };
+
+        private static final Pattern H2_FULL_SCAN = Pattern.compile("/\\*\\s*[\\w.\"]+\\s*\\*/");
+
+        static QueryPlanDialect of(Connection connection) throws SQLException {
+            String product = connection.getMetaData().getDatabaseProductName();
+            return product.toLowerCase().contains("postgres") ? POSTGRESQL : H2;
+        }
+
+        void prepare(Connection connection) throws SQLException {
+        }
+
+        abstract boolean isFullScan(String sql, String plan);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.todo.security;
+
+import com.example.todo.entity.User;
+import com.example.todo.replica.ReadRouting;
+import com.example.todo.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class UserCacheTest {
+
+    private UserRepository userRepository;
+    private UserCache userCache;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        userCache = new UserCache(userRepository, new ReadRouting("", 0, 0), new SimpleMeterRegistry(), 100, 600);
+    }
+
+    @Test
+    void cachesUserAfterFirstLookup() {
+        User user = new User();
+        user.setUsername("alice");
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
+
+        assertThat(userCache.findByUsername("alice")).containsSame(user);
+        assertThat(userCache.findByUsername("alice")).containsSame(user);
+
+        verify(userRepository, times(1)).findByUsername("alice"); // 두 번째 조회는 캐시 적중
+        assertThat(userCache.stats().hitCount()).isEqualTo(1);
+        assertThat(userCache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotCacheMissingUserAndReloadsAfterInvalidate() {
+        when(userRepository.findByUsername("bob")).thenReturn(Optional.empty());
+        assertThat(userCache.findByUsername("bob")).isEmpty();
+
+        // 가입 직후 invalidate 되면 다음 조회는 DB에서 새로 읽음
+        User user = new User();
+        user.setUsername("bob");
+        when(userRepository.findByUsername("bob")).thenReturn(Optional.of(user));
+        userCache.invalidate("bob");
+
+        assertThat(userCache.findByUsername("bob")).containsSame(user);
+        verify(userRepository, times(2)).findByUsername("bob");
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.todo.service;
+
+import com.example.todo.entity.Todo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodoListCacheTest {
+
+    private final TodoListCache cache = new TodoListCache(new SimpleMeterRegistry(), 1000);
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<Long, List<Todo>> loader = userId -> {
+        loads.incrementAndGet();
+        return List.of(new Todo());
+    };
+
+    @Test
+    void servesSameVersionFromCache() {
+        cache.get(1L, 5, loader);
+        cache.get(1L, 5, loader);
+
+        assertThat(loads).hasValue(1); // 두 번째 조회는 캐시 적중
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void reloadsWhenVersionChangesOrInvalidated() {
+        cache.get(1L, 5, loader);
+        cache.get(1L, 6, loader); // 다른 버전으로 적재된 항목은 사용하지 않음
+        assertThat(loads).hasValue(2);
+
+        cache.invalidate(1L);
+        cache.get(1L, 6, loader);
+        assertThat(loads).hasValue(3);
+    }
+}
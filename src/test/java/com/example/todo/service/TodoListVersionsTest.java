@@ -0,0 +1,63 @@
+package com.example.todo.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodoListVersionsTest {
+
+    private final TodoListVersions listVersions = new TodoListVersions(100);
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void bumpChangesOnlyThatUsersETag() {
+        String before = listVersions.eTag(1L);
+        String other = listVersions.eTag(2L);
+
+        listVersions.bump(1L);
+
+        assertThat(listVersions.eTag(1L)).isNotEqualTo(before);
+        assertThat(listVersions.eTag(2L)).isEqualTo(other); // 다른 사용자는 그대로
+        assertThat(listVersions.eTag(1L)).startsWith("\"").endsWith("\""); // 강한 ETag
+    }
+
+    @Test
+    void bumpInsideTransactionWaitsForCommit() {
+        String before = listVersions.eTag(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        listVersions.bump(1L);
+        assertThat(listVersions.eTag(1L)).isEqualTo(before); // 커밋 전에는 그대로
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(listVersions.eTag(1L)).isNotEqualTo(before);
+    }
+
+    @Test
+    void eTagDiffersPerView() {
+        String filtered = listVersions.eTag(1L, "isCompleted=true");
+
+        assertThat(filtered).isNotEqualTo(listVersions.eTag(1L));
+        assertThat(filtered).isNotEqualTo(listVersions.eTag(1L, "isCompleted=false"));
+        assertThat(listVersions.eTag(1L, "")).isEqualTo(listVersions.eTag(1L));
+        assertThat(filtered).matches("\"[A-Za-z0-9_-]+\""); // 커서 값과 관계없이 ETag에 쓸 수 있는 문자만 사용
+
+        listVersions.bump(1L);
+        assertThat(listVersions.eTag(1L, "isCompleted=true")).isNotEqualTo(filtered);
+    }
+
+    @Test
+    void eTagDiffersAcrossRestarts() {
+        // 기동마다 nonce가 달라 재시작 전 ETag와 겹치지 않음
+        assertThat(new TodoListVersions(100).eTag(1L)).isNotEqualTo(listVersions.eTag(1L));
+    }
+}
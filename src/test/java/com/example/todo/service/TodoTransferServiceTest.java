@@ -0,0 +1,66 @@
+package com.example.todo.service;
+
+import com.example.todo.dto.TodoImportProgress;
+import com.example.todo.entity.Todo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class TodoTransferServiceTest {
+
+    private final TodoService todoService = mock(TodoService.class);
+    private final TodoTransferService transferService =
+            new TodoTransferService(todoService, new ObjectMapper().registerModule(new JavaTimeModule()), 2);
+
+    @Test
+    void saveFailureMidImportEndsWithSummary() {
+        // 첫 묶음은 저장되고 두 번째 묶음에서 DB 오류
+        when(todoService.createAll(eq(1L), anyList()))
+                .thenAnswer(invocation -> new ArrayList<Todo>(invocation.getArgument(1)))
+                .thenThrow(new DataAccessResourceFailureException("connection lost"));
+        List<TodoImportProgress> progress = new ArrayList<>();
+
+        TodoImportProgress result = transferService.importTodos(1L, ndjson(6), TodoTransferService.Format.NDJSON,
+                progress::add);
+
+        assertThat(progress).hasSize(1);
+        assertThat(result.isDone()).isTrue();
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getError()).isEqualTo("Failed to save todos after row 2");
+        verify(todoService, times(2)).createAll(eq(1L), anyList()); // 실패 후에는 더 읽지 않음
+    }
+
+    @Test
+    void saveFailureAfterParseErrorKeepsFirstError() {
+        when(todoService.createAll(eq(1L), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("connection lost"));
+        String input = "{\"task\": \"first\"}\n{\"task\": ";
+
+        TodoImportProgress result = transferService.importTodos(1L,
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), TodoTransferService.Format.NDJSON,
+                progress -> { });
+
+        assertThat(result.isDone()).isTrue();
+        assertThat(result.getImported()).isZero();
+        assertThat(result.getError()).startsWith("Invalid ndjson input after row");
+    }
+
+    private static ByteArrayInputStream ndjson(int rows) {
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < rows; i++) {
+            input.append("{\"task\": \"task ").append(i).append("\"}\n");
+        }
+        return new ByteArrayInputStream(input.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
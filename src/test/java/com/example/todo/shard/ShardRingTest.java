@@ -0,0 +1,56 @@
+package com.example.todo.shard;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ShardRingTest {
+
+    private static final int USERS = 100_000;
+
+    @Test
+    void sameUserAlwaysMapsToSameShard() {
+        ShardRing ring = new ShardRing(4, 160);
+        ShardRing other = new ShardRing(4, 160); // 다른 노드의 링
+        for (long userId = 1; userId <= 1000; userId++) {
+            assertThat(ring.shardFor(userId)).isEqualTo(other.shardFor(userId)).isBetween(0, 3);
+        }
+    }
+
+    @Test
+    void usersAreSpreadEvenly() {
+        ShardRing ring = new ShardRing(4, 160);
+        int[] counts = new int[4];
+        for (long userId = 1; userId <= USERS; userId++) {
+            counts[ring.shardFor(userId)]++;
+        }
+        for (int count : counts) {
+            // 샤드마다 평균(25%)의 ±20% 이내
+            assertThat(count).isBetween(USERS / 4 * 8 / 10, USERS / 4 * 12 / 10);
+        }
+    }
+
+    @Test
+    void addingShardOnlyMovesUsersToNewShard() {
+        ShardRing before = new ShardRing(4, 160);
+        ShardRing after = new ShardRing(5, 160);
+        int moved = 0;
+        for (long userId = 1; userId <= USERS; userId++) {
+            int from = before.shardFor(userId);
+            int to = after.shardFor(userId);
+            if (from != to) {
+                assertThat(to).isEqualTo(4); // 기존 샤드 사이에서는 옮기지 않음
+                moved++;
+            }
+        }
+        // 약 1/5만 옮김
+        assertThat(moved).isBetween(USERS / 5 * 8 / 10, USERS / 5 * 12 / 10);
+    }
+
+    @Test
+    void rejectsInvalidSizes() {
+        assertThrows(IllegalArgumentException.class, () -> new ShardRing(0, 160));
+        assertThrows(IllegalArgumentException.class, () -> new ShardRing(2, 0));
+    }
+}
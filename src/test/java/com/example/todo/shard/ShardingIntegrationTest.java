@@ -0,0 +1,250 @@
+package com.example.todo.shard;
+
+import com.example.todo.dto.TodoChanges;
+import com.example.todo.entity.Todo;
+import com.example.todo.entity.User;
+import com.example.todo.event.TodoEventBroker;
+import com.example.todo.invalidation.CacheInvalidationBus;
+import com.example.todo.repository.RefreshTokenRepository;
+import com.example.todo.repository.UserRepository;
+import com.example.todo.security.AuthenticatedUser;
+import com.example.todo.security.JwtUtil;
+import com.example.todo.service.TodoListCache;
+import com.example.todo.service.TodoListVersions;
+import com.example.todo.service.TodoService;
+import com.example.todo.service.TodoSyncService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 샤드 두 개를 H2 인메모리 DB로 실행. 사용자를 옮기는 작업은 커밋이 필요하므로 테스트 트랜잭션 없이 실행
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sharding-0;DB_CLOSE_DELAY=-1",
+        "SHARD_URLS=jdbc:h2:mem:sharding-1;DB_CLOSE_DELAY=-1"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class ShardingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoSyncService syncService;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private ShardDirectory directory;
+
+    @Autowired
+    private ShardRebalancer rebalancer;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private TodoListCache listCache;
+
+    @Autowired
+    private TodoListVersions listVersions;
+
+    @Autowired
+    private CacheInvalidationBus invalidationBus;
+
+    @Autowired
+    private TodoEventBroker eventBroker;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private JdbcTemplate shard0; // 샤드에 직접 접근 (애플리케이션 트랜잭션과 별도 커넥션)
+    private JdbcTemplate shard1;
+
+    @BeforeEach
+    public void setUp() {
+        shard0 = new JdbcTemplate(shardRouter.getShard(0));
+        shard1 = new JdbcTemplate(shardRouter.getShard(1));
+    }
+
+    @AfterEach
+    public void deleteData() {
+        for (JdbcTemplate shard : List.of(shard0, shard1)) {
+            shard.update("DELETE FROM todo");
+            shard.update("DELETE FROM todo_tombstones");
+            shard.update("DELETE FROM todo_owners");
+        }
+        refreshTokenRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    public void testMoveUserCopiesTodosAndKeepsIds() {
+        User user = createUser("shard-mover", null); // 배정 전 사용자는 기본 데이터베이스 사용
+        Todo first = todoService.create(user.getId(), todo("first"));
+        Todo second = todoService.create(user.getId(), todo("second"));
+        todoService.delete(user.getId(), second.getId()); // 삭제 기록도 함께 옮김
+        assertThat(countTodos(shard0, user)).isEqualTo(1);
+
+        assertThat(rebalancer.moveUser(user.getId(), 1)).isTrue();
+
+        assertThat(directory.shardOf(user.getId())).isEqualTo(1);
+        assertThat(countTodos(shard0, user)).isZero();
+        assertThat(shard1.queryForList("SELECT id FROM todo WHERE user_id = ?", Long.class, user.getId()))
+                .containsExactly(first.getId());
+        assertThat(shard1.queryForObject("SELECT COUNT(*) FROM todo_tombstones WHERE user_id = ?", Long.class,
+                user.getId())).isEqualTo(1);
+        assertThat(todoService.findAll(user.getId())).extracting(Todo::getTask).containsExactly("first");
+        assertThat(rebalancer.moveUser(user.getId(), 1)).isFalse(); // 이미 옮긴 사용자
+
+        // 이후 변경은 새 샤드에서 처리
+        todoService.create(user.getId(), todo("third"));
+        assertThat(countTodos(shard1, user)).isEqualTo(2);
+        assertThat(countTodos(shard0, user)).isZero();
+        assertThat(meterRegistry.get("db.shard.moved.rows").counter().count()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    public void testSyncTokenContinuesAcrossMove() {
+        User user = createUser("shard-sync", null);
+        todoService.create(user.getId(), todo("before move"));
+        TodoChanges initial = syncService.changesSince(user.getId(), null);
+
+        rebalancer.moveUser(user.getId(), 1);
+        Todo added = todoService.create(user.getId(), todo("after move"));
+
+        // 변경 순번도 함께 옮겼으므로 이전 토큰으로 이동 후의 변경만 받음
+        TodoChanges changes = syncService.changesSince(user.getId(), initial.getToken());
+        assertThat(changes.isReset()).isFalse();
+        assertThat(changes.getChanges()).extracting(Todo::getId).containsExactly(added.getId());
+    }
+
+    @Test
+    public void testWriteWithStaleShardCacheIsRetriedOnNewShard() {
+        User user = createUser("shard-stale", null);
+        todoService.create(user.getId(), todo("before move"));
+        assertThat(directory.shardOf(user.getId())).isZero(); // 이 노드는 샤드 0을 캐시
+
+        // 다른 노드가 사용자를 옮김 (이 노드의 캐시는 그대로)
+        ShardDirectory otherDirectory = new ShardDirectory(shardRouter.getShard(0), new ShardRing(2, 160),
+                100, Duration.ofMinutes(1));
+        new ShardRebalancer(shardRouter, otherDirectory, listCache, listVersions, invalidationBus, eventBroker,
+                meterRegistry, 100).moveUser(user.getId(), 1);
+
+        // 이전 샤드는 막혀 있으므로 캐시를 버리고 새 샤드에서 다시 실행
+        todoService.create(user.getId(), todo("after move"));
+        assertThat(directory.shardOf(user.getId())).isEqualTo(1);
+        assertThat(countTodos(shard1, user)).isEqualTo(2);
+        assertThat(countTodos(shard0, user)).isZero();
+    }
+
+    @Test
+    public void testRebalanceMovesUsersToRingShard() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            User user = createUser("shard-rebalance-" + i, null);
+            todoService.create(user.getId(), todo("task " + i));
+            users.add(user);
+        }
+        long expected = users.stream().filter(user -> directory.ringShard(user.getId()) != 0).count();
+
+        ShardRebalancer.Result result = rebalancer.rebalance();
+
+        assertThat(result.moved()).isEqualTo(expected);
+        assertThat(result.failed()).isZero();
+        for (User user : users) {
+            int shard = directory.ringShard(user.getId());
+            assertThat(directory.shardOf(user.getId())).isEqualTo(shard);
+            assertThat(countTodos(shard == 0 ? shard0 : shard1, user)).isEqualTo(1);
+        }
+        assertThat(rebalancer.rebalance().moved()).isZero(); // 다시 실행하면 옮길 사용자 없음
+    }
+
+    @Test
+    public void testNewShardUsesSeparateTodoIdRange() {
+        Long next = shard1.queryForObject("SELECT NEXT VALUE FOR todo_seq", Long.class);
+        assertThat(next).isGreaterThan(ShardingConfig.ID_RANGE);
+    }
+
+    @Test
+    public void testShardsEndpointRequiresAdmin() throws Exception {
+        User user = createUser("shard-user", "USER");
+        User admin = createUser("shard-admin", "ADMIN");
+        todoService.create(user.getId(), todo("task"));
+
+        mockMvc.perform(get("/actuator/shards").header(HttpHeaders.AUTHORIZATION, bearer(user)))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/shards").header(HttpHeaders.AUTHORIZATION, bearer(admin)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.shards.length()").value(2));
+
+        mockMvc.perform(post("/actuator/shards/" + user.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearer(admin))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"shard\": 1}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.moved").value(true));
+        assertThat(countTodos(shard1, user)).isEqualTo(1);
+
+        mockMvc.perform(post("/actuator/shards/" + user.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearer(admin))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"shard\": 5}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    // 기본 데이터베이스에 사용자 생성. role이 null이면 기본 역할.
+    private User createUser(String username, String role) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("{noop}password");
+        if (role != null) {
+            user.setRole(role);
+        }
+        return userRepository.save(user);
+    }
+
+    private static Todo todo(String task) {
+        Todo todo = new Todo();
+        todo.setTask(task);
+        todo.setIsCompleted(false);
+        return todo;
+    }
+
+    private static long countTodos(JdbcTemplate shard, User user) {
+        return shard.queryForObject("SELECT COUNT(*) FROM todo WHERE user_id = ?", Long.class, user.getId());
+    }
+
+    private String bearer(User user) {
+        return "Bearer " + jwtUtil.generateToken(AuthenticatedUser.from(user));
+    }
+}
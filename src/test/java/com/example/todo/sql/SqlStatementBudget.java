@@ -0,0 +1,61 @@
+package com.example.todo.sql;
+
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * MockMvc 요청의 SQL 문 예산 검사.
+ * 예: mockMvc.perform(...).andExpect(SqlStatementBudget.statementsAtMost(2))
+ *
+ * SqlStatementFilter가 요청 속성에 남긴 집계를 읽으며, 실패 메시지에 실행된 SQL 목록을 포함한다.
+ * (SQL_STATS_DEBUG=true일 때 기록됨)
+ */
+public final class SqlStatementBudget {
+
+    private SqlStatementBudget() {
+    }
+
+    /**
+     * 요청 하나에서 실행된 SQL 문이 max개 이하인지 검사.
+     */
+    public static ResultMatcher statementsAtMost(int max) {
+        return result -> {
+            SqlStatementStats stats = stats(result);
+            assertTrue(stats.getStatementCount() <= max, () -> describe(result, stats,
+                    "expected at most " + max + " statements"));
+        };
+    }
+
+    /**
+     * 요청 하나에서 조회/변경된 행이 max개 이하인지 검사.
+     */
+    public static ResultMatcher rowsAtMost(long max) {
+        return result -> {
+            SqlStatementStats stats = stats(result);
+            assertTrue(stats.getRowCount() <= max, () -> describe(result, stats,
+                    "expected at most " + max + " rows"));
+        };
+    }
+
+    /**
+     * 요청의 SQL 집계 결과.
+     */
+    public static SqlStatementStats stats(MvcResult result) {
+        SqlStatementStats stats = (SqlStatementStats) result.getRequest().getAttribute(SqlStatementStats.REQUEST_ATTRIBUTE);
+        assertNotNull(stats, "SqlStatementFilter did not run for " + result.getRequest().getRequestURI());
+        return stats;
+    }
+
+    private static String describe(MvcResult result, SqlStatementStats stats, String expectation) {
+        StringBuilder message = new StringBuilder()
+                .append(result.getRequest().getMethod()).append(' ').append(result.getRequest().getRequestURI())
+                .append(": ").append(expectation).append(" but issued ").append(stats);
+        for (String sql : stats.getStatements()) {
+            message.append("\n  ").append(sql);
+        }
+        return message.toString();
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.todo.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.ChainListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 현재 스레드가 프록시 DataSource로 실행한 SQL 문과 파라미터를 기록.
+ * 예: try (SqlStatementRecorder recorder = SqlStatementRecorder.start(dataSource)) { ... }
+ *
+ * SqlStatementConfig가 감싼 DataSource에만 사용할 수 있으며, 기록한 문은 실행 계획 검사 등에 다시 실행할 수 있다.
+ */
+public final class SqlStatementRecorder implements QueryExecutionListener, AutoCloseable {
+
+    /**
+     * 기록된 문 하나.
+     * @param sql 실행된 SQL
+     * @param parameters 실행 시 설정된 파라미터 (배치면 첫 번째 항목)
+     */
+    public record RecordedStatement(String sql, List<ParameterSetOperation> parameters) {
+
+        /**
+         * 기록된 파라미터를 다른 PreparedStatement에 같은 순서로 설정.
+         */
+        public void bind(PreparedStatement statement) throws SQLException {
+            for (ParameterSetOperation operation : parameters) {
+                try {
+                    operation.getMethod().invoke(statement, operation.getArgs());
+                } catch (InvocationTargetException e) {
+                    throw e.getCause() instanceof SQLException sqlException ? sqlException : new SQLException(e.getCause());
+                } catch (IllegalAccessException e) {
+                    throw new SQLException(e);
+                }
+            }
+        }
+    }
+
+    private final ChainListener chain; // 프록시 DataSource의 리스너 목록
+    private final Thread owner; // 기록할 스레드 (스케줄 작업 등 다른 스레드의 문은 제외)
+    private final List<RecordedStatement> statements = new ArrayList<>();
+
+    private SqlStatementRecorder(ChainListener chain) {
+        this.chain = chain;
+        this.owner = Thread.currentThread();
+    }
+
+    /**
+     * 현재 스레드의 SQL 기록 시작.
+     * @param dataSource SqlStatementConfig가 감싼 DataSource 빈
+     */
+    public static SqlStatementRecorder start(DataSource dataSource) {
+        if (!(dataSource instanceof ProxyDataSource proxy)) {
+            throw new IllegalStateException("DataSource is not wrapped by SqlStatementConfig: " + dataSource);
+        }
+        ChainListener chain = proxy.getProxyConfig().getQueryListener();
+        synchronized (chain) {
+            if (!(chain.getListeners() instanceof CopyOnWriteArrayList)) {
+                // 다른 스레드가 실행 중인 문의 리스너 순회와 겹치지 않도록 교체
+                chain.setListeners(new CopyOnWriteArrayList<>(chain.getListeners()));
+            }
+        }
+        SqlStatementRecorder recorder = new SqlStatementRecorder(chain);
+        chain.addListener(recorder);
+        return recorder;
+    }
+
+    /**
+     * 원래(프록시가 아닌) DataSource. 기록하지 않고 문을 실행할 때 사용.
+     */
+    public static DataSource unwrap(DataSource dataSource) {
+        return dataSource instanceof ProxyDataSource proxy ? proxy.getDataSource() : dataSource;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (Thread.currentThread() != owner) {
+            return;
+        }
+        for (QueryInfo queryInfo : queryInfoList) {
+            List<List<ParameterSetOperation>> parametersList = queryInfo.getParametersList();
+            statements.add(new RecordedStatement(queryInfo.getQuery(),
+                    parametersList.isEmpty() ? List.of() : List.copyOf(parametersList.get(0))));
+        }
+    }
+
+    /**
+     * 지금까지 기록된 문.
+     */
+    public List<RecordedStatement> getStatements() {
+        return List.copyOf(statements);
+    }
+
+    @Override
+    public void close() {
+        chain.getListeners().remove(this);
+    }
+}